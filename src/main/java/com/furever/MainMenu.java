@@ -1,5 +1,12 @@
 package com.furever;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import com.furever.cache.CacheStats;
+import com.furever.cache.EntityCaches;
 import com.furever.crud.PetOwnerCRUD;
 import com.furever.crud.UserCRUD;
 import com.furever.dashboard.AdopterDashboard;
@@ -8,8 +15,19 @@ import com.furever.dashboard.PetDashboard;
 import com.furever.dashboard.PetOwnerDashboard;
 import com.furever.dashboard.UserDashboard;
 import com.furever.database.DbConnection;
+import com.furever.database.PoolStats;
+import com.furever.database.SqlCatalog;
+import com.furever.metrics.OperationStats;
+import com.furever.metrics.QueryMetrics;
+import com.furever.metrics.SlowQuery;
 import com.furever.models.PetOwner;
 import com.furever.models.User;
+import com.furever.service.AsyncCrudService;
+import com.furever.service.AuthenticationService;
+import com.furever.service.LoginResult;
+import com.furever.service.StatisticsService;
+import com.furever.service.StatisticsSnapshot;
+import com.furever.utils.ConsoleTable;
 import com.furever.utils.InputValidator;
 
 /**
@@ -17,6 +35,9 @@ import com.furever.utils.InputValidator;
  */
 public class MainMenu {
     
+    // Number of pets suggested before an adopter picks one to request
+    private static final int RECOMMENDATION_LIMIT = 5;
+    
     private final UserCRUD userCRUD;
     private final PetOwnerCRUD petOwnerCRUD;
     private final UserDashboard userDashboard;
@@ -56,9 +77,31 @@ public class MainMenu {
                 return;
             }
             
+            // Apply pending schema migrations; the application still works on the old schema
+            if (!new com.furever.migration.MigrationRunner().migrate()) {
+                InputValidator.displayError("Schema migrations were not applied. Run com.furever.migration.MigrationRunner for details.");
+            }
+            
+            // Pet types almost never change, so keep them in memory for the whole session
+            new com.furever.crud.PetTypeCRUD().preloadPetTypes();
+            // Search indexes build in the background; searches use SQL until they are ready
+            com.furever.search.SearchService.getInstance().start();
+            // Rows archived long ago are moved to history tables in the background
+            com.furever.service.ArchiveService.getInstance().start();
+            // Recommendations are ranked in memory once the candidate pets are loaded
+            com.furever.recommend.PetRecommender.getInstance().start();
+            // Guest screens are served from a snapshot file exported every few minutes
+            com.furever.snapshot.GuestSnapshotService.getInstance().start();
+            // Changes made by other instances and tools arrive through the outbox change feed
+            com.furever.outbox.ChangeFeedReader.getInstance().start();
+            
             InputValidator.displayHeader("WELCOME TO FUREVER PET ADOPTION SYSTEM");
             System.out.println("System initialized successfully!");
             
+            // The console serves one user; their writes keep their own reads on the source
+            // database for a moment (see DbSession)
+            com.furever.database.DbSession.bind(new com.furever.database.DbSession());
+            
             // Show login screen
             showLoginMenu();
             
@@ -123,11 +166,11 @@ public class MainMenu {
             String username = InputValidator.getStringInput("Username: ", false);
             String password = InputValidator.getStringInput("Password: ", false);
             
-            User user = userCRUD.authenticateUser(username, password);
+            LoginResult result = AuthenticationService.getInstance().login(username, password, "admin");
             
-            if (user != null && "admin".equals(user.getRole())) {
-                currentUser = user;
-                InputValidator.displaySuccess("Login successful! Welcome, " + user.getUsername());
+            if (result.isSuccess()) {
+                currentUser = result.getSession().getUser();
+                InputValidator.displaySuccess("Login successful! Welcome, " + currentUser.getUsername());
                 return true;
             } else {
                 InputValidator.displayError("Invalid credentials or insufficient privileges.");
@@ -150,57 +193,33 @@ public class MainMenu {
             String username = InputValidator.getStringInput("Username: ", false);
             String password = InputValidator.getStringInput("Password: ", false);
             
-            // Debug: Check if user exists
-            User userCheck = userCRUD.getUserByUsername(username);
-            if (userCheck == null) {
-                InputValidator.displayError("User '" + username + "' not found.");
-                return false;
-            }
-            
-            // Debug: Check role
-            if (!"adopter".equals(userCheck.getRole())) {
-                InputValidator.displayError("User '" + username + "' is not an adopter. Role: " + userCheck.getRole());
-                return false;
-            }
-            
-            User user = userCRUD.authenticateUser(username, password);
+            // User, role and adopter profile are resolved together; a missing profile is created
+            LoginResult result = AuthenticationService.getInstance().login(username, password, "adopter");
             
-            if (user != null && "adopter".equals(user.getRole())) {
-                currentUser = user;
-                
-                // Check if adopter profile exists, create if not
-                var adopterCRUD = new com.furever.crud.AdopterCRUD();
-                var adopter = adopterCRUD.getAdopterByLinkedUsername(username);
-                
-                if (adopter == null) {
-                    InputValidator.displayWarning("No adopter profile found for your account.");
-                    System.out.println("Creating adopter profile...");
-                    
-                    // Create adopter profile automatically
-                    boolean profileCreated = adopterCRUD.createAdopterProfileForUser(
-                        username, 
-                        username, // Use username as display name initially
-                        "Not provided", 
-                        user.getEmail(), 
-                        "Not provided"
-                    );
-                    
-                    if (profileCreated) {
+            switch (result.getStatus()) {
+                case SUCCESS:
+                    currentUser = result.getSession().getUser();
+                    if (result.isProfileCreated()) {
+                        InputValidator.displayWarning("No adopter profile found for your account.");
                         InputValidator.displaySuccess("Adopter profile created successfully!");
-                    } else {
-                        InputValidator.displayError("Failed to create adopter profile. Please contact an administrator.");
-                        return false;
                     }
-                }
-                
-                InputValidator.displaySuccess("Login successful! Welcome, " + user.getUsername());
-                return true;
-            } else if (user != null) {
-                InputValidator.displayError("Authentication successful but role verification failed. Expected 'adopter', got '" + user.getRole() + "'.");
-                return false;
-            } else {
-                InputValidator.displayError("Invalid password for user '" + username + "'.");
-                return false;
+                    InputValidator.displaySuccess("Login successful! Welcome, " + currentUser.getUsername());
+                    return true;
+                case UNKNOWN_USER:
+                    InputValidator.displayError("User '" + username + "' not found.");
+                    return false;
+                case WRONG_ROLE:
+                    InputValidator.displayError("User '" + username + "' is not an adopter. Role: " + result.getSession().getRole());
+                    return false;
+                case WRONG_PASSWORD:
+                    InputValidator.displayError("Invalid password for user '" + username + "'.");
+                    return false;
+                case PROFILE_FAILED:
+                    InputValidator.displayError("Failed to create adopter profile. Please contact an administrator.");
+                    return false;
+                default:
+                    InputValidator.displayError("Login failed. Please try again.");
+                    return false;
             }
             
         } catch (Exception e) {
@@ -219,12 +238,19 @@ public class MainMenu {
             String username = InputValidator.getStringInput("Username: ", false);
             String password = InputValidator.getStringInput("Password: ", false);
             
-            User user = userCRUD.authenticateUser(username, password);
+            // User, role and pet owner profile are resolved together; a missing profile is created
+            LoginResult result = AuthenticationService.getInstance().login(username, password, "pet_owner");
             
-            if (user != null && "pet_owner".equals(user.getRole())) {
-                currentUser = user;
-                InputValidator.displaySuccess("Login successful! Welcome, " + user.getUsername());
+            if (result.isSuccess()) {
+                currentUser = result.getSession().getUser();
+                if (result.isProfileCreated()) {
+                    InputValidator.displaySuccess("Pet owner profile created successfully!");
+                }
+                InputValidator.displaySuccess("Login successful! Welcome, " + currentUser.getUsername());
                 return true;
+            } else if (result.getStatus() == LoginResult.Status.PROFILE_FAILED) {
+                InputValidator.displayError("Failed to create pet owner profile. Please contact an administrator.");
+                return false;
             } else {
                 InputValidator.displayError("Invalid credentials or insufficient privileges.");
                 return false;
@@ -251,10 +277,11 @@ public class MainMenu {
             System.out.println("5. Adoption Request Management");
             System.out.println("6. System Statistics");
             System.out.println("7. Database Status");
-            System.out.println("8. Logout");
+            System.out.println("8. Query Metrics");
+            System.out.println("9. Logout");
             System.out.println("-".repeat(60));
             
-            int choice = InputValidator.getIntInput("Enter your choice (1-8): ", 1, 8);
+            int choice = InputValidator.getIntInput("Enter your choice (1-9): ", 1, 9);
             
             switch (choice) {
                 case 1:
@@ -279,6 +306,9 @@ public class MainMenu {
                     showDatabaseStatus();
                     break;
                 case 8:
+                    showQueryMetrics();
+                    break;
+                case 9:
                     currentUser = null;
                     InputValidator.displaySuccess("Logged out successfully.");
                     return;
@@ -526,26 +556,51 @@ public class MainMenu {
         InputValidator.displayHeader("AVAILABLE PETS FOR ADOPTION");
         
         try {
+            // Guests read the periodic snapshot; the database is only used while it is missing or stale
+            var snapshot = com.furever.snapshot.GuestSnapshotService.getInstance().getSnapshot();
+            if (snapshot != null) {
+                var pets = snapshot.pets();
+                if (pets.size() == 0) {
+                    System.out.println("No pets currently available for adoption.");
+                    return;
+                }
+                
+                // The cursor's text is appended straight into the table's line buffer
+                var table = new ConsoleTable<com.furever.snapshot.GuestSnapshot.PetCursor>()
+                    .intColumn("ID", 5, pet -> pet.getPetId())
+                    .column("Name", 20, pet -> pet.getPetName())
+                    .column("Type", 12, pet -> pet.getPetTypeName())
+                    .intColumn("Age", 8, pet -> pet.getAge())
+                    .column("Gender", 10, pet -> pet.getGender())
+                    .column("Health", 12, pet -> pet.getHealthStatus())
+                    .open();
+                while (pets.next()) {
+                    table.row(pets);
+                }
+                table.close();
+                return;
+            }
+            
             var petCRUD = new com.furever.crud.PetCRUD();
-            var availablePets = petCRUD.getPetsByAdoptionStatus("Available");
+            var petTypeCRUD = new com.furever.crud.PetTypeCRUD();
+            var availablePets = petCRUD.getPetSummariesByAdoptionStatus("Available");
             
             if (availablePets.isEmpty()) {
                 System.out.println("No pets currently available for adoption.");
                 return;
             }
             
-            System.out.printf("%-5s %-20s %-8s %-10s %-12s%n", 
-                "ID", "Name", "Age", "Gender", "Health");
-            System.out.println("-".repeat(60));
-            
-            for (var pet : availablePets) {
-                System.out.printf("%-5d %-20s %-8d %-10s %-12s%n",
-                    pet.getPetId(),
-                    pet.getPetName(),
-                    pet.getAge(),
-                    pet.getGender(),
-                    pet.getHealthStatus());
-            }
+            new ConsoleTable<com.furever.models.PetSummary>()
+                .intColumn("ID", 5, com.furever.models.PetSummary::getPetId)
+                .column("Name", 20, com.furever.models.PetSummary::getPetName)
+                .column("Type", 12, pet -> {
+                    var petType = petTypeCRUD.getPetTypeById(pet.getPetTypeId());
+                    return petType != null ? petType.getPetTypeName() : null;
+                })
+                .intColumn("Age", 8, com.furever.models.PetSummary::getAge)
+                .column("Gender", 10, com.furever.models.PetSummary::getGender)
+                .column("Health", 12, com.furever.models.PetSummary::getHealthStatus)
+                .print(availablePets);
             
         } catch (Exception e) {
             InputValidator.displayError("Error retrieving pets: " + e.getMessage());
@@ -559,11 +614,21 @@ public class MainMenu {
         InputValidator.displayHeader("PET ADOPTION STATISTICS");
         
         try {
-            var petCRUD = new com.furever.crud.PetCRUD();
-            
-            int totalPets = petCRUD.getPetCount();
-            int availablePets = petCRUD.getPetCountByStatus("Available");
-            int adoptedPets = petCRUD.getPetCountByStatus("Adopted");
+            int totalPets;
+            int availablePets;
+            int adoptedPets;
+            
+            var snapshot = com.furever.snapshot.GuestSnapshotService.getInstance().getSnapshot();
+            if (snapshot != null) {
+                totalPets = snapshot.getTotalPetCount();
+                availablePets = snapshot.getAvailablePetCount();
+                adoptedPets = snapshot.getAdoptedPetCount();
+            } else {
+                StatisticsSnapshot stats = StatisticsService.getInstance().getSnapshot();
+                totalPets = stats.getPetCount();
+                availablePets = stats.getPetCount("Available");
+                adoptedPets = stats.getPetCount("Adopted");
+            }
             
             System.out.println("Total Pets in System: " + totalPets);
             System.out.println("Available for Adoption: " + availablePets);
@@ -666,22 +731,33 @@ public class MainMenu {
         InputValidator.displayHeader("REGISTERED ADOPTERS");
         
         try {
-            var adopterCRUD = new com.furever.crud.AdopterCRUD();
-            var adopters = adopterCRUD.getAllAdopters();
-            
-            if (adopters.isEmpty()) {
-                System.out.println("No adopters registered yet.");
-                return;
+            int adopterCount;
+            var snapshot = com.furever.snapshot.GuestSnapshotService.getInstance().getSnapshot();
+            if (snapshot != null) {
+                var adopters = snapshot.adopters();
+                var table = new ConsoleTable<com.furever.snapshot.GuestSnapshot.AdopterCursor>()
+                    .intColumn("ID", 6, adopter -> adopter.getAdopterId())
+                    .column("Name", 25, adopter -> adopter.getAdopterName())
+                    .column("Email", 30, adopter -> adopter.getAdopterEmail())
+                    .open();
+                while (adopters.next()) {
+                    table.row(adopters);
+                }
+                table.close();
+                adopterCount = adopters.size();
+            } else {
+                // Rows are printed as they are streamed from the database
+                var table = new ConsoleTable<com.furever.models.AdopterSummary>()
+                    .intColumn("ID", 6, com.furever.models.AdopterSummary::getAdopterId)
+                    .column("Name", 25, com.furever.models.AdopterSummary::getAdopterName)
+                    .column("Email", 30, com.furever.models.AdopterSummary::getAdopterEmail)
+                    .open();
+                adopterCount = new com.furever.crud.AdopterCRUD().forEachAdopterSummary(table::row);
+                table.close();
             }
             
-            System.out.printf("%-5s %-25s %-30s%n", "ID", "Name", "Email");
-            System.out.println("-".repeat(65));
-            
-            for (var adopter : adopters) {
-                System.out.printf("%-5d %-25s %-30s%n",
-                    adopter.getAdopterId(),
-                    adopter.getAdopterName(),
-                    adopter.getAdopterEmail());
+            if (adopterCount == 0) {
+                System.out.println("No adopters registered yet.");
             }
             
         } catch (Exception e) {
@@ -696,27 +772,25 @@ public class MainMenu {
         InputValidator.displayHeader("SYSTEM STATISTICS");
         
         try {
-            var petCRUD = new com.furever.crud.PetCRUD();
-            var adopterCRUD = new com.furever.crud.AdopterCRUD();
-            var requestCRUD = new com.furever.crud.AdoptionRequestCRUD();
+            StatisticsSnapshot stats = StatisticsService.getInstance().getSnapshot();
             
             System.out.println("=== PETS ===");
-            System.out.println("Total Pets: " + petCRUD.getPetCount());
-            System.out.println("Available: " + petCRUD.getPetCountByStatus("Available"));
-            System.out.println("Pending: " + petCRUD.getPetCountByStatus("Pending"));
-            System.out.println("Adopted: " + petCRUD.getPetCountByStatus("Adopted"));
+            System.out.println("Total Pets: " + stats.getPetCount());
+            System.out.println("Available: " + stats.getPetCount("Available"));
+            System.out.println("Pending: " + stats.getPetCount("Pending"));
+            System.out.println("Adopted: " + stats.getPetCount("Adopted"));
             
             System.out.println("\n=== ADOPTERS ===");
-            System.out.println("Total Adopters: " + adopterCRUD.getAdopterCount());
+            System.out.println("Total Adopters: " + stats.getAdopterCount());
             
             System.out.println("\n=== USERS ===");
-            System.out.println("Total Users: " + userCRUD.getUserCount());
+            System.out.println("Total Users: " + stats.getUserCount());
             
             System.out.println("\n=== ADOPTION REQUESTS ===");
-            System.out.println("Total Requests: " + requestCRUD.getAdoptionRequestCount());
-            System.out.println("Pending: " + requestCRUD.getAdoptionRequestCountByStatus("Pending"));
-            System.out.println("Approved: " + requestCRUD.getAdoptionRequestCountByStatus("Approved"));
-            System.out.println("Rejected: " + requestCRUD.getAdoptionRequestCountByStatus("Rejected"));
+            System.out.println("Total Requests: " + stats.getRequestCount());
+            System.out.println("Pending: " + stats.getRequestCount("Pending"));
+            System.out.println("Approved: " + stats.getRequestCount("Approved"));
+            System.out.println("Rejected: " + stats.getRequestCount("Rejected"));
             
         } catch (Exception e) {
             InputValidator.displayError("Error retrieving system statistics: " + e.getMessage());
@@ -736,6 +810,50 @@ public class MainMenu {
                 InputValidator.displaySuccess("Database connection is active.");
                 System.out.println("Database URL: " + DbConnection.getDatabaseUrl());
                 System.out.println("Database User: " + DbConnection.getDatabaseUsername());
+                System.out.println("Read Splitting: " + (DbConnection.isReadSplittingEnabled() ? "Enabled" : "Disabled"));
+
+                PoolStats poolStats = DbConnection.getPoolStats();
+                if (poolStats != null) {
+                    System.out.println("\n=== CONNECTION POOL ===");
+                    System.out.println("Active Connections: " + poolStats.getActiveConnections());
+                    System.out.println("Idle Connections: " + poolStats.getIdleConnections());
+                    System.out.println("Maximum Pool Size: " + poolStats.getMaxSize());
+                    System.out.println("Total Borrows: " + poolStats.getBorrowCount());
+                    System.out.printf("Average Wait: %.3f ms%n", poolStats.getAverageWaitMillis());
+                    System.out.printf("Longest Wait: %.3f ms%n", poolStats.getMaxWaitMillis());
+                    System.out.println("Borrow Timeouts: " + poolStats.getTimeoutCount());
+                    System.out.println("Connections Opened/Closed: " + poolStats.getCreatedCount() + "/" + poolStats.getDestroyedCount());
+                }
+                
+                System.out.println("\n=== PREPARED STATEMENTS ===");
+                System.out.println("Catalog Statements: " + SqlCatalog.size());
+                if (poolStats != null) {
+                    System.out.println("Catalog Prepares on Connections: " + poolStats.getCatalogPrepareCount());
+                }
+                Map<String, Long> counters = DbConnection.getServerStatementCounters();
+                for (Map.Entry<String, Long> counter : counters.entrySet()) {
+                    System.out.println("Server " + counter.getKey() + ": " + counter.getValue());
+                }
+                long prepares = counters.getOrDefault("Com_stmt_prepare", 0L);
+                long executes = counters.getOrDefault("Com_stmt_execute", 0L);
+                if (prepares > 0) {
+                    System.out.printf("Executes per Prepare: %.1f%n", (double) executes / prepares);
+                }
+                
+                System.out.println("\n=== ENTITY CACHE ===");
+                for (CacheStats cacheStats : EntityCaches.getAllStats()) {
+                    System.out.printf("%-9s size %d/%d, hits %d, misses %d (%.1f%% hit rate), evictions %d, invalidations %d%n",
+                        cacheStats.getName() + ":",
+                        cacheStats.getSize(),
+                        cacheStats.getMaxSize(),
+                        cacheStats.getHitCount(),
+                        cacheStats.getMissCount(),
+                        cacheStats.getHitRate() * 100,
+                        cacheStats.getEvictionCount(),
+                        cacheStats.getInvalidationCount());
+                }
+                int petTypeCount = EntityCaches.getPetTypeCount();
+                System.out.println("Pet types preloaded: " + (petTypeCount >= 0 ? String.valueOf(petTypeCount) : "no"));
             } else {
                 InputValidator.displayError("Database connection failed.");
             }
@@ -747,6 +865,92 @@ public class MainMenu {
         InputValidator.waitForEnter();
     }
     
+    /**
+     * Shows per-operation query metrics and the slow-query log
+     */
+    private void showQueryMetrics() {
+        while (true) {
+            InputValidator.displayHeader("QUERY METRICS");
+            System.out.println("Metrics: " + (QueryMetrics.isEnabled() ? "enabled" : "disabled") +
+                               ", slow-query threshold: " + QueryMetrics.getSlowQueryThresholdMillis() + " ms");
+            
+            var operations = QueryMetrics.getOperationStats();
+            if (operations.isEmpty()) {
+                System.out.println("\nNo calls recorded yet.");
+            } else {
+                System.out.printf("%n%-40s %8s %8s %10s %9s %9s %9s %6s%n",
+                    "OPERATION", "CALLS", "ROWS", "TOTAL ms", "P50 ms", "P99 ms", "ACQ P99", "ERRORS");
+                System.out.println("-".repeat(106));
+                for (OperationStats stats : operations) {
+                    System.out.printf("%-40s %8d %8d %10.1f %9.2f %9.2f %9.2f %6d%n",
+                        truncateString(stats.getName(), 40),
+                        stats.getCallCount(),
+                        stats.getRowCount(),
+                        stats.getTotalMillis(),
+                        stats.getCallLatency().getPercentileNanos(50) / 1_000_000.0,
+                        stats.getCallLatency().getPercentileNanos(99) / 1_000_000.0,
+                        stats.getAcquireLatency().getPercentileNanos(99) / 1_000_000.0,
+                        stats.getErrorCount());
+                }
+            }
+            
+            var slowQueries = QueryMetrics.getSlowQueries();
+            System.out.println("\n=== SLOW QUERIES (" + slowQueries.size() + ") ===");
+            for (SlowQuery query : slowQueries.subList(0, Math.min(10, slowQueries.size()))) {
+                System.out.printf("%8.1f ms  %-36s rows %s%n", query.getElapsedMillis(),
+                    truncateString(query.getOperation(), 36),
+                    query.getRows() >= 0 ? String.valueOf(query.getRows()) : "-");
+                System.out.println("           " + truncateString(query.getSql(), 90));
+                System.out.println("           binds " + query.getBindValues() +
+                                   (query.getError() != null ? "  error: " + query.getError() : ""));
+            }
+            
+            System.out.println("\n1. Refresh");
+            System.out.println("2. Export as JSON");
+            System.out.println("3. Reset metrics");
+            System.out.println("4. " + (QueryMetrics.isEnabled() ? "Disable" : "Enable") + " metrics");
+            System.out.println("5. Return to main menu");
+            
+            int choice = InputValidator.getIntInput("Enter your choice (1-5): ", 1, 5);
+            
+            switch (choice) {
+                case 1:
+                    break;
+                case 2:
+                    String fileName = InputValidator.getStringInput("Enter file name (default query-metrics.json): ", true);
+                    Path file = Paths.get(fileName.isEmpty() ? "query-metrics.json" : fileName);
+                    try {
+                        QueryMetrics.writeJson(file);
+                        InputValidator.displaySuccess("Metrics written to " + file.toAbsolutePath());
+                    } catch (IOException e) {
+                        InputValidator.displayError("Error writing metrics: " + e.getMessage());
+                    }
+                    InputValidator.waitForEnter();
+                    break;
+                case 3:
+                    QueryMetrics.reset();
+                    InputValidator.displaySuccess("Metrics reset.");
+                    break;
+                case 4:
+                    QueryMetrics.setEnabled(!QueryMetrics.isEnabled());
+                    break;
+                case 5:
+                    return;
+                default:
+                    InputValidator.displayError("Invalid choice. Please try again.");
+            }
+        }
+    }
+    
+    /**
+     * Truncates a string for display in a fixed-width column
+     */
+    private String truncateString(String str, int maxLength) {
+        if (str == null) return "N/A";
+        if (str.length() <= maxLength) return str;
+        return str.substring(0, maxLength - 3) + "...";
+    }
+    
     /**
      * Allows adopter to submit an adoption request
      */
@@ -765,23 +969,44 @@ public class MainMenu {
                 return;
             }
             
-            // Show available pets with enhanced display
             var petCRUD = new com.furever.crud.PetCRUD();
-            var availablePets = petCRUD.getPetsByAdoptionStatus("Available");
-            
-            if (availablePets.isEmpty()) {
-                InputValidator.displayWarning("No pets currently available for adoption.");
-                return;
+            int petId = -1;
+            
+            // Suggest the best matches first; the full list is one choice away
+            var recommendations = com.furever.recommend.PetRecommender.getInstance()
+                    .recommend(adopter.getAdopterId(), null, RECOMMENDATION_LIMIT);
+            if (recommendations != null && !recommendations.isEmpty()) {
+                java.util.List<Integer> recommendedIds = new java.util.ArrayList<>();
+                for (var recommendation : recommendations) {
+                    recommendedIds.add(recommendation.getPetId());
+                }
+                
+                System.out.println("Recommended for You:");
+                System.out.println("These available pets best match the pets you have shown interest in:");
+                petCRUD.displayPetsTable(petCRUD.getPetSummariesByIds(recommendedIds));
+                
+                System.out.println();
+                petId = InputValidator.getIntInput("Enter the Pet ID you want to adopt (0 to cancel, -1 to see all available pets): ", -1, Integer.MAX_VALUE);
             }
             
-            System.out.println("Available Pets for Adoption:");
-            System.out.println("Please review the complete pet information below to make your selection:");
-            // Use the enhanced display method for comprehensive pet information
-            petCRUD.displayPetsTable(availablePets);
-            
-            // Get pet selection from user
-            System.out.println();
-            int petId = InputValidator.getIntInput("Enter the Pet ID you want to adopt (0 to cancel): ", 0, Integer.MAX_VALUE);
+            if (petId == -1) {
+                // Show available pets with enhanced display
+                var availablePets = petCRUD.getPetSummariesByAdoptionStatus("Available");
+                
+                if (availablePets.isEmpty()) {
+                    InputValidator.displayWarning("No pets currently available for adoption.");
+                    return;
+                }
+                
+                System.out.println("Available Pets for Adoption:");
+                System.out.println("Please review the complete pet information below to make your selection:");
+                // Use the enhanced display method for comprehensive pet information
+                petCRUD.displayPetsTable(availablePets);
+                
+                // Get pet selection from user
+                System.out.println();
+                petId = InputValidator.getIntInput("Enter the Pet ID you want to adopt (0 to cancel): ", 0, Integer.MAX_VALUE);
+            }
             
             if (petId == 0) {
                 System.out.println("Adoption request cancelled.");
@@ -855,7 +1080,7 @@ public class MainMenu {
             }
             
             var requestCRUD = new com.furever.crud.AdoptionRequestCRUD();
-            var requests = requestCRUD.getAdoptionRequestsByAdopter(adopter.getAdopterId());
+            var requests = requestCRUD.getAdoptionRequestViewsByAdopter(adopter.getAdopterId());
             
             if (requests.isEmpty()) {
                 System.out.println("You have no adoption requests yet.");
@@ -866,19 +1091,8 @@ public class MainMenu {
                 "ID", "Pet Name", "Date", "Status", "Approval");
             System.out.println("-".repeat(65));
             
-            var petCRUD = new com.furever.crud.PetCRUD();
-            
             for (var request : requests) {
-                // Get pet name for better display
-                String petName = "Unknown";
-                try {
-                    var pet = petCRUD.getPetById(request.getPetId());
-                    if (pet != null) {
-                        petName = pet.getPetName();
-                    }
-                } catch (Exception e) {
-                    // Keep default "Unknown" if error occurs
-                }
+                String petName = request.getPetName() != null ? request.getPetName() : "Unknown";
                 
                 System.out.printf("%-5d %-20s %-12s %-10s %-12s%n",
                     request.getAdoptionRequestId(),
@@ -1158,34 +1372,39 @@ public class MainMenu {
                 return;
             }
             
-            // Get adoption requests for all owned pets
+            // Get adoption requests for all owned pets, joined with adopter names, one page at a time
             var requestCRUD = new com.furever.crud.AdoptionRequestCRUD();
+            final int pageSize = 50;
+            int offset = 0;
             boolean hasRequests = false;
             
-            for (var pet : myPets) {
-                var requests = requestCRUD.getAdoptionRequestsByPet(pet.getPetId());
+            while (true) {
+                var requests = requestCRUD.getAdoptionRequestViewsByPetOwner(petOwner.getPetOwnerId(), offset, pageSize);
                 
-                if (!requests.isEmpty()) {
-                    if (!hasRequests) {
-                        System.out.println("Adoption Requests for Your Pets:");
-                        System.out.printf("%-10s %-20s %-20s %-15s %-12s%n", 
-                            "Request ID", "Pet Name", "Adopter", "Status", "Date");
-                        System.out.println("-".repeat(85));
-                        hasRequests = true;
-                    }
-                    
-                    for (var request : requests) {
-                        // Get adopter information
-                        var adopterCRUD = new com.furever.crud.AdopterCRUD();
-                        var adopter = adopterCRUD.getAdopterById(request.getAdopterId());
-                        
-                        System.out.printf("%-10d %-20s %-20s %-15s %-12s%n",
-                            request.getAdoptionRequestId(),
-                            pet.getPetName(),
-                            adopter != null ? adopter.getAdopterName() : "Unknown",
-                            request.getStatus(),
-                            request.getRequestDate());
-                    }
+                if (requests.isEmpty()) {
+                    break;
+                }
+                
+                if (!hasRequests) {
+                    System.out.println("Adoption Requests for Your Pets:");
+                    System.out.printf("%-10s %-20s %-20s %-15s %-12s%n", 
+                        "Request ID", "Pet Name", "Adopter", "Status", "Date");
+                    System.out.println("-".repeat(85));
+                    hasRequests = true;
+                }
+                
+                for (var request : requests) {
+                    System.out.printf("%-10d %-20s %-20s %-15s %-12s%n",
+                        request.getAdoptionRequestId(),
+                        request.getPetName(),
+                        request.getAdopterName() != null ? request.getAdopterName() : "Unknown",
+                        request.getStatus(),
+                        request.getRequestDate());
+                }
+                
+                offset += requests.size();
+                if (requests.size() < pageSize || !InputValidator.getConfirmation("Show the next " + pageSize + " requests?")) {
+                    break;
                 }
             }
             
@@ -1419,7 +1638,8 @@ public class MainMenu {
         
         try {
             var petCRUD = new com.furever.crud.PetCRUD();
-            if (petCRUD.updatePet(selectedPet)) {
+            // The list may be stale, so refuse to overwrite a status someone else changed
+            if (petCRUD.updatePetChanges(selectedPet, true)) {
                 InputValidator.displaySuccess("Pet adoption status updated to: " + newStatus);
             } else {
                 InputValidator.displayError("Failed to update adoption status.");
@@ -1452,12 +1672,13 @@ public class MainMenu {
                 return;
             }
             
-            // Get pet and adopter details
-            var petCRUD = new com.furever.crud.PetCRUD();
-            var adopterCRUD = new com.furever.crud.AdopterCRUD();
+            // Pet and adopter details are independent, so load them in parallel
+            var async = AsyncCrudService.getInstance();
+            var petFuture = async.getPetById(request.getPetId());
+            var adopterFuture = async.getAdopterById(request.getAdopterId());
             
-            var pet = petCRUD.getPetById(request.getPetId());
-            var adopter = adopterCRUD.getAdopterById(request.getAdopterId());
+            var pet = AsyncCrudService.await(petFuture);
+            var adopter = AsyncCrudService.await(adopterFuture);
             
             System.out.println("\n=== ADOPTION REQUEST DETAILS ===");
             System.out.println("Request ID: " + request.getAdoptionRequestId());
@@ -1519,26 +1740,15 @@ public class MainMenu {
             
             boolean success = false;
             
-            if (choice == 1) { // Approve Request
+            if (choice == 1) { // Approve Request, adopt the pet and reject competing requests in one transaction
                 java.sql.Date approvalDate = new java.sql.Date(System.currentTimeMillis());
-                success = requestCRUD.approveAdoptionRequestSafely(requestId, approvalDate, remarks);
+                success = requestCRUD.approveAndCloseOut(requestId, approvalDate, remarks);
             } else { // Reject Request
                 success = requestCRUD.rejectAdoptionRequest(requestId, remarks);
             }
             
             if (success) {
                 InputValidator.displaySuccess("Request " + newStatus.toLowerCase() + " successfully!");
-                
-                // If approved, update pet status
-                if ("Approved".equals(newStatus)) {
-                    var petCRUD = new com.furever.crud.PetCRUD();
-                    var pet = petCRUD.getPetById(request.getPetId());
-                    if (pet != null) {
-                        pet.setAdoptionStatus("Adopted");
-                        petCRUD.updatePet(pet);
-                        System.out.println("Pet status updated to 'Adopted'.");
-                    }
-                }
             } else {
                 InputValidator.displayError("Failed to update request.");
             }
@@ -0,0 +1,99 @@
+package com.furever.api;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parsed path and query string of an API call.
+ * Invalid parameters throw IllegalArgumentException, which the endpoint turns into a 400 response.
+ */
+public class ApiRequest {
+
+    private final String subPath;
+    private final Map<String, String> params = new HashMap<>();
+
+    /**
+     * Parses a request URI relative to the endpoint's context path
+     * @param uri Request URI
+     * @param contextPath Path the endpoint is registered under, e.g. /api/pets
+     */
+    public ApiRequest(URI uri, String contextPath) {
+        String path = uri.getPath();
+        String rest = path.length() > contextPath.length() ? path.substring(contextPath.length()) : "";
+        while (rest.startsWith("/")) {
+            rest = rest.substring(1);
+        }
+        while (rest.endsWith("/")) {
+            rest = rest.substring(0, rest.length() - 1);
+        }
+        this.subPath = rest;
+
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int eq = pair.indexOf('=');
+                String key = eq >= 0 ? pair.substring(0, eq) : pair;
+                String value = eq >= 0 ? pair.substring(eq + 1) : "";
+                params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Gets the numeric ID following the context path, e.g. 7 for /api/pets/7
+     * @return ID, or null if the request targets the collection
+     */
+    public Integer getPathId() {
+        if (subPath.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(subPath);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid ID: " + subPath);
+        }
+    }
+
+    /**
+     * Gets a query parameter
+     * @param name Parameter name
+     * @return trimmed value, or null if missing or blank
+     */
+    public String getString(String name) {
+        String value = params.get(name);
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    /**
+     * Gets an integer query parameter within a range
+     * @param name Parameter name
+     * @param defaultValue Value used when the parameter is missing
+     * @param min Smallest accepted value
+     * @param max Largest accepted value
+     * @return parsed value
+     */
+    public int getInt(String name, int defaultValue, int min, int max) {
+        String value = getString(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.furever.api;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.furever.crud.AdopterCRUD;
+import com.furever.crud.AdoptionRequestCRUD;
+import com.furever.crud.PetCRUD;
+import com.furever.crud.PetTypeCRUD;
+import com.furever.database.DbConnection;
+import com.furever.models.Adopter;
+import com.furever.models.AdopterSummary;
+import com.furever.models.AdoptionRequestView;
+import com.furever.models.Pet;
+import com.furever.models.PetSummary;
+import com.furever.outbox.ChangeFeedReader;
+import com.furever.search.SearchService;
+import com.furever.service.StatisticsService;
+import com.furever.service.StatisticsSnapshot;
+import com.furever.utils.ThreadSupport;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Headless HTTP/JSON mode of the Pet Adoption System.
+ * Serves read-only pet, adopter, adoption request and statistics data from the same CRUD
+ * classes as the console menus, using the JDK's built-in HTTP server. Each request runs on
+ * its own virtual thread on Java 21+ (a bounded platform thread pool otherwise). All
+ * endpoints together run at most as many calls as the connection pool has connections, and
+ * each endpoint at most half of them.
+ *
+ * Usage: java com.furever.api.ApiServer [port] [bindAddress]
+ */
+public class ApiServer {
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final String DEFAULT_BIND_ADDRESS = "127.0.0.1";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int SOCKET_BACKLOG = 512;
+
+    // Each call needs at most one pooled connection, so more concurrent calls than the pool
+    // can serve would only wait for a connection. One endpoint gets at most half of the pool,
+    // so a burst on it leaves connections for the others.
+    private static final int SERVER_CONCURRENCY = DbConnection.getPoolMaxSize();
+    private static final int ENDPOINT_CONCURRENCY = Math.max(1, SERVER_CONCURRENCY / 2);
+    private static final long ENDPOINT_QUEUE_TIMEOUT_MILLIS = 250;
+    // Platform threads used when virtual threads are not available
+    private static final int FALLBACK_THREADS = 64;
+
+    private static final String[] PET_STATUSES = {"Available", "Pending", "Adopted"};
+    private static final String[] REQUEST_STATUSES = {"Pending", "Approved", "Rejected"};
+
+    private final PetCRUD petCRUD = new PetCRUD();
+    private final AdopterCRUD adopterCRUD = new AdopterCRUD();
+    private final AdoptionRequestCRUD adoptionRequestCRUD = new AdoptionRequestCRUD();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final Semaphore callPermits = new Semaphore(SERVER_CONCURRENCY);
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Starts the HTTP server
+     * @param bindAddress Address to listen on
+     * @param port Port to listen on
+     * @throws IOException if the port cannot be bound
+     */
+    public void start(String bindAddress, int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(bindAddress, port), SOCKET_BACKLOG);
+
+        register("/api/pets", this::pets);
+        register("/api/adopters", this::adopters);
+        register("/api/requests", this::requests);
+        register("/api/stats", this::stats);
+        register("/api/health", this::health);
+
+        executor = ThreadSupport.newPerTaskExecutor("furever-api", FALLBACK_THREADS);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and waits briefly for in-flight calls to finish
+     * @param graceSeconds Maximum time to wait for in-flight calls
+     */
+    public void stop(int graceSeconds) {
+        if (server != null) {
+            server.stop(graceSeconds);
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(graceSeconds, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void register(String path, Endpoint.Route route) {
+        Endpoint endpoint = new Endpoint(path, route, ENDPOINT_CONCURRENCY, callPermits, ENDPOINT_QUEUE_TIMEOUT_MILLIS);
+        endpoints.add(endpoint);
+        server.createContext(path, endpoint);
+    }
+
+    // Routes
+
+    /**
+     * GET /api/pets?after=&amp;limit=, /api/pets?status=, /api/pets?q=, /api/pets/{id}
+     */
+    private String pets(ApiRequest request) {
+        Integer id = request.getPathId();
+        if (id != null) {
+            Pet pet = petCRUD.getPetById(id);
+            return pet != null ? writePet(new JsonWriter(), pet).toString() : null;
+        }
+
+        List<PetSummary> pets;
+        String query = request.getString("q");
+        String status = request.getString("status");
+        if (query != null) {
+            pets = petCRUD.searchPetSummariesByName(query);
+        } else if (status != null) {
+            pets = petCRUD.getPetSummariesByAdoptionStatus(requireOneOf("status", status, PET_STATUSES));
+        } else {
+            int after = request.getInt("after", 0, 0, Integer.MAX_VALUE);
+            int limit = request.getInt("limit", DEFAULT_PAGE_SIZE, 1, MAX_PAGE_SIZE);
+            pets = petCRUD.getPetSummariesPage(after, limit);
+        }
+
+        JsonWriter json = new JsonWriter().beginObject().field("count", pets.size()).name("items").beginArray();
+        for (PetSummary pet : pets) {
+            json.beginObject()
+                .field("petId", pet.getPetId())
+                .field("petName", pet.getPetName())
+                .field("petType", petTypeName(pet.getPetTypeId()))
+                .field("descriptionPreview", pet.getDescriptionPreview())
+                .field("age", pet.getAge())
+                .field("gender", pet.getGender())
+                .field("healthStatus", pet.getHealthStatus())
+                .field("adoptionStatus", pet.getAdoptionStatus())
+                .field("dateRegistered", pet.getDateRegistered())
+                .endObject();
+        }
+        return json.endArray().endObject().toString();
+    }
+
+    /**
+     * GET /api/adopters?after=&amp;limit=, /api/adopters?q=, /api/adopters/{id}.
+     * Only names and contact details are exposed, never addresses, profiles or credentials.
+     */
+    private String adopters(ApiRequest request) {
+        Integer id = request.getPathId();
+        if (id != null) {
+            Adopter adopter = adopterCRUD.getAdopterById(id);
+            if (adopter == null) {
+                return null;
+            }
+            return new JsonWriter().beginObject()
+                    .field("adopterId", adopter.getAdopterId())
+                    .field("adopterName", adopter.getAdopterName())
+                    .field("adopterContact", adopter.getAdopterContact())
+                    .field("adopterEmail", adopter.getAdopterEmail())
+                    .endObject().toString();
+        }
+
+        List<AdopterSummary> adopters;
+        String query = request.getString("q");
+        if (query != null) {
+            adopters = adopterCRUD.searchAdopterSummariesByName(query);
+        } else {
+            int after = request.getInt("after", 0, 0, Integer.MAX_VALUE);
+            int limit = request.getInt("limit", DEFAULT_PAGE_SIZE, 1, MAX_PAGE_SIZE);
+            adopters = adopterCRUD.getAdopterSummariesPage(after, limit);
+        }
+
+        JsonWriter json = new JsonWriter().beginObject().field("count", adopters.size()).name("items").beginArray();
+        for (AdopterSummary adopter : adopters) {
+            json.beginObject()
+                .field("adopterId", adopter.getAdopterId())
+                .field("adopterName", adopter.getAdopterName())
+                .field("adopterContact", adopter.getAdopterContact())
+                .field("adopterEmail", adopter.getAdopterEmail())
+                .endObject();
+        }
+        return json.endArray().endObject().toString();
+    }
+
+    /**
+     * GET /api/requests?status=&amp;offset=&amp;limit=, /api/requests?petId=, /api/requests?adopterId=,
+     * /api/requests/{id}
+     */
+    private String requests(ApiRequest request) {
+        Integer id = request.getPathId();
+        if (id != null) {
+            AdoptionRequestView view = adoptionRequestCRUD.getAdoptionRequestViewById(id);
+            return view != null ? writeRequest(new JsonWriter(), view).toString() : null;
+        }
+
+        List<AdoptionRequestView> views;
+        int petId = request.getInt("petId", 0, 1, Integer.MAX_VALUE);
+        int adopterId = request.getInt("adopterId", 0, 1, Integer.MAX_VALUE);
+        String status = request.getString("status");
+        if (petId > 0) {
+            views = adoptionRequestCRUD.getAdoptionRequestViewsByPet(petId);
+        } else if (adopterId > 0) {
+            views = adoptionRequestCRUD.getAdoptionRequestViewsByAdopter(adopterId);
+        } else {
+            int offset = request.getInt("offset", 0, 0, Integer.MAX_VALUE);
+            int limit = request.getInt("limit", DEFAULT_PAGE_SIZE, 1, MAX_PAGE_SIZE);
+            views = status != null
+                    ? adoptionRequestCRUD.getAdoptionRequestViewsByStatus(requireOneOf("status", status, REQUEST_STATUSES), offset, limit)
+                    : adoptionRequestCRUD.getAdoptionRequestViews(offset, limit);
+        }
+
+        JsonWriter json = new JsonWriter().beginObject().field("count", views.size()).name("items").beginArray();
+        for (AdoptionRequestView view : views) {
+            writeRequest(json, view);
+        }
+        return json.endArray().endObject().toString();
+    }
+
+    /**
+     * GET /api/stats
+     */
+    private String stats(ApiRequest request) {
+        StatisticsSnapshot snapshot = StatisticsService.getInstance().getSnapshot();
+        JsonWriter json = new JsonWriter().beginObject()
+                .field("petCount", snapshot.getPetCount())
+                .name("petsByStatus").beginObject();
+        for (Map.Entry<String, Integer> entry : snapshot.getPetCountsByStatus().entrySet()) {
+            json.field(entry.getKey(), entry.getValue());
+        }
+        json.endObject()
+            .field("requestCount", snapshot.getRequestCount())
+            .name("requestsByStatus").beginObject();
+        for (Map.Entry<String, Integer> entry : snapshot.getRequestCountsByStatus().entrySet()) {
+            json.field(entry.getKey(), entry.getValue());
+        }
+        return json.endObject()
+                .field("adopterCount", snapshot.getAdopterCount())
+                .field("petOwnerCount", snapshot.getPetOwnerCount())
+                .field("userCount", snapshot.getUserCount())
+                .field("capturedAtMillis", snapshot.getCapturedAtMillis())
+                .endObject().toString();
+    }
+
+    /**
+     * GET /api/health - endpoint load and virtual thread availability
+     */
+    private String health(ApiRequest request) {
+        JsonWriter json = new JsonWriter().beginObject()
+                .field("virtualThreads", ThreadSupport.isVirtualThreadsAvailable())
+                .field("maxConcurrent", SERVER_CONCURRENCY)
+                .field("inFlight", SERVER_CONCURRENCY - callPermits.availablePermits())
+                .name("endpoints").beginArray();
+        for (Endpoint endpoint : endpoints) {
+            json.beginObject()
+                .field("path", endpoint.getContextPath())
+                .field("inFlight", endpoint.getInFlight())
+                .field("maxConcurrent", endpoint.getMaxConcurrent())
+                .field("served", endpoint.getServedCount())
+                .field("rejected", endpoint.getRejectedCount())
+                .field("errors", endpoint.getErrorCount())
+                .endObject();
+        }
+        return json.endArray().endObject().toString();
+    }
+
+    // JSON helpers
+
+    private JsonWriter writePet(JsonWriter json, Pet pet) {
+        return json.beginObject()
+                .field("petId", pet.getPetId())
+                .field("petOwnerId", pet.getPetOwnerId())
+                .field("petName", pet.getPetName())
+                .field("petType", petTypeName(pet.getPetTypeId()))
+                .field("description", pet.getDescription())
+                .field("age", pet.getAge())
+                .field("gender", pet.getGender())
+                .field("healthStatus", pet.getHealthStatus())
+                .field("vaccinationStatus", pet.getVaccinationStatus())
+                .field("adoptionStatus", pet.getAdoptionStatus())
+                .field("dateRegistered", pet.getDateRegistered())
+                .endObject();
+    }
+
+    private JsonWriter writeRequest(JsonWriter json, AdoptionRequestView view) {
+        return json.beginObject()
+                .field("adoptionRequestId", view.getAdoptionRequestId())
+                .field("petId", view.getPetId())
+                .field("petName", view.getPetName())
+                .field("adopterId", view.getAdopterId())
+                .field("adopterName", view.getAdopterName())
+                .field("requestDate", view.getRequestDate())
+                .field("status", view.getStatus())
+                .field("approvalDate", view.getApprovalDate())
+                .field("remarks", view.getRemarks())
+                .endObject();
+    }
+
+    private String petTypeName(int petTypeId) {
+        var petType = new PetTypeCRUD().getPetTypeById(petTypeId);
+        return petType != null ? petType.getPetTypeName() : null;
+    }
+
+    private static String requireOneOf(String name, String value, String[] allowed) {
+        for (String candidate : allowed) {
+            if (candidate.equalsIgnoreCase(value)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException(name + " must be one of " + String.join(", ", allowed));
+    }
+
+    /**
+     * Starts the API server from the command line
+     * @param args Optional port and bind address
+     */
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        String bindAddress = DEFAULT_BIND_ADDRESS;
+        try {
+            if (args.length > 0) {
+                port = Integer.parseInt(args[0]);
+            }
+            if (args.length > 1) {
+                bindAddress = args[1];
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: java com.furever.api.ApiServer [port] [bindAddress]");
+            return;
+        }
+
+        if (!DbConnection.testConnection()) {
+            System.err.println("Failed to connect to database. Please check your database configuration.");
+            return;
+        }
+        new PetTypeCRUD().preloadPetTypes();
+        SearchService.getInstance().start();
+        // The API serves cached and indexed data, so it follows other instances' writes too
+        ChangeFeedReader.getInstance().start();
+
+        ApiServer apiServer = new ApiServer();
+        try {
+            apiServer.start(bindAddress, port);
+        } catch (IOException e) {
+            System.err.println("Error starting API server: " + e.getMessage());
+            DbConnection.closeConnection();
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            apiServer.stop(2);
+            ChangeFeedReader.getInstance().stop();
+            DbConnection.closeConnection();
+        }, "furever-api-shutdown"));
+
+        System.out.println("Furever API listening on http://" + bindAddress + ":" + port + "/api/"
+                + (ThreadSupport.isVirtualThreadsAvailable() ? " (virtual threads)" : " (platform threads)"));
+    }
+}
@@ -0,0 +1,168 @@
+package com.furever.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.furever.database.DbSession;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * Read-only JSON endpoint with its own concurrency limit.
+ * A call needs a slot of the endpoint (at most maxConcurrent calls of this endpoint run at
+ * once) and a slot of the limiter shared by all endpoints, which is sized to the connection
+ * pool. Calls that get no slots within the queue timeout are answered with 503 Service
+ * Unavailable, so a burst on one endpoint cannot take every pooled connection and starve the
+ * others, and all endpoints together never run more calls than the pool can serve.
+ */
+public class Endpoint implements HttpHandler {
+
+    /**
+     * Produces the JSON body for a request
+     */
+    @FunctionalInterface
+    public interface Route {
+        /**
+         * @param request Parsed request
+         * @return JSON body, or null if the requested resource does not exist
+         * @throws Exception if the request cannot be served
+         */
+        String handle(ApiRequest request) throws Exception;
+    }
+
+    private final String contextPath;
+    private final Route route;
+    private final int maxConcurrent;
+    private final long queueTimeoutMillis;
+    private final Semaphore permits;
+    private final Semaphore sharedPermits;
+
+    private final LongAdder servedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+
+    /**
+     * Creates an endpoint
+     * @param contextPath Path the endpoint is registered under
+     * @param route Handler producing the response body
+     * @param maxConcurrent Maximum number of calls of this endpoint handled at the same time
+     * @param sharedPermits Limiter shared by all endpoints of the server
+     * @param queueTimeoutMillis How long a call waits for free slots before getting 503
+     */
+    public Endpoint(String contextPath, Route route, int maxConcurrent, Semaphore sharedPermits, long queueTimeoutMillis) {
+        this.contextPath = contextPath;
+        this.route = route;
+        this.maxConcurrent = maxConcurrent;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.permits = new Semaphore(maxConcurrent);
+        this.sharedPermits = sharedPermits;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                send(exchange, 405, error("Only GET is supported"));
+                return;
+            }
+
+            if (!acquire()) {
+                rejectedCount.increment();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                send(exchange, 503, error("Server is busy, please retry"));
+                return;
+            }
+
+            // Each request is its own read-your-writes session; writes of other clients do not
+            // keep its reads off the replicas
+            DbSession previous = DbSession.bind(new DbSession());
+            try {
+                String body = route.handle(new ApiRequest(exchange.getRequestURI(), contextPath));
+                if (body == null) {
+                    send(exchange, 404, error("Not found"));
+                } else {
+                    servedCount.increment();
+                    send(exchange, 200, body);
+                }
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, error(e.getMessage()));
+            } catch (Exception e) {
+                errorCount.increment();
+                System.err.println("Error handling " + exchange.getRequestURI() + ": " + e.getMessage());
+                send(exchange, 500, error("Internal server error"));
+            } finally {
+                DbSession.restore(previous);
+                sharedPermits.release();
+                permits.release();
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, 503, error("Server is shutting down"));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Takes a slot of this endpoint, then a shared slot, both within the queue timeout
+     * @return true if both slots were taken, false (holding none) otherwise
+     */
+    private boolean acquire() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+        if (!permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        boolean acquired = false;
+        try {
+            acquired = sharedPermits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } finally {
+            if (!acquired) {
+                permits.release();
+            }
+        }
+        return acquired;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String error(String message) {
+        return new JsonWriter().beginObject().field("error", message).endObject().toString();
+    }
+
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public long getServedCount() {
+        return servedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+}
@@ -0,0 +1,165 @@
+package com.furever.api;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Minimal streaming JSON writer for API responses.
+ * Commas and string escaping are handled here, so handlers only describe the structure:
+ * <pre>
+ * new JsonWriter().beginObject().name("id").value(1).endObject().toString()
+ * </pre>
+ */
+public class JsonWriter {
+
+    private final StringBuilder out = new StringBuilder(256);
+    // One entry per open object/array: true once it has at least one element
+    private final Deque<Boolean> hasElements = new ArrayDeque<>();
+    private boolean afterName = false;
+
+    public JsonWriter beginObject() {
+        beforeValue();
+        out.append('{');
+        hasElements.push(false);
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        hasElements.pop();
+        out.append('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        beforeValue();
+        out.append('[');
+        hasElements.push(false);
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        hasElements.pop();
+        out.append(']');
+        return this;
+    }
+
+    /**
+     * Writes an object member name; the next call must write its value
+     */
+    public JsonWriter name(String name) {
+        beforeValue();
+        writeString(name);
+        out.append(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        beforeValue();
+        if (value == null) {
+            out.append("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+        out.append(value);
+        return this;
+    }
+
+    public JsonWriter value(double value) {
+        beforeValue();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append("null");
+        } else {
+            out.append(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Writes a nullable number or any other object as its string form
+     */
+    public JsonWriter value(Object value) {
+        if (value == null) {
+            return value((String) null);
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            return value(((Number) value).longValue());
+        }
+        if (value instanceof Number) {
+            return value(((Number) value).doubleValue());
+        }
+        if (value instanceof Boolean) {
+            return value(((Boolean) value).booleanValue());
+        }
+        return value(value.toString());
+    }
+
+    /**
+     * Convenience for a name/value pair
+     */
+    public JsonWriter field(String name, Object value) {
+        return name(name).value(value);
+    }
+
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (!hasElements.isEmpty()) {
+            if (hasElements.peek()) {
+                out.append(',');
+            } else {
+                hasElements.pop();
+                hasElements.push(true);
+            }
+        }
+    }
+
+    private void writeString(String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
@@ -0,0 +1,214 @@
+package com.furever.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import com.furever.api.JsonWriter;
+import com.furever.utils.LatencyHistogram;
+
+/**
+ * Small benchmark runner: warms each variant up, then times every operation individually.
+ * Results are kept in order and can be written as JSON or CSV so runs can be compared.
+ * CRUD methods print status messages, so System.out is silenced while a variant runs.
+ */
+public class BenchmarkHarness {
+
+    /**
+     * Timed operation; the returned value is consumed so the JIT cannot discard the work.
+     * Returning null or false, or throwing, counts as a failed operation.
+     */
+    public interface Operation {
+        Object run(int iteration) throws Exception;
+    }
+
+    /**
+     * Untimed work run before each operation, e.g. resetting rows a write changed
+     */
+    public interface Setup {
+        void run(int iteration) throws Exception;
+    }
+
+    private static final PrintStream NO_OUTPUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private final int warmupOperations;
+    private final int measuredOperations;
+    private final List<BenchmarkResult> results = new ArrayList<>();
+
+    // Consumed results end up here so the work that produced them stays observable
+    private volatile int sink;
+
+    // Operations of the current variant that threw, and the last exception thrown
+    private long exceptions;
+    private Exception lastException;
+
+    /**
+     * Creates a harness
+     * @param warmupOperations Untimed operations run before measuring each variant
+     * @param measuredOperations Timed operations per variant
+     */
+    public BenchmarkHarness(int warmupOperations, int measuredOperations) {
+        this.warmupOperations = warmupOperations;
+        this.measuredOperations = measuredOperations;
+    }
+
+    /**
+     * Measures one variant of a benchmark
+     * @param benchmark Benchmark name, e.g. "PetCRUD.getPetById"
+     * @param variant Variant name, e.g. "pooled"
+     * @param operation Operation to time
+     * @return Measured result, also added to getResults()
+     */
+    public BenchmarkResult measure(String benchmark, String variant, Operation operation) {
+        return measure(benchmark, variant, null, operation);
+    }
+
+    /**
+     * Measures one variant of a benchmark with untimed setup before every operation
+     * @param benchmark Benchmark name
+     * @param variant Variant name
+     * @param setup Setup run before each operation, may be null
+     * @param operation Operation to time
+     * @return Measured result, also added to getResults()
+     */
+    public BenchmarkResult measure(String benchmark, String variant, Setup setup, Operation operation) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long failures = 0;
+        long elapsed = 0;
+        exceptions = 0;
+        lastException = null;
+
+        PrintStream out = System.out;
+        System.setOut(NO_OUTPUT);
+        try {
+            for (int i = 0; i < warmupOperations; i++) {
+                runOnce(setup, operation, i);
+            }
+            for (int i = 0; i < measuredOperations; i++) {
+                int iteration = warmupOperations + i;
+                if (setup != null) {
+                    setup.run(iteration);
+                }
+                long start = System.nanoTime();
+                Object value = invoke(operation, iteration);
+                long nanos = System.nanoTime() - start;
+
+                histogram.record(nanos);
+                elapsed += nanos;
+                if (value == null || Boolean.FALSE.equals(value)) {
+                    failures++;
+                }
+                consume(value);
+            }
+        } catch (Exception e) {
+            System.err.println("Error in benchmark setup for " + benchmark + " [" + variant + "]: " + e.getMessage());
+        } finally {
+            System.setOut(out);
+        }
+
+        long operations = histogram.getCount();
+        BenchmarkResult result = new BenchmarkResult(benchmark, variant, operations, failures,
+                elapsed > 0 ? operations * 1_000_000_000.0 / elapsed : 0,
+                histogram.getMeanNanos() / 1000.0,
+                histogram.getPercentileNanos(50) / 1000.0,
+                histogram.getPercentileNanos(99) / 1000.0,
+                histogram.getMaxNanos() / 1000.0);
+        results.add(result);
+        System.out.printf("  %-42s %-20s %12.1f ops/s   p50 %10.1f us   p99 %10.1f us%n",
+                benchmark, variant, result.getOpsPerSecond(), result.getP50Micros(), result.getP99Micros());
+        if (failures > 0 || exceptions > 0) {
+            System.err.println("  " + benchmark + " [" + variant + "]: " + failures + " of " + operations
+                    + " measured operations failed; " + exceptions + " operations threw, warm-up included"
+                    + (lastException != null ? " (last: " + lastException + ")" : ""));
+        }
+        return result;
+    }
+
+    private void runOnce(Setup setup, Operation operation, int iteration) throws Exception {
+        if (setup != null) {
+            setup.run(iteration);
+        }
+        consume(invoke(operation, iteration));
+    }
+
+    /**
+     * Runs one operation; an exception is counted and kept for the report, and the operation
+     * then counts as failed
+     */
+    private Object invoke(Operation operation, int iteration) {
+        try {
+            return operation.run(iteration);
+        } catch (Exception e) {
+            exceptions++;
+            lastException = e;
+            return null;
+        }
+    }
+
+    private void consume(Object value) {
+        sink += value == null ? 0 : System.identityHashCode(value);
+    }
+
+    public List<BenchmarkResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Writes all results to a file; a .csv extension writes CSV, anything else JSON
+     * @param file Output file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeResults(Path file) throws IOException {
+        String content = file.toString().toLowerCase().endsWith(".csv") ? toCsv() : toJson();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Formats the results as a JSON array, one object per variant
+     * @return JSON text
+     */
+    public String toJson() {
+        JsonWriter json = new JsonWriter().beginArray();
+        for (BenchmarkResult result : results) {
+            json.beginObject()
+                .field("benchmark", result.getBenchmark())
+                .field("variant", result.getVariant())
+                .field("operations", result.getOperations())
+                .field("failures", result.getFailures())
+                .field("opsPerSecond", result.getOpsPerSecond())
+                .field("meanMicros", result.getMeanMicros())
+                .field("p50Micros", result.getP50Micros())
+                .field("p99Micros", result.getP99Micros())
+                .field("maxMicros", result.getMaxMicros())
+                .endObject();
+        }
+        return json.endArray().toString();
+    }
+
+    /**
+     * Formats the results as CSV with a header row
+     * @return CSV text
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder(
+                "benchmark,variant,operations,failures,ops_per_second,mean_us,p50_us,p99_us,max_us\n");
+        for (BenchmarkResult result : results) {
+            csv.append(result.getBenchmark()).append(',')
+               .append(result.getVariant()).append(',')
+               .append(result.getOperations()).append(',')
+               .append(result.getFailures()).append(',')
+               .append(String.format(Locale.ROOT, "%.2f,%.2f,%.2f,%.2f,%.2f",
+                       result.getOpsPerSecond(), result.getMeanMicros(), result.getP50Micros(),
+                       result.getP99Micros(), result.getMaxMicros()))
+               .append('\n');
+        }
+        return csv.toString();
+    }
+}
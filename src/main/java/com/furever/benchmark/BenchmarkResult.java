@@ -0,0 +1,118 @@
+package com.furever.benchmark;
+
+/**
+ * Measured result of one benchmark variant
+ */
+public class BenchmarkResult {
+    private String benchmark;
+    private String variant;
+    private long operations;
+    private long failures;
+    private double opsPerSecond;
+    private double meanMicros;
+    private double p50Micros;
+    private double p99Micros;
+    private double maxMicros;
+
+    // Default constructor
+    public BenchmarkResult() {}
+
+    // Constructor with all parameters
+    public BenchmarkResult(String benchmark, String variant, long operations, long failures, double opsPerSecond,
+                           double meanMicros, double p50Micros, double p99Micros, double maxMicros) {
+        this.benchmark = benchmark;
+        this.variant = variant;
+        this.operations = operations;
+        this.failures = failures;
+        this.opsPerSecond = opsPerSecond;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    // Getters and Setters
+    public String getBenchmark() {
+        return benchmark;
+    }
+
+    public void setBenchmark(String benchmark) {
+        this.benchmark = benchmark;
+    }
+
+    public String getVariant() {
+        return variant;
+    }
+
+    public void setVariant(String variant) {
+        this.variant = variant;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public void setOperations(long operations) {
+        this.operations = operations;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public void setFailures(long failures) {
+        this.failures = failures;
+    }
+
+    public double getOpsPerSecond() {
+        return opsPerSecond;
+    }
+
+    public void setOpsPerSecond(double opsPerSecond) {
+        this.opsPerSecond = opsPerSecond;
+    }
+
+    public double getMeanMicros() {
+        return meanMicros;
+    }
+
+    public void setMeanMicros(double meanMicros) {
+        this.meanMicros = meanMicros;
+    }
+
+    public double getP50Micros() {
+        return p50Micros;
+    }
+
+    public void setP50Micros(double p50Micros) {
+        this.p50Micros = p50Micros;
+    }
+
+    public double getP99Micros() {
+        return p99Micros;
+    }
+
+    public void setP99Micros(double p99Micros) {
+        this.p99Micros = p99Micros;
+    }
+
+    public double getMaxMicros() {
+        return maxMicros;
+    }
+
+    public void setMaxMicros(double maxMicros) {
+        this.maxMicros = maxMicros;
+    }
+
+    @Override
+    public String toString() {
+        return "BenchmarkResult{" +
+                "benchmark='" + benchmark + '\'' +
+                ", variant='" + variant + '\'' +
+                ", operations=" + operations +
+                ", opsPerSecond=" + opsPerSecond +
+                ", p50Micros=" + p50Micros +
+                ", p99Micros=" + p99Micros +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+package com.furever.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Map;
+
+/**
+ * In-memory ResultSet that returns the same row a fixed number of times.
+ * Lets row-mapping code run without a database, so only the mapping itself is measured.
+ * Only the forward-only getters used by the CRUD mappers are supported.
+ */
+public final class CannedResultSet implements InvocationHandler {
+
+    private final Map<String, Object> row;
+    private final int rowCount;
+    private int position = 0;
+    private boolean lastWasNull = false;
+    private boolean closed = false;
+
+    private CannedResultSet(Map<String, Object> row, int rowCount) {
+        this.row = row;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Creates a result set that repeats one row
+     * @param row Column values by column label
+     * @param rowCount Number of times next() returns true
+     * @return ResultSet backed by the row
+     */
+    public static ResultSet of(Map<String, Object> row, int rowCount) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class}, new CannedResultSet(row, rowCount));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "next":
+                return ++position <= rowCount;
+            case "close":
+                closed = true;
+                return null;
+            case "isClosed":
+                return closed;
+            case "wasNull":
+                return lastWasNull;
+            case "getObject":
+                return column(args);
+            case "getString":
+                return column(args);
+            case "getInt":
+                Object intValue = column(args);
+                return intValue == null ? 0 : ((Number) intValue).intValue();
+            case "getLong":
+                Object longValue = column(args);
+                return longValue == null ? 0L : ((Number) longValue).longValue();
+            case "getBoolean":
+                Object boolValue = column(args);
+                return boolValue != null && (Boolean) boolValue;
+            case "getDate":
+                return (Date) column(args);
+            case "getTimestamp":
+                return (Timestamp) column(args);
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "CannedResultSet" + row.keySet();
+            default:
+                throw new UnsupportedOperationException("CannedResultSet does not support " + method.getName());
+        }
+    }
+
+    private Object column(Object[] args) {
+        if (!(args[0] instanceof String)) {
+            throw new UnsupportedOperationException("CannedResultSet only supports column labels");
+        }
+        String label = (String) args[0];
+        if (!row.containsKey(label)) {
+            throw new IllegalArgumentException("Unknown column: " + label);
+        }
+        Object value = row.get(label);
+        lastWasNull = value == null;
+        return value;
+    }
+}
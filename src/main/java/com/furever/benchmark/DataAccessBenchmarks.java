@@ -0,0 +1,423 @@
+package com.furever.benchmark;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.furever.cache.EntityCaches;
+import com.furever.crud.AdoptionRequestCRUD;
+import com.furever.crud.PetCRUD;
+import com.furever.crud.UserCRUD;
+import com.furever.database.ChangeNotifier;
+import com.furever.database.DbConnection;
+import com.furever.models.Pet;
+import com.furever.models.PetSummary;
+import com.furever.models.User;
+import com.furever.search.SearchService;
+
+/**
+ * Benchmarks for the data-access layer, run against a local database.
+ * Each benchmark is measured for the access pattern the application uses today and for
+ * its pooled/cached or unpooled alternative, so the effect of those layers is visible.
+ * Row mapping is also measured on its own over an in-memory result set.
+ * Rows written by the benchmarks are tagged "bench_" and deleted when the run ends.
+ *
+ * Usage: java com.furever.benchmark.DataAccessBenchmarks [operations] [results.json|results.csv]
+ */
+public class DataAccessBenchmarks {
+
+    public static final int DEFAULT_OPERATIONS = 1000;
+    public static final String DEFAULT_OUTPUT = "benchmark-results.json";
+
+    private static final String MARKER = "bench_";
+    private static final int MAX_SAMPLE_PETS = 1000;
+    private static final int CANNED_ROWS = 1000;
+    private static final long SEARCH_READY_TIMEOUT_MILLIS = 60 * 1000L;
+    private static final String[] SEARCH_TERMS = {"bud", "max", "lu", "cha", "mit", "bella", "oreo", "sh"};
+
+    private static final String SELECT_PET_SQL =
+            "SELECT pet_id, pet_owner_id, pet_name, pet_type_id, description, age, gender, health_status, " +
+            "upload_health_history, vaccination_status, proof_of_vaccination, adoption_status, date_registered " +
+            "FROM tbl_pet";
+
+    private final PetCRUD petCRUD = new PetCRUD();
+    private final AdoptionRequestCRUD requestCRUD = new AdoptionRequestCRUD();
+    private final UserCRUD userCRUD = new UserCRUD();
+    private final BenchmarkHarness harness;
+    private final String runTag = Long.toString(System.currentTimeMillis() % 1_000_000_000L, 36);
+
+    // PetCRUD's private row mappers, measured directly
+    private final MethodHandle petMapper;
+    private final MethodHandle petSummaryMapper;
+
+    private int[] petIds;
+    private int fixtureOwnerId;
+    private int fixturePetId;
+    private int fixtureAdopterId;
+    private int fixtureRequestId;
+
+    public DataAccessBenchmarks(BenchmarkHarness harness) throws ReflectiveOperationException {
+        this.harness = harness;
+        this.petMapper = findMapper("extractPetFromResultSet");
+        this.petSummaryMapper = findMapper("extractPetSummaryFromResultSet");
+    }
+
+    private static MethodHandle findMapper(String name) throws ReflectiveOperationException {
+        Method method = PetCRUD.class.getDeclaredMethod(name, ResultSet.class);
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    /**
+     * Runs every benchmark
+     */
+    public void runAll() throws SQLException {
+        petIds = loadSamplePetIds();
+        if (petIds.length == 0) {
+            throw new SQLException("tbl_pet is empty; load data (e.g. with DataGenerator) first");
+        }
+        createFixture();
+        try {
+            benchmarkRowMapping();
+            benchmarkTableRendering();
+            benchmarkGetPetById();
+            benchmarkGetPetsByAdoptionStatus();
+            benchmarkSearchPetsByName();
+            benchmarkApproveAdoptionRequest();
+            benchmarkCreateUser();
+        } finally {
+            deleteFixture();
+        }
+    }
+
+    // Benchmarks
+
+    private void benchmarkRowMapping() {
+        Map<String, Object> petRow = new LinkedHashMap<>();
+        petRow.put("pet_id", 1);
+        petRow.put("pet_owner_id", 1);
+        petRow.put("pet_name", "Buddy");
+        petRow.put("pet_type_id", 1);
+        petRow.put("description", "A friendly and playful companion that loves long walks.");
+        petRow.put("age", 3);
+        petRow.put("gender", "Male");
+        petRow.put("health_status", "Healthy");
+        petRow.put("upload_health_history", null);
+        petRow.put("vaccination_status", "Vaccinated");
+        petRow.put("proof_of_vaccination", null);
+        petRow.put("adoption_status", "Available");
+        petRow.put("date_registered", Date.valueOf("2025-01-15"));
+
+        Map<String, Object> summaryRow = new LinkedHashMap<>(petRow);
+        summaryRow.put("description_preview", summaryRow.remove("description"));
+
+        harness.measure("PetCRUD.extractPetFromResultSet", "canned-" + CANNED_ROWS + "-rows",
+                i -> mapAll(petMapper, CannedResultSet.of(petRow, CANNED_ROWS)));
+        harness.measure("PetCRUD.extractPetSummaryFromResultSet", "canned-" + CANNED_ROWS + "-rows",
+                i -> mapAll(petSummaryMapper, CannedResultSet.of(summaryRow, CANNED_ROWS)));
+    }
+
+    private void benchmarkTableRendering() {
+        List<PetSummary> pets = new ArrayList<>();
+        for (int i = 1; i <= CANNED_ROWS; i++) {
+            PetSummary pet = new PetSummary();
+            pet.setPetId(i);
+            pet.setPetName("Buddy " + i);
+            pet.setPetTypeId(1);
+            pet.setDescriptionPreview("A friendly and playful companion that loves long walks.");
+            pet.setAge(3);
+            pet.setGender("Male");
+            pet.setHealthStatus("Healthy");
+            pet.setAdoptionStatus("Available");
+            pet.setDateRegistered(Date.valueOf("2025-01-15"));
+            pets.add(pet);
+        }
+
+        // The harness points System.out at a sink, so this measures formatting and write calls
+        harness.measure("PetCRUD.displayPetsTable", "printf-" + CANNED_ROWS + "-rows", i -> {
+            for (PetSummary pet : pets) {
+                System.out.printf("%-4d %-15s %-8d %-30s %-4d %-8s %-12s %-12s %-12s%n",
+                        pet.getPetId(), pet.getPetName(), pet.getPetTypeId(), pet.getDescriptionPreview(),
+                        pet.getAge(), pet.getGender(), pet.getHealthStatus(), pet.getAdoptionStatus(),
+                        pet.getDateRegistered().toString());
+            }
+            return pets.size();
+        });
+        harness.measure("PetCRUD.displayPetsTable", "console-table-" + CANNED_ROWS + "-rows", i -> {
+            petCRUD.displayPetsTable(pets);
+            return pets.size();
+        });
+    }
+
+    private void benchmarkGetPetById() {
+        harness.measure("PetCRUD.getPetById", "pooled-uncached",
+                i -> EntityCaches.PETS.invalidate(petId(i)),
+                i -> petCRUD.getPetById(petId(i)));
+        harness.measure("PetCRUD.getPetById", "pooled-cached",
+                i -> petCRUD.getPetById(petId(i)));
+        harness.measure("PetCRUD.getPetById", "unpooled",
+                i -> {
+                    try (Connection conn = DbConnection.openUnpooledConnection();
+                         PreparedStatement pstmt = conn.prepareStatement(SELECT_PET_SQL + " WHERE pet_id = ?")) {
+                        pstmt.setInt(1, petId(i));
+                        try (ResultSet rs = pstmt.executeQuery()) {
+                            return rs.next() ? mapPet(rs) : null;
+                        }
+                    }
+                });
+    }
+
+    private void benchmarkGetPetsByAdoptionStatus() {
+        harness.measure("PetCRUD.getPetsByAdoptionStatus", "entities",
+                i -> petCRUD.getPetsByAdoptionStatus("Available"));
+        harness.measure("PetCRUD.getPetsByAdoptionStatus", "summaries",
+                i -> petCRUD.getPetSummariesByAdoptionStatus("Available"));
+    }
+
+    private void benchmarkSearchPetsByName() {
+        harness.measure("PetCRUD.searchPetsByName", "sql-like",
+                i -> {
+                    List<Pet> pets = new ArrayList<>();
+                    try (Connection conn = DbConnection.getConnection();
+                         PreparedStatement pstmt = conn.prepareStatement(SELECT_PET_SQL + " WHERE pet_name LIKE ? ORDER BY pet_name")) {
+                        pstmt.setString(1, "%" + searchTerm(i) + "%");
+                        try (ResultSet rs = pstmt.executeQuery()) {
+                            while (rs.next()) {
+                                pets.add(mapPet(rs));
+                            }
+                        }
+                    }
+                    return pets;
+                });
+
+        SearchService search = SearchService.getInstance();
+        search.start();
+        long deadline = System.currentTimeMillis() + SEARCH_READY_TIMEOUT_MILLIS;
+        while (!search.isReady() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (!search.isReady()) {
+            System.err.println("Search index not ready; skipping the indexed search benchmark.");
+            return;
+        }
+        harness.measure("PetCRUD.searchPetsByName", "search-index",
+                i -> petCRUD.searchPetsByName(searchTerm(i)));
+    }
+
+    private void benchmarkApproveAdoptionRequest() {
+        Date today = new Date(System.currentTimeMillis());
+        harness.measure("AdoptionRequestCRUD.approveAdoptionRequestSafely", "check-then-update",
+                i -> resetFixtureRequest(),
+                i -> requestCRUD.approveAdoptionRequestSafely(fixtureRequestId, today, MARKER + "approved"));
+        harness.measure("AdoptionRequestCRUD.approveAdoptionRequestSafely", "approveAndCloseOut",
+                i -> resetFixtureRequest(),
+                i -> requestCRUD.approveAndCloseOut(fixtureRequestId, today, MARKER + "approved"));
+    }
+
+    private void benchmarkCreateUser() {
+        harness.measure("UserCRUD.createUser", "pooled-admin",
+                i -> userCRUD.createUser(benchUser("admin", i)));
+        harness.measure("UserCRUD.createUser", "pooled-adopter",
+                i -> userCRUD.createUser(benchUser("adopter", i)));
+        harness.measure("UserCRUD.createUser", "unpooled-admin",
+                i -> {
+                    User user = benchUser("admin", i);
+                    user.setUsername(user.getUsername() + "_u");
+                    try (Connection conn = DbConnection.openUnpooledConnection();
+                         PreparedStatement pstmt = conn.prepareStatement(
+                                 "INSERT INTO users (username, email, password, role) VALUES (?, ?, ?, ?)")) {
+                        pstmt.setString(1, user.getUsername());
+                        pstmt.setString(2, user.getUsername() + "@example.com");
+                        pstmt.setString(3, user.getPassword());
+                        pstmt.setString(4, user.getRole());
+                        return pstmt.executeUpdate() > 0;
+                    }
+                });
+    }
+
+    // Helpers
+
+    private int petId(int iteration) {
+        return petIds[iteration % petIds.length];
+    }
+
+    private static String searchTerm(int iteration) {
+        return SEARCH_TERMS[iteration % SEARCH_TERMS.length];
+    }
+
+    private User benchUser(String role, int iteration) {
+        // The full role keeps the admin and adopter variants from inserting the same usernames
+        String username = MARKER + runTag + "_" + role + "_" + iteration;
+        return new User(username, username + "@example.com", "benchmark", role);
+    }
+
+    private Pet mapPet(ResultSet rs) throws SQLException {
+        try {
+            return (Pet) petMapper.invoke(petCRUD, rs);
+        } catch (SQLException | RuntimeException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SQLException("Row mapping failed", t);
+        }
+    }
+
+    private Object mapAll(MethodHandle mapper, ResultSet rs) throws SQLException {
+        int mapped = 0;
+        Object last = null;
+        try {
+            while (rs.next()) {
+                last = mapper.invoke(petCRUD, rs);
+                mapped++;
+            }
+        } catch (SQLException | RuntimeException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SQLException("Row mapping failed", t);
+        }
+        return mapped == CANNED_ROWS ? last : null;
+    }
+
+    private static int[] loadSamplePetIds() throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("SELECT pet_id FROM tbl_pet ORDER BY pet_id LIMIT ?")) {
+            pstmt.setInt(1, MAX_SAMPLE_PETS);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Creates the owner, pet, adopter and pending request the approval benchmarks work on
+     */
+    private void createFixture() throws SQLException {
+        try (Connection conn = DbConnection.getConnection()) {
+            int petTypeId;
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT MIN(pet_type_id) FROM tbl_pet_type")) {
+                rs.next();
+                petTypeId = rs.getInt(1);
+            }
+            fixtureOwnerId = insert(conn, "INSERT INTO tbl_pet_owner (pet_owner_name, pet_owner_username) VALUES (?, ?)",
+                    "Benchmark Owner", MARKER + runTag);
+            fixtureAdopterId = insert(conn, "INSERT INTO tbl_adopter (adopter_name, adopter_username) VALUES (?, ?)",
+                    "Benchmark Adopter", MARKER + runTag);
+            fixturePetId = insert(conn, "INSERT INTO tbl_pet (pet_owner_id, pet_name, pet_type_id, adoption_status) " +
+                    "VALUES (?, ?, ?, 'Available')", fixtureOwnerId, MARKER + "pet", petTypeId);
+            fixtureRequestId = insert(conn, "INSERT INTO tbl_adoption_request (pet_id, adopter_id, request_date, status, remarks) " +
+                    "VALUES (?, ?, CURDATE(), 'Pending', ?)", fixturePetId, fixtureAdopterId, MARKER + "request");
+        }
+    }
+
+    private static int insert(Connection conn, String sql, Object... params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            pstmt.executeUpdate();
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                if (!keys.next()) {
+                    throw new SQLException("No key generated for: " + sql);
+                }
+                return keys.getInt(1);
+            }
+        }
+    }
+
+    private void resetFixtureRequest() throws SQLException {
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement resetRequest = conn.prepareStatement(
+                     "UPDATE tbl_adoption_request SET status = 'Pending', approval_date = NULL WHERE adoption_request_id = ?");
+             PreparedStatement resetPet = conn.prepareStatement(
+                     "UPDATE tbl_pet SET adoption_status = 'Available' WHERE pet_id = ?")) {
+            resetRequest.setInt(1, fixtureRequestId);
+            resetRequest.executeUpdate();
+            resetPet.setInt(1, fixturePetId);
+            resetPet.executeUpdate();
+        }
+        ChangeNotifier.publish("tbl_adoption_request", fixtureRequestId);
+        ChangeNotifier.publish("tbl_pet", fixturePetId);
+    }
+
+    /**
+     * Deletes the fixture and every user created by the benchmarks
+     */
+    private void deleteFixture() {
+        String[] deletes = {
+            "DELETE FROM tbl_adoption_request WHERE pet_id = " + fixturePetId,
+            "DELETE FROM tbl_pet WHERE pet_id = " + fixturePetId,
+            "DELETE FROM tbl_adopter WHERE adopter_id = " + fixtureAdopterId,
+            "DELETE FROM tbl_pet_owner WHERE pet_owner_id = " + fixtureOwnerId,
+            "DELETE FROM tbl_adopter WHERE username LIKE '" + MARKER.replace("_", "\\_") + runTag + "%'",
+            "DELETE FROM users WHERE username LIKE '" + MARKER.replace("_", "\\_") + runTag + "%'"
+        };
+
+        try (Connection conn = DbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String sql : deletes) {
+                stmt.executeUpdate(sql);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error deleting benchmark rows: " + e.getMessage());
+        }
+        ChangeNotifier.publish("tbl_pet", ChangeNotifier.ALL_ROWS);
+        ChangeNotifier.publish("tbl_adopter", ChangeNotifier.ALL_ROWS);
+        ChangeNotifier.publish("users", ChangeNotifier.ALL_ROWS);
+    }
+
+    /**
+     * Runs the benchmarks from the command line
+     * @param args [operations] [results.json|results.csv]
+     */
+    public static void main(String[] args) {
+        try {
+            int operations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_OPERATIONS;
+            Path output = Paths.get(args.length > 1 ? args[1] : DEFAULT_OUTPUT);
+
+            if (!DbConnection.testConnection()) {
+                System.err.println("Cannot connect to the database.");
+                return;
+            }
+
+            BenchmarkHarness harness = new BenchmarkHarness(Math.max(10, operations / 2), operations);
+            System.out.println("Running data-access benchmarks (" + operations + " operations per variant)...");
+            new DataAccessBenchmarks(harness).runAll();
+
+            harness.writeResults(output);
+            System.out.println("Results written to " + output.toAbsolutePath());
+
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: java com.furever.benchmark.DataAccessBenchmarks [operations] [results.json|results.csv]");
+        } catch (ReflectiveOperationException e) {
+            System.err.println("Error locating PetCRUD row mappers: " + e.getMessage());
+        } catch (SQLException e) {
+            System.err.println("Error running benchmarks: " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println("Error writing benchmark results: " + e.getMessage());
+        } finally {
+            DbConnection.closeConnection();
+        }
+    }
+}
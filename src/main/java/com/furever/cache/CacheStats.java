@@ -0,0 +1,77 @@
+package com.furever.cache;
+
+/**
+ * Immutable snapshot of an entity cache's counters
+ */
+public final class CacheStats {
+
+    private final String name;
+    private final int size;
+    private final int maxSize;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long invalidationCount;
+
+    public CacheStats(String name, int size, int maxSize, long hitCount, long missCount,
+                      long evictionCount, long invalidationCount) {
+        this.name = name;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    /**
+     * Gets the fraction of lookups answered from the cache
+     * @return hit rate between 0.0 and 1.0
+     */
+    public double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "name='" + name + '\'' +
+                ", size=" + size +
+                ", maxSize=" + maxSize +
+                ", hits=" + hitCount +
+                ", misses=" + missCount +
+                ", evictions=" + evictionCount +
+                ", invalidations=" + invalidationCount +
+                '}';
+    }
+}
@@ -0,0 +1,179 @@
+package com.furever.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded, thread-safe cache of entities keyed by ID.
+ * Entries are evicted least-recently-used first once the cache is full, and expire
+ * after a fixed time to live. Values are copied on the way in and out so callers can
+ * modify the objects they receive without corrupting the cached state.
+ * @param <K> key type
+ * @param <V> entity type
+ */
+public class EntityCache<K, V> {
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAtNanos;
+
+        Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final UnaryOperator<V> copier;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // Bumped on every invalidation so loads that raced with a write are not cached
+    private long generation;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long invalidationCount;
+
+    /**
+     * Creates an entity cache
+     * @param name Name shown in cache statistics
+     * @param maxSize Maximum number of entries kept
+     * @param ttlMillis Time after which an entry expires
+     * @param copier Function returning an independent copy of an entity
+     */
+    public EntityCache(String name, int maxSize, long ttlMillis, UnaryOperator<V> copier) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.copier = copier;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > EntityCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets a cached entity
+     * @param key Entity ID
+     * @return copy of the cached entity, or null if it is not cached or has expired
+     */
+    public V get(K key) {
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAtNanos - System.nanoTime() > 0) {
+                hitCount++;
+                return copier.apply(entry.value);
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictionCount++;
+            }
+            missCount++;
+            return null;
+        }
+    }
+
+    /**
+     * Gets a cached entity, loading and caching it on a miss.
+     * The loader runs outside the cache lock; a null result is not cached.
+     * @param key Entity ID
+     * @param loader Function reading the entity from the database
+     * @return copy of the entity, or null if the loader found nothing
+     */
+    public V getOrLoad(K key, Function<K, V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            if (generation == startGeneration) {
+                entries.put(key, new Entry<>(copier.apply(loaded), System.nanoTime() + ttlNanos));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Adds or replaces a cached entity
+     * @param key Entity ID
+     * @param value Entity to cache
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(copier.apply(value), System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Removes one entity from the cache
+     * @param key Entity ID
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidationCount++;
+        }
+    }
+
+    /**
+     * Removes every entity from the cache
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidationCount += entries.size();
+        entries.clear();
+    }
+
+    /**
+     * Removes expired entries
+     * @return number of entries removed
+     */
+    public synchronized int purgeExpired() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Iterator<Entry<V>> it = entries.values().iterator(); it.hasNext(); ) {
+            if (it.next().expiresAtNanos - now <= 0) {
+                it.remove();
+                removed++;
+            }
+        }
+        evictionCount += removed;
+        return removed;
+    }
+
+    /**
+     * Gets the cache counters
+     * @return CacheStats snapshot
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(name, entries.size(), maxSize, hitCount, missCount, evictionCount, invalidationCount);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
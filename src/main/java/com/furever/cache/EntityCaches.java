@@ -0,0 +1,190 @@
+package com.furever.cache;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.furever.database.ChangeNotifier;
+import com.furever.models.Adopter;
+import com.furever.models.Pet;
+import com.furever.models.PetOwner;
+import com.furever.models.PetType;
+import com.furever.models.User;
+import com.furever.models.UserSession;
+
+/**
+ * Shared entity caches used by the CRUD classes.
+ * Entries are dropped whenever ChangeNotifier reports a write to the underlying table.
+ */
+public final class EntityCaches {
+
+    // Cache configuration
+    private static final int PET_CACHE_SIZE = 1000;
+    private static final int ADOPTER_CACHE_SIZE = 1000;
+    private static final long ENTITY_TTL_MILLIS = 5 * 60 * 1000L;
+    private static final int SESSION_CACHE_SIZE = 5000;
+    private static final long SESSION_TTL_MILLIS = 15 * 60 * 1000L;
+
+    public static final EntityCache<Integer, Pet> PETS =
+            new EntityCache<>("pets", PET_CACHE_SIZE, ENTITY_TTL_MILLIS, EntityCaches::copyPet);
+
+    public static final EntityCache<Integer, Adopter> ADOPTERS =
+            new EntityCache<>("adopters", ADOPTER_CACHE_SIZE, ENTITY_TTL_MILLIS, EntityCaches::copyAdopter);
+
+    // Resolved logins keyed by username; the password is still checked on every login
+    public static final EntityCache<String, UserSession> SESSIONS =
+            new EntityCache<>("sessions", SESSION_CACHE_SIZE, SESSION_TTL_MILLIS, EntityCaches::copySession);
+
+    // Pet types rarely change, so the whole table is kept in memory until it is written to
+    private static List<PetType> petTypes = null;
+    private static long petTypesGeneration = 0;
+
+    static {
+        ChangeNotifier.addListener(EntityCaches::onChange);
+    }
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private EntityCaches() {}
+
+    private static void onChange(String table, int id) {
+        switch (table) {
+            case "tbl_pet":
+                invalidate(PETS, id);
+                break;
+            case "tbl_adopter":
+                invalidate(ADOPTERS, id);
+                SESSIONS.invalidateAll();
+                break;
+            case "users":
+            case "tbl_pet_owner":
+                // Sessions are keyed by username, not by the changed row's ID
+                SESSIONS.invalidateAll();
+                break;
+            case "tbl_pet_type":
+                invalidatePetTypes();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void invalidate(EntityCache<Integer, ?> cache, int id) {
+        if (id == ChangeNotifier.ALL_ROWS) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Gets the preloaded pet types
+     * @return copies of all pet types ordered by name, or null if they have not been loaded
+     */
+    public static synchronized List<PetType> getPetTypes() {
+        if (petTypes == null) {
+            return null;
+        }
+        List<PetType> copies = new ArrayList<>(petTypes.size());
+        for (PetType petType : petTypes) {
+            copies.add(copyPetType(petType));
+        }
+        return copies;
+    }
+
+    /**
+     * Gets the generation to pass to setPetTypes when loading pet types
+     * @return current pet type generation
+     */
+    public static synchronized long getPetTypesGeneration() {
+        return petTypesGeneration;
+    }
+
+    /**
+     * Stores the complete list of pet types unless they were invalidated while loading
+     * @param loaded All pet types ordered by name
+     * @param generation Value of getPetTypesGeneration taken before loading
+     */
+    public static synchronized void setPetTypes(List<PetType> loaded, long generation) {
+        if (generation != petTypesGeneration) {
+            return;
+        }
+        List<PetType> copies = new ArrayList<>(loaded.size());
+        for (PetType petType : loaded) {
+            copies.add(copyPetType(petType));
+        }
+        petTypes = Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * Drops the preloaded pet types so the next lookup reloads them
+     */
+    public static synchronized void invalidatePetTypes() {
+        petTypesGeneration++;
+        petTypes = null;
+    }
+
+    /**
+     * Gets the counters of all entity caches
+     * @return list of CacheStats snapshots
+     */
+    public static List<CacheStats> getAllStats() {
+        List<CacheStats> stats = new ArrayList<>();
+        stats.add(PETS.getStats());
+        stats.add(ADOPTERS.getStats());
+        stats.add(SESSIONS.getStats());
+        return stats;
+    }
+
+    /**
+     * Gets the number of preloaded pet types
+     * @return number of pet types in memory, or -1 if they are not loaded
+     */
+    public static synchronized int getPetTypeCount() {
+        return petTypes != null ? petTypes.size() : -1;
+    }
+
+    // Copy helpers
+    public static Pet copyPet(Pet pet) {
+        Pet copy = new Pet(pet.getPetId(), pet.getPetOwnerId(), pet.getPetName(), pet.getPetTypeId(),
+                pet.getDescription(), pet.getAge(), pet.getGender(), pet.getHealthStatus(),
+                pet.getUploadHealthHistory(), pet.getVaccinationStatus(), pet.getProofOfVaccination(),
+                pet.getAdoptionStatus(),
+                pet.getDateRegistered() != null ? new Date(pet.getDateRegistered().getTime()) : null);
+        // Copies handed out by the cache track changes like freshly loaded pets
+        copy.clearChanges();
+        return copy;
+    }
+
+    public static Adopter copyAdopter(Adopter adopter) {
+        Adopter copy = new Adopter(adopter.getAdopterId(), adopter.getAdopterName(), adopter.getAdopterContact(),
+                adopter.getAdopterEmail(), adopter.getAdopterAddress(), adopter.getAdopterProfile(),
+                adopter.getAdopterUsername(), adopter.getAdopterPassword());
+        copy.clearChanges();
+        return copy;
+    }
+
+    public static User copyUser(User user) {
+        return new User(user.getId(), user.getUsername(), user.getEmail(), user.getPassword(), user.getRole(),
+                user.getCreatedAt() != null ? new Timestamp(user.getCreatedAt().getTime()) : null);
+    }
+
+    public static PetOwner copyPetOwner(PetOwner petOwner) {
+        return new PetOwner(petOwner.getPetOwnerId(), petOwner.getPetOwnerName(), petOwner.getPetOwnerContact(),
+                petOwner.getPetOwnerEmail(), petOwner.getPetOwnerAddress(), petOwner.getPetOwnerProfile(),
+                petOwner.getPetOwnerUsername(), petOwner.getPetOwnerPassword());
+    }
+
+    public static UserSession copySession(UserSession session) {
+        return new UserSession(copyUser(session.getUser()),
+                session.getAdopter() != null ? copyAdopter(session.getAdopter()) : null,
+                session.getPetOwner() != null ? copyPetOwner(session.getPetOwner()) : null);
+    }
+
+    public static PetType copyPetType(PetType petType) {
+        return new PetType(petType.getPetTypeId(), petType.getPetTypeName());
+    }
+}
@@ -6,16 +6,67 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import com.furever.cache.EntityCaches;
+import com.furever.database.ChangeNotifier;
 import com.furever.database.DbConnection;
+import com.furever.database.SqlCatalog;
 import com.furever.models.Adopter;
+import com.furever.models.AdopterSummary;
+import com.furever.outbox.Outbox;
+import com.furever.search.SearchService;
 
 /**
  * CRUD operations for Adopter entity
  */
 public class AdopterCRUD {
     
+    // IDs loaded per query when an index-backed search matches many adopters
+    private static final int SEARCH_PAGE_SIZE = 500;
+    
+    // Maximum number of suggestions offered for a name search that matched nothing
+    private static final int SUGGESTION_LIMIT = 10;
+    
+    // Order of name search results, the same as the search index's: exact name, names
+    // starting with the term, the rest; bound with nameSearchParams()
+    private static final String NAME_SEARCH_ORDER =
+            " ORDER BY adopter_name = ? DESC, adopter_name LIKE ? DESC, adopter_name, adopter_id";
+    
+    // Columns read into a full Adopter; archive bookkeeping columns are never mapped
+    private static final String ADOPTER_COLUMNS =
+            "adopter_id, adopter_name, adopter_contact, adopter_email, adopter_address, adopter_profile, " +
+            "adopter_username, adopter_password";
+    
+    // Columns read into an AdopterSummary
+    private static final String ADOPTER_SUMMARY_COLUMNS = "adopter_id, adopter_name, adopter_contact, adopter_email";
+    
+    // Hot statements, prepared up front on every pooled connection (see SqlCatalog)
+    public static final String SELECT_ADOPTER_BY_ID = SqlCatalog.register(
+            "SELECT " + ADOPTER_COLUMNS + " FROM tbl_adopter WHERE adopter_id = ?");
+    public static final String SELECT_ADOPTER_BY_ADOPTER_USERNAME = SqlCatalog.register(
+            "SELECT " + ADOPTER_COLUMNS + " FROM tbl_adopter WHERE adopter_username = ?");
+    public static final String SELECT_ADOPTER_BY_USERNAME = SqlCatalog.register(
+            "SELECT " + ADOPTER_COLUMNS + " FROM tbl_adopter WHERE username = ?");
+    public static final String SELECT_ADOPTER_SUMMARIES_PAGE = SqlCatalog.register(
+            "SELECT " + ADOPTER_SUMMARY_COLUMNS + " FROM tbl_adopter WHERE adopter_id > ? ORDER BY adopter_id LIMIT ?");
+    
+    // Other statements checked by com.furever.test.TestQueryPlans
+    public static final String SELECT_ALL_ADOPTERS =
+            "SELECT " + ADOPTER_COLUMNS + " FROM tbl_adopter ORDER BY adopter_id";
+    public static final String SELECT_ADOPTER_PAGE =
+            "SELECT " + ADOPTER_COLUMNS + " FROM tbl_adopter WHERE adopter_id > ? ORDER BY adopter_id LIMIT ?";
+    public static final String SEARCH_ADOPTERS_BY_NAME =
+            "SELECT " + ADOPTER_COLUMNS + " FROM tbl_adopter WHERE adopter_name LIKE ?" + NAME_SEARCH_ORDER;
+    public static final String SEARCH_ADOPTER_SUMMARIES_BY_NAME =
+            "SELECT " + ADOPTER_SUMMARY_COLUMNS + " FROM tbl_adopter WHERE adopter_name LIKE ?" + NAME_SEARCH_ORDER;
+    // Followed by one placeholder per ID and a closing parenthesis
+    public static final String SELECT_ADOPTERS_BY_IDS_PREFIX = "SELECT " + ADOPTER_COLUMNS + " FROM tbl_adopter WHERE adopter_id IN (";
+    
     /**
      * Creates a new adopter in the database
      * @param adopter Adopter object to create
@@ -44,6 +95,7 @@ public class AdopterCRUD {
                     }
                 }
                 System.out.println("Adopter created successfully with ID: " + adopter.getAdopterId());
+                ChangeNotifier.publish("tbl_adopter", adopter.getAdopterId());
                 return true;
             }
             
@@ -55,14 +107,21 @@ public class AdopterCRUD {
     }
     
     /**
-     * Retrieves an adopter by ID
+     * Retrieves an adopter by ID, served from the entity cache when possible
      * @param adopterId Adopter ID to search for
      * @return Adopter object if found, null otherwise
      */
     public Adopter getAdopterById(int adopterId) {
-        String sql = "SELECT * FROM tbl_adopter WHERE adopter_id = ?";
+        return EntityCaches.ADOPTERS.getOrLoad(adopterId, this::loadAdopterById);
+    }
+    
+    /**
+     * Reads an adopter from the database, bypassing the cache
+     */
+    private Adopter loadAdopterById(int adopterId) {
+        String sql = SELECT_ADOPTER_BY_ID;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, adopterId);
@@ -86,7 +145,7 @@ public class AdopterCRUD {
      * @return Adopter object if found, null otherwise
      */
     public Adopter getAdopterByUsername(String username) {
-        String sql = "SELECT * FROM tbl_adopter WHERE adopter_username = ?";
+        String sql = SELECT_ADOPTER_BY_ADOPTER_USERNAME;
         
         try (Connection conn = DbConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -115,9 +174,9 @@ public class AdopterCRUD {
      */
     public List<Adopter> searchAdoptersByUsername(String usernamePattern) {
         List<Adopter> adopters = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_adopter WHERE adopter_username LIKE ? ORDER BY adopter_username";
+        String sql = "SELECT " + ADOPTER_COLUMNS + " FROM tbl_adopter WHERE adopter_username LIKE ? ORDER BY adopter_username";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             // Add wildcards for partial matching
@@ -143,9 +202,9 @@ public class AdopterCRUD {
      */
     public List<Adopter> getAllAdopters() {
         List<Adopter> adopters = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_adopter ORDER BY adopter_id";
+        String sql = SELECT_ALL_ADOPTERS;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -160,12 +219,227 @@ public class AdopterCRUD {
         return adopters;
     }
     
+    /**
+     * Retrieves one page of adopters using keyset pagination.
+     * Pass 0 for the first page and the last returned ID for each following page.
+     * @param afterId Only adopters with a greater ID are returned
+     * @param limit Maximum number of adopters to return
+     * @return List of at most limit adopters ordered by ID
+     */
+    public List<Adopter> getAdoptersPage(int afterId, int limit) {
+        List<Adopter> adopters = new ArrayList<>();
+        String sql = SELECT_ADOPTER_PAGE;
+        
+        try (Connection conn = DbConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, afterId);
+            pstmt.setInt(2, limit);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    adopters.add(extractAdopterFromResultSet(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error retrieving adopters page: " + e.getMessage());
+        }
+        
+        return adopters;
+    }
+    
+    /**
+     * Streams all adopters to a consumer without loading the table into memory.
+     * Rows are handed over as they arrive from the server, ordered by ID.
+     * @param action Consumer called once per adopter
+     * @return Number of adopters streamed
+     */
+    public int forEachAdopter(Consumer<Adopter> action) {
+        String sql = SELECT_ALL_ADOPTERS;
+        int count = 0;
+        
+        try (Connection conn = DbConnection.getReadConnection();
+             PreparedStatement pstmt = DbConnection.prepareStreamingStatement(conn, sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            
+            while (rs.next()) {
+                action.accept(extractAdopterFromResultSet(rs));
+                count++;
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error streaming adopters: " + e.getMessage());
+        }
+        
+        return count;
+    }
+    
+    // Summary reads: only the ID, name and contact columns shown in adopter listings
+    
+    /**
+     * Retrieves one page of adopter table rows using keyset pagination.
+     * Pass 0 for the first page and the last returned ID for each following page.
+     * @param afterId Only adopters with a greater ID are returned
+     * @param limit Maximum number of adopters to return
+     * @return List of at most limit adopter summaries ordered by ID
+     */
+    public List<AdopterSummary> getAdopterSummariesPage(int afterId, int limit) {
+        String sql = SELECT_ADOPTER_SUMMARIES_PAGE;
+        return queryAdopterSummaries(sql, "adopters page", afterId, limit);
+    }
+    
+    /**
+     * Searches adopters by name, returning table rows only
+     * @param searchTerm Name to search for
+     * @return List of matching adopter summaries, in the order of searchAdoptersByName()
+     */
+    public List<AdopterSummary> searchAdopterSummariesByName(String searchTerm) {
+        List<Integer> ids = SearchService.getInstance().searchAdopterIds(searchTerm);
+        if (ids != null) {
+            return loadInPages(ids, this::getAdopterSummariesByIds);
+        }
+        
+        // Search index is still building: fall back to a LIKE scan
+        String sql = SEARCH_ADOPTER_SUMMARIES_BY_NAME;
+        return queryAdopterSummaries(sql, "adopters", nameSearchParams(searchTerm));
+    }
+    
+    /**
+     * Suggests adopters for a search term that matched no name: adopters whose name or email
+     * match it by word prefix or fuzzily
+     * @param searchTerm Search text
+     * @return List of at most 10 adopter summaries, best match first; empty while the search index is building
+     */
+    public List<AdopterSummary> suggestAdopterSummaries(String searchTerm) {
+        List<Integer> ids = SearchService.getInstance().suggestAdopterIds(searchTerm, SUGGESTION_LIMIT);
+        return ids != null ? getAdopterSummariesByIds(ids) : new ArrayList<>();
+    }
+    
+    // Parameters of a name search: the LIKE pattern, then the two ranking terms of NAME_SEARCH_ORDER
+    private static Object[] nameSearchParams(String searchTerm) {
+        return new Object[] {"%" + searchTerm + "%", searchTerm, searchTerm + "%"};
+    }
+    
+    // Loads the rows of a long ID list a page of IDs at a time, keeping the order of the IDs
+    private static <T> List<T> loadInPages(List<Integer> ids, Function<List<Integer>, List<T>> load) {
+        List<T> rows = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += SEARCH_PAGE_SIZE) {
+            rows.addAll(load.apply(ids.subList(from, Math.min(ids.size(), from + SEARCH_PAGE_SIZE))));
+        }
+        return rows;
+    }
+    
+    /**
+     * Retrieves table rows for the given adopters, keeping the order of the given IDs
+     * @param ids Adopter IDs to load
+     * @return List of adopter summaries found, in the order of ids
+     */
+    public List<AdopterSummary> getAdopterSummariesByIds(List<Integer> ids) {
+        List<AdopterSummary> adopters = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return adopters;
+        }
+        
+        StringBuilder sql = new StringBuilder("SELECT " + ADOPTER_SUMMARY_COLUMNS + " FROM tbl_adopter WHERE adopter_id IN (");
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+        
+        Map<Integer, AdopterSummary> byId = new HashMap<>();
+        for (AdopterSummary adopter : queryAdopterSummaries(sql.toString(), "adopters by ID", ids.toArray())) {
+            byId.put(adopter.getAdopterId(), adopter);
+        }
+        for (int id : ids) {
+            AdopterSummary adopter = byId.get(id);
+            if (adopter != null) {
+                adopters.add(adopter);
+            }
+        }
+        return adopters;
+    }
+    
+    /**
+     * Streams table rows for all adopters to a consumer, ordered by ID
+     * @param action Consumer called once per adopter
+     * @return Number of adopters streamed
+     */
+    public int forEachAdopterSummary(Consumer<AdopterSummary> action) {
+        String sql = "SELECT " + ADOPTER_SUMMARY_COLUMNS + " FROM tbl_adopter ORDER BY adopter_id";
+        int count = 0;
+        
+        try (Connection conn = DbConnection.getReadConnection();
+             PreparedStatement pstmt = DbConnection.prepareStreamingStatement(conn, sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            
+            while (rs.next()) {
+                action.accept(extractAdopterSummaryFromResultSet(rs));
+                count++;
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error streaming adopters: " + e.getMessage());
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Runs a summary query with positional parameters
+     * @param sql Query selecting ADOPTER_SUMMARY_COLUMNS
+     * @param description Description used in the error message
+     * @param params Parameters bound in order
+     * @return List of adopter summaries
+     */
+    private List<AdopterSummary> queryAdopterSummaries(String sql, String description, Object... params) {
+        List<AdopterSummary> adopters = new ArrayList<>();
+        
+        try (Connection conn = DbConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    adopters.add(extractAdopterSummaryFromResultSet(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error retrieving " + description + ": " + e.getMessage());
+        }
+        
+        return adopters;
+    }
+    
+    /**
+     * Extracts AdopterSummary object from ResultSet
+     * @param rs ResultSet containing ADOPTER_SUMMARY_COLUMNS
+     * @return AdopterSummary object
+     * @throws SQLException if database access error occurs
+     */
+    private AdopterSummary extractAdopterSummaryFromResultSet(ResultSet rs) throws SQLException {
+        AdopterSummary adopter = new AdopterSummary();
+        adopter.setAdopterId(rs.getInt("adopter_id"));
+        adopter.setAdopterName(rs.getString("adopter_name"));
+        adopter.setAdopterContact(rs.getString("adopter_contact"));
+        adopter.setAdopterEmail(rs.getString("adopter_email"));
+        return adopter;
+    }
+    
     /**
      * Updates an existing adopter
      * @param adopter Adopter object with updated information
      * @return true if adopter was updated successfully, false otherwise
      */
     public boolean updateAdopter(Adopter adopter) {
+        if (adopter.isTracking()) {
+            return updateAdopterChanges(adopter, false);
+        }
+        
         String sql = "UPDATE tbl_adopter SET adopter_name = ?, adopter_contact = ?, adopter_email = ?, adopter_address = ?, adopter_profile = ?, adopter_username = ?, adopter_password = ? WHERE adopter_id = ?";
         
         try (Connection conn = DbConnection.getConnection();
@@ -184,7 +458,41 @@ public class AdopterCRUD {
             
             if (rowsAffected > 0) {
                 System.out.println("Adopter updated successfully.");
+                ChangeNotifier.publish("tbl_adopter", adopter.getAdopterId());
+                return true;
+            } else {
+                System.out.println("No adopter found with ID: " + adopter.getAdopterId());
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error updating adopter: " + e.getMessage());
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Writes only the columns changed since the adopter was loaded
+     * @param adopter Adopter loaded from the database and then modified
+     * @param optimistic If true, the update only applies when the changed columns still hold
+     *                   their loaded values, so concurrent changes are not overwritten
+     * @return true if the changes were written or there were none, false otherwise
+     */
+    public boolean updateAdopterChanges(Adopter adopter, boolean optimistic) {
+        if (!adopter.hasChanges()) {
+            return true;
+        }
+        
+        try (Connection conn = DbConnection.getConnection()) {
+            int rowsAffected = PartialUpdate.execute(conn, "tbl_adopter", "adopter_id", adopter.getAdopterId(), adopter, optimistic);
+            
+            if (rowsAffected > 0) {
+                System.out.println("Adopter updated successfully.");
+                adopter.clearChanges();
+                ChangeNotifier.publish("tbl_adopter", adopter.getAdopterId());
                 return true;
+            } else if (optimistic) {
+                System.out.println("❌ ERROR: Adopter " + adopter.getAdopterId() + " was changed by someone else or no longer exists. Reload it and try again.");
             } else {
                 System.out.println("No adopter found with ID: " + adopter.getAdopterId());
             }
@@ -209,10 +517,14 @@ public class AdopterCRUD {
             
             pstmt.setInt(1, adopterId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            // ON DELETE CASCADE removes the adopter's requests too; their outbox event
+            // commits together with the delete
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_adoption_request", ChangeNotifier.ALL_ROWS, Outbox.DELETE);
             
             if (rowsAffected > 0) {
                 System.out.println("Adopter deleted successfully.");
+                ChangeNotifier.publish("tbl_adopter", adopterId);
+                ChangeNotifier.publish("tbl_adoption_request", ChangeNotifier.ALL_ROWS);
                 return true;
             } else {
                 System.out.println("No adopter found with ID: " + adopterId);
@@ -226,18 +538,29 @@ public class AdopterCRUD {
     }
     
     /**
-     * Searches adopters by name
+     * Searches adopters by name. Every adopter whose name contains the search term is
+     * returned, whether the search index or a LIKE scan serves the search.
      * @param searchTerm Search term to match against adopter names
-     * @return List of adopters matching the search term
+     * @return List of adopters matching the search term: exact name first, then names
+     *         starting with the term, then the rest by name
      */
     public List<Adopter> searchAdoptersByName(String searchTerm) {
+        List<Integer> ids = SearchService.getInstance().searchAdopterIds(searchTerm);
+        if (ids != null) {
+            return loadInPages(ids, this::getAdoptersByIds);
+        }
+        
+        // Search index is still building: fall back to a LIKE scan
         List<Adopter> adopters = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_adopter WHERE adopter_name LIKE ? ORDER BY adopter_name";
+        String sql = SEARCH_ADOPTERS_BY_NAME;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            pstmt.setString(1, "%" + searchTerm + "%");
+            Object[] params = nameSearchParams(searchTerm);
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
             
             try (ResultSet rs = pstmt.executeQuery()) {
                 while (rs.next()) {
@@ -252,6 +575,52 @@ public class AdopterCRUD {
         return adopters;
     }
     
+    /**
+     * Retrieves adopters by ID, keeping the order of the given IDs
+     * @param ids Adopter IDs to load
+     * @return List of adopters found, in the order of ids
+     */
+    public List<Adopter> getAdoptersByIds(List<Integer> ids) {
+        List<Adopter> adopters = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return adopters;
+        }
+        
+        StringBuilder sql = new StringBuilder(SELECT_ADOPTERS_BY_IDS_PREFIX);
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+        
+        try (Connection conn = DbConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            
+            for (int i = 0; i < ids.size(); i++) {
+                pstmt.setInt(i + 1, ids.get(i));
+            }
+            
+            Map<Integer, Adopter> byId = new HashMap<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Adopter adopter = extractAdopterFromResultSet(rs);
+                    byId.put(adopter.getAdopterId(), adopter);
+                }
+            }
+            
+            for (int id : ids) {
+                Adopter adopter = byId.get(id);
+                if (adopter != null) {
+                    adopters.add(adopter);
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error retrieving adopters by ID: " + e.getMessage());
+        }
+        
+        return adopters;
+    }
+    
     /**
      * Counts total number of adopters
      * @return Total count of adopters
@@ -259,7 +628,7 @@ public class AdopterCRUD {
     public int getAdopterCount() {
         String sql = "SELECT COUNT(*) FROM tbl_adopter";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -290,6 +659,7 @@ public class AdopterCRUD {
         adopter.setAdopterProfile(rs.getString("adopter_profile"));
         adopter.setAdopterUsername(rs.getString("adopter_username"));
         adopter.setAdopterPassword(rs.getString("adopter_password"));
+        adopter.clearChanges();
         return adopter;
     }
     
@@ -320,6 +690,7 @@ public class AdopterCRUD {
             
             if (rowsAffected > 0) {
                 System.out.println("Adopter profile created successfully for user: " + username);
+                ChangeNotifier.publish("tbl_adopter", ChangeNotifier.ALL_ROWS);
                 return true;
             }
             
@@ -336,7 +707,7 @@ public class AdopterCRUD {
      * @return Adopter object if found, null otherwise
      */
     public Adopter getAdopterByLinkedUsername(String username) {
-        String sql = "SELECT * FROM tbl_adopter WHERE username = ?";
+        String sql = SELECT_ADOPTER_BY_USERNAME;
         
         try (Connection conn = DbConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -9,15 +9,47 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import com.furever.database.ChangeNotifier;
 import com.furever.database.DbConnection;
+import com.furever.database.SqlCatalog;
 import com.furever.models.AdoptionRequest;
+import com.furever.models.AdoptionRequestView;
+import com.furever.outbox.Outbox;
 
 /**
  * CRUD operations for AdoptionRequest entity
  */
 public class AdoptionRequestCRUD {
     
+    // Columns read into an AdoptionRequest; archive bookkeeping columns are never mapped
+    private static final String REQUEST_COLUMNS =
+            "adoption_request_id, pet_id, adopter_id, request_date, status, approval_date, remarks, user_id";
+    
+    // Hot statements, prepared up front on every pooled connection (see SqlCatalog)
+    public static final String SELECT_REQUEST_BY_ID = SqlCatalog.register(
+            "SELECT " + REQUEST_COLUMNS + " FROM tbl_adoption_request WHERE adoption_request_id = ?");
+    
+    // Other statements checked by com.furever.test.TestQueryPlans
+    public static final String SELECT_REQUEST_PAGE =
+            "SELECT " + REQUEST_COLUMNS + " FROM tbl_adoption_request WHERE adoption_request_id > ? ORDER BY adoption_request_id LIMIT ?";
+    public static final String SELECT_REQUESTS_BY_STATUS =
+            "SELECT " + REQUEST_COLUMNS + " FROM tbl_adoption_request WHERE status = ? ORDER BY request_date DESC";
+    public static final String SELECT_REQUESTS_BY_ADOPTER =
+            "SELECT " + REQUEST_COLUMNS + " FROM tbl_adoption_request WHERE adopter_id = ? ORDER BY request_date DESC";
+    public static final String SELECT_REQUESTS_BY_PET =
+            "SELECT " + REQUEST_COLUMNS + " FROM tbl_adoption_request WHERE pet_id = ? ORDER BY request_date DESC";
+    public static final String COUNT_APPROVED_REQUESTS_FOR_ADOPTER_AND_PET =
+            "SELECT COUNT(*) FROM tbl_adoption_request WHERE adopter_id = ? AND pet_id = ? AND status = 'Approved'";
+    public static final String COUNT_APPROVED_REQUESTS_FOR_PET =
+            "SELECT COUNT(*) FROM tbl_adoption_request WHERE pet_id = ? AND status = 'Approved'";
+    public static final String COUNT_REQUESTS_BY_STATUS =
+            "SELECT COUNT(*) FROM tbl_adoption_request WHERE status = ?";
+    public static final String REJECT_OTHER_PENDING_REQUESTS =
+            "UPDATE tbl_adoption_request SET status = 'Rejected', remarks = ? " +
+            "WHERE pet_id = ? AND status = 'Pending' AND adoption_request_id <> ?";
+    
     /**
      * Creates a new adoption request in the database
      * @param adoptionRequest AdoptionRequest object to create
@@ -41,15 +73,13 @@ public class AdoptionRequestCRUD {
                 pstmt.setNull(7, Types.INTEGER);
             }
             
-            int rowsAffected = pstmt.executeUpdate();
+            // The insert and its outbox event commit together
+            int requestId = Outbox.executeInsert(pstmt, "tbl_adoption_request");
             
-            if (rowsAffected > 0) {
-                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        adoptionRequest.setAdoptionRequestId(generatedKeys.getInt(1));
-                    }
-                }
+            if (requestId > 0) {
+                adoptionRequest.setAdoptionRequestId(requestId);
                 System.out.println("Adoption request created successfully with ID: " + adoptionRequest.getAdoptionRequestId());
+                ChangeNotifier.publish("tbl_adoption_request", adoptionRequest.getAdoptionRequestId());
                 return true;
             }
             
@@ -66,9 +96,9 @@ public class AdoptionRequestCRUD {
      * @return AdoptionRequest object if found, null otherwise
      */
     public AdoptionRequest getAdoptionRequestById(int requestId) {
-        String sql = "SELECT * FROM tbl_adoption_request WHERE adoption_request_id = ?";
+        String sql = SELECT_REQUEST_BY_ID;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, requestId);
@@ -92,9 +122,9 @@ public class AdoptionRequestCRUD {
      */
     public List<AdoptionRequest> getAllAdoptionRequests() {
         List<AdoptionRequest> requests = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_adoption_request ORDER BY adoption_request_id";
+        String sql = "SELECT " + REQUEST_COLUMNS + " FROM tbl_adoption_request ORDER BY adoption_request_id";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -109,6 +139,62 @@ public class AdoptionRequestCRUD {
         return requests;
     }
     
+    /**
+     * Retrieves one page of adoption requests using keyset pagination.
+     * Pass 0 for the first page and the last returned ID for each following page.
+     * @param afterId Only adoption requests with a greater ID are returned
+     * @param limit Maximum number of adoption requests to return
+     * @return List of at most limit adoption requests ordered by ID
+     */
+    public List<AdoptionRequest> getAdoptionRequestsPage(int afterId, int limit) {
+        List<AdoptionRequest> adoptionRequests = new ArrayList<>();
+        String sql = SELECT_REQUEST_PAGE;
+        
+        try (Connection conn = DbConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, afterId);
+            pstmt.setInt(2, limit);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    adoptionRequests.add(extractAdoptionRequestFromResultSet(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error retrieving adoption requests page: " + e.getMessage());
+        }
+        
+        return adoptionRequests;
+    }
+    
+    /**
+     * Streams all adoption requests to a consumer without loading the table into memory.
+     * Rows are handed over as they arrive from the server, ordered by ID.
+     * @param action Consumer called once per adoption request
+     * @return Number of adoption requests streamed
+     */
+    public int forEachAdoptionRequest(Consumer<AdoptionRequest> action) {
+        String sql = "SELECT " + REQUEST_COLUMNS + " FROM tbl_adoption_request ORDER BY adoption_request_id";
+        int count = 0;
+        
+        try (Connection conn = DbConnection.getReadConnection();
+             PreparedStatement pstmt = DbConnection.prepareStreamingStatement(conn, sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            
+            while (rs.next()) {
+                action.accept(extractAdoptionRequestFromResultSet(rs));
+                count++;
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error streaming adoption requests: " + e.getMessage());
+        }
+        
+        return count;
+    }
+    
     /**
      * Retrieves adoption requests by status
      * @param status Status to filter by
@@ -116,9 +202,9 @@ public class AdoptionRequestCRUD {
      */
     public List<AdoptionRequest> getAdoptionRequestsByStatus(String status) {
         List<AdoptionRequest> requests = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_adoption_request WHERE status = ? ORDER BY request_date DESC";
+        String sql = SELECT_REQUESTS_BY_STATUS;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, status);
@@ -143,9 +229,9 @@ public class AdoptionRequestCRUD {
      */
     public List<AdoptionRequest> getAdoptionRequestsByAdopter(int adopterId) {
         List<AdoptionRequest> requests = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_adoption_request WHERE adopter_id = ? ORDER BY request_date DESC";
+        String sql = SELECT_REQUESTS_BY_ADOPTER;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, adopterId);
@@ -170,9 +256,9 @@ public class AdoptionRequestCRUD {
      */
     public List<AdoptionRequest> getAdoptionRequestsByPet(int petId) {
         List<AdoptionRequest> requests = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_adoption_request WHERE pet_id = ? ORDER BY request_date DESC";
+        String sql = SELECT_REQUESTS_BY_PET;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, petId);
@@ -196,6 +282,10 @@ public class AdoptionRequestCRUD {
      * @return true if adoption request was updated successfully, false otherwise
      */
     public boolean updateAdoptionRequest(AdoptionRequest adoptionRequest) {
+        if (adoptionRequest.isTracking()) {
+            return updateAdoptionRequestChanges(adoptionRequest, false);
+        }
+        
         String sql = "UPDATE tbl_adoption_request SET pet_id = ?, adopter_id = ?, request_date = ?, status = ?, approval_date = ?, remarks = ?, user_id = ? WHERE adoption_request_id = ?";
         
         try (Connection conn = DbConnection.getConnection();
@@ -214,10 +304,11 @@ public class AdoptionRequestCRUD {
             }
             pstmt.setInt(8, adoptionRequest.getAdoptionRequestId());
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_adoption_request", adoptionRequest.getAdoptionRequestId(), Outbox.UPDATE);
             
             if (rowsAffected > 0) {
                 System.out.println("Adoption request updated successfully.");
+                ChangeNotifier.publish("tbl_adoption_request", adoptionRequest.getAdoptionRequestId());
                 return true;
             } else {
                 System.out.println("No adoption request found with ID: " + adoptionRequest.getAdoptionRequestId());
@@ -230,6 +321,39 @@ public class AdoptionRequestCRUD {
         return false;
     }
     
+    /**
+     * Writes only the columns changed since the adoption request was loaded
+     * @param adoptionRequest Adoption request loaded from the database and then modified
+     * @param optimistic If true, the update only applies when the changed columns still hold
+     *                   their loaded values, so concurrent changes are not overwritten
+     * @return true if the changes were written or there were none, false otherwise
+     */
+    public boolean updateAdoptionRequestChanges(AdoptionRequest adoptionRequest, boolean optimistic) {
+        if (!adoptionRequest.hasChanges()) {
+            return true;
+        }
+        
+        try (Connection conn = DbConnection.getConnection()) {
+            int rowsAffected = PartialUpdate.execute(conn, "tbl_adoption_request", "adoption_request_id", adoptionRequest.getAdoptionRequestId(), adoptionRequest, optimistic);
+            
+            if (rowsAffected > 0) {
+                System.out.println("Adoption request updated successfully.");
+                adoptionRequest.clearChanges();
+                ChangeNotifier.publish("tbl_adoption_request", adoptionRequest.getAdoptionRequestId());
+                return true;
+            } else if (optimistic) {
+                System.out.println("❌ ERROR: Adoption request " + adoptionRequest.getAdoptionRequestId() + " was changed by someone else or no longer exists. Reload it and try again.");
+            } else {
+                System.out.println("No adoption request found with ID: " + adoptionRequest.getAdoptionRequestId());
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error updating adoption request: " + e.getMessage());
+        }
+        
+        return false;
+    }
+    
     /**
      * Checks if an adopter already has an approved request for a specific pet
      * @param adopterId Adopter ID to check
@@ -237,7 +361,7 @@ public class AdoptionRequestCRUD {
      * @return true if adopter already has an approved request for this pet, false otherwise
      */
     public boolean hasApprovedRequestForPet(int adopterId, int petId) {
-        String sql = "SELECT COUNT(*) FROM tbl_adoption_request WHERE adopter_id = ? AND pet_id = ? AND status = 'Approved'";
+        String sql = COUNT_APPROVED_REQUESTS_FOR_ADOPTER_AND_PET;
         
         try (Connection conn = DbConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -302,10 +426,11 @@ public class AdoptionRequestCRUD {
             pstmt.setString(2, remarks);
             pstmt.setInt(3, requestId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_adoption_request", requestId, Outbox.UPDATE);
             
             if (rowsAffected > 0) {
                 System.out.println("Adoption request approved successfully.");
+                ChangeNotifier.publish("tbl_adoption_request", requestId);
                 return true;
             } else {
                 System.out.println("No adoption request found with ID: " + requestId);
@@ -318,6 +443,150 @@ public class AdoptionRequestCRUD {
         return false;
     }
     
+    /**
+     * Approves an adoption request dated today and closes out the pet
+     * @param requestId Adoption request ID to approve
+     * @return true if the request was approved, false otherwise
+     * @see #approveAndCloseOut(int, Date, String)
+     */
+    public boolean approveAndCloseOut(int requestId) {
+        return approveAndCloseOut(requestId, new Date(System.currentTimeMillis()), null);
+    }
+    
+    /**
+     * Approves an adoption request, marks the pet as Adopted and rejects every other
+     * pending request for the same pet, all in one transaction.
+     * The pet row is locked first and the request row second, so concurrent approvals
+     * for the same pet are serialized and only one of them can succeed.
+     * @param requestId Adoption request ID to approve
+     * @param approvalDate Date of approval
+     * @param remarks Approval remarks
+     * @return true if the request was approved, false otherwise
+     */
+    public boolean approveAndCloseOut(int requestId, Date approvalDate, String remarks) {
+        String findPetSql = "SELECT pet_id FROM tbl_adoption_request WHERE adoption_request_id = ?";
+        String lockPetSql = "SELECT adoption_status FROM tbl_pet WHERE pet_id = ? FOR UPDATE";
+        String lockRequestSql = "SELECT pet_id, status FROM tbl_adoption_request WHERE adoption_request_id = ? FOR UPDATE";
+        String countApprovedSql = COUNT_APPROVED_REQUESTS_FOR_PET;
+        String approveSql = "UPDATE tbl_adoption_request SET status = 'Approved', approval_date = ?, remarks = ? WHERE adoption_request_id = ?";
+        String adoptPetSql = "UPDATE tbl_pet SET adoption_status = 'Adopted' WHERE pet_id = ?";
+        String rejectOthersSql = REJECT_OTHER_PENDING_REQUESTS;
+                                 
+        Connection conn = null;
+        
+        try {
+            conn = DbConnection.getConnection();
+            
+            // Find the pet without locking so rows can be locked in pet -> request order
+            int petId;
+            try (PreparedStatement pstmt = conn.prepareStatement(findPetSql)) {
+                pstmt.setInt(1, requestId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next()) {
+                        System.out.println("❌ ERROR: Adoption request not found.");
+                        return false;
+                    }
+                    petId = rs.getInt("pet_id");
+                }
+            }
+            
+            conn.setAutoCommit(false); // Start transaction
+            
+            try (PreparedStatement pstmt = conn.prepareStatement(lockPetSql)) {
+                pstmt.setInt(1, petId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next()) {
+                        conn.rollback();
+                        System.out.println("❌ ERROR: The pet for this request no longer exists.");
+                        return false;
+                    }
+                }
+            }
+            
+            try (PreparedStatement pstmt = conn.prepareStatement(lockRequestSql)) {
+                pstmt.setInt(1, requestId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next() || rs.getInt("pet_id") != petId) {
+                        conn.rollback();
+                        System.out.println("❌ ERROR: Adoption request changed while approving. Please try again.");
+                        return false;
+                    }
+                    if (!"Pending".equals(rs.getString("status"))) {
+                        conn.rollback();
+                        System.out.println("❌ ERROR: Request is not pending. Current status: " + rs.getString("status"));
+                        return false;
+                    }
+                }
+            }
+            
+            try (PreparedStatement pstmt = conn.prepareStatement(countApprovedSql)) {
+                pstmt.setInt(1, petId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next() && rs.getInt(1) > 0) {
+                        conn.rollback();
+                        System.out.println("❌ ERROR: This pet already has an approved adoption request.");
+                        return false;
+                    }
+                }
+            }
+            
+            try (PreparedStatement pstmt = conn.prepareStatement(approveSql)) {
+                pstmt.setDate(1, approvalDate);
+                pstmt.setString(2, remarks);
+                pstmt.setInt(3, requestId);
+                pstmt.executeUpdate();
+            }
+            
+            try (PreparedStatement pstmt = conn.prepareStatement(adoptPetSql)) {
+                pstmt.setInt(1, petId);
+                pstmt.executeUpdate();
+            }
+            
+            int rejectedCount;
+            try (PreparedStatement pstmt = conn.prepareStatement(rejectOthersSql)) {
+                pstmt.setString(1, "Automatically rejected - pet adopted by another adopter");
+                pstmt.setInt(2, petId);
+                pstmt.setInt(3, requestId);
+                rejectedCount = pstmt.executeUpdate();
+            }
+            
+            Outbox.append(conn, "tbl_adoption_request", rejectedCount > 0 ? ChangeNotifier.ALL_ROWS : requestId, Outbox.UPDATE);
+            Outbox.append(conn, "tbl_pet", petId, Outbox.UPDATE);
+            conn.commit(); // Commit transaction
+            
+            System.out.println("Adoption request approved successfully.");
+            System.out.println("Pet status updated to Adopted.");
+            if (rejectedCount > 0) {
+                System.out.println(rejectedCount + " other pending request(s) for this pet were automatically rejected.");
+            }
+            
+            ChangeNotifier.publish("tbl_adoption_request", rejectedCount > 0 ? ChangeNotifier.ALL_ROWS : requestId);
+            ChangeNotifier.publish("tbl_pet", petId);
+            return true;
+            
+        } catch (SQLException e) {
+            try {
+                if (conn != null && !conn.getAutoCommit()) {
+                    conn.rollback();
+                }
+            } catch (SQLException rollbackEx) {
+                System.err.println("Error during rollback: " + rollbackEx.getMessage());
+            }
+            System.err.println("Error approving adoption request: " + e.getMessage());
+        } finally {
+            try {
+                if (conn != null) {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                }
+            } catch (SQLException closeEx) {
+                System.err.println("Error closing resources: " + closeEx.getMessage());
+            }
+        }
+        
+        return false;
+    }
+    
     /**
      * Rejects an adoption request
      * @param requestId Adoption request ID to reject
@@ -333,10 +602,11 @@ public class AdoptionRequestCRUD {
             pstmt.setString(1, remarks);
             pstmt.setInt(2, requestId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_adoption_request", requestId, Outbox.UPDATE);
             
             if (rowsAffected > 0) {
                 System.out.println("Adoption request rejected successfully.");
+                ChangeNotifier.publish("tbl_adoption_request", requestId);
                 return true;
             } else {
                 System.out.println("No adoption request found with ID: " + requestId);
@@ -362,10 +632,11 @@ public class AdoptionRequestCRUD {
             
             pstmt.setInt(1, requestId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_adoption_request", requestId, Outbox.DELETE);
             
             if (rowsAffected > 0) {
                 System.out.println("Adoption request deleted successfully.");
+                ChangeNotifier.publish("tbl_adoption_request", requestId);
                 return true;
             } else {
                 System.out.println("No adoption request found with ID: " + requestId);
@@ -385,7 +656,7 @@ public class AdoptionRequestCRUD {
     public int getAdoptionRequestCount() {
         String sql = "SELECT COUNT(*) FROM tbl_adoption_request";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -406,9 +677,9 @@ public class AdoptionRequestCRUD {
      * @return Count of adoption requests with the specified status
      */
     public int getAdoptionRequestCountByStatus(String status) {
-        String sql = "SELECT COUNT(*) FROM tbl_adoption_request WHERE status = ?";
+        String sql = COUNT_REQUESTS_BY_STATUS;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, status);
@@ -426,6 +697,169 @@ public class AdoptionRequestCRUD {
         return 0;
     }
     
+    // Read-model queries: requests joined with the pet and adopter columns shown in listings.
+    // Listings leave out the remarks TEXT column and the adopter email, which only the
+    // single-request detail view prints.
+
+    private static final String REQUEST_VIEW_FROM =
+            "FROM tbl_adoption_request r " +
+            "LEFT JOIN tbl_pet p ON p.pet_id = r.pet_id " +
+            "LEFT JOIN tbl_adopter a ON a.adopter_id = r.adopter_id ";
+
+    private static final String REQUEST_VIEW_LIST_SELECT =
+            "SELECT r.adoption_request_id, r.pet_id, r.adopter_id, r.request_date, r.status, r.approval_date, r.user_id, " +
+            "p.pet_name, p.adoption_status AS pet_adoption_status, p.pet_owner_id, a.adopter_name " +
+            REQUEST_VIEW_FROM;
+
+    private static final String REQUEST_VIEW_DETAIL_SELECT =
+            "SELECT r.adoption_request_id, r.pet_id, r.adopter_id, r.request_date, r.status, r.approval_date, r.remarks, r.user_id, " +
+            "p.pet_name, p.adoption_status AS pet_adoption_status, p.pet_owner_id, a.adopter_name, a.adopter_email " +
+            REQUEST_VIEW_FROM;
+
+    public static final String SELECT_REQUEST_VIEW_BY_ID = SqlCatalog.register(
+            REQUEST_VIEW_DETAIL_SELECT + "WHERE r.adoption_request_id = ?");
+    public static final String SELECT_REQUEST_VIEW_PAGE =
+            REQUEST_VIEW_LIST_SELECT + "ORDER BY r.adoption_request_id LIMIT ? OFFSET ?";
+    public static final String SELECT_REQUEST_VIEWS_BY_STATUS =
+            REQUEST_VIEW_LIST_SELECT + "WHERE r.status = ? ORDER BY r.request_date DESC, r.adoption_request_id DESC LIMIT ? OFFSET ?";
+    public static final String SELECT_REQUEST_VIEWS_BY_ADOPTER =
+            REQUEST_VIEW_LIST_SELECT + "WHERE r.adopter_id = ? ORDER BY r.request_date DESC, r.adoption_request_id DESC";
+    public static final String SELECT_REQUEST_VIEWS_BY_PET =
+            REQUEST_VIEW_LIST_SELECT + "WHERE r.pet_id = ? ORDER BY r.request_date DESC, r.adoption_request_id DESC";
+    public static final String SELECT_REQUEST_VIEWS_BY_PET_OWNER =
+            REQUEST_VIEW_LIST_SELECT + "WHERE p.pet_owner_id = ? AND p.archived = false " +
+            "ORDER BY r.pet_id, r.request_date DESC, r.adoption_request_id DESC LIMIT ? OFFSET ?";
+
+    /**
+     * Retrieves one page of all adoption requests joined with pet and adopter details
+     * @param offset Number of rows to skip
+     * @param limit Maximum number of rows to return
+     * @return List of adoption request views ordered by request ID
+     */
+    public List<AdoptionRequestView> getAdoptionRequestViews(int offset, int limit) {
+        String sql = SELECT_REQUEST_VIEW_PAGE;
+        return queryAdoptionRequestViews(sql, false, "all adoption requests", limit, offset);
+    }
+
+    /**
+     * Retrieves one page of adoption requests with the given status, joined with pet and adopter details
+     * @param status Status to filter by
+     * @param offset Number of rows to skip
+     * @param limit Maximum number of rows to return
+     * @return List of adoption request views, newest first
+     */
+    public List<AdoptionRequestView> getAdoptionRequestViewsByStatus(String status, int offset, int limit) {
+        String sql = SELECT_REQUEST_VIEWS_BY_STATUS;
+        return queryAdoptionRequestViews(sql, false, "adoption requests by status", status, limit, offset);
+    }
+
+    /**
+     * Retrieves adoption requests from an adopter, joined with pet and adopter details
+     * @param adopterId Adopter ID to filter by
+     * @return List of adoption request views, newest first
+     */
+    public List<AdoptionRequestView> getAdoptionRequestViewsByAdopter(int adopterId) {
+        String sql = SELECT_REQUEST_VIEWS_BY_ADOPTER;
+        return queryAdoptionRequestViews(sql, false, "adoption requests by adopter", adopterId);
+    }
+
+    /**
+     * Retrieves adoption requests for a pet, joined with pet and adopter details
+     * @param petId Pet ID to filter by
+     * @return List of adoption request views, newest first
+     */
+    public List<AdoptionRequestView> getAdoptionRequestViewsByPet(int petId) {
+        String sql = SELECT_REQUEST_VIEWS_BY_PET;
+        return queryAdoptionRequestViews(sql, false, "adoption requests by pet", petId);
+    }
+
+    /**
+     * Retrieves one page of adoption requests for all active pets of a pet owner
+     * @param petOwnerId Pet owner ID to filter by
+     * @param offset Number of rows to skip
+     * @param limit Maximum number of rows to return
+     * @return List of adoption request views ordered by pet, newest request first
+     */
+    public List<AdoptionRequestView> getAdoptionRequestViewsByPetOwner(int petOwnerId, int offset, int limit) {
+        String sql = SELECT_REQUEST_VIEWS_BY_PET_OWNER;
+        return queryAdoptionRequestViews(sql, false, "adoption requests by pet owner", petOwnerId, limit, offset);
+    }
+
+    /**
+     * Retrieves a single adoption request joined with pet and adopter details
+     * @param requestId Adoption request ID to search for
+     * @return AdoptionRequestView if found, null otherwise
+     */
+    public AdoptionRequestView getAdoptionRequestViewById(int requestId) {
+        String sql = SELECT_REQUEST_VIEW_BY_ID;
+        List<AdoptionRequestView> views = queryAdoptionRequestViews(sql, true, "adoption request", requestId);
+        return views.isEmpty() ? null : views.get(0);
+    }
+
+    /**
+     * Runs a read-model query with positional parameters
+     * @param sql Query to run
+     * @param detail true if the query selects the detail columns (remarks, adopter email)
+     * @param description Description used in the error message
+     * @param params Parameters bound in order (Integer or String)
+     * @return List of adoption request views
+     */
+    private List<AdoptionRequestView> queryAdoptionRequestViews(String sql, boolean detail, String description, Object... params) {
+        List<AdoptionRequestView> views = new ArrayList<>();
+
+        try (Connection conn = DbConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    views.add(extractAdoptionRequestViewFromResultSet(rs, detail));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving " + description + ": " + e.getMessage());
+        }
+
+        return views;
+    }
+
+    /**
+     * Extracts AdoptionRequestView object from a joined ResultSet
+     * @param rs ResultSet containing request, pet and adopter columns
+     * @param detail true if the result set includes remarks and adopter email
+     * @return AdoptionRequestView object
+     * @throws SQLException if database access error occurs
+     */
+    private AdoptionRequestView extractAdoptionRequestViewFromResultSet(ResultSet rs, boolean detail) throws SQLException {
+        AdoptionRequestView view = new AdoptionRequestView();
+        view.setAdoptionRequestId(rs.getInt("adoption_request_id"));
+        view.setPetId(rs.getInt("pet_id"));
+        view.setAdopterId(rs.getInt("adopter_id"));
+        view.setRequestDate(rs.getDate("request_date"));
+        view.setStatus(rs.getString("status"));
+        view.setApprovalDate(rs.getDate("approval_date"));
+
+        int userId = rs.getInt("user_id");
+        if (!rs.wasNull()) {
+            view.setUserId(userId);
+        }
+
+        view.setPetName(rs.getString("pet_name"));
+        view.setPetAdoptionStatus(rs.getString("pet_adoption_status"));
+        view.setPetOwnerId(rs.getInt("pet_owner_id"));
+        view.setAdopterName(rs.getString("adopter_name"));
+        
+        if (detail) {
+            view.setRemarks(rs.getString("remarks"));
+            view.setAdopterEmail(rs.getString("adopter_email"));
+        }
+        return view;
+    }
+
     /**
      * Extracts AdoptionRequest object from ResultSet
      * @param rs ResultSet containing adoption request data
@@ -447,6 +881,7 @@ public class AdoptionRequestCRUD {
             request.setUserId(userId);
         }
         
+        request.clearChanges();
         return request;
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.furever.crud;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+
+import com.furever.models.TrackedModel;
+import com.furever.outbox.Outbox;
+
+/**
+ * Runs UPDATE statements that only write the columns a TrackedModel changed.
+ * With the optimistic check every changed column must still hold the value it had when the
+ * model was loaded (compared with the NULL-safe <=> operator), so a concurrent change makes
+ * the update match no row instead of being overwritten.
+ */
+final class PartialUpdate {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private PartialUpdate() {}
+
+    /**
+     * Builds the UPDATE statement for a set of changed columns
+     * @param table Table to update
+     * @param idColumn Primary key column
+     * @param changes Changed columns and their new values
+     * @param optimistic Whether to add the <=> check on the original values
+     * @return SQL with one parameter per column, then the ID, then the original values
+     */
+    static String buildSql(String table, String idColumn, Map<String, Object> changes, boolean optimistic) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET ");
+        boolean first = true;
+        for (String column : changes.keySet()) {
+            if (!first) {
+                sql.append(", ");
+            }
+            sql.append(column).append(" = ?");
+            first = false;
+        }
+        sql.append(" WHERE ").append(idColumn).append(" = ?");
+        if (optimistic) {
+            for (String column : changes.keySet()) {
+                sql.append(" AND ").append(column).append(" <=> ?");
+            }
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Writes the model's changed columns
+     * @param conn Connection of the database holding the table
+     * @param table Table to update
+     * @param idColumn Primary key column
+     * @param id Primary key value
+     * @param model Model whose changes are written
+     * @param optimistic Whether to require the changed columns to still hold their original values
+     * @return Number of rows updated: 0 if the row does not exist or, with the optimistic check,
+     *         was changed since the model was loaded
+     * @throws SQLException if the update fails
+     */
+    static int execute(Connection conn, String table, String idColumn, int id, TrackedModel model, boolean optimistic) throws SQLException {
+        Map<String, Object> changes = model.getChanges();
+        String sql = buildSql(table, idColumn, changes, optimistic);
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            for (Object value : changes.values()) {
+                pstmt.setObject(index++, value);
+            }
+            pstmt.setInt(index++, id);
+            if (optimistic) {
+                for (String column : changes.keySet()) {
+                    pstmt.setObject(index++, model.getOriginalValue(column));
+                }
+            }
+            
+            // Tracked tables (see Outbox) get their change event in the same transaction
+            return Outbox.executeUpdate(pstmt, table, id, Outbox.UPDATE);
+        }
+    }
+}
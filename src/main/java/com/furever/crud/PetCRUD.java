@@ -6,16 +6,148 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import javax.sql.DataSource;
+
+import com.furever.cache.EntityCaches;
+import com.furever.database.ChangeNotifier;
 import com.furever.database.DbConnection;
+import com.furever.database.SqlCatalog;
 import com.furever.models.Pet;
+import com.furever.models.PetSummary;
+import com.furever.outbox.Outbox;
+import com.furever.search.SearchService;
+import com.furever.service.ArchiveService;
+import com.furever.utils.ConsoleTable;
+import com.furever.utils.KeysetPageIterator;
 
 /**
  * CRUD operations for Pet entity
  */
 public class PetCRUD {
     
+    // IDs loaded per query when an index-backed search matches many pets
+    private static final int SEARCH_PAGE_SIZE = 500;
+    
+    // Maximum number of suggestions offered for a name search that matched nothing
+    private static final int SUGGESTION_LIMIT = 10;
+    
+    // Order of name search results, the same as the search index's: exact name, names
+    // starting with the term, the rest; bound with nameSearchParams()
+    private static final String NAME_SEARCH_ORDER = " ORDER BY pet_name = ? DESC, pet_name LIKE ? DESC, pet_name, pet_id";
+    
+    // Columns read into a full Pet; archive bookkeeping columns are never mapped
+    private static final String PET_COLUMNS =
+            "pet_id, pet_owner_id, pet_name, pet_type_id, description, age, gender, health_status, " +
+            "upload_health_history, vaccination_status, proof_of_vaccination, adoption_status, date_registered";
+    
+    // Width of the description column in the pets table
+    private static final int DESCRIPTION_PREVIEW_LENGTH = 30;
+    
+    // Rows per page of the pets table
+    private static final int TABLE_PAGE_SIZE = 50;
+    
+    // Columns read into a PetSummary. One extra description character is fetched so the
+    // table can still tell a cut-off description from one that fits exactly.
+    private static final String PET_SUMMARY_COLUMNS =
+            "pet_id, pet_name, pet_type_id, SUBSTRING(description, 1, " + (DESCRIPTION_PREVIEW_LENGTH + 1) + ") AS description_preview, " +
+            "age, gender, health_status, adoption_status, date_registered";
+    
+    // Hot statements, prepared up front on every pooled connection (see SqlCatalog)
+    public static final String SELECT_PET_BY_ID = SqlCatalog.register(
+            "SELECT " + PET_COLUMNS + " FROM tbl_pet WHERE pet_id = ?");
+    public static final String SELECT_PET_SUMMARIES_BY_STATUS = SqlCatalog.register(
+            "SELECT " + PET_SUMMARY_COLUMNS + " FROM tbl_pet WHERE adoption_status = ? AND archived = false ORDER BY pet_id");
+    
+    // Other statements checked by com.furever.test.TestQueryPlans
+    public static final String SELECT_ACTIVE_PETS =
+            "SELECT " + PET_COLUMNS + " FROM tbl_pet WHERE archived = false ORDER BY pet_id";
+    public static final String SELECT_PET_PAGE =
+            "SELECT " + PET_COLUMNS + " FROM tbl_pet WHERE archived = false AND pet_id > ? ORDER BY pet_id LIMIT ?";
+    public static final String SELECT_PETS_BY_STATUS =
+            "SELECT " + PET_COLUMNS + " FROM tbl_pet WHERE adoption_status = ? AND archived = false ORDER BY pet_id";
+    public static final String SELECT_PETS_BY_TYPE =
+            "SELECT " + PET_COLUMNS + " FROM tbl_pet WHERE pet_type_id = ? ORDER BY pet_id";
+    public static final String SELECT_PETS_BY_OWNER =
+            "SELECT " + PET_COLUMNS + " FROM tbl_pet WHERE pet_owner_id = ? AND archived = false ORDER BY pet_id";
+    public static final String SEARCH_PETS_BY_NAME =
+            "SELECT " + PET_COLUMNS + " FROM tbl_pet WHERE pet_name LIKE ?" + NAME_SEARCH_ORDER;
+    public static final String SEARCH_PET_SUMMARIES_BY_NAME =
+            "SELECT " + PET_SUMMARY_COLUMNS + " FROM tbl_pet WHERE pet_name LIKE ?" + NAME_SEARCH_ORDER;
+    public static final String COUNT_PETS_BY_STATUS =
+            "SELECT COUNT(*) FROM tbl_pet WHERE adoption_status = ?";
+    public static final String ARCHIVE_PET =
+            "UPDATE tbl_pet SET archived = true, archived_date = NOW() WHERE pet_id = ? AND archived = false";
+    public static final String UPDATE_PET_ADOPTION_STATUS =
+            "UPDATE tbl_pet SET adoption_status = ? WHERE pet_id = ? AND archived = FALSE";
+    public static final String SELECT_PET_SUMMARY_PAGE =
+            "SELECT " + PET_SUMMARY_COLUMNS + " FROM tbl_pet WHERE archived = false AND pet_id > ? ORDER BY pet_id LIMIT ?";
+    public static final String SELECT_ARCHIVED_PETS = archivedPetsSql(PET_COLUMNS, false);
+    public static final String SELECT_ARCHIVED_PETS_WITH_HISTORY = archivedPetsSql(PET_COLUMNS, true);
+    // Followed by one placeholder per ID and a closing parenthesis
+    public static final String SELECT_PETS_BY_IDS_PREFIX = "SELECT " + PET_COLUMNS + " FROM tbl_pet WHERE pet_id IN (";
+    
+    // Database this instance reads and writes; null for the application database.
+    // The entity cache, the search index, the history tables and change listeners all
+    // describe the application database, so an instance bound to another database (a shard)
+    // neither uses nor notifies them.
+    private final DataSource dataSource;
+    
+    /**
+     * Creates a PetCRUD for the application database
+     */
+    public PetCRUD() {
+        this(null);
+    }
+    
+    /**
+     * Creates a PetCRUD for another database holding tbl_pet, e.g. one shard
+     * @param dataSource Pooled data source of that database, or null for the application database
+     */
+    public PetCRUD(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    private Connection getConnection() throws SQLException {
+        return dataSource != null ? DbConnection.getConnection(dataSource) : DbConnection.getConnection();
+    }
+    
+    // Connection for reads; served by a read replica when read splitting is enabled
+    private Connection getReadConnection() throws SQLException {
+        return dataSource != null ? DbConnection.getConnection(dataSource) : DbConnection.getReadConnection();
+    }
+    
+    // Tells the app-wide caches and listeners about a committed change of the application database
+    private void publishChange(int petId) {
+        if (dataSource == null) {
+            ChangeNotifier.publish("tbl_pet", petId);
+        }
+    }
+    
+    // Index-backed search results, or null to fall back to a LIKE scan
+    private List<Integer> searchIndex(String searchTerm) {
+        return dataSource == null ? SearchService.getInstance().searchPetIds(searchTerm) : null;
+    }
+    
+    // Parameters of a name search: the LIKE pattern, then the two ranking terms of NAME_SEARCH_ORDER
+    private static Object[] nameSearchParams(String searchTerm) {
+        return new Object[] {"%" + searchTerm + "%", searchTerm, searchTerm + "%"};
+    }
+    
+    // Loads the rows of a long ID list a page of IDs at a time, keeping the order of the IDs
+    private static <T> List<T> loadInPages(List<Integer> ids, Function<List<Integer>, List<T>> load) {
+        List<T> rows = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += SEARCH_PAGE_SIZE) {
+            rows.addAll(load.apply(ids.subList(from, Math.min(ids.size(), from + SEARCH_PAGE_SIZE))));
+        }
+        return rows;
+    }
+    
     /**
      * Creates a new pet in the database
      * @param pet Pet object to create
@@ -24,7 +156,7 @@ public class PetCRUD {
     public boolean createPet(Pet pet) {
         String sql = "INSERT INTO tbl_pet (pet_owner_id, pet_name, pet_type_id, description, age, gender, health_status, upload_health_history, vaccination_status, proof_of_vaccination, adoption_status, date_registered) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             
             // Set current date for registration
@@ -43,17 +175,15 @@ public class PetCRUD {
             pstmt.setString(11, pet.getAdoptionStatus());
             pstmt.setDate(12, currentDate);
             
-            int rowsAffected = pstmt.executeUpdate();
+            // The insert and its outbox event commit together
+            int petId = Outbox.executeInsert(pstmt, "tbl_pet");
             
-            if (rowsAffected > 0) {
-                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        pet.setPetId(generatedKeys.getInt(1));
-                        // Set the registration date in the pet object
-                        pet.setDateRegistered(currentDate);
-                    }
-                }
+            if (petId > 0) {
+                pet.setPetId(petId);
+                // Set the registration date in the pet object
+                pet.setDateRegistered(currentDate);
                 System.out.println("Pet created successfully with ID: " + pet.getPetId());
+                publishChange(pet.getPetId());
                 return true;
             }
             
@@ -65,14 +195,24 @@ public class PetCRUD {
     }
     
     /**
-     * Retrieves a pet by ID
+     * Retrieves a pet by ID, served from the entity cache when possible
      * @param petId Pet ID to search for
      * @return Pet object if found, null otherwise
      */
     public Pet getPetById(int petId) {
-        String sql = "SELECT * FROM tbl_pet WHERE pet_id = ?";
+        if (dataSource != null) {
+            return loadPetById(petId);
+        }
+        return EntityCaches.PETS.getOrLoad(petId, this::loadPetById);
+    }
+    
+    /**
+     * Reads a pet from the database, bypassing the cache
+     */
+    private Pet loadPetById(int petId) {
+        String sql = SELECT_PET_BY_ID;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, petId);
@@ -96,9 +236,9 @@ public class PetCRUD {
      */
     public List<Pet> getAllPets() {
         List<Pet> pets = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_pet WHERE archived = false ORDER BY pet_id";
+        String sql = SELECT_ACTIVE_PETS;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -113,6 +253,62 @@ public class PetCRUD {
         return pets;
     }
     
+    /**
+     * Retrieves one page of pets using keyset pagination.
+     * Pass 0 for the first page and the last returned ID for each following page.
+     * @param afterId Only pets with a greater ID are returned
+     * @param limit Maximum number of pets to return
+     * @return List of at most limit pets ordered by ID
+     */
+    public List<Pet> getPetsPage(int afterId, int limit) {
+        List<Pet> pets = new ArrayList<>();
+        String sql = SELECT_PET_PAGE;
+        
+        try (Connection conn = getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, afterId);
+            pstmt.setInt(2, limit);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    pets.add(extractPetFromResultSet(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error retrieving pets page: " + e.getMessage());
+        }
+        
+        return pets;
+    }
+    
+    /**
+     * Streams all active pets to a consumer without loading the table into memory.
+     * Rows are handed over as they arrive from the server, ordered by ID.
+     * @param action Consumer called once per pet
+     * @return Number of pets streamed
+     */
+    public int forEachPet(Consumer<Pet> action) {
+        String sql = SELECT_ACTIVE_PETS;
+        int count = 0;
+        
+        try (Connection conn = getReadConnection();
+             PreparedStatement pstmt = DbConnection.prepareStreamingStatement(conn, sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            
+            while (rs.next()) {
+                action.accept(extractPetFromResultSet(rs));
+                count++;
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error streaming pets: " + e.getMessage());
+        }
+        
+        return count;
+    }
+    
     /**
      * Retrieves pets by adoption status
      * @param status Adoption status to filter by
@@ -120,9 +316,9 @@ public class PetCRUD {
      */
     public List<Pet> getPetsByAdoptionStatus(String status) {
         List<Pet> pets = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_pet WHERE adoption_status = ? AND archived = false ORDER BY pet_id";
+        String sql = SELECT_PETS_BY_STATUS;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, status);
@@ -147,9 +343,9 @@ public class PetCRUD {
      */
     public List<Pet> getPetsByType(int petTypeId) {
         List<Pet> pets = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_pet WHERE pet_type_id = ? ORDER BY pet_id";
+        String sql = SELECT_PETS_BY_TYPE;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, petTypeId);
@@ -174,9 +370,9 @@ public class PetCRUD {
      */
     public List<Pet> getPetsByOwner(int ownerId) {
         List<Pet> pets = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_pet WHERE pet_owner_id = ? AND archived = false ORDER BY pet_id";
+        String sql = SELECT_PETS_BY_OWNER;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, ownerId);
@@ -200,9 +396,13 @@ public class PetCRUD {
      * @return true if pet was updated successfully, false otherwise
      */
     public boolean updatePet(Pet pet) {
+        if (pet.isTracking()) {
+            return updatePetChanges(pet, false);
+        }
+        
         String sql = "UPDATE tbl_pet SET pet_owner_id = ?, pet_name = ?, pet_type_id = ?, description = ?, age = ?, gender = ?, health_status = ?, upload_health_history = ?, vaccination_status = ?, proof_of_vaccination = ?, adoption_status = ? WHERE pet_id = ?";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, pet.getPetOwnerId());
@@ -218,11 +418,45 @@ public class PetCRUD {
             pstmt.setString(11, pet.getAdoptionStatus());
             pstmt.setInt(12, pet.getPetId());
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_pet", pet.getPetId(), Outbox.UPDATE);
+            
+            if (rowsAffected > 0) {
+                System.out.println("Pet updated successfully.");
+                publishChange(pet.getPetId());
+                return true;
+            } else {
+                System.out.println("No pet found with ID: " + pet.getPetId());
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error updating pet: " + e.getMessage());
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Writes only the columns changed since the pet was loaded
+     * @param pet Pet loaded from the database and then modified
+     * @param optimistic If true, the update only applies when the changed columns still hold
+     *                   their loaded values, so concurrent changes are not overwritten
+     * @return true if the changes were written or there were none, false otherwise
+     */
+    public boolean updatePetChanges(Pet pet, boolean optimistic) {
+        if (!pet.hasChanges()) {
+            return true;
+        }
+        
+        try (Connection conn = getConnection()) {
+            int rowsAffected = PartialUpdate.execute(conn, "tbl_pet", "pet_id", pet.getPetId(), pet, optimistic);
             
             if (rowsAffected > 0) {
                 System.out.println("Pet updated successfully.");
+                pet.clearChanges();
+                publishChange(pet.getPetId());
                 return true;
+            } else if (optimistic) {
+                System.out.println("❌ ERROR: Pet " + pet.getPetId() + " was changed by someone else or no longer exists. Reload it and try again.");
             } else {
                 System.out.println("No pet found with ID: " + pet.getPetId());
             }
@@ -242,15 +476,16 @@ public class PetCRUD {
     public boolean deletePet(int petId) {
         String sql = "DELETE FROM tbl_pet WHERE pet_id = ?";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, petId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_pet", petId, Outbox.DELETE);
             
             if (rowsAffected > 0) {
                 System.out.println("Pet deleted successfully.");
+                publishChange(petId);
                 return true;
             } else {
                 System.out.println("No pet found with ID: " + petId);
@@ -264,18 +499,29 @@ public class PetCRUD {
     }
     
     /**
-     * Searches pets by name
+     * Searches pets by name. Every pet whose name contains the search term is returned,
+     * whether the search index or a LIKE scan serves the search.
      * @param searchTerm Search term to match against pet names
-     * @return List of pets matching the search term
+     * @return List of pets matching the search term: exact name first, then names starting
+     *         with the term, then the rest by name
      */
     public List<Pet> searchPetsByName(String searchTerm) {
+        List<Integer> ids = searchIndex(searchTerm);
+        if (ids != null) {
+            return loadInPages(ids, this::getPetsByIds);
+        }
+        
+        // Search index is still building: fall back to a LIKE scan
         List<Pet> pets = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_pet WHERE pet_name LIKE ? ORDER BY pet_name";
+        String sql = SEARCH_PETS_BY_NAME;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            pstmt.setString(1, "%" + searchTerm + "%");
+            Object[] params = nameSearchParams(searchTerm);
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
             
             try (ResultSet rs = pstmt.executeQuery()) {
                 while (rs.next()) {
@@ -290,6 +536,52 @@ public class PetCRUD {
         return pets;
     }
     
+    /**
+     * Retrieves pets by ID, keeping the order of the given IDs
+     * @param ids Pet IDs to load
+     * @return List of pets found, in the order of ids
+     */
+    public List<Pet> getPetsByIds(List<Integer> ids) {
+        List<Pet> pets = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return pets;
+        }
+        
+        StringBuilder sql = new StringBuilder(SELECT_PETS_BY_IDS_PREFIX);
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+        
+        try (Connection conn = getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            
+            for (int i = 0; i < ids.size(); i++) {
+                pstmt.setInt(i + 1, ids.get(i));
+            }
+            
+            Map<Integer, Pet> byId = new HashMap<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Pet pet = extractPetFromResultSet(rs);
+                    byId.put(pet.getPetId(), pet);
+                }
+            }
+            
+            for (int id : ids) {
+                Pet pet = byId.get(id);
+                if (pet != null) {
+                    pets.add(pet);
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error retrieving pets by ID: " + e.getMessage());
+        }
+        
+        return pets;
+    }
+    
     /**
      * Counts total number of pets
      * @return Total count of pets
@@ -297,7 +589,7 @@ public class PetCRUD {
     public int getPetCount() {
         String sql = "SELECT COUNT(*) FROM tbl_pet";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -318,9 +610,9 @@ public class PetCRUD {
      * @return Count of pets with the specified status
      */
     public int getPetCountByStatus(String status) {
-        String sql = "SELECT COUNT(*) FROM tbl_pet WHERE adoption_status = ?";
+        String sql = COUNT_PETS_BY_STATUS;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, status);
@@ -359,6 +651,7 @@ public class PetCRUD {
         pet.setProofOfVaccination(rs.getString("proof_of_vaccination"));
         pet.setAdoptionStatus(rs.getString("adoption_status"));
         pet.setDateRegistered(rs.getDate("date_registered"));
+        pet.clearChanges();
         return pet;
     }
     
@@ -368,17 +661,18 @@ public class PetCRUD {
      * @return true if pet was archived successfully, false otherwise
      */
     public boolean archivePet(int petId) {
-        String sql = "UPDATE tbl_pet SET archived = true, archived_date = NOW() WHERE pet_id = ? AND archived = false";
+        String sql = ARCHIVE_PET;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, petId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_pet", petId, Outbox.UPDATE);
             
             if (rowsAffected > 0) {
                 System.out.println("Pet archived successfully.");
+                publishChange(petId);
                 return true;
             } else {
                 System.out.println("No active pet found with ID: " + petId);
@@ -392,22 +686,23 @@ public class PetCRUD {
     }
     
     /**
-     * Restores an archived pet by ID
+     * Restores an archived pet by ID, moving it back from the history tables if needed
      * @param petId Pet ID to restore
      * @return true if pet was restored successfully, false otherwise
      */
     public boolean restorePet(int petId) {
         String sql = "UPDATE tbl_pet SET archived = false, archived_date = NULL WHERE pet_id = ? AND archived = true";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, petId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_pet", petId, Outbox.UPDATE);
             
-            if (rowsAffected > 0) {
+            if (rowsAffected > 0 || (dataSource == null && ArchiveService.getInstance().restorePet(petId))) {
                 System.out.println("Pet restored successfully.");
+                publishChange(petId);
                 return true;
             } else {
                 System.out.println("No archived pet found with ID: " + petId);
@@ -421,14 +716,14 @@ public class PetCRUD {
     }
     
     /**
-     * Retrieves all archived pets from the database
+     * Retrieves all archived pets, including those moved to the history tables
      * @return List of archived pets
      */
     public List<Pet> getArchivedPets() {
         List<Pet> pets = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_pet WHERE archived = true ORDER BY archived_date DESC";
+        String sql = archivedPetsSql(PET_COLUMNS);
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -443,15 +738,31 @@ public class PetCRUD {
         return pets;
     }
     
+    /**
+     * Builds the query for archived pets: flagged rows in tbl_pet plus rows moved to history
+     */
+    private String archivedPetsSql(String columns) {
+        return archivedPetsSql(columns, dataSource == null && ArchiveService.getInstance().hasHistoryTables());
+    }
+    
+    private static String archivedPetsSql(String columns, boolean withHistory) {
+        if (!withHistory) {
+            return "SELECT " + columns + " FROM tbl_pet WHERE archived = true ORDER BY archived_date DESC";
+        }
+        return "SELECT " + columns + ", archived_date FROM tbl_pet WHERE archived = true " +
+               "UNION ALL SELECT " + columns + ", archived_date FROM " + ArchiveService.PET_HISTORY_TABLE + " " +
+               "ORDER BY archived_date DESC";
+    }
+    
     /**
      * Retrieves all active (non-archived) pets from the database
      * @return List of active pets
      */
     public List<Pet> getActivePets() {
         List<Pet> pets = new ArrayList<>();
-        String sql = "SELECT * FROM tbl_pet WHERE archived = false ORDER BY pet_id";
+        String sql = SELECT_ACTIVE_PETS;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -466,48 +777,185 @@ public class PetCRUD {
         return pets;
     }
     
+    // Summary reads: only the columns printed by the pets table
+    
+    /**
+     * Retrieves table rows for pets with the given adoption status
+     * @param status Adoption status to filter by
+     * @return List of active pet summaries ordered by ID
+     */
+    public List<PetSummary> getPetSummariesByAdoptionStatus(String status) {
+        String sql = SELECT_PET_SUMMARIES_BY_STATUS;
+        return queryPetSummaries(sql, "pets by adoption status", status);
+    }
+    
+    /**
+     * Retrieves one page of active pet table rows using keyset pagination
+     * @param afterId Only pets with a greater ID are returned
+     * @param limit Maximum number of pets to return
+     * @return List of at most limit pet summaries ordered by ID
+     */
+    public List<PetSummary> getPetSummariesPage(int afterId, int limit) {
+        String sql = SELECT_PET_SUMMARY_PAGE;
+        return queryPetSummaries(sql, "pets page", afterId, limit);
+    }
+    
+    /**
+     * Retrieves table rows for archived pets
+     * @return List of archived pet summaries, most recently archived first
+     */
+    public List<PetSummary> getArchivedPetSummaries() {
+        String sql = archivedPetsSql(PET_SUMMARY_COLUMNS);
+        return queryPetSummaries(sql, "archived pets");
+    }
+    
+    /**
+     * Searches pets by name, returning table rows only
+     * @param searchTerm Name to search for
+     * @return List of matching pet summaries, in the order of searchPetsByName()
+     */
+    public List<PetSummary> searchPetSummariesByName(String searchTerm) {
+        List<Integer> ids = searchIndex(searchTerm);
+        if (ids != null) {
+            return loadInPages(ids, this::getPetSummariesByIds);
+        }
+        
+        // Search index is still building: fall back to a LIKE scan
+        String sql = SEARCH_PET_SUMMARIES_BY_NAME;
+        return queryPetSummaries(sql, "pets", nameSearchParams(searchTerm));
+    }
+    
+    /**
+     * Suggests pets for a search term that matched no name: pets whose name, type or
+     * description match it by word prefix or fuzzily, e.g. "fluffy" for "fluffi"
+     * @param searchTerm Search text
+     * @return List of at most 10 pet summaries, best match first; empty while the search index is building
+     */
+    public List<PetSummary> suggestPetSummaries(String searchTerm) {
+        List<Integer> ids = dataSource == null ? SearchService.getInstance().suggestPetIds(searchTerm, SUGGESTION_LIMIT) : null;
+        return ids != null ? getPetSummariesByIds(ids) : new ArrayList<>();
+    }
+    
+    /**
+     * Retrieves table rows for the given pets, keeping the order of the given IDs
+     * @param ids Pet IDs to load
+     * @return List of pet summaries found, in the order of ids
+     */
+    public List<PetSummary> getPetSummariesByIds(List<Integer> ids) {
+        List<PetSummary> pets = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return pets;
+        }
+        
+        StringBuilder sql = new StringBuilder("SELECT " + PET_SUMMARY_COLUMNS + " FROM tbl_pet WHERE pet_id IN (");
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+        
+        Map<Integer, PetSummary> byId = new HashMap<>();
+        for (PetSummary pet : queryPetSummaries(sql.toString(), "pets by ID", ids.toArray())) {
+            byId.put(pet.getPetId(), pet);
+        }
+        for (int id : ids) {
+            PetSummary pet = byId.get(id);
+            if (pet != null) {
+                pets.add(pet);
+            }
+        }
+        return pets;
+    }
+    
+    /**
+     * Runs a summary query with positional parameters
+     * @param sql Query selecting PET_SUMMARY_COLUMNS
+     * @param description Description used in the error message
+     * @param params Parameters bound in order
+     * @return List of pet summaries
+     */
+    private List<PetSummary> queryPetSummaries(String sql, String description, Object... params) {
+        List<PetSummary> pets = new ArrayList<>();
+        
+        try (Connection conn = getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    pets.add(extractPetSummaryFromResultSet(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error retrieving " + description + ": " + e.getMessage());
+        }
+        
+        return pets;
+    }
+    
+    /**
+     * Extracts PetSummary object from ResultSet
+     * @param rs ResultSet containing PET_SUMMARY_COLUMNS
+     * @return PetSummary object
+     * @throws SQLException if database access error occurs
+     */
+    private PetSummary extractPetSummaryFromResultSet(ResultSet rs) throws SQLException {
+        PetSummary pet = new PetSummary();
+        pet.setPetId(rs.getInt("pet_id"));
+        pet.setPetName(rs.getString("pet_name"));
+        pet.setPetTypeId(rs.getInt("pet_type_id"));
+        pet.setDescriptionPreview(rs.getString("description_preview"));
+        pet.setAge(rs.getInt("age"));
+        pet.setGender(rs.getString("gender"));
+        pet.setHealthStatus(rs.getString("health_status"));
+        pet.setAdoptionStatus(rs.getString("adoption_status"));
+        pet.setDateRegistered(rs.getDate("date_registered"));
+        return pet;
+    }
+    
     /**
      * Enhanced view method - displays complete pet information in table format
-     * @param pets List of pets to display
+     * @param pets List of pet summaries to display
      */
-    public void displayPetsTable(List<Pet> pets) {
+    public void displayPetsTable(List<PetSummary> pets) {
         if (pets.isEmpty()) {
             System.out.println("No pets found.");
             return;
         }
         
-        System.out.println("\n" + "=".repeat(120));
-        System.out.println("                                    PETS INFORMATION TABLE");
-        System.out.println("=".repeat(120));
-        System.out.printf("%-4s %-15s %-8s %-30s %-4s %-8s %-12s %-12s %-12s%n",
-                "ID", "Name", "Type", "Description", "Age", "Gender", "Health", "Adoption", "Registered");
-        System.out.println("-".repeat(120));
-        
-        for (Pet pet : pets) {
-            System.out.printf("%-4d %-15s %-8d %-30s %-4d %-8s %-12s %-12s %-12s%n",
-                    pet.getPetId(),
-                    truncateString(pet.getPetName(), 15),
-                    pet.getPetTypeId(),
-                    truncateString(pet.getDescription(), 30),
-                    pet.getAge(),
-                    pet.getGender(),
-                    pet.getHealthStatus(),
-                    pet.getAdoptionStatus(),
-                    pet.getDateRegistered() != null ? pet.getDateRegistered().toString() : "N/A");
-        }
-        System.out.println("=".repeat(120));
+        petsTable().print(pets);
     }
     
     /**
-     * Helper method to truncate strings for display
-     * @param str String to truncate
-     * @param maxLength Maximum length
-     * @return Truncated string
+     * Displays all active pets in a formatted table, a page at a time; each page is loaded
+     * only when the user asks to see it
+     * @return Number of pets displayed
      */
-    private String truncateString(String str, int maxLength) {
-        if (str == null) return "N/A";
-        if (str.length() <= maxLength) return str;
-        return str.substring(0, maxLength - 3) + "...";
+    public int displayAllPetsTable() {
+        KeysetPageIterator<PetSummary> pets = new KeysetPageIterator<>(
+                afterId -> getPetSummariesPage(afterId, TABLE_PAGE_SIZE), PetSummary::getPetId, TABLE_PAGE_SIZE);
+        if (!pets.hasNext()) {
+            System.out.println("No pets found.");
+            return 0;
+        }
+        return petsTable().printPaged(pets, TABLE_PAGE_SIZE, "pets");
+    }
+    
+    private ConsoleTable<PetSummary> petsTable() {
+        return new ConsoleTable<PetSummary>()
+                .title("PETS INFORMATION TABLE")
+                .column("ID", 6, PetSummary::getPetId)
+                .column("Name", 15, PetSummary::getPetName)
+                .column("Type", 8, PetSummary::getPetTypeId)
+                .column("Description", DESCRIPTION_PREVIEW_LENGTH, PetSummary::getDescriptionPreview)
+                .column("Age", 4, PetSummary::getAge)
+                .column("Gender", 8, PetSummary::getGender)
+                .column("Health", 15, PetSummary::getHealthStatus)
+                .column("Adoption", 12, PetSummary::getAdoptionStatus)
+                .column("Registered", 12, PetSummary::getDateRegistered);
     }
     
     /**
@@ -553,7 +1001,7 @@ public class PetCRUD {
     public boolean updatePetBasicInfo(int petId, String name, String description, int age) {
         String sql = "UPDATE tbl_pet SET pet_name = ?, description = ?, age = ? WHERE pet_id = ? AND archived = FALSE";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, name);
@@ -561,7 +1009,10 @@ public class PetCRUD {
             pstmt.setInt(3, age);
             pstmt.setInt(4, petId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_pet", petId, Outbox.UPDATE);
+            if (rowsAffected > 0) {
+                publishChange(petId);
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
@@ -580,14 +1031,17 @@ public class PetCRUD {
     public boolean updatePetHealthInfo(int petId, String healthStatus, String vaccinationStatus) {
         String sql = "UPDATE tbl_pet SET health_status = ?, vaccination_status = ? WHERE pet_id = ? AND archived = FALSE";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, healthStatus);
             pstmt.setString(2, vaccinationStatus);
             pstmt.setInt(3, petId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_pet", petId, Outbox.UPDATE);
+            if (rowsAffected > 0) {
+                publishChange(petId);
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
@@ -603,15 +1057,18 @@ public class PetCRUD {
      * @return true if pet was updated successfully, false otherwise
      */
     public boolean updatePetAdoptionStatus(int petId, String adoptionStatus) {
-        String sql = "UPDATE tbl_pet SET adoption_status = ? WHERE pet_id = ? AND archived = FALSE";
+        String sql = UPDATE_PET_ADOPTION_STATUS;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, adoptionStatus);
             pstmt.setInt(2, petId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = Outbox.executeUpdate(pstmt, "tbl_pet", petId, Outbox.UPDATE);
+            if (rowsAffected > 0) {
+                publishChange(petId);
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
@@ -627,10 +1084,10 @@ public class PetCRUD {
      * @return number of pets successfully updated
      */
     public int batchUpdateAdoptionStatus(List<Integer> petIds, String adoptionStatus) {
-        String sql = "UPDATE tbl_pet SET adoption_status = ? WHERE pet_id = ? AND archived = FALSE";
+        String sql = UPDATE_PET_ADOPTION_STATUS;
         int updatedCount = 0;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             for (Integer petId : petIds) {
@@ -639,10 +1096,11 @@ public class PetCRUD {
                 pstmt.addBatch();
             }
             
-            int[] results = pstmt.executeBatch();
-            for (int result : results) {
-                if (result > 0) {
+            int[] results = Outbox.executeBatch(pstmt, "tbl_pet", petIds, Outbox.UPDATE);
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] > 0) {
                     updatedCount++;
+                    publishChange(petIds.get(i));
                 }
             }
             
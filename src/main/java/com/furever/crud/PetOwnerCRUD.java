@@ -8,6 +8,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.furever.database.ChangeNotifier;
 import com.furever.database.DbConnection;
 import com.furever.models.PetOwner;
 
@@ -16,6 +17,14 @@ import com.furever.models.PetOwner;
  */
 public class PetOwnerCRUD {
     
+    // Statements checked by com.furever.test.TestQueryPlans
+    public static final String SELECT_PET_OWNER_BY_ID =
+            "SELECT * FROM tbl_pet_owner WHERE pet_owner_id = ?";
+    public static final String SELECT_PET_OWNER_BY_USERNAME =
+            "SELECT * FROM tbl_pet_owner WHERE pet_owner_username = ? OR username = ?";
+    public static final String SELECT_ALL_PET_OWNERS =
+            "SELECT * FROM tbl_pet_owner ORDER BY pet_owner_name";
+    
     /**
      * Creates a new pet owner in the database
      */
@@ -36,7 +45,11 @@ public class PetOwnerCRUD {
             pstmt.setString(7, petOwner.getPetOwnerPassword());
             pstmt.setString(8, petOwner.getPetOwnerUsername()); // username field for FK
             
-            return pstmt.executeUpdate() > 0;
+            boolean changed = pstmt.executeUpdate() > 0;
+            if (changed) {
+                ChangeNotifier.publish("tbl_pet_owner", ChangeNotifier.ALL_ROWS);
+            }
+            return changed;
             
         } catch (SQLException e) {
             System.err.println("Error creating pet owner: " + e.getMessage());
@@ -48,9 +61,9 @@ public class PetOwnerCRUD {
      * Retrieves a pet owner by ID
      */
     public PetOwner getPetOwnerById(int petOwnerId) {
-        String sql = "SELECT * FROM tbl_pet_owner WHERE pet_owner_id = ?";
+        String sql = SELECT_PET_OWNER_BY_ID;
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, petOwnerId);
@@ -71,7 +84,7 @@ public class PetOwnerCRUD {
      * Retrieves a pet owner by username
      */
     public PetOwner getPetOwnerByUsername(String username) {
-        String sql = "SELECT * FROM tbl_pet_owner WHERE pet_owner_username = ? OR username = ?";
+        String sql = SELECT_PET_OWNER_BY_USERNAME;
         
         try (Connection conn = DbConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -95,10 +108,10 @@ public class PetOwnerCRUD {
      * Retrieves all pet owners
      */
     public List<PetOwner> getAllPetOwners() {
-        String sql = "SELECT * FROM tbl_pet_owner ORDER BY pet_owner_name";
+        String sql = SELECT_ALL_PET_OWNERS;
         List<PetOwner> petOwners = new ArrayList<>();
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -131,7 +144,11 @@ public class PetOwnerCRUD {
             pstmt.setString(5, petOwner.getPetOwnerProfile());
             pstmt.setInt(6, petOwner.getPetOwnerId());
             
-            return pstmt.executeUpdate() > 0;
+            boolean changed = pstmt.executeUpdate() > 0;
+            if (changed) {
+                ChangeNotifier.publish("tbl_pet_owner", petOwner.getPetOwnerId());
+            }
+            return changed;
             
         } catch (SQLException e) {
             System.err.println("Error updating pet owner: " + e.getMessage());
@@ -149,7 +166,11 @@ public class PetOwnerCRUD {
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, petOwnerId);
-            return pstmt.executeUpdate() > 0;
+            boolean changed = pstmt.executeUpdate() > 0;
+            if (changed) {
+                ChangeNotifier.publish("tbl_pet_owner", petOwnerId);
+            }
+            return changed;
             
         } catch (SQLException e) {
             System.err.println("Error deleting pet owner: " + e.getMessage());
@@ -164,7 +185,7 @@ public class PetOwnerCRUD {
         String sql = "SELECT * FROM tbl_pet_owner WHERE pet_owner_name LIKE ? ORDER BY pet_owner_name";
         List<PetOwner> petOwners = new ArrayList<>();
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, "%" + name + "%");
@@ -187,7 +208,7 @@ public class PetOwnerCRUD {
     public int getPetOwnerCount() {
         String sql = "SELECT COUNT(*) FROM tbl_pet_owner";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -217,7 +238,11 @@ public class PetOwnerCRUD {
             pstmt.setString(3, username);
             pstmt.setString(4, username);
             
-            return pstmt.executeUpdate() > 0;
+            boolean changed = pstmt.executeUpdate() > 0;
+            if (changed) {
+                ChangeNotifier.publish("tbl_pet_owner", ChangeNotifier.ALL_ROWS);
+            }
+            return changed;
             
         } catch (SQLException e) {
             System.err.println("Error creating pet owner profile for user: " + e.getMessage());
@@ -237,7 +262,11 @@ public class PetOwnerCRUD {
             pstmt.setString(1, username);
             pstmt.setInt(2, petOwnerId);
             
-            return pstmt.executeUpdate() > 0;
+            boolean changed = pstmt.executeUpdate() > 0;
+            if (changed) {
+                ChangeNotifier.publish("tbl_pet_owner", petOwnerId);
+            }
+            return changed;
             
         } catch (SQLException e) {
             System.err.println("Error updating pet owner username: " + e.getMessage());
@@ -1,5 +1,7 @@
 package com.furever.crud;
 
+import com.furever.cache.EntityCaches;
+import com.furever.database.ChangeNotifier;
 import com.furever.database.DbConnection;
 import com.furever.models.PetType;
 
@@ -34,6 +36,7 @@ public class PetTypeCRUD {
                     }
                 }
                 System.out.println("Pet type created successfully with ID: " + petType.getPetTypeId());
+                ChangeNotifier.publish("tbl_pet_type", petType.getPetTypeId());
                 return true;
             }
             
@@ -50,9 +53,19 @@ public class PetTypeCRUD {
      * @return PetType object if found, null otherwise
      */
     public PetType getPetTypeById(int petTypeId) {
+        List<PetType> preloaded = EntityCaches.getPetTypes();
+        if (preloaded != null) {
+            for (PetType petType : preloaded) {
+                if (petType.getPetTypeId() == petTypeId) {
+                    return petType;
+                }
+            }
+            return null;
+        }
+        
         String sql = "SELECT * FROM tbl_pet_type WHERE pet_type_id = ?";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, petTypeId);
@@ -71,14 +84,48 @@ public class PetTypeCRUD {
     }
     
     /**
-     * Retrieves all pet types from the database
+     * Retrieves all pet types, served from memory once they have been loaded
      * @return List of all pet types
      */
     public List<PetType> getAllPetTypes() {
+        List<PetType> preloaded = EntityCaches.getPetTypes();
+        if (preloaded != null) {
+            return preloaded;
+        }
+        
+        long generation = EntityCaches.getPetTypesGeneration();
+        List<PetType> petTypes = loadAllPetTypes();
+        if (petTypes != null) {
+            EntityCaches.setPetTypes(petTypes, generation);
+            return petTypes;
+        }
+        return new ArrayList<>();
+    }
+    
+    /**
+     * Loads all pet types into memory so later lookups do not touch the database
+     * @return number of pet types loaded, or -1 if they could not be read
+     */
+    public int preloadPetTypes() {
+        EntityCaches.invalidatePetTypes();
+        long generation = EntityCaches.getPetTypesGeneration();
+        List<PetType> petTypes = loadAllPetTypes();
+        if (petTypes == null) {
+            return -1;
+        }
+        EntityCaches.setPetTypes(petTypes, generation);
+        return petTypes.size();
+    }
+    
+    /**
+     * Reads all pet types from the database
+     * @return List of all pet types ordered by name, or null if the query failed
+     */
+    private List<PetType> loadAllPetTypes() {
         List<PetType> petTypes = new ArrayList<>();
         String sql = "SELECT * FROM tbl_pet_type ORDER BY pet_type_name";
         
-        try (Connection conn = DbConnection.getConnection();
+        try (Connection conn = DbConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -88,6 +135,7 @@ public class PetTypeCRUD {
             
         } catch (SQLException e) {
             System.err.println("Error retrieving all pet types: " + e.getMessage());
+            return null;
         }
         
         return petTypes;
@@ -111,6 +159,7 @@ public class PetTypeCRUD {
             
             if (rowsAffected > 0) {
                 System.out.println("Pet type updated successfully.");
+                ChangeNotifier.publish("tbl_pet_type", petType.getPetTypeId());
                 return true;
             } else {
                 System.out.println("No pet type found with ID: " + petType.getPetTypeId());
@@ -140,6 +189,7 @@ public class PetTypeCRUD {
             
             if (rowsAffected > 0) {
                 System.out.println("Pet type deleted successfully.");
+                ChangeNotifier.publish("tbl_pet_type", petTypeId);
                 return true;
             } else {
                 System.out.println("No pet type found with ID: " + petTypeId);
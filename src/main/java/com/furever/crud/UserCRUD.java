@@ -7,8 +7,11 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import com.furever.database.ChangeNotifier;
 import com.furever.database.DbConnection;
+import com.furever.database.SqlCatalog;
 import com.furever.models.User;
 
 /**
@@ -16,6 +19,25 @@ import com.furever.models.User;
  */
 public class UserCRUD {
     
+    // Columns read into a User; archive bookkeeping columns are never mapped
+    private static final String USER_COLUMNS = "id, username, email, password, role, created_at";
+    
+    // Hot statements, prepared up front on every pooled connection (see SqlCatalog)
+    public static final String SELECT_USER_BY_ID = SqlCatalog.register(
+            "SELECT " + USER_COLUMNS + " FROM users WHERE id = ?");
+    public static final String SELECT_USER_BY_USERNAME = SqlCatalog.register(
+            "SELECT " + USER_COLUMNS + " FROM users WHERE username = ?");
+    public static final String SELECT_USER_BY_CREDENTIALS = SqlCatalog.register(
+            "SELECT " + USER_COLUMNS + " FROM users WHERE username = ? AND password = ?");
+    
+    // Other statements checked by com.furever.test.TestQueryPlans
+    public static final String SELECT_ALL_USERS =
+            "SELECT " + USER_COLUMNS + " FROM users ORDER BY id";
+    public static final String SELECT_USER_PAGE =
+            "SELECT " + USER_COLUMNS + " FROM users WHERE id > ? ORDER BY id LIMIT ?";
+    public static final String ARCHIVE_ADOPTER_PROFILE =
+            "UPDATE tbl_adopter SET archived = 1, archived_date = NOW() WHERE username = ?";
+    
     /**
      * Creates a new user in the database and automatically creates corresponding profile
      * @param user User object to create
@@ -60,6 +82,9 @@ public class UserCRUD {
                     if (!"admin".equals(user.getRole())) {
                         System.out.println("Corresponding " + user.getRole() + " profile created automatically.");
                     }
+                    ChangeNotifier.publish("users", user.getId());
+                    ChangeNotifier.publish("tbl_adopter", ChangeNotifier.ALL_ROWS);
+                    ChangeNotifier.publish("tbl_pet_owner", ChangeNotifier.ALL_ROWS);
                     return true;
                 } else {
                     conn.rollback(); // Rollback if profile creation failed
@@ -144,7 +169,7 @@ public class UserCRUD {
      * @return User object if found, null otherwise
      */
     public User getUserById(int userId) {
-        String sql = "SELECT * FROM users WHERE id = ?";
+        String sql = SELECT_USER_BY_ID;
         
         try (Connection conn = DbConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -170,7 +195,7 @@ public class UserCRUD {
      * @return User object if found, null otherwise
      */
     public User getUserByUsername(String username) {
-        String sql = "SELECT * FROM users WHERE username = ?";
+        String sql = SELECT_USER_BY_USERNAME;
         
         try (Connection conn = DbConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -197,7 +222,7 @@ public class UserCRUD {
      */
     public List<User> searchUsersByUsername(String usernamePattern) {
         List<User> users = new ArrayList<>();
-        String sql = "SELECT * FROM users WHERE username LIKE ? ORDER BY username";
+        String sql = "SELECT " + USER_COLUMNS + " FROM users WHERE username LIKE ? ORDER BY username";
         
         try (Connection conn = DbConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -224,7 +249,7 @@ public class UserCRUD {
      */
     public List<User> getAllUsers() {
         List<User> users = new ArrayList<>();
-        String sql = "SELECT * FROM users ORDER BY id";
+        String sql = SELECT_ALL_USERS;
         
         try (Connection conn = DbConnection.getConnection();
              Statement stmt = conn.createStatement();
@@ -241,6 +266,62 @@ public class UserCRUD {
         return users;
     }
     
+    /**
+     * Retrieves one page of users using keyset pagination.
+     * Pass 0 for the first page and the last returned ID for each following page.
+     * @param afterId Only users with a greater ID are returned
+     * @param limit Maximum number of users to return
+     * @return List of at most limit users ordered by ID
+     */
+    public List<User> getUsersPage(int afterId, int limit) {
+        List<User> users = new ArrayList<>();
+        String sql = SELECT_USER_PAGE;
+        
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, afterId);
+            pstmt.setInt(2, limit);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    users.add(extractUserFromResultSet(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error retrieving users page: " + e.getMessage());
+        }
+        
+        return users;
+    }
+    
+    /**
+     * Streams all users to a consumer without loading the table into memory.
+     * Rows are handed over as they arrive from the server, ordered by ID.
+     * @param action Consumer called once per user
+     * @return Number of users streamed
+     */
+    public int forEachUser(Consumer<User> action) {
+        String sql = SELECT_ALL_USERS;
+        int count = 0;
+        
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = DbConnection.prepareStreamingStatement(conn, sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            
+            while (rs.next()) {
+                action.accept(extractUserFromResultSet(rs));
+                count++;
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error streaming users: " + e.getMessage());
+        }
+        
+        return count;
+    }
+    
     /**
      * Updates an existing user and manages corresponding profile changes
      * @param user User object with updated information
@@ -306,6 +387,9 @@ public class UserCRUD {
                 if (profileHandled) {
                     conn.commit(); // Commit transaction
                     System.out.println("User updated successfully.");
+                    ChangeNotifier.publish("users", user.getId());
+                    ChangeNotifier.publish("tbl_adopter", ChangeNotifier.ALL_ROWS);
+                    ChangeNotifier.publish("tbl_pet_owner", ChangeNotifier.ALL_ROWS);
                     return true;
                 } else {
                     conn.rollback(); // Rollback if profile handling failed
@@ -346,7 +430,7 @@ public class UserCRUD {
      * @return true if profile was archived successfully, false otherwise
      */
     private boolean archiveAdopterProfile(Connection conn, String username) throws SQLException {
-        String sql = "UPDATE tbl_adopter SET archived = 1, archived_date = NOW() WHERE username = ?";
+        String sql = ARCHIVE_ADOPTER_PROFILE;
         
         try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, username);
@@ -424,6 +508,7 @@ public class UserCRUD {
             
             if (rowsAffected > 0) {
                 System.out.println("User deleted successfully.");
+                ChangeNotifier.publish("users", userId);
                 return true;
             } else {
                 System.out.println("No user found with ID: " + userId);
@@ -443,7 +528,7 @@ public class UserCRUD {
      * @return User object if authentication successful, null otherwise
      */
     public User authenticateUser(String username, String password) {
-        String sql = "SELECT * FROM users WHERE username = ? AND password = ?";
+        String sql = SELECT_USER_BY_CREDENTIALS;
         
         try (Connection conn = DbConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -2,7 +2,10 @@ package com.furever.dashboard;
 
 import com.furever.crud.AdopterCRUD;
 import com.furever.models.Adopter;
+import com.furever.models.AdopterSummary;
+import com.furever.utils.ConsoleTable;
 import com.furever.utils.InputValidator;
+import com.furever.utils.KeysetPageIterator;
 
 import java.util.List;
 
@@ -11,6 +14,8 @@ import java.util.List;
  */
 public class AdopterDashboard {
     
+    private static final int PAGE_SIZE = 50;
+    
     private final AdopterCRUD adopterCRUD;
     
     public AdopterDashboard() {
@@ -122,24 +127,16 @@ public class AdopterDashboard {
         InputValidator.displayHeader("ALL ADOPTERS");
         
         try {
-            List<Adopter> adopters = adopterCRUD.getAllAdopters();
+            // Pages are loaded as the user asks for them; one table keeps the columns aligned across pages
+            KeysetPageIterator<AdopterSummary> adopters = new KeysetPageIterator<>(
+                afterId -> adopterCRUD.getAdopterSummariesPage(afterId, PAGE_SIZE), AdopterSummary::getAdopterId, PAGE_SIZE);
             
-            if (adopters.isEmpty()) {
+            if (!adopters.hasNext()) {
                 System.out.println("No adopters found.");
                 return;
             }
             
-            System.out.printf("%-5s %-25s %-15s %-30s%n", 
-                "ID", "Name", "Contact", "Email");
-            System.out.println("-".repeat(75));
-            
-            for (Adopter adopter : adopters) {
-                System.out.printf("%-5d %-25s %-15s %-30s%n",
-                    adopter.getAdopterId(),
-                    adopter.getAdopterName(),
-                    adopter.getAdopterContact(),
-                    adopter.getAdopterEmail());
-            }
+            adoptersTable().printPaged(adopters, PAGE_SIZE, "adopters");
             
         } catch (Exception e) {
             InputValidator.displayError("An error occurred while retrieving adopters: " + e.getMessage());
@@ -175,25 +172,20 @@ public class AdopterDashboard {
         
         try {
             String searchTerm = InputValidator.getStringInput("Enter name to search: ", false);
-            List<Adopter> adopters = adopterCRUD.searchAdoptersByName(searchTerm);
+            List<AdopterSummary> adopters = adopterCRUD.searchAdopterSummariesByName(searchTerm);
             
             if (adopters.isEmpty()) {
                 InputValidator.displayWarning("No adopters found matching: " + searchTerm);
+                List<AdopterSummary> suggestions = adopterCRUD.suggestAdopterSummaries(searchTerm);
+                if (!suggestions.isEmpty()) {
+                    System.out.println("Did you mean:");
+                    adoptersTable().print(suggestions);
+                }
                 return;
             }
             
             System.out.println("Search Results:");
-            System.out.printf("%-5s %-25s %-15s %-30s%n", 
-                "ID", "Name", "Contact", "Email");
-            System.out.println("-".repeat(75));
-            
-            for (Adopter adopter : adopters) {
-                System.out.printf("%-5d %-25s %-15s %-30s%n",
-                    adopter.getAdopterId(),
-                    adopter.getAdopterName(),
-                    adopter.getAdopterContact(),
-                    adopter.getAdopterEmail());
-            }
+            adoptersTable().print(adopters);
             
         } catch (Exception e) {
             InputValidator.displayError("An error occurred while searching adopters: " + e.getMessage());
@@ -313,6 +305,17 @@ public class AdopterDashboard {
         }
     }
     
+    /**
+     * Builds the table used for adopter listings
+     */
+    private ConsoleTable<AdopterSummary> adoptersTable() {
+        return new ConsoleTable<AdopterSummary>()
+            .column("ID", 6, AdopterSummary::getAdopterId)
+            .column("Name", 25, AdopterSummary::getAdopterName)
+            .column("Contact", 15, AdopterSummary::getAdopterContact)
+            .column("Email", 30, AdopterSummary::getAdopterEmail);
+    }
+    
     /**
      * Displays detailed information about an adopter
      * @param adopter Adopter object to display
@@ -8,7 +8,12 @@ import com.furever.crud.AdoptionRequestCRUD;
 import com.furever.crud.PetCRUD;
 import com.furever.models.Adopter;
 import com.furever.models.AdoptionRequest;
+import com.furever.models.AdoptionRequestView;
 import com.furever.models.Pet;
+import com.furever.service.AsyncCrudService;
+import com.furever.service.StatisticsService;
+import com.furever.service.StatisticsSnapshot;
+import com.furever.utils.ConsoleTable;
 import com.furever.utils.InputValidator;
 
 /**
@@ -16,6 +21,8 @@ import com.furever.utils.InputValidator;
  */
 public class AdoptionRequestDashboard {
     
+    private static final int PAGE_SIZE = 50;
+    
     private final AdoptionRequestCRUD adoptionRequestCRUD;
     private final PetCRUD petCRUD;
     private final AdopterCRUD adopterCRUD;
@@ -148,8 +155,9 @@ public class AdoptionRequestDashboard {
                 
                 // Update pet status to Pending
                 pet.setAdoptionStatus("Pending");
-                petCRUD.updatePet(pet);
-                System.out.println("Pet status updated to Pending.");
+                if (petCRUD.updatePetChanges(pet, true)) {
+                    System.out.println("Pet status updated to Pending.");
+                }
             } else {
                 InputValidator.displayError("Failed to create adoption request.");
             }
@@ -166,15 +174,25 @@ public class AdoptionRequestDashboard {
         InputValidator.displayHeader("ALL ADOPTION REQUESTS");
         
         try {
-            List<AdoptionRequest> requests = adoptionRequestCRUD.getAllAdoptionRequests();
-            
-            if (requests.isEmpty()) {
-                System.out.println("No adoption requests found.");
-                return;
+            int offset = 0;
+            while (true) {
+                List<AdoptionRequestView> requests = adoptionRequestCRUD.getAdoptionRequestViews(offset, PAGE_SIZE);
+                
+                if (requests.isEmpty()) {
+                    if (offset == 0) {
+                        System.out.println("No adoption requests found.");
+                    }
+                    return;
+                }
+                
+                displayRequestsTable(requests);
+                offset += requests.size();
+                
+                if (requests.size() < PAGE_SIZE || !InputValidator.getConfirmation("Show the next " + PAGE_SIZE + " requests?")) {
+                    return;
+                }
             }
             
-            displayRequestsTable(requests);
-            
         } catch (Exception e) {
             InputValidator.displayError("An error occurred while retrieving adoption requests: " + e.getMessage());
         }
@@ -187,15 +205,25 @@ public class AdoptionRequestDashboard {
         InputValidator.displayHeader("ADOPTION REQUESTS - " + status.toUpperCase());
         
         try {
-            List<AdoptionRequest> requests = adoptionRequestCRUD.getAdoptionRequestsByStatus(status);
-            
-            if (requests.isEmpty()) {
-                System.out.println("No " + status.toLowerCase() + " requests found.");
-                return;
+            int offset = 0;
+            while (true) {
+                List<AdoptionRequestView> requests = adoptionRequestCRUD.getAdoptionRequestViewsByStatus(status, offset, PAGE_SIZE);
+                
+                if (requests.isEmpty()) {
+                    if (offset == 0) {
+                        System.out.println("No " + status.toLowerCase() + " requests found.");
+                    }
+                    return;
+                }
+                
+                displayRequestsTable(requests);
+                offset += requests.size();
+                
+                if (requests.size() < PAGE_SIZE || !InputValidator.getConfirmation("Show the next " + PAGE_SIZE + " requests?")) {
+                    return;
+                }
             }
             
-            displayRequestsTable(requests);
-            
         } catch (Exception e) {
             InputValidator.displayError("An error occurred while retrieving requests: " + e.getMessage());
         }
@@ -209,7 +237,7 @@ public class AdoptionRequestDashboard {
         
         try {
             int requestId = InputValidator.getIntInput("Enter request ID: ");
-            AdoptionRequest request = adoptionRequestCRUD.getAdoptionRequestById(requestId);
+            AdoptionRequestView request = adoptionRequestCRUD.getAdoptionRequestViewById(requestId);
             
             if (request != null) {
                 displayRequestDetails(request);
@@ -230,7 +258,12 @@ public class AdoptionRequestDashboard {
         
         try {
             int adopterId = InputValidator.getIntInput("Enter adopter ID: ");
-            Adopter adopter = adopterCRUD.getAdopterById(adopterId);
+            
+            // The adopter and the request list are independent lookups; run them in parallel
+            var async = AsyncCrudService.getInstance();
+            var adopterFuture = async.getAdopterById(adopterId);
+            var requestsFuture = async.getAdoptionRequestViewsByAdopter(adopterId);
+            Adopter adopter = AsyncCrudService.await(adopterFuture);
             
             if (adopter == null) {
                 InputValidator.displayError("Adopter not found with ID: " + adopterId);
@@ -239,7 +272,7 @@ public class AdoptionRequestDashboard {
             
             System.out.println("Requests by: " + adopter.getAdopterName());
             
-            List<AdoptionRequest> requests = adoptionRequestCRUD.getAdoptionRequestsByAdopter(adopterId);
+            List<AdoptionRequestView> requests = AsyncCrudService.await(requestsFuture);
             
             if (requests.isEmpty()) {
                 System.out.println("No requests found for this adopter.");
@@ -261,7 +294,12 @@ public class AdoptionRequestDashboard {
         
         try {
             int petId = InputValidator.getIntInput("Enter pet ID: ");
-            Pet pet = petCRUD.getPetById(petId);
+            
+            // The pet and the request list are independent lookups; run them in parallel
+            var async = AsyncCrudService.getInstance();
+            var petFuture = async.getPetById(petId);
+            var requestsFuture = async.getAdoptionRequestViewsByPet(petId);
+            Pet pet = AsyncCrudService.await(petFuture);
             
             if (pet == null) {
                 InputValidator.displayError("Pet not found with ID: " + petId);
@@ -270,7 +308,7 @@ public class AdoptionRequestDashboard {
             
             System.out.println("Requests for: " + pet.getPetName());
             
-            List<AdoptionRequest> requests = adoptionRequestCRUD.getAdoptionRequestsByPet(petId);
+            List<AdoptionRequestView> requests = AsyncCrudService.await(requestsFuture);
             
             if (requests.isEmpty()) {
                 System.out.println("No requests found for this pet.");
@@ -292,7 +330,7 @@ public class AdoptionRequestDashboard {
         
         try {
             int requestId = InputValidator.getIntInput("Enter request ID to approve: ");
-            AdoptionRequest request = adoptionRequestCRUD.getAdoptionRequestById(requestId);
+            AdoptionRequestView request = adoptionRequestCRUD.getAdoptionRequestViewById(requestId);
             
             if (request == null) {
                 InputValidator.displayWarning("No adoption request found with ID: " + requestId);
@@ -304,18 +342,6 @@ public class AdoptionRequestDashboard {
                 return;
             }
             
-            // Check if there's already an approved request for the same adopter and pet
-            List<AdoptionRequest> existingApproved = adoptionRequestCRUD.getAdoptionRequestsByPet(request.getPetId());
-            boolean hasApprovedRequest = existingApproved.stream()
-                .anyMatch(r -> r.getAdopterId() == request.getAdopterId() && "Approved".equals(r.getStatus()));
-            
-            if (hasApprovedRequest) {
-                InputValidator.displayWarning("This adopter already has an approved request for this pet.");
-                System.out.println("Cannot approve multiple requests from the same adopter for the same pet.");
-                System.out.println("You may want to reject this request instead.");
-                return;
-            }
-            
             displayRequestDetails(request);
             
             if (!InputValidator.getConfirmation("Do you want to approve this request?")) {
@@ -326,27 +352,9 @@ public class AdoptionRequestDashboard {
             String approvalDate = InputValidator.getDateInput("Enter approval date");
             String remarks = InputValidator.getStringInput("Enter approval remarks: ", false);
             
-            if (adoptionRequestCRUD.approveAdoptionRequest(requestId, Date.valueOf(approvalDate), remarks)) {
+            // Approval, pet status change and rejection of competing requests happen in one transaction
+            if (adoptionRequestCRUD.approveAndCloseOut(requestId, Date.valueOf(approvalDate), remarks)) {
                 InputValidator.displaySuccess("Adoption request approved successfully!");
-                
-                // Update pet status to Adopted
-                Pet pet = petCRUD.getPetById(request.getPetId());
-                if (pet != null) {
-                    pet.setAdoptionStatus("Adopted");
-                    petCRUD.updatePet(pet);
-                    System.out.println("Pet status updated to Adopted.");
-                }
-                
-                // Auto-reject other pending requests for the same pet
-                List<AdoptionRequest> otherPendingRequests = adoptionRequestCRUD.getAdoptionRequestsByPet(request.getPetId());
-                for (AdoptionRequest otherRequest : otherPendingRequests) {
-                    if (otherRequest.getAdoptionRequestId() != requestId && "Pending".equals(otherRequest.getStatus())) {
-                        adoptionRequestCRUD.rejectAdoptionRequest(otherRequest.getAdoptionRequestId(), 
-                            "Automatically rejected - pet adopted by another adopter");
-                    }
-                }
-                System.out.println("Other pending requests for this pet have been automatically rejected.");
-                
             } else {
                 InputValidator.displayError("Failed to approve adoption request.");
             }
@@ -364,7 +372,7 @@ public class AdoptionRequestDashboard {
         
         try {
             int requestId = InputValidator.getIntInput("Enter request ID to reject: ");
-            AdoptionRequest request = adoptionRequestCRUD.getAdoptionRequestById(requestId);
+            AdoptionRequestView request = adoptionRequestCRUD.getAdoptionRequestViewById(requestId);
             
             if (request == null) {
                 InputValidator.displayWarning("No adoption request found with ID: " + requestId);
@@ -392,8 +400,10 @@ public class AdoptionRequestDashboard {
                 Pet pet = petCRUD.getPetById(request.getPetId());
                 if (pet != null) {
                     pet.setAdoptionStatus("Available");
-                    petCRUD.updatePet(pet);
-                    System.out.println("Pet status updated to Available.");
+                    // Only flips the status if nobody changed it meanwhile, e.g. approved another request
+                    if (petCRUD.updatePetChanges(pet, true)) {
+                        System.out.println("Pet status updated to Available.");
+                    }
                 }
             } else {
                 InputValidator.displayError("Failed to reject adoption request.");
@@ -412,15 +422,16 @@ public class AdoptionRequestDashboard {
         
         try {
             int requestId = InputValidator.getIntInput("Enter request ID to update: ");
-            AdoptionRequest request = adoptionRequestCRUD.getAdoptionRequestById(requestId);
+            AdoptionRequestView view = adoptionRequestCRUD.getAdoptionRequestViewById(requestId);
             
-            if (request == null) {
+            if (view == null) {
                 InputValidator.displayWarning("No adoption request found with ID: " + requestId);
                 return;
             }
             
             System.out.println("Current request details:");
-            displayRequestDetails(request);
+            displayRequestDetails(view);
+            AdoptionRequest request = view.toAdoptionRequest();
             
             System.out.println("\nEnter new information (press Enter to keep current value):");
             
@@ -448,7 +459,7 @@ public class AdoptionRequestDashboard {
         
         try {
             int requestId = InputValidator.getIntInput("Enter request ID to delete: ");
-            AdoptionRequest request = adoptionRequestCRUD.getAdoptionRequestById(requestId);
+            AdoptionRequestView request = adoptionRequestCRUD.getAdoptionRequestViewById(requestId);
             
             if (request == null) {
                 InputValidator.displayWarning("No adoption request found with ID: " + requestId);
@@ -480,10 +491,11 @@ public class AdoptionRequestDashboard {
         InputValidator.displayHeader("ADOPTION REQUEST STATISTICS");
         
         try {
-            int totalRequests = adoptionRequestCRUD.getAdoptionRequestCount();
-            int pendingRequests = adoptionRequestCRUD.getAdoptionRequestCountByStatus("Pending");
-            int approvedRequests = adoptionRequestCRUD.getAdoptionRequestCountByStatus("Approved");
-            int rejectedRequests = adoptionRequestCRUD.getAdoptionRequestCountByStatus("Rejected");
+            StatisticsSnapshot stats = StatisticsService.getInstance().getSnapshot();
+            int totalRequests = stats.getRequestCount();
+            int pendingRequests = stats.getRequestCount("Pending");
+            int approvedRequests = stats.getRequestCount("Approved");
+            int rejectedRequests = stats.getRequestCount("Rejected");
             
             System.out.println("Total Requests: " + totalRequests);
             System.out.println("Pending Requests: " + pendingRequests);
@@ -506,45 +518,22 @@ public class AdoptionRequestDashboard {
     /**
      * Displays adoption requests in table format
      */
-    private void displayRequestsTable(List<AdoptionRequest> requests) {
-        System.out.printf("%-5s %-20s %-20s %-12s %-10s %-12s%n", 
-            "ID", "Pet Name", "Adopter Name", "Date", "Status", "Approval");
-        System.out.println("-".repeat(85));
-        
-        for (AdoptionRequest request : requests) {
-            // Fetch pet and adopter details for better display
-            String petName = "Unknown";
-            String adopterName = "Unknown";
-            
-            try {
-                Pet pet = petCRUD.getPetById(request.getPetId());
-                if (pet != null) {
-                    petName = pet.getPetName();
-                }
-                
-                Adopter adopter = adopterCRUD.getAdopterById(request.getAdopterId());
-                if (adopter != null) {
-                    adopterName = adopter.getAdopterName();
-                }
-            } catch (Exception e) {
-                // If there's an error fetching names, we'll use "Unknown"
-                System.err.println("Error fetching pet/adopter details: " + e.getMessage());
-            }
-            
-            System.out.printf("%-5d %-20s %-20s %-12s %-10s %-12s%n",
-                request.getAdoptionRequestId(),
-                petName.length() > 19 ? petName.substring(0, 16) + "..." : petName,
-                adopterName.length() > 19 ? adopterName.substring(0, 16) + "..." : adopterName,
-                request.getRequestDate() != null ? request.getRequestDate().toString() : "N/A",
-                request.getStatus(),
-                request.getApprovalDate() != null ? request.getApprovalDate().toString() : "N/A");
-        }
+    private void displayRequestsTable(List<AdoptionRequestView> requests) {
+        // Pet and adopter names come from the joined query; missing rows show as "Unknown"
+        new ConsoleTable<AdoptionRequestView>()
+            .column("ID", 6, AdoptionRequestView::getAdoptionRequestId)
+            .column("Pet Name", 20, request -> request.getPetName() != null ? request.getPetName() : "Unknown")
+            .column("Adopter Name", 20, request -> request.getAdopterName() != null ? request.getAdopterName() : "Unknown")
+            .column("Date", 12, AdoptionRequestView::getRequestDate)
+            .column("Status", 10, AdoptionRequestView::getStatus)
+            .column("Approval", 12, AdoptionRequestView::getApprovalDate)
+            .print(requests);
     }
     
     /**
      * Displays detailed information about an adoption request
      */
-    private void displayRequestDetails(AdoptionRequest request) {
+    private void displayRequestDetails(AdoptionRequestView request) {
         System.out.println("\n" + "-".repeat(50));
         System.out.println("Adoption Request Details:");
         System.out.println("-".repeat(50));
@@ -558,20 +547,13 @@ public class AdoptionRequestDashboard {
         System.out.println("User ID: " + (request.getUserId() != null ? request.getUserId() : "N/A"));
         
         // Display pet and adopter details
-        try {
-            Pet pet = petCRUD.getPetById(request.getPetId());
-            if (pet != null) {
-                System.out.println("\nPet: " + pet.getPetName() + " (" + pet.getAdoptionStatus() + ")");
-            }
-            
-            Adopter adopter = adopterCRUD.getAdopterById(request.getAdopterId());
-            if (adopter != null) {
-                System.out.println("Adopter: " + adopter.getAdopterName() + " (" + adopter.getAdopterEmail() + ")");
-            }
-        } catch (Exception e) {
-            // Ignore errors in fetching additional details
+        if (request.getPetName() != null) {
+            System.out.println("\nPet: " + request.getPetName() + " (" + request.getPetAdoptionStatus() + ")");
+        }
+        if (request.getAdopterName() != null) {
+            System.out.println("Adopter: " + request.getAdopterName() + " (" + request.getAdopterEmail() + ")");
         }
         
         System.out.println("-".repeat(50));
     }
-}
\ No newline at end of file
+}
@@ -66,11 +66,9 @@ public class PetDashboard {
         InputValidator.displayHeader("ALL PETS");
         
         try {
-            var pets = petCRUD.getAllPets();
-            if (pets.isEmpty()) {
+            int petCount = petCRUD.displayAllPetsTable();
+            if (petCount == 0) {
                 InputValidator.displayWarning("No pets found in the system.");
-            } else {
-                petCRUD.displayPetsTable(pets);
             }
         } catch (Exception e) {
             InputValidator.displayError("An error occurred while retrieving pets: " + e.getMessage());
@@ -93,10 +91,15 @@ public class PetDashboard {
         
         try {
             String searchTerm = InputValidator.getStringInput("Enter name to search: ", false);
-            var pets = petCRUD.searchPetsByName(searchTerm);
+            var pets = petCRUD.searchPetSummariesByName(searchTerm);
             
             if (pets.isEmpty()) {
                 InputValidator.displayWarning("No pets found matching: " + searchTerm);
+                var suggestions = petCRUD.suggestPetSummaries(searchTerm);
+                if (!suggestions.isEmpty()) {
+                    System.out.println("Did you mean:");
+                    petCRUD.displayPetsTable(suggestions);
+                }
             } else {
                 petCRUD.displayPetsTable(pets);
             }
@@ -125,7 +128,7 @@ public class PetDashboard {
         InputValidator.displayHeader("ARCHIVED PETS");
         
         try {
-            var archivedPets = petCRUD.getArchivedPets();
+            var archivedPets = petCRUD.getArchivedPetSummaries();
             if (archivedPets.isEmpty()) {
                 InputValidator.displayWarning("No archived pets found.");
             } else {
@@ -10,6 +10,8 @@ import java.util.List;
  */
 public class UserDashboard {
     
+    private static final int PAGE_SIZE = 50;
+    
     private final UserCRUD userCRUD;
     
     public UserDashboard() {
@@ -111,7 +113,7 @@ public class UserDashboard {
         InputValidator.displayHeader("ALL USERS");
         
         try {
-            List<User> users = userCRUD.getAllUsers();
+            List<User> users = userCRUD.getUsersPage(0, PAGE_SIZE);
             
             if (users.isEmpty()) {
                 System.out.println("No users found.");
@@ -122,13 +124,20 @@ public class UserDashboard {
                 "ID", "Username", "Email", "Role", "Created At");
             System.out.println("-".repeat(85));
             
-            for (User user : users) {
-                System.out.printf("%-5d %-20s %-30s %-10s %-20s%n",
-                    user.getId(),
-                    user.getUsername(),
-                    user.getEmail(),
-                    user.getRole(),
-                    user.getCreatedAt() != null ? user.getCreatedAt().toString() : "N/A");
+            while (true) {
+                for (User user : users) {
+                    System.out.printf("%-5d %-20s %-30s %-10s %-20s%n",
+                        user.getId(),
+                        user.getUsername(),
+                        user.getEmail(),
+                        user.getRole(),
+                        user.getCreatedAt() != null ? user.getCreatedAt().toString() : "N/A");
+                }
+                
+                if (users.size() < PAGE_SIZE || !InputValidator.getConfirmation("Show the next " + PAGE_SIZE + " users?")) {
+                    break;
+                }
+                users = userCRUD.getUsersPage(users.get(users.size() - 1).getId(), PAGE_SIZE);
             }
             
         } catch (Exception e) {
@@ -0,0 +1,15 @@
+package com.furever.database;
+
+/**
+ * Callback for rows written through the CRUD classes
+ */
+@FunctionalInterface
+public interface ChangeListener {
+
+    /**
+     * Called after a row has been inserted, updated, archived or deleted
+     * @param table Name of the table that changed (e.g. tbl_pet)
+     * @param id Primary key of the changed row, or ChangeNotifier.ALL_ROWS when several rows changed
+     */
+    void onChange(String table, int id);
+}
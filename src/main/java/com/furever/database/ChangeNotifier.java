@@ -0,0 +1,82 @@
+package com.furever.database;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process notification of data changes.
+ * CRUD write paths publish the table and row they changed so that caches and
+ * derived data (statistics, lookups) can be invalidated without polling the database.
+ * Changes made by other processes arrive through the change feed and are published with
+ * publishRemote(): they reach the regular listeners but not the local-write listeners.
+ */
+public final class ChangeNotifier {
+
+    /**
+     * Row ID published when a statement touched more than one row
+     */
+    public static final int ALL_ROWS = -1;
+
+    private static final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private static final List<ChangeListener> localListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ChangeNotifier() {}
+
+    /**
+     * Registers a listener for all future changes
+     * @param listener Listener to add
+     */
+    public static void addListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Registers a listener for future changes made by this process only
+     * @param listener Listener to add
+     */
+    public static void addLocalListener(ChangeListener listener) {
+        localListeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener
+     * @param listener Listener to remove
+     */
+    public static void removeListener(ChangeListener listener) {
+        listeners.remove(listener);
+        localListeners.remove(listener);
+    }
+
+    /**
+     * Notifies all listeners that a row changed.
+     * A failing listener is reported and does not stop the others.
+     * @param table Name of the table that changed
+     * @param id Primary key of the changed row, or ALL_ROWS
+     */
+    public static void publish(String table, int id) {
+        notify(localListeners, table, id);
+        notify(listeners, table, id);
+    }
+
+    /**
+     * Notifies the listeners of all changes that another process changed a row
+     * @param table Name of the table that changed
+     * @param id Primary key of the changed row, or ALL_ROWS
+     */
+    public static void publishRemote(String table, int id) {
+        notify(listeners, table, id);
+    }
+
+    private static void notify(List<ChangeListener> targets, String table, int id) {
+        for (ChangeListener listener : targets) {
+            try {
+                listener.onChange(table, id);
+            } catch (RuntimeException e) {
+                System.err.println("Error notifying change listener: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.furever.database;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.DataSource;
+import javax.sql.PooledConnection;
+
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.MysqlConnectionPoolDataSource;
+
+/**
+ * Bounded, thread-safe connection pool for the Pet Adoption System.
+ * Physical connections come from the driver's MysqlConnectionPoolDataSource and are wrapped
+ * in a ReusablePooledConnection, which keeps the server session (and its prepared statements)
+ * between borrows. Closing a borrowed connection fires the driver's connectionClosed event,
+ * which returns the physical connection to the pool instead of closing it.
+ */
+public class ConnectionPool implements DataSource {
+
+    // Connections returned this recently are handed out again without a validation ping
+    private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final MysqlConnectionPoolDataSource dataSource;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long borrowTimeoutMillis;
+    private final int validationTimeoutSeconds;
+
+    private final Semaphore permits;
+    private final Lock idleLock = new ReentrantLock();
+    private final Deque<IdleConnection> idleConnections = new ArrayDeque<>();
+    private final Set<PooledConnection> checkedOut = ConcurrentHashMap.newKeySet();
+    private final ConnectionEventListener eventListener = new PoolEventListener();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed = false;
+
+    // Pool metrics
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder destroyedCount = new LongAdder();
+    private final LongAdder catalogPrepareCount = new LongAdder();
+
+    /**
+     * Creates a new connection pool
+     * @param dataSource Driver data source used to open physical connections
+     * @param minSize Number of physical connections kept open while idle
+     * @param maxSize Maximum number of connections borrowed at the same time
+     * @param idleTimeoutMillis Idle time after which connections above minSize are closed
+     * @param borrowTimeoutMillis Maximum time a caller waits for a free connection
+     * @param validationTimeoutSeconds Timeout for the validation ping on borrow
+     */
+    public ConnectionPool(MysqlConnectionPoolDataSource dataSource, int minSize, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis, int validationTimeoutSeconds) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min=" + minSize + ", max=" + maxSize);
+        }
+        this.dataSource = dataSource;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "furever-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 4);
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection from the pool, waiting up to the borrow timeout
+     * @return Connection whose close() returns it to the pool
+     * @throws SQLException if the pool is closed, the wait times out or no valid connection can be opened
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been shut down.");
+        }
+
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+
+        if (!acquired) {
+            timeoutCount.increment();
+            throw new SQLTransientConnectionException("Timed out after " + borrowTimeoutMillis
+                    + " ms waiting for a database connection (pool size " + maxSize + ").");
+        }
+        recordWait(System.nanoTime() - waitStart);
+
+        try {
+            return checkOut();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections always use the configured credentials.");
+    }
+
+    /**
+     * Takes an idle connection (validating it) or opens a new one; caller holds a permit
+     */
+    private Connection checkOut() throws SQLException {
+        IdleConnection idle;
+        while ((idle = pollIdle()) != null) {
+            Connection handle = activate(idle.pooledConnection, idle.returnedAtNanos);
+            if (handle != null) {
+                return handle;
+            }
+        }
+
+        ReusablePooledConnection pooledConnection = openPhysicalConnection();
+        try {
+            Connection handle = pooledConnection.getConnection();
+            checkedOut.add(pooledConnection);
+            catalogPrepareCount.add(pooledConnection.prepareCatalog(handle));
+            return handle;
+        } catch (SQLException e) {
+            destroy(pooledConnection);
+            throw e;
+        }
+    }
+
+    /**
+     * Hands out a logical handle for a pooled connection, or destroys it if it fails validation
+     * @return Logical connection handle, or null if the physical connection is no longer usable
+     */
+    private Connection activate(ReusablePooledConnection pooledConnection, long returnedAtNanos) {
+        try {
+            Connection handle = pooledConnection.getConnection();
+            if (System.nanoTime() - returnedAtNanos > VALIDATION_BYPASS_NANOS
+                    && !handle.isValid(validationTimeoutSeconds)) {
+                destroy(pooledConnection);
+                return null;
+            }
+            checkedOut.add(pooledConnection);
+            catalogPrepareCount.add(pooledConnection.prepareCatalog(handle));
+            return handle;
+        } catch (SQLException e) {
+            destroy(pooledConnection);
+            return null;
+        }
+    }
+
+    private ReusablePooledConnection openPhysicalConnection() throws SQLException {
+        ReusablePooledConnection pooledConnection =
+                new ReusablePooledConnection((JdbcConnection) dataSource.getConnection());
+        pooledConnection.addConnectionEventListener(eventListener);
+        totalConnections.incrementAndGet();
+        createdCount.increment();
+        return pooledConnection;
+    }
+
+    private IdleConnection pollIdle() {
+        idleLock.lock();
+        try {
+            return idleConnections.pollFirst();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void returnToPool(ReusablePooledConnection pooledConnection) {
+        if (closed) {
+            destroy(pooledConnection);
+            return;
+        }
+        idleLock.lock();
+        try {
+            // Most recently used first, so the oldest connections age out at the tail
+            idleConnections.offerFirst(new IdleConnection(pooledConnection, System.nanoTime()));
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void destroy(PooledConnection pooledConnection) {
+        try {
+            // Closing the pooled connection also drops its event listeners
+            pooledConnection.close();
+        } catch (SQLException e) {
+            // Physical connection is already broken; nothing else to release
+        }
+        totalConnections.decrementAndGet();
+        destroyedCount.increment();
+    }
+
+    private void recordWait(long waitNanos) {
+        borrowCount.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Closes connections idle longer than the idle timeout and tops the pool back up to minSize
+     */
+    private void housekeep() {
+        if (closed) {
+            return;
+        }
+
+        List<PooledConnection> expired = new ArrayList<>();
+        long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        idleLock.lock();
+        try {
+            Iterator<IdleConnection> oldestFirst = idleConnections.descendingIterator();
+            int remaining = totalConnections.get();
+            while (oldestFirst.hasNext() && remaining > minSize) {
+                IdleConnection idle = oldestFirst.next();
+                if (idle.returnedAtNanos - cutoff >= 0) {
+                    break;
+                }
+                oldestFirst.remove();
+                expired.add(idle.pooledConnection);
+                remaining--;
+            }
+        } finally {
+            idleLock.unlock();
+        }
+        expired.forEach(this::destroy);
+
+        try {
+            while (!closed && totalConnections.get() < minSize) {
+                returnToPool(openPhysicalConnection());
+            }
+        } catch (SQLException e) {
+            System.err.println("Connection pool could not open idle connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Closes all idle connections and stops handing out new ones.
+     * Connections still borrowed are closed when they are returned.
+     */
+    public void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+
+        List<PooledConnection> idle = new ArrayList<>();
+        idleLock.lock();
+        try {
+            for (IdleConnection connection : idleConnections) {
+                idle.add(connection.pooledConnection);
+            }
+            idleConnections.clear();
+        } finally {
+            idleLock.unlock();
+        }
+        idle.forEach(this::destroy);
+    }
+
+    /**
+     * Gets a snapshot of the pool metrics
+     * @return PoolStats with active, idle and wait-time figures
+     */
+    public PoolStats getStats() {
+        int idle;
+        idleLock.lock();
+        try {
+            idle = idleConnections.size();
+        } finally {
+            idleLock.unlock();
+        }
+        return new PoolStats(checkedOut.size(), idle, maxSize, borrowCount.sum(), timeoutCount.sum(),
+                totalWaitNanos.sum(), maxWaitNanos.get(), createdCount.sum(), destroyedCount.sum(),
+                catalogPrepareCount.sum());
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isShutdown() {
+        return closed;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("java.util.logging is not used by the connection pool.");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        if (iface.isInstance(dataSource)) {
+            return iface.cast(dataSource);
+        }
+        throw new SQLException("ConnectionPool does not wrap " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this) || iface.isInstance(dataSource);
+    }
+
+    /**
+     * Receives the driver's pooled connection events
+     */
+    private class PoolEventListener implements ConnectionEventListener {
+
+        @Override
+        public void connectionClosed(ConnectionEvent event) {
+            PooledConnection pooledConnection = (PooledConnection) event.getSource();
+            if (checkedOut.remove(pooledConnection)) {
+                returnToPool((ReusablePooledConnection) pooledConnection);
+                permits.release();
+            }
+        }
+
+        @Override
+        public void connectionErrorOccurred(ConnectionEvent event) {
+            PooledConnection pooledConnection = (PooledConnection) event.getSource();
+            if (checkedOut.remove(pooledConnection)) {
+                destroy(pooledConnection);
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Idle pooled connection and the time it was returned
+     */
+    private static class IdleConnection {
+        private final ReusablePooledConnection pooledConnection;
+        private final long returnedAtNanos;
+
+        IdleConnection(ReusablePooledConnection pooledConnection, long returnedAtNanos) {
+            this.pooledConnection = pooledConnection;
+            this.returnedAtNanos = returnedAtNanos;
+        }
+    }
+}
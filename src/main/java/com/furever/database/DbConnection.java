@@ -2,88 +2,310 @@ package com.furever.database;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import com.furever.metrics.QueryMetrics;
+import com.mysql.cj.jdbc.MysqlConnectionPoolDataSource;
 
 /**
  * Database connection class for the Pet Adoption System
- * Handles database connection establishment and management
+ * Handles database connection establishment and management through a shared connection pool
  */
 public class DbConnection {
-    
+
     // Database configuration
     private static final String DB_URL = "jdbc:mysql://localhost:3306/furever";
     private static final String DB_USERNAME = "root";
     private static final String DB_PASSWORD = "";
-    private static final String DRIVER = "com.mysql.cj.jdbc.Driver";
-    
-    private static Connection connection = null;
-    
+
+    // Read replicas of DB_URL's server (e.g. -Dfurever.db.replicas=localhost:3307,localhost:3308).
+    // When set, the pool connects through the driver's replication proxy and read-only
+    // connections are served by a replica; when unset, everything goes to DB_URL.
+    private static final String REPLICA_HOSTS = System.getProperty("furever.db.replicas", "").trim();
+    // Reads of a session stay on the source for this long after its last write, so users see
+    // their own changes even while the replicas lag behind (see DbSession)
+    private static final long READ_YOUR_WRITES_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Long.getLong("furever.db.readYourWritesMillis", 2000L));
+
+    // Connection pool configuration
+    private static final int POOL_MIN_SIZE = 2;
+    private static final int POOL_MAX_SIZE = 10;
+    private static final long POOL_IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+    private static final long POOL_BORROW_TIMEOUT_MILLIS = 10 * 1000L;
+    private static final int POOL_VALIDATION_TIMEOUT_SECONDS = 2;
+
+    // Prepared statement cache configuration (per physical connection)
+    private static final int PREP_STMT_CACHE_SIZE = 256;
+    private static final int PREP_STMT_CACHE_SQL_LIMIT = 2048;
+
+    // Server status counters shown on the Database Status screen
+    private static final String STATEMENT_COUNTERS_SQL =
+            "SHOW GLOBAL STATUS WHERE Variable_name IN " +
+            "('Com_stmt_prepare', 'Com_stmt_execute', 'Com_stmt_close', 'Com_stmt_reprepare', 'Prepared_stmt_count')";
+
+    private static volatile ConnectionPool pool = null;
+
+    static {
+        if (isReadSplittingEnabled()) {
+            // Every CRUD write publishes a change on the writing thread, which marks its session.
+            // Changes of other processes come from the change feed and are no writes of ours.
+            ChangeNotifier.addLocalListener((table, id) -> DbSession.recordWrite());
+        }
+    }
+
     /**
      * Private constructor to prevent instantiation
      */
     private DbConnection() {}
-    
+
     /**
-     * Establishes and returns a database connection
+     * Borrows a connection from the connection pool.
+     * Closing the returned connection gives it back to the pool.
+     * While QueryMetrics is enabled the connection is instrumented for the calling method.
      * @return Connection object
      * @throws SQLException if connection fails
      */
     public static Connection getConnection() throws SQLException {
+        return borrow(false);
+    }
+
+    /**
+     * Borrows a connection for reads only. With read replicas configured, the connection is
+     * marked read-only so the driver serves it from a replica, except within the
+     * read-your-writes window after a write of the current DbSession, when it stays on the source.
+     * Without replicas this is the same as getConnection().
+     * @return Connection object; writing through it fails while it is on a replica
+     * @throws SQLException if connection fails
+     */
+    public static Connection getReadConnection() throws SQLException {
+        return borrow(isReadSplittingEnabled() && !DbSession.current().wroteWithin(READ_YOUR_WRITES_NANOS));
+    }
+
+    /**
+     * Checks whether read-only connections are routed to read replicas
+     * @return true if furever.db.replicas is set
+     */
+    public static boolean isReadSplittingEnabled() {
+        return !REPLICA_HOSTS.isEmpty();
+    }
+
+    private static Connection borrow(boolean readOnly) throws SQLException {
         try {
-            // Load MySQL JDBC driver
-            Class.forName(DRIVER);
-            
-            // Create connection if it doesn't exist or is closed
-            if (connection == null || connection.isClosed()) {
-                connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
-                // Connection established - ready for database operations
+            long borrowStart = System.nanoTime();
+            Connection conn = getPool().getConnection();
+            // Pooled connections keep the flag of their last borrower; switching it moves the
+            // replication proxy between the source and a replica, so only change it when needed
+            if (isReadSplittingEnabled() && conn.isReadOnly() != readOnly) {
+                try {
+                    conn.setReadOnly(readOnly);
+                } catch (SQLException e) {
+                    conn.close();
+                    throw e;
+                }
             }
-            
-            return connection;
-            
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("MySQL JDBC Driver not found. Please add mysql-connector-java to your classpath.", e);
+            return QueryMetrics.instrument(conn, borrowStart);
         } catch (SQLException e) {
             throw new SQLException("Failed to establish database connection: " + e.getMessage(), e);
         }
     }
-    
+
     /**
-     * Closes the database connection
+     * Borrows a connection from another data source, e.g. a shard pool, instrumented like
+     * getConnection() while QueryMetrics is enabled
+     * @param dataSource Data source to borrow from
+     * @return Connection object
+     * @throws SQLException if connection fails
      */
-    public static void closeConnection() {
+    public static Connection getConnection(DataSource dataSource) throws SQLException {
         try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                // Connection closed successfully
-            }
+            long borrowStart = System.nanoTime();
+            return QueryMetrics.instrument(dataSource.getConnection(), borrowStart);
         } catch (SQLException e) {
-            System.err.println("Error closing database connection: " + e.getMessage());
+            throw new SQLException("Failed to establish database connection: " + e.getMessage(), e);
         }
     }
-    
+
+    /**
+     * Gets the pooled data source used by the application
+     * @return DataSource backed by the connection pool
+     * @throws SQLException if the pool cannot be created
+     */
+    public static DataSource getDataSource() throws SQLException {
+        return getPool();
+    }
+
+    /**
+     * Opens a new physical connection that bypasses the pool.
+     * Only meant for tools that measure the cost of unpooled access; the caller must close it.
+     * @return Connection object
+     * @throws SQLException if connection fails
+     */
+    public static Connection openUnpooledConnection() throws SQLException {
+        return DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
+    }
+
+    /**
+     * Prepares a forward-only, read-only statement whose results are streamed row by row.
+     * MySQL Connector/J only streams when the fetch size is Integer.MIN_VALUE; otherwise it
+     * buffers the whole result set in memory before the first row is returned.
+     * The connection cannot run other statements until the streamed result set is closed.
+     * @param conn Connection to prepare the statement on
+     * @param sql SQL query to prepare
+     * @return PreparedStatement configured for row streaming
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public static PreparedStatement prepareStreamingStatement(Connection conn, String sql) throws SQLException {
+        PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        pstmt.setFetchSize(Integer.MIN_VALUE);
+        return pstmt;
+    }
+
+    /**
+     * Lazily creates the shared connection pool
+     */
+    private static ConnectionPool getPool() throws SQLException {
+        ConnectionPool current = pool;
+        if (current == null) {
+            synchronized (DbConnection.class) {
+                if (pool == null) {
+                    pool = createPool();
+                }
+                current = pool;
+            }
+        }
+        return current;
+    }
+
+    private static ConnectionPool createPool() throws SQLException {
+        return createPool(getDatabaseUrl(), null);
+    }
+
+    /**
+     * Creates a connection pool with the application's driver and pool settings for another
+     * database, e.g. a shard. Uses the configured credentials.
+     * @param url JDBC URL of the database
+     * @param sessionVariables MySQL session variables set on every connection
+     *        (e.g. "auto_increment_offset=2"), or null for none
+     * @return New ConnectionPool; the caller shuts it down
+     * @throws SQLException if the driver rejects the settings
+     */
+    public static ConnectionPool createPool(String url, String sessionVariables) throws SQLException {
+        MysqlConnectionPoolDataSource dataSource = new MysqlConnectionPoolDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser(DB_USERNAME);
+        dataSource.setPassword(DB_PASSWORD);
+        // Let the driver send JDBC batches of inserts as multi-row INSERT statements
+        dataSource.setRewriteBatchedStatements(true);
+        // Prepare statements on the server once per connection and keep them cached
+        // across borrows; SqlCatalog statements are prepared when a connection is first used
+        dataSource.setUseServerPrepStmts(true);
+        dataSource.setCachePrepStmts(true);
+        dataSource.setPrepStmtCacheSize(PREP_STMT_CACHE_SIZE);
+        dataSource.setPrepStmtCacheSqlLimit(PREP_STMT_CACHE_SQL_LIMIT);
+        dataSource.setCacheResultSetMetadata(true);
+        // Track autocommit locally so restoring it after a transaction needs no round trip
+        dataSource.setUseLocalSessionState(true);
+        if (sessionVariables != null) {
+            dataSource.setSessionVariables(sessionVariables);
+        }
+        // Replication URLs only: keep reading from the source while no replica is reachable,
+        // and rely on the replicas' read_only setting instead of sending
+        // SET SESSION TRANSACTION READ ONLY on every switch
+        dataSource.setReadFromSourceWhenNoReplicas(true);
+        dataSource.setReadOnlyPropagatesToServer(false);
+
+        return new ConnectionPool(dataSource, POOL_MIN_SIZE, POOL_MAX_SIZE,
+                POOL_IDLE_TIMEOUT_MILLIS, POOL_BORROW_TIMEOUT_MILLIS, POOL_VALIDATION_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Shuts down the connection pool and closes all pooled connections
+     */
+    public static void closeConnection() {
+        synchronized (DbConnection.class) {
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+            }
+        }
+    }
+
     /**
      * Tests the database connection
      * @return true if connection is successful, false otherwise
      */
     public static boolean testConnection() {
-        try {
-            Connection testConn = getConnection();
-            return testConn != null && !testConn.isClosed();
+        try (Connection testConn = getConnection()) {
+            return testConn.isValid(POOL_VALIDATION_TIMEOUT_SECONDS);
         } catch (SQLException e) {
             System.err.println("Database connection test failed: " + e.getMessage());
             return false;
         }
     }
-    
+
+    /**
+     * Gets the current connection pool metrics
+     * @return PoolStats snapshot, or null if the pool has not been created yet
+     */
+    public static PoolStats getPoolStats() {
+        ConnectionPool current = pool;
+        return current != null ? current.getStats() : null;
+    }
+
+    /**
+     * Reads the server's prepared statement counters (Com_stmt_prepare, Com_stmt_execute, ...).
+     * The counters are server-wide, so a high execute-to-prepare ratio confirms statement reuse.
+     * @return Counter values by name, empty if they cannot be read
+     */
+    public static Map<String, Long> getServerStatementCounters() {
+        Map<String, Long> counters = new LinkedHashMap<>();
+
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(STATEMENT_COUNTERS_SQL)) {
+
+            while (rs.next()) {
+                counters.put(rs.getString(1), rs.getLong(2));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error reading statement counters: " + e.getMessage());
+        }
+
+        return counters;
+    }
+
     /**
-     * Gets the database URL
+     * Gets the maximum number of connections the pool hands out at the same time
+     * @return configured pool size
+     */
+    public static int getPoolMaxSize() {
+        return POOL_MAX_SIZE;
+    }
+
+    /**
+     * Gets the database URL, as a jdbc:mysql:replication:// URL listing the source and
+     * the replicas when read splitting is enabled
      * @return database URL string
      */
     public static String getDatabaseUrl() {
-        return DB_URL;
+        if (!isReadSplittingEnabled()) {
+            return DB_URL;
+        }
+        String hostAndDatabase = DB_URL.substring("jdbc:mysql://".length());
+        int slash = hostAndDatabase.indexOf('/');
+        return "jdbc:mysql:replication://" + hostAndDatabase.substring(0, slash) + "," + REPLICA_HOSTS
+                + hostAndDatabase.substring(slash);
     }
-    
+
     /**
      * Gets the database username
      * @return database username
@@ -91,4 +313,4 @@ public class DbConnection {
     public static String getDatabaseUsername() {
         return DB_USERNAME;
     }
-}
\ No newline at end of file
+}
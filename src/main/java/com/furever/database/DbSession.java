@@ -0,0 +1,80 @@
+package com.furever.database;
+
+/**
+ * Read-your-writes scope for read splitting.
+ * A session stands for one user of the data: the console user, or one API request. It is
+ * bound to the thread doing that user's work; every change published through ChangeNotifier
+ * on that thread marks the session, and DbConnection keeps the session's reads on the source
+ * for a short while afterwards, so users see their own changes while the replicas catch up.
+ * Writes of one session do not move the reads of other sessions off the replicas.
+ *
+ * Threads without a bound session (change listeners, background services) share a background
+ * session that every write marks, so a listener re-reading a row it was just told about reads
+ * it from the source.
+ */
+public final class DbSession {
+
+    private static final DbSession BACKGROUND = new DbSession();
+    private static final ThreadLocal<DbSession> CURRENT = new ThreadLocal<>();
+
+    private volatile boolean written = false;
+    private volatile long lastWriteNanos = 0;
+
+    /**
+     * Gets the session bound to the current thread
+     * @return Bound session, or the background session if none is bound
+     */
+    public static DbSession current() {
+        DbSession session = CURRENT.get();
+        return session != null ? session : BACKGROUND;
+    }
+
+    /**
+     * Binds a session to the current thread
+     * @param session Session to bind
+     * @return Previously bound session (null if none), to be passed to restore()
+     */
+    public static DbSession bind(DbSession session) {
+        DbSession previous = CURRENT.get();
+        CURRENT.set(session);
+        return previous;
+    }
+
+    /**
+     * Restores the binding that bind() replaced
+     * @param previous Session returned by bind()
+     */
+    public static void restore(DbSession previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Records a write of the current thread's session
+     */
+    static void recordWrite() {
+        long now = System.nanoTime();
+        DbSession session = CURRENT.get();
+        if (session != null) {
+            session.markWritten(now);
+        }
+        BACKGROUND.markWritten(now);
+    }
+
+    private void markWritten(long nanos) {
+        lastWriteNanos = nanos;
+        written = true;
+    }
+
+    /**
+     * Checks whether this session wrote recently
+     * @param windowNanos Length of the window
+     * @return true if the session's last write is at most windowNanos old
+     */
+    public boolean wroteWithin(long windowNanos) {
+        return written && System.nanoTime() - lastWriteNanos <= windowNanos;
+    }
+}
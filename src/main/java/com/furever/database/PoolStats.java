@@ -0,0 +1,99 @@
+package com.furever.database;
+
+/**
+ * Immutable snapshot of connection pool metrics
+ */
+public class PoolStats {
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int maxSize;
+    private final long borrowCount;
+    private final long timeoutCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final long createdCount;
+    private final long destroyedCount;
+    private final long catalogPrepareCount;
+
+    public PoolStats(int activeConnections, int idleConnections, int maxSize, long borrowCount, long timeoutCount,
+                     long totalWaitNanos, long maxWaitNanos, long createdCount, long destroyedCount,
+                     long catalogPrepareCount) {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.maxSize = maxSize;
+        this.borrowCount = borrowCount;
+        this.timeoutCount = timeoutCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.createdCount = createdCount;
+        this.destroyedCount = destroyedCount;
+        this.catalogPrepareCount = catalogPrepareCount;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public long getDestroyedCount() {
+        return destroyedCount;
+    }
+
+    /**
+     * Gets the number of SqlCatalog statements prepared on pooled connections
+     * @return catalog statements prepared across all connections opened so far
+     */
+    public long getCatalogPrepareCount() {
+        return catalogPrepareCount;
+    }
+
+    /**
+     * Gets the average time callers waited to borrow a connection
+     * @return average wait in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        return borrowCount == 0 ? 0.0 : totalWaitNanos / (double) borrowCount / 1_000_000.0;
+    }
+
+    /**
+     * Gets the longest time a caller waited to borrow a connection
+     * @return maximum wait in milliseconds
+     */
+    public double getMaxWaitMillis() {
+        return maxWaitNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{" +
+                "active=" + activeConnections +
+                ", idle=" + idleConnections +
+                ", maxSize=" + maxSize +
+                ", borrows=" + borrowCount +
+                ", timeouts=" + timeoutCount +
+                ", avgWaitMs=" + String.format("%.3f", getAverageWaitMillis()) +
+                ", maxWaitMs=" + String.format("%.3f", getMaxWaitMillis()) +
+                ", created=" + createdCount +
+                ", destroyed=" + destroyedCount +
+                '}';
+    }
+}
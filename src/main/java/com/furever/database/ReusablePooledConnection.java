@@ -0,0 +1,62 @@
+package com.furever.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.MysqlPooledConnection;
+
+/**
+ * Pooled physical connection that keeps its server session between borrows.
+ * The driver's MysqlPooledConnection resets the session every time a handle is handed out,
+ * which also deallocates every server-side prepared statement and defeats cachePrepStmts.
+ * The application only changes autocommit on pooled connections, so the reset is skipped
+ * and a transaction left open by the previous borrower is rolled back instead.
+ */
+class ReusablePooledConnection extends MysqlPooledConnection {
+
+    // Number of SqlCatalog entries already prepared on this connection
+    private int preparedCatalogSize = 0;
+
+    ReusablePooledConnection(JdbcConnection physicalConnection) {
+        super(physicalConnection);
+    }
+
+    /**
+     * Hands out a logical handle without resetting the server session
+     * @return Logical connection handle
+     * @throws SQLException if the physical connection is closed or broken
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection handle = getConnection(false, false);
+        if (!handle.getAutoCommit()) {
+            handle.rollback();
+            handle.setAutoCommit(true);
+        }
+        return handle;
+    }
+
+    /**
+     * Prepares catalog statements registered since this connection was last borrowed.
+     * Closing a cached prepared statement returns it to the driver's cache, so later
+     * prepareStatement calls with the same SQL reuse it.
+     * @param handle Logical handle of this connection
+     * @return Number of statements prepared
+     */
+    int prepareCatalog(Connection handle) {
+        List<String> statements = SqlCatalog.getStatements();
+        int prepared = 0;
+        while (preparedCatalogSize < statements.size()) {
+            String sql = statements.get(preparedCatalogSize++);
+            try {
+                handle.prepareStatement(sql).close();
+                prepared++;
+            } catch (SQLException e) {
+                System.err.println("Error preparing catalog statement: " + e.getMessage());
+            }
+        }
+        return prepared;
+    }
+}
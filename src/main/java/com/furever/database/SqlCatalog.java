@@ -0,0 +1,49 @@
+package com.furever.database;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the application's hot SQL statements.
+ * Every pooled connection prepares the registered statements once, so later calls with the
+ * same SQL text are served from the driver's prepared statement cache instead of being
+ * parsed and prepared on the server again. CRUD classes register their statements in
+ * static constants; statements registered after a connection was opened are prepared the
+ * next time that connection is borrowed.
+ */
+public final class SqlCatalog {
+
+    private static final CopyOnWriteArrayList<String> statements = new CopyOnWriteArrayList<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private SqlCatalog() {}
+
+    /**
+     * Registers a statement to be prepared on every pooled connection
+     * @param sql SQL text exactly as it is passed to prepareStatement
+     * @return the same SQL text, so the call can initialise a constant
+     */
+    public static String register(String sql) {
+        statements.addIfAbsent(sql);
+        return sql;
+    }
+
+    /**
+     * Gets the registered statements; entries are only ever appended
+     * @return read-only view of the catalog in registration order
+     */
+    static List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    /**
+     * Gets the number of registered statements
+     * @return catalog size
+     */
+    public static int size() {
+        return statements.size();
+    }
+}
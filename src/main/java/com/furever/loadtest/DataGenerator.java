@@ -0,0 +1,477 @@
+package com.furever.loadtest;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import com.furever.database.DbConnection;
+
+/**
+ * Generates realistic data volumes for scale testing, e.g. 1M pets, 500k adopters and
+ * 5M adoption requests. Status distributions are skewed the way a real shelter's are
+ * (most requests rejected, a few pets attracting most requests) and rows are loaded with
+ * batched multi-row inserts, one transaction per batch.
+ * Every generated row is tagged with the "lt_" prefix so it can be removed again with clean.
+ *
+ * Usage:
+ *   java com.furever.loadtest.DataGenerator generate pets adopters requests [owners] [seed]
+ *   java com.furever.loadtest.DataGenerator clean
+ */
+public class DataGenerator {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final long DEFAULT_SEED = 42L;
+
+    // Marks generated rows: usernames start with it, requests carry it as their remarks
+    static final String MARKER = "lt_";
+    // LIKE pattern for the marker; the underscore is escaped so it is not a wildcard
+    private static final String MARKER_PATTERN = "lt\\_%";
+
+    static final String[] PET_NAMES = {
+        "Buddy", "Max", "Bella", "Luna", "Charlie", "Lucy", "Cooper", "Daisy", "Rocky", "Molly",
+        "Bear", "Sadie", "Duke", "Maggie", "Tucker", "Sophie", "Oliver", "Chloe", "Milo", "Coco",
+        "Mittens", "Shadow", "Simba", "Nala", "Tiger", "Smokey", "Oreo", "Pepper", "Ginger", "Whiskers"
+    };
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Mark", "John", "Theresa", "Maria", "Jose", "Ana", "Miguel", "Grace", "Paolo",
+        "Carmen", "Rafael", "Liza", "Andres", "Nina", "Carlo", "Bea", "Diego", "Isabel", "Tomas"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Johnson", "Cruz", "Santos", "Reyes", "Garcia", "Mendoza", "Torres", "Flores", "Ramos", "Bautista",
+        "Villanueva", "Aquino", "Castillo", "Navarro", "Domingo"
+    };
+
+    private static final String[] TRAITS = {
+        "playful", "calm", "shy", "friendly", "energetic", "gentle", "curious", "loyal", "independent", "affectionate"
+    };
+
+    // The username column links to a login in users, so generated profiles leave it empty
+    private static final String INSERT_OWNER_SQL =
+            "INSERT INTO tbl_pet_owner (pet_owner_name, pet_owner_contact, pet_owner_email, pet_owner_address, " +
+            "pet_owner_username) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ADOPTER_SQL =
+            "INSERT INTO tbl_adopter (adopter_name, adopter_contact, adopter_email, adopter_address, " +
+            "adopter_username) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PET_SQL =
+            "INSERT INTO tbl_pet (pet_owner_id, pet_name, pet_type_id, description, age, gender, health_status, " +
+            "vaccination_status, adoption_status, date_registered, archived, archived_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Duplicate (adopter, pet, status) combinations are skipped by the unique key
+    private static final String INSERT_REQUEST_SQL =
+            "INSERT IGNORE INTO tbl_adoption_request (pet_id, adopter_id, request_date, status, approval_date, remarks) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    private static final int HISTORY_DAYS = 730;
+
+    private final Random random;
+    private final int batchSize;
+    private final String runTag;
+
+    /**
+     * Creates a generator
+     * @param seed Random seed; the same seed produces the same data
+     * @param batchSize Rows per batch and transaction
+     */
+    public DataGenerator(long seed, int batchSize) {
+        this.random = new Random(seed);
+        this.batchSize = batchSize;
+        // Keeps usernames unique when the generator runs more than once
+        this.runTag = Long.toString(System.currentTimeMillis() % 1_000_000_000L, 36);
+    }
+
+    /**
+     * Generates pet owners
+     * @param count Number of owners to insert
+     * @return Generated owner IDs
+     */
+    public int[] generatePetOwners(int count) throws SQLException {
+        return insertWithKeys("pet owners", INSERT_OWNER_SQL, count, (pstmt, i) -> {
+            String name = personName();
+            String username = MARKER + "owner_" + runTag + "_" + i;
+            pstmt.setString(1, name);
+            pstmt.setString(2, phoneNumber());
+            pstmt.setString(3, username + "@example.com");
+            pstmt.setString(4, address());
+            pstmt.setString(5, username);
+        });
+    }
+
+    /**
+     * Generates adopters
+     * @param count Number of adopters to insert
+     * @return Generated adopter IDs
+     */
+    public int[] generateAdopters(int count) throws SQLException {
+        return insertWithKeys("adopters", INSERT_ADOPTER_SQL, count, (pstmt, i) -> {
+            String name = personName();
+            String username = MARKER + "adopter_" + runTag + "_" + i;
+            pstmt.setString(1, name);
+            pstmt.setString(2, phoneNumber());
+            pstmt.setString(3, username + "@example.com");
+            pstmt.setString(4, address());
+            pstmt.setString(5, username);
+        });
+    }
+
+    /**
+     * Generates pets. About 55% are Available, 10% Pending and 35% Adopted; 5% are archived.
+     * Owners follow a skewed distribution so a few shelters own most pets.
+     * @param count Number of pets to insert
+     * @param ownerIds Owners to assign pets to
+     * @param petTypeIds Existing pet type IDs; earlier types are more common
+     * @param adoptedOut Receives the index of every generated pet that is Adopted
+     * @return Generated pet IDs
+     */
+    public int[] generatePets(int count, int[] ownerIds, int[] petTypeIds, BitSet adoptedOut) throws SQLException {
+        return insertWithKeys("pets", INSERT_PET_SQL, count, (pstmt, i) -> {
+            String status = pick(new String[] {"Available", "Pending", "Adopted"}, new int[] {55, 10, 35});
+            if ("Adopted".equals(status)) {
+                adoptedOut.set(i);
+            }
+            boolean archived = random.nextInt(100) < 5;
+
+            pstmt.setInt(1, ownerIds[skewedIndex(ownerIds.length)]);
+            pstmt.setString(2, PET_NAMES[random.nextInt(PET_NAMES.length)]);
+            pstmt.setInt(3, petTypeIds[skewedIndex(petTypeIds.length)]);
+            pstmt.setString(4, description());
+            pstmt.setInt(5, (int) Math.min(20, Math.abs(random.nextGaussian() * 4)));
+            pstmt.setString(6, random.nextBoolean() ? "Male" : "Female");
+            pstmt.setString(7, random.nextInt(100) < 85 ? "Healthy" : "Needs Treatment");
+            pstmt.setString(8, random.nextInt(100) < 70 ? "Vaccinated" : "Not Vaccinated");
+            pstmt.setString(9, status);
+            pstmt.setDate(10, pastDate());
+            pstmt.setBoolean(11, archived);
+            pstmt.setTimestamp(12, archived ? new Timestamp(System.currentTimeMillis()) : null);
+        });
+    }
+
+    /**
+     * Generates adoption requests. Popular pets receive most requests; about 60% of requests
+     * are Rejected, 25% Pending and 15% Approved, with at most one approval per adopted pet.
+     * @param count Number of requests to insert
+     * @param petIds Generated pet IDs
+     * @param adopterIds Generated adopter IDs
+     * @param adopted Indexes of pets that are Adopted
+     * @return Number of requests inserted (duplicates are skipped); counted from the table, so
+     *         other writers must not add or remove requests while this runs
+     */
+    public long generateRequests(long count, int[] petIds, int[] adopterIds, BitSet adopted) throws SQLException {
+        BitSet approved = new BitSet(petIds.length);
+
+        Connection conn = null;
+        try {
+            conn = DbConnection.getConnection();
+            // INSERT IGNORE skips requests that repeat an adopter, pet and status. The driver
+            // rewrites the batch into multi-row INSERTs and then reports SUCCESS_NO_INFO for
+            // every row, skipped or not, so the inserted rows are counted from the table.
+            long before = countRequests(conn);
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = conn.prepareStatement(INSERT_REQUEST_SQL)) {
+                long start = System.nanoTime();
+                for (long i = 0; i < count; i++) {
+                    int petIndex = skewedIndex(petIds.length);
+                    String status = pick(new String[] {"Rejected", "Pending", "Approved"}, new int[] {60, 25, 15});
+                    if ("Approved".equals(status)) {
+                        // The pets are new and get at most one approval, so an approval
+                        // never repeats an adopter, pet and status and is never skipped
+                        if (adopted.get(petIndex) && !approved.get(petIndex)) {
+                            approved.set(petIndex);
+                        } else {
+                            status = "Rejected";
+                        }
+                    }
+                    Date requestDate = pastDate();
+
+                    pstmt.setInt(1, petIds[petIndex]);
+                    pstmt.setInt(2, adopterIds[random.nextInt(adopterIds.length)]);
+                    pstmt.setDate(3, requestDate);
+                    pstmt.setString(4, status);
+                    pstmt.setDate(5, "Approved".equals(status) ? requestDate : null);
+                    pstmt.setString(6, MARKER + "generated");
+                    pstmt.addBatch();
+
+                    if ((i + 1) % batchSize == 0 || i + 1 == count) {
+                        pstmt.executeBatch();
+                        conn.commit();
+                        reportProgress("adoption requests", i + 1, count, start);
+                    }
+                }
+            }
+
+            conn.setAutoCommit(true);
+            return countRequests(conn) - before;
+
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    System.err.println("Error rolling back request batch: " + rollbackEx.getMessage());
+                }
+            }
+            throw e;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static long countRequests(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM tbl_adoption_request")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Deletes every generated row, children first, in batches
+     * @return Total number of rows deleted
+     */
+    public long clean() throws SQLException {
+        String[] deletes = {
+            "DELETE FROM tbl_adoption_request WHERE remarks LIKE '" + MARKER_PATTERN + "' LIMIT " + batchSize,
+            "DELETE r FROM tbl_adoption_request r JOIN tbl_adopter a ON a.adopter_id = r.adopter_id " +
+                "WHERE a.adopter_username LIKE '" + MARKER_PATTERN + "'",
+            "DELETE r FROM tbl_adoption_request r JOIN tbl_pet p ON p.pet_id = r.pet_id " +
+                "JOIN tbl_pet_owner o ON o.pet_owner_id = p.pet_owner_id WHERE o.pet_owner_username LIKE '" + MARKER_PATTERN + "'",
+            "DELETE FROM tbl_pet WHERE pet_owner_id IN (SELECT pet_owner_id FROM tbl_pet_owner " +
+                "WHERE pet_owner_username LIKE '" + MARKER_PATTERN + "') LIMIT " + batchSize,
+            "DELETE FROM tbl_adopter WHERE adopter_username LIKE '" + MARKER_PATTERN + "' LIMIT " + batchSize,
+            "DELETE FROM tbl_pet_owner WHERE pet_owner_username LIKE '" + MARKER_PATTERN + "' LIMIT " + batchSize
+        };
+
+        long total = 0;
+        try (Connection conn = DbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+
+            for (String sql : deletes) {
+                int deleted;
+                do {
+                    deleted = stmt.executeUpdate(sql);
+                    total += deleted;
+                } while (deleted > 0 && sql.contains(" LIMIT "));
+            }
+        }
+        return total;
+    }
+
+    // Insert helpers
+
+    /**
+     * Binds one row's parameters
+     */
+    private interface RowBinder {
+        void bind(PreparedStatement pstmt, int index) throws SQLException;
+    }
+
+    private int[] insertWithKeys(String entity, String sql, int count, RowBinder binder) throws SQLException {
+        int[] ids = new int[count];
+        int filled = 0;
+
+        Connection conn = null;
+        try {
+            conn = DbConnection.getConnection();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                long start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    binder.bind(pstmt, i);
+                    pstmt.addBatch();
+
+                    if ((i + 1) % batchSize == 0 || i + 1 == count) {
+                        pstmt.executeBatch();
+                        try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                            while (keys.next() && filled < count) {
+                                ids[filled++] = keys.getInt(1);
+                            }
+                        }
+                        conn.commit();
+                        reportProgress(entity, i + 1, count, start);
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    System.err.println("Error rolling back " + entity + " batch: " + rollbackEx.getMessage());
+                }
+            }
+            throw e;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing connection: " + e.getMessage());
+                }
+            }
+        }
+
+        if (filled < count) {
+            int[] trimmed = new int[filled];
+            System.arraycopy(ids, 0, trimmed, 0, filled);
+            return trimmed;
+        }
+        return ids;
+    }
+
+    private void reportProgress(String entity, long done, long total, long startNanos) {
+        if (done % (batchSize * 100L) != 0 && done != total) {
+            return;
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.printf("  %-18s %,12d / %,d  (%,.0f rows/s)%n", entity, done, total, done / Math.max(seconds, 0.001));
+    }
+
+    // Value generators
+
+    /**
+     * Picks an index in [0, size) where low indexes are much more likely (roughly Zipf-like)
+     */
+    private int skewedIndex(int size) {
+        double u = random.nextDouble();
+        return (int) (size * u * u * u);
+    }
+
+    private String pick(String[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private String personName() {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private String phoneNumber() {
+        return String.format("09%09d", random.nextInt(1_000_000_000));
+    }
+
+    private String address() {
+        return (1 + random.nextInt(999)) + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " St.";
+    }
+
+    private String description() {
+        StringBuilder text = new StringBuilder("A ")
+                .append(TRAITS[random.nextInt(TRAITS.length)]).append(" and ")
+                .append(TRAITS[random.nextInt(TRAITS.length)]).append(" companion");
+        // Some long descriptions, like the free-text ones entered in the menus
+        int sentences = random.nextInt(100) < 20 ? 5 + random.nextInt(20) : 1;
+        for (int i = 1; i < sentences; i++) {
+            text.append(". Loves ").append(TRAITS[random.nextInt(TRAITS.length)]).append(" people and long walks");
+        }
+        return text.append('.').toString();
+    }
+
+    private Date pastDate() {
+        long daysAgo = random.nextInt(HISTORY_DAYS);
+        return new Date(System.currentTimeMillis() - daysAgo * DAY_MILLIS);
+    }
+
+    private static int[] loadPetTypeIds() throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (Connection conn = DbConnection.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT pet_type_id FROM tbl_pet_type ORDER BY pet_type_id")) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Runs the generator from the command line
+     * @param args generate pets adopters requests [owners] [seed] | clean
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || !("clean".equals(args[0]) || ("generate".equals(args[0]) && args.length >= 4))) {
+            System.err.println("Usage: java com.furever.loadtest.DataGenerator generate pets adopters requests [owners] [seed]");
+            System.err.println("       java com.furever.loadtest.DataGenerator clean");
+            return;
+        }
+
+        try {
+            if ("clean".equals(args[0])) {
+                long deleted = new DataGenerator(DEFAULT_SEED, DEFAULT_BATCH_SIZE).clean();
+                System.out.println("Deleted " + deleted + " generated rows.");
+                return;
+            }
+
+            int pets = Integer.parseInt(args[1]);
+            int adopters = Integer.parseInt(args[2]);
+            long requests = Long.parseLong(args[3]);
+            int owners = args.length > 4 ? Integer.parseInt(args[4]) : Math.max(1, pets / 200);
+            long seed = args.length > 5 ? Long.parseLong(args[5]) : DEFAULT_SEED;
+
+            int[] petTypeIds = loadPetTypeIds();
+            if (petTypeIds.length == 0) {
+                System.err.println("No pet types found; import furever.sql first.");
+                return;
+            }
+
+            DataGenerator generator = new DataGenerator(seed, DEFAULT_BATCH_SIZE);
+            long start = System.nanoTime();
+
+            System.out.println("Generating " + owners + " pet owners...");
+            int[] ownerIds = generator.generatePetOwners(owners);
+            System.out.println("Generating " + adopters + " adopters...");
+            int[] adopterIds = generator.generateAdopters(adopters);
+            System.out.println("Generating " + pets + " pets...");
+            BitSet adopted = new BitSet(pets);
+            int[] petIds = generator.generatePets(pets, ownerIds, petTypeIds, adopted);
+
+            long insertedRequests = 0;
+            if (requests > 0 && petIds.length > 0 && adopterIds.length > 0) {
+                System.out.println("Generating " + requests + " adoption requests...");
+                insertedRequests = generator.generateRequests(requests, petIds, adopterIds, adopted);
+            }
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("Done in %.1f s: %d owners, %d adopters, %d pets, %d requests (%d duplicates skipped)%n",
+                    seconds, ownerIds.length, adopterIds.length, petIds.length, insertedRequests, requests - insertedRequests);
+
+        } catch (NumberFormatException e) {
+            System.err.println("Counts and seed must be numbers: " + e.getMessage());
+        } catch (SQLException e) {
+            System.err.println("Error generating data: " + e.getMessage());
+        } finally {
+            DbConnection.closeConnection();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.furever.loadtest;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.furever.crud.AdopterCRUD;
+import com.furever.crud.AdoptionRequestCRUD;
+import com.furever.crud.PetCRUD;
+import com.furever.database.DbConnection;
+import com.furever.models.AdoptionRequest;
+import com.furever.search.SearchService;
+import com.furever.service.StatisticsService;
+import com.furever.utils.LatencyHistogram;
+
+/**
+ * Replays a weighted mix of the MainMenu flows against the database from several threads
+ * and reports throughput and p50/p99 latency per operation.
+ * Each worker draws from its own seeded Random, so the same seed replays the same sequence
+ * of operations and IDs. Writes are made, so run it against a scratch database filled by
+ * DataGenerator.
+ *
+ * Usage: java com.furever.loadtest.WorkloadDriver [threads] [opsPerThread] [seed]
+ */
+public class WorkloadDriver {
+
+    public static final int DEFAULT_THREADS = 8;
+    public static final int DEFAULT_OPS_PER_THREAD = 2000;
+    public static final long DEFAULT_SEED = 7L;
+
+    private static final int PAGE_SIZE = 20;
+    private static final String[] REQUEST_STATUSES = {"Pending", "Approved", "Rejected"};
+
+    /**
+     * Operations of the workload, weighted roughly like real menu traffic:
+     * mostly guests browsing and searching, few approvals
+     */
+    enum Operation {
+        BROWSE_AVAILABLE_PETS("Browse available pets", 20),
+        VIEW_PET("View pet details", 20),
+        SEARCH_PETS("Search pets by name", 15),
+        VIEW_ADOPTER("View adopter", 10),
+        VIEW_MY_REQUESTS("View my requests", 10),
+        VIEW_STATISTICS("View statistics", 5),
+        LIST_REQUESTS_BY_STATUS("List requests by status", 10),
+        SUBMIT_REQUEST("Submit adoption request", 5),
+        UPDATE_PET_HEALTH("Update pet health", 3),
+        APPROVE_REQUEST("Approve request", 2);
+
+        private final String label;
+        private final int weight;
+
+        Operation(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+    }
+
+    private final PetCRUD petCRUD = new PetCRUD();
+    private final AdopterCRUD adopterCRUD = new AdopterCRUD();
+    private final AdoptionRequestCRUD requestCRUD = new AdoptionRequestCRUD();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Operation.values().length];
+    private final AtomicLongArray failures = new AtomicLongArray(Operation.values().length);
+    private final int[] cumulativeWeights = new int[Operation.values().length];
+
+    private int minPetId;
+    private int maxPetId;
+    private int minAdopterId;
+    private int maxAdopterId;
+    private int minRequestId;
+    private int maxRequestId;
+
+    public WorkloadDriver() {
+        int total = 0;
+        for (Operation op : Operation.values()) {
+            histograms[op.ordinal()] = new LatencyHistogram();
+            total += op.weight;
+            cumulativeWeights[op.ordinal()] = total;
+        }
+    }
+
+    /**
+     * Reads the ID ranges the workload picks from
+     * @return true if every table has rows, false otherwise
+     */
+    public boolean loadIdRanges() {
+        try (Connection conn = DbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+
+            int[] pets = readRange(stmt, "SELECT MIN(pet_id), MAX(pet_id) FROM tbl_pet");
+            int[] adopters = readRange(stmt, "SELECT MIN(adopter_id), MAX(adopter_id) FROM tbl_adopter");
+            int[] requests = readRange(stmt, "SELECT MIN(adoption_request_id), MAX(adoption_request_id) FROM tbl_adoption_request");
+            minPetId = pets[0];
+            maxPetId = pets[1];
+            minAdopterId = adopters[0];
+            maxAdopterId = adopters[1];
+            minRequestId = requests[0];
+            maxRequestId = requests[1];
+            return maxPetId > 0 && maxAdopterId > 0 && maxRequestId > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error reading ID ranges: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static int[] readRange(Statement stmt, String sql) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return new int[] {rs.getInt(1), rs.getInt(2)};
+        }
+    }
+
+    /**
+     * Runs the workload and waits for every worker to finish
+     * @param threads Number of concurrent workers
+     * @param opsPerThread Operations each worker performs
+     * @param seed Base seed; worker i uses seed + i
+     * @return Wall-clock duration in nanoseconds
+     */
+    public long run(int threads, int opsPerThread, long seed) throws InterruptedException {
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Random random = new Random(seed + i);
+            Thread worker = new Thread(() -> {
+                for (int n = 0; n < opsPerThread; n++) {
+                    execute(nextOperation(random), random);
+                }
+            }, "furever-load-" + i);
+            workers.add(worker);
+        }
+
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private Operation nextOperation(Random random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (Operation op : Operation.values()) {
+            if (roll < cumulativeWeights[op.ordinal()]) {
+                return op;
+            }
+        }
+        return Operation.VIEW_PET;
+    }
+
+    private void execute(Operation op, Random random) {
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            ok = perform(op, random);
+        } catch (RuntimeException e) {
+            ok = false;
+        }
+        histograms[op.ordinal()].record(System.nanoTime() - start);
+        if (!ok) {
+            failures.incrementAndGet(op.ordinal());
+        }
+    }
+
+    /**
+     * Performs one operation the way the corresponding menu screen does
+     * @return false if the operation failed or found nothing to act on
+     */
+    private boolean perform(Operation op, Random random) {
+        switch (op) {
+            case BROWSE_AVAILABLE_PETS:
+                return petCRUD.getPetSummariesByAdoptionStatus("Available") != null;
+            case VIEW_PET:
+                return petCRUD.getPetById(randomId(random, minPetId, maxPetId)) != null;
+            case SEARCH_PETS:
+                return petCRUD.searchPetSummariesByName(
+                        DataGenerator.PET_NAMES[random.nextInt(DataGenerator.PET_NAMES.length)]) != null;
+            case VIEW_ADOPTER:
+                return adopterCRUD.getAdopterById(randomId(random, minAdopterId, maxAdopterId)) != null;
+            case VIEW_MY_REQUESTS:
+                return requestCRUD.getAdoptionRequestViewsByAdopter(randomId(random, minAdopterId, maxAdopterId)) != null;
+            case VIEW_STATISTICS:
+                return StatisticsService.getInstance().getSnapshot() != null;
+            case LIST_REQUESTS_BY_STATUS:
+                return requestCRUD.getAdoptionRequestViewsByStatus(
+                        REQUEST_STATUSES[random.nextInt(REQUEST_STATUSES.length)], 0, PAGE_SIZE) != null;
+            case SUBMIT_REQUEST:
+                AdoptionRequest request = new AdoptionRequest(randomId(random, minPetId, maxPetId),
+                        randomId(random, minAdopterId, maxAdopterId), "Pending");
+                request.setRequestDate(new Date(System.currentTimeMillis()));
+                request.setRemarks(DataGenerator.MARKER + "workload");
+                return requestCRUD.createAdoptionRequest(request);
+            case UPDATE_PET_HEALTH:
+                return petCRUD.updatePetHealthInfo(randomId(random, minPetId, maxPetId),
+                        random.nextBoolean() ? "Healthy" : "Needs Treatment",
+                        random.nextBoolean() ? "Vaccinated" : "Not Vaccinated");
+            case APPROVE_REQUEST:
+                return requestCRUD.approveAndCloseOut(randomId(random, minRequestId, maxRequestId));
+            default:
+                return false;
+        }
+    }
+
+    private static int randomId(Random random, int min, int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+
+    /**
+     * Prints count, failures, throughput and latency percentiles per operation
+     * @param elapsedNanos Wall-clock duration of the run
+     */
+    public void printReport(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        LatencyHistogram overall = new LatencyHistogram();
+        long totalCount = 0;
+        long totalFailures = 0;
+
+        System.out.println("\n" + "=".repeat(96));
+        System.out.printf("%-26s %10s %9s %10s %10s %10s %10s%n",
+                "OPERATION", "COUNT", "FAILED", "OPS/S", "P50 (ms)", "P99 (ms)", "MAX (ms)");
+        System.out.println("-".repeat(96));
+
+        for (Operation op : Operation.values()) {
+            LatencyHistogram histogram = histograms[op.ordinal()];
+            long failed = failures.get(op.ordinal());
+            printRow(op.label, histogram, failed, seconds);
+            overall.merge(histogram);
+            totalCount += histogram.getCount();
+            totalFailures += failed;
+        }
+
+        System.out.println("-".repeat(96));
+        printRow("TOTAL", overall, totalFailures, seconds);
+        System.out.println("=".repeat(96));
+        System.out.printf("%d operations in %.1f s%n", totalCount, seconds);
+        System.out.println("FAILED counts calls that returned nothing or false, e.g. duplicate submissions " +
+                "or approvals of requests that are no longer pending.");
+    }
+
+    private static void printRow(String label, LatencyHistogram histogram, long failed, double seconds) {
+        System.out.printf("%-26s %10d %9d %10.1f %10.2f %10.2f %10.2f%n",
+                label, histogram.getCount(), failed, histogram.getCount() / seconds,
+                histogram.getPercentileNanos(50) / 1_000_000.0,
+                histogram.getPercentileNanos(99) / 1_000_000.0,
+                histogram.getMaxNanos() / 1_000_000.0);
+    }
+
+    /**
+     * Runs the workload from the command line
+     * @param args [threads] [opsPerThread] [seed]
+     */
+    public static void main(String[] args) {
+        try {
+            int threads = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_THREADS;
+            int opsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_OPS_PER_THREAD;
+            long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+            if (!DbConnection.testConnection()) {
+                System.err.println("Cannot connect to the database.");
+                return;
+            }
+
+            WorkloadDriver driver = new WorkloadDriver();
+            if (!driver.loadIdRanges()) {
+                System.err.println("Pets, adopters and adoption requests are required; run DataGenerator first.");
+                return;
+            }
+
+            // Same startup as the application, so searches use the index once it is built
+            SearchService.getInstance().start();
+
+            System.out.println("Running " + threads + " threads x " + opsPerThread + " operations (seed " + seed + ")...");
+            long elapsed = driver.run(threads, opsPerThread, seed);
+            driver.printReport(elapsed);
+
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: java com.furever.loadtest.WorkloadDriver [threads] [opsPerThread] [seed]");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Workload interrupted.");
+        } finally {
+            DbConnection.closeConnection();
+        }
+    }
+}
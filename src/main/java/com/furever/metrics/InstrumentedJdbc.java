@@ -0,0 +1,210 @@
+package com.furever.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * JDBC proxies that feed QueryMetrics.
+ * The connection proxy times the whole call, statement proxies time each execution and keep
+ * the bind values for the slow-query log, and result set proxies count the rows read.
+ */
+final class InstrumentedJdbc {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private InstrumentedJdbc() {}
+
+    /**
+     * Wraps a borrowed connection
+     * @param conn Connection to wrap
+     * @param stats Operation the connection was borrowed for
+     * @param borrowedNanos System.nanoTime() when the borrow started
+     * @return Instrumented connection; closing it closes the wrapped connection
+     */
+    static Connection wrap(Connection conn, OperationStats stats, long borrowedNanos) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(conn, stats, borrowedNanos));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final OperationStats stats;
+        private final long borrowedNanos;
+        private boolean closed = false;
+
+        ConnectionHandler(Connection target, OperationStats stats, long borrowedNanos) {
+            this.target = target;
+            this.stats = stats;
+            this.borrowedNanos = borrowedNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("close".equals(name)) {
+                if (!closed) {
+                    closed = true;
+                    stats.recordCall(System.nanoTime() - borrowedNanos);
+                }
+                return invokeTarget(target, method, args);
+            }
+            if ("unwrap".equals(name) || "isWrapperFor".equals(name)) {
+                return invokeTarget(target, method, args);
+            }
+
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement) {
+                // prepareStatement/prepareCall take the SQL first; createStatement passes it to execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                        new Class<?>[] {method.getReturnType()}, new StatementHandler((Statement) result, stats, sql));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final OperationStats stats;
+        private String sql;
+        private Object[] binds = new Object[8];
+        private int bindCount = 0;
+        private long rows = 0;
+        private SlowQuery slowQuery = null;
+        private boolean closed = false;
+
+        StatementHandler(Statement target, OperationStats stats, String sql) {
+            this.target = target;
+            this.stats = stats;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bind((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                return invokeTarget(target, method, args);
+            }
+            if (name.equals("clearParameters")) {
+                bindCount = 0;
+                return invokeTarget(target, method, args);
+            }
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.equals("close")) {
+                finish();
+                return invokeTarget(target, method, args);
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                sql = (String) args[0];
+            }
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(target, method, args);
+            } catch (SQLException e) {
+                long elapsed = System.nanoTime() - start;
+                stats.recordStatement(elapsed);
+                stats.recordError();
+                QueryMetrics.logQuery(stats, sql, this::formatBinds, elapsed, e.getMessage());
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            stats.recordStatement(elapsed);
+            SlowQuery logged = QueryMetrics.logQuery(stats, sql, this::formatBinds, elapsed, null);
+            if (logged != null) {
+                slowQuery = logged;
+            }
+
+            if (result instanceof ResultSet) {
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class}, new ResultSetHandler((ResultSet) result, this));
+            }
+            if (result instanceof Integer) {
+                rows += Math.max(0, (Integer) result);
+            } else if (result instanceof Long) {
+                rows += Math.max(0, (Long) result);
+            } else if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+                }
+            }
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            if (index < 1 || index > 1024) {
+                return;
+            }
+            if (index > binds.length) {
+                binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+            }
+            binds[index - 1] = value;
+            bindCount = Math.max(bindCount, index);
+        }
+
+        /**
+         * Formats the bind values lazily, only when a query is logged
+         */
+        String formatBinds() {
+            return QueryMetrics.formatBindValues(sql, binds, bindCount);
+        }
+
+        void addRow() {
+            rows++;
+        }
+
+        private void finish() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            stats.recordRows(rows);
+            if (slowQuery != null) {
+                slowQuery.setRows(rows);
+            }
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final StatementHandler statement;
+
+        ResultSetHandler(ResultSet target, StatementHandler statement) {
+            this.target = target;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                statement.addRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.furever.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.furever.utils.LatencyHistogram;
+
+/**
+ * Metrics for one data-access operation, e.g. "PetCRUD.getPetById".
+ * A call spans from borrowing the connection to closing it; statements are the SQL
+ * executions made during the call.
+ */
+public class OperationStats {
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram callLatency = new LatencyHistogram();
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+    private final LatencyHistogram statementLatency = new LatencyHistogram();
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    void recordCall(long nanos) {
+        calls.increment();
+        callLatency.record(nanos);
+    }
+
+    void recordAcquire(long nanos) {
+        acquireLatency.record(nanos);
+    }
+
+    void recordStatement(long nanos) {
+        statements.increment();
+        statementLatency.record(nanos);
+    }
+
+    void recordRows(long count) {
+        rows.add(count);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    public long getStatementCount() {
+        return statements.sum();
+    }
+
+    public long getRowCount() {
+        return rows.sum();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    public LatencyHistogram getCallLatency() {
+        return callLatency;
+    }
+
+    public LatencyHistogram getAcquireLatency() {
+        return acquireLatency;
+    }
+
+    public LatencyHistogram getStatementLatency() {
+        return statementLatency;
+    }
+
+    /**
+     * Gets the total time spent in this operation
+     * @return Sum of all call durations in milliseconds
+     */
+    public double getTotalMillis() {
+        return callLatency.getMeanNanos() * callLatency.getCount() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,281 @@
+package com.furever.metrics;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.furever.api.JsonWriter;
+import com.furever.utils.LatencyHistogram;
+
+/**
+ * Latency histograms, call counts and a slow-query log for the data-access layer.
+ * DbConnection hands out instrumented connections while metrics are enabled; every call is
+ * attributed to the application method that borrowed the connection, e.g. "PetCRUD.getPetById".
+ * When disabled, connections are returned unwrapped and nothing is recorded.
+ * Metrics are off by default: naming a borrow walks the stack and every JDBC call goes
+ * through a proxy, which is too much for every data path in production. Turn them on to
+ * profile, from the admin menu or with the system property.
+ *
+ * System properties: furever.metrics.enabled (default false) and
+ * furever.metrics.slowQueryMillis (default 200).
+ */
+public final class QueryMetrics {
+
+    public static final int SLOW_QUERY_LOG_SIZE = 100;
+
+    private static final String UNKNOWN_OPERATION = "other";
+
+    private static volatile boolean enabled =
+            Boolean.parseBoolean(System.getProperty("furever.metrics.enabled", "false"));
+    private static volatile long slowQueryThresholdNanos =
+            Long.getLong("furever.metrics.slowQueryMillis", 200L) * 1_000_000L;
+
+    private static final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private static final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+    private static final StackWalker STACK_WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    // Whether a method name ("Class#method") is public, cached per frame seen
+    private static final Map<String, Boolean> publicMethods = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private QueryMetrics() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static long getSlowQueryThresholdMillis() {
+        return slowQueryThresholdNanos / 1_000_000L;
+    }
+
+    public static void setSlowQueryThresholdMillis(long millis) {
+        slowQueryThresholdNanos = Math.max(0, millis) * 1_000_000L;
+    }
+
+    /**
+     * Records a connection borrow and wraps the connection so its statements are measured
+     * @param conn Borrowed connection
+     * @param borrowStartNanos System.nanoTime() taken before the borrow
+     * @return Instrumented connection, or conn itself when metrics are disabled
+     */
+    public static Connection instrument(Connection conn, long borrowStartNanos) {
+        if (!enabled) {
+            return conn;
+        }
+        OperationStats stats = statsFor(findCaller());
+        stats.recordAcquire(System.nanoTime() - borrowStartNanos);
+        return InstrumentedJdbc.wrap(conn, stats, borrowStartNanos);
+    }
+
+    /**
+     * Names the operation after the application class that borrowed the connection: the first
+     * frame outside the database, metrics and cache packages gives the class, and its first
+     * public method on the stack gives the name. Private helpers and lambdas that do the actual
+     * borrowing (getConnection, queryPetSummaries, ...) are thereby attributed to the public
+     * method that called them. Without a public method the first frame is used.
+     */
+    private static String findCaller() {
+        Optional<StackWalker.StackFrame> caller = STACK_WALKER.walk(frames -> {
+            StackWalker.StackFrame first = null;
+            Iterator<StackWalker.StackFrame> iterator = frames
+                    .filter(frame -> isApplicationFrame(frame.getClassName()))
+                    .iterator();
+            while (iterator.hasNext()) {
+                StackWalker.StackFrame frame = iterator.next();
+                if (first == null) {
+                    first = frame;
+                } else if (frame.getDeclaringClass() != first.getDeclaringClass()) {
+                    break;
+                }
+                if (isPublic(frame)) {
+                    return Optional.of(frame);
+                }
+            }
+            return Optional.ofNullable(first);
+        });
+        if (!caller.isPresent()) {
+            return UNKNOWN_OPERATION;
+        }
+        String className = caller.get().getClassName();
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        return simpleName + "." + caller.get().getMethodName();
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        return className.startsWith("com.furever.")
+                && !className.startsWith("com.furever.database.")
+                && !className.startsWith("com.furever.metrics.")
+                && !className.startsWith("com.furever.cache.");
+    }
+
+    private static boolean isPublic(StackWalker.StackFrame frame) {
+        String key = frame.getClassName() + "#" + frame.getMethodName();
+        Boolean result = publicMethods.get(key);
+        if (result == null) {
+            result = false;
+            for (Method method : frame.getDeclaringClass().getDeclaredMethods()) {
+                if (method.getName().equals(frame.getMethodName()) && Modifier.isPublic(method.getModifiers())) {
+                    result = true;
+                    break;
+                }
+            }
+            publicMethods.put(key, result);
+        }
+        return result;
+    }
+
+    private static OperationStats statsFor(String operation) {
+        return operations.computeIfAbsent(operation, OperationStats::new);
+    }
+
+    /**
+     * Adds a statement to the slow-query log if it failed or exceeded the threshold
+     * @return The logged entry, or null if the statement was not logged
+     */
+    static SlowQuery logQuery(OperationStats stats, String sql, Supplier<String> bindValues, long elapsedNanos, String error) {
+        if (error == null && elapsedNanos < slowQueryThresholdNanos) {
+            return null;
+        }
+        SlowQuery entry = new SlowQuery(System.currentTimeMillis(), stats.getName(), sql,
+                bindValues.get(), elapsedNanos / 1_000_000.0, error);
+        synchronized (slowQueries) {
+            if (slowQueries.size() >= SLOW_QUERY_LOG_SIZE) {
+                slowQueries.removeFirst();
+            }
+            slowQueries.addLast(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Formats bind values for the log; statements touching passwords are masked
+     */
+    static String formatBindValues(String sql, Object[] binds, int count) {
+        boolean mask = sql != null && sql.toLowerCase().contains("password");
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            Object value = binds[i];
+            if (mask) {
+                text.append("***");
+            } else if (value instanceof String) {
+                text.append('\'').append(value).append('\'');
+            } else {
+                text.append(value);
+            }
+        }
+        return text.append(']').toString();
+    }
+
+    /**
+     * Gets the metrics of every operation, the most time-consuming first
+     * @return Operation stats sorted by total time
+     */
+    public static List<OperationStats> getOperationStats() {
+        List<OperationStats> sorted = new ArrayList<>(operations.values());
+        sorted.sort(Comparator.comparingDouble(OperationStats::getTotalMillis).reversed());
+        return sorted;
+    }
+
+    /**
+     * Gets the slow-query log
+     * @return Logged statements, the most recent first
+     */
+    public static List<SlowQuery> getSlowQueries() {
+        synchronized (slowQueries) {
+            List<SlowQuery> entries = new ArrayList<>(slowQueries);
+            Collections.reverse(entries);
+            return entries;
+        }
+    }
+
+    /**
+     * Clears all metrics and the slow-query log
+     */
+    public static void reset() {
+        operations.clear();
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    /**
+     * Formats all metrics as JSON
+     * @return JSON object with "operations" and "slowQueries" arrays
+     */
+    public static String toJson() {
+        JsonWriter json = new JsonWriter().beginObject()
+                .field("enabled", enabled)
+                .field("slowQueryThresholdMillis", getSlowQueryThresholdMillis())
+                .name("operations").beginArray();
+        for (OperationStats stats : getOperationStats()) {
+            json.beginObject()
+                .field("operation", stats.getName())
+                .field("calls", stats.getCallCount())
+                .field("statements", stats.getStatementCount())
+                .field("rows", stats.getRowCount())
+                .field("errors", stats.getErrorCount())
+                .field("totalMillis", stats.getTotalMillis());
+            writeHistogram(json, "callLatency", stats.getCallLatency());
+            writeHistogram(json, "acquireLatency", stats.getAcquireLatency());
+            writeHistogram(json, "statementLatency", stats.getStatementLatency());
+            json.endObject();
+        }
+        json.endArray().name("slowQueries").beginArray();
+        for (SlowQuery query : getSlowQueries()) {
+            json.beginObject()
+                .field("timestamp", query.getTimestamp())
+                .field("operation", query.getOperation())
+                .field("elapsedMillis", query.getElapsedMillis())
+                .field("rows", query.getRows())
+                .field("sql", query.getSql())
+                .field("bindValues", query.getBindValues())
+                .field("error", query.getError())
+                .endObject();
+        }
+        return json.endArray().endObject().toString();
+    }
+
+    private static void writeHistogram(JsonWriter json, String name, LatencyHistogram histogram) {
+        json.name(name).beginObject()
+            .field("count", histogram.getCount())
+            .field("meanMillis", histogram.getMeanNanos() / 1_000_000.0)
+            .field("p50Millis", histogram.getPercentileNanos(50) / 1_000_000.0)
+            .field("p99Millis", histogram.getPercentileNanos(99) / 1_000_000.0)
+            .field("maxMillis", histogram.getMaxNanos() / 1_000_000.0)
+            .endObject();
+    }
+
+    /**
+     * Writes the JSON dump to a file
+     * @param file Output file
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeJson(Path file) throws IOException {
+        Files.write(file, toJson().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,72 @@
+package com.furever.metrics;
+
+/**
+ * Slow-query log entry: a statement that ran longer than the threshold or failed
+ */
+public class SlowQuery {
+    private final long timestamp;
+    private final String operation;
+    private final String sql;
+    private final String bindValues;
+    private final double elapsedMillis;
+    private final String error;
+    private volatile long rows = -1;
+
+    public SlowQuery(long timestamp, String operation, String sql, String bindValues, double elapsedMillis, String error) {
+        this.timestamp = timestamp;
+        this.operation = operation;
+        this.sql = sql;
+        this.bindValues = bindValues;
+        this.elapsedMillis = elapsedMillis;
+        this.error = error;
+    }
+
+    // Getters
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getBindValues() {
+        return bindValues;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Gets the rows returned or affected
+     * @return row count, or -1 while the statement is still open or if it failed
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQuery{" +
+                "operation='" + operation + '\'' +
+                ", elapsedMillis=" + elapsedMillis +
+                ", rows=" + rows +
+                ", sql='" + sql + '\'' +
+                ", bindValues=" + bindValues +
+                (error != null ? ", error='" + error + '\'' : "") +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.furever.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One versioned schema change.
+ * A migration is a fixed list of SQL statements; its checksum is taken over the statement
+ * text, so editing a migration after it was applied is detected instead of silently ignored.
+ */
+public final class Migration {
+
+    private final int version;
+    private final String description;
+    private final List<String> statements;
+    private final String checksum;
+
+    public Migration(int version, String description, String... statements) {
+        if (version <= 0) {
+            throw new IllegalArgumentException("Migration version must be positive: " + version);
+        }
+        if (statements.length == 0) {
+            throw new IllegalArgumentException("Migration " + version + " has no statements");
+        }
+        this.version = version;
+        this.description = description;
+        this.statements = Collections.unmodifiableList(Arrays.asList(statements.clone()));
+        this.checksum = computeChecksum(this.statements);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    /**
+     * Gets the SHA-256 checksum of the statements, as 64 lowercase hex digits
+     * @return checksum stored in schema_migrations when the migration is applied
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    private static String computeChecksum(List<String> statements) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String statement : statements) {
+                digest.update(statement.trim().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : digest.digest()) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "V" + version + " " + description;
+    }
+}
@@ -0,0 +1,218 @@
+package com.furever.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.furever.database.DbConnection;
+
+/**
+ * Applies the pending SchemaMigrations and records them in the schema_migrations table.
+ * Migrations run in version order, each at most once. Before anything is applied the
+ * checksums of the already applied migrations are compared with the ones in the code, and
+ * a mismatch stops the run. A named server lock keeps two application instances from
+ * migrating the same database at the same time.
+ *
+ * Usage: java com.furever.migration.MigrationRunner [migrate|status]
+ */
+public class MigrationRunner {
+
+    private static final String HISTORY_TABLE = "schema_migrations";
+
+    private static final String CREATE_HISTORY_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS " + HISTORY_TABLE + " (" +
+            "version int(11) NOT NULL PRIMARY KEY, " +
+            "description varchar(200) NOT NULL, " +
+            "checksum char(64) NOT NULL, " +
+            "applied_at datetime NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+            "execution_millis int(11) NOT NULL DEFAULT 0" +
+            ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4";
+
+    private static final String LOCK_NAME = "furever.schema_migrations";
+    private static final int LOCK_TIMEOUT_SECONDS = 30;
+
+    // Re-running a statement whose change is already in place
+    private static final int ER_DUP_KEYNAME = 1061;
+    private static final int ER_CANT_DROP_FIELD_OR_KEY = 1091;
+
+    private final List<Migration> migrations;
+
+    public MigrationRunner() {
+        this(SchemaMigrations.all());
+    }
+
+    public MigrationRunner(List<Migration> migrations) {
+        this.migrations = migrations;
+    }
+
+    /**
+     * Brings the schema up to date
+     * @return true if every migration is applied, false if the run was refused or failed
+     */
+    public boolean migrate() {
+        try (Connection conn = DbConnection.getConnection()) {
+            ensureHistoryTable(conn);
+
+            if (!acquireLock(conn)) {
+                System.err.println("Error running migrations: another instance is migrating the database");
+                return false;
+            }
+            try {
+                Map<Integer, String> applied = loadAppliedChecksums(conn);
+                if (!validate(applied)) {
+                    return false;
+                }
+                for (Migration migration : migrations) {
+                    if (!applied.containsKey(migration.getVersion())) {
+                        apply(conn, migration);
+                    }
+                }
+                return true;
+            } finally {
+                releaseLock(conn);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error running migrations: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Prints every known migration with its state in the database
+     */
+    public void printStatus() {
+        try (Connection conn = DbConnection.getConnection()) {
+            ensureHistoryTable(conn);
+            Map<Integer, String> applied = loadAppliedChecksums(conn);
+
+            System.out.printf("%-8s %-50s %-10s%n", "Version", "Description", "State");
+            System.out.println("-".repeat(70));
+            for (Migration migration : migrations) {
+                String checksum = applied.remove(migration.getVersion());
+                String state = checksum == null ? "Pending"
+                        : checksum.equals(migration.getChecksum()) ? "Applied" : "CHANGED";
+                System.out.printf("%-8d %-50s %-10s%n", migration.getVersion(), migration.getDescription(), state);
+            }
+            for (Integer version : applied.keySet()) {
+                System.out.printf("%-8d %-50s %-10s%n", version, "(not in this build)", "Applied");
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error reading migration status: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compares the applied checksums with the migrations in the code
+     * @return false if an applied migration was edited afterwards
+     */
+    private boolean validate(Map<Integer, String> applied) {
+        boolean valid = true;
+        int latestKnown = 0;
+        for (Migration migration : migrations) {
+            latestKnown = Math.max(latestKnown, migration.getVersion());
+            String checksum = applied.get(migration.getVersion());
+            if (checksum != null && !checksum.equals(migration.getChecksum())) {
+                System.err.println("Error running migrations: " + migration + " was changed after it was applied " +
+                        "(recorded checksum " + checksum + ", current " + migration.getChecksum() + ")");
+                valid = false;
+            }
+        }
+        for (Integer version : applied.keySet()) {
+            if (version > latestKnown) {
+                System.out.println("Warning: the database has migration V" + version +
+                        ", which this version of the application does not know");
+            }
+        }
+        return valid;
+    }
+
+    private void apply(Connection conn, Migration migration) throws SQLException {
+        long start = System.nanoTime();
+
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : migration.getStatements()) {
+                try {
+                    stmt.executeUpdate(sql);
+                } catch (SQLException e) {
+                    if (e.getErrorCode() != ER_DUP_KEYNAME && e.getErrorCode() != ER_CANT_DROP_FIELD_OR_KEY) {
+                        throw new SQLException(migration + " failed on \"" + sql + "\": " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        String sql = "INSERT INTO " + HISTORY_TABLE + " (version, description, checksum, execution_millis) VALUES (?, ?, ?, ?)";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, migration.getVersion());
+            pstmt.setString(2, migration.getDescription());
+            pstmt.setString(3, migration.getChecksum());
+            pstmt.setLong(4, elapsedMillis);
+            pstmt.executeUpdate();
+        }
+        System.out.println("Applied migration " + migration + " (" + elapsedMillis + " ms)");
+    }
+
+    private static void ensureHistoryTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(CREATE_HISTORY_TABLE_SQL);
+        }
+    }
+
+    private static Map<Integer, String> loadAppliedChecksums(Connection conn) throws SQLException {
+        Map<Integer, String> applied = new TreeMap<>();
+
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM " + HISTORY_TABLE)) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getString("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    private static boolean acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.executeQuery().close();
+        } catch (SQLException e) {
+            System.err.println("Error releasing migration lock: " + e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) {
+        String command = args.length > 0 ? args[0] : "migrate";
+        MigrationRunner runner = new MigrationRunner();
+        int exitCode = 0;
+
+        if ("status".equals(command)) {
+            runner.printStatus();
+        } else if ("migrate".equals(command)) {
+            exitCode = runner.migrate() ? 0 : 1;
+            runner.printStatus();
+        } else {
+            System.out.println("Usage: MigrationRunner [migrate|status]");
+            exitCode = 2;
+        }
+        DbConnection.closeConnection();
+        System.exit(exitCode);
+    }
+}
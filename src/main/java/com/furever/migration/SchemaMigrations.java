@@ -0,0 +1,87 @@
+package com.furever.migration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The application's schema migrations, in the order they are applied.
+ * furever.sql is the baseline; every later schema change is added here as a new version.
+ * Never edit or reorder a migration that has been released: the runner refuses to start
+ * when an applied migration's checksum no longer matches. Add a new version instead.
+ *
+ * MySQL commits each DDL statement on its own, so a migration that fails halfway is not
+ * rolled back. Write statements so that re-running them is harmless; the runner treats
+ * "duplicate key name" and "can't drop, key does not exist" as already applied.
+ */
+public final class SchemaMigrations {
+
+    private static final List<Migration> MIGRATIONS = Collections.unmodifiableList(Arrays.asList(
+
+        // Pet listings filter on status/owner plus archived and page by pet_id; the archive
+        // sweep and the archived-pets screen filter on archived and range over archived_date.
+        // Pages of all unarchived pets are read in primary key order and need no extra index.
+        new Migration(1, "Composite indexes for pet listings",
+            "ALTER TABLE tbl_pet ADD INDEX idx_pet_status_archived_id (adoption_status, archived, pet_id)",
+            "ALTER TABLE tbl_pet ADD INDEX idx_pet_owner_archived_id (pet_owner_id, archived, pet_id)",
+            "ALTER TABLE tbl_pet ADD INDEX idx_pet_archived_date (archived, archived_date)",
+            "ALTER TABLE tbl_pet DROP INDEX idx_pet_adoption_status",
+            "ALTER TABLE tbl_pet DROP INDEX idx_pet_archived",
+            // Duplicates of fk_pet_owner, fk_pet_type and the primary key
+            "ALTER TABLE tbl_pet DROP INDEX idx_pet_owner",
+            "ALTER TABLE tbl_pet DROP INDEX idx_pet_type",
+            "ALTER TABLE tbl_pet DROP INDEX pet_id"),
+
+        // Request listings filter on status, adopter or pet and sort newest first; approvals
+        // count and reject the other requests of one pet by status. The foreign keys on pet_id
+        // and adopter_id are served by the new indexes and uk_adopter_pet_request.
+        new Migration(2, "Composite indexes for adoption request listings",
+            "ALTER TABLE tbl_adoption_request ADD INDEX idx_request_status_date (status, request_date)",
+            "ALTER TABLE tbl_adoption_request ADD INDEX idx_request_adopter_date (adopter_id, request_date)",
+            "ALTER TABLE tbl_adoption_request ADD INDEX idx_request_pet_status (pet_id, status)",
+            "ALTER TABLE tbl_adoption_request DROP INDEX idx_request_status",
+            "ALTER TABLE tbl_adoption_request DROP INDEX fk_request_pet",
+            "ALTER TABLE tbl_adoption_request DROP INDEX fk_request_adopter"),
+
+        // The adopter archive sweep ranges over archived_date like the pet sweep
+        new Migration(3, "Archive sweep index for adopters",
+            "ALTER TABLE tbl_adopter ADD INDEX idx_adopter_archived_date (archived, archived_date)",
+            "ALTER TABLE tbl_adopter DROP INDEX idx_adopter_archived",
+            // Duplicate of the primary key
+            "ALTER TABLE tbl_pet_owner DROP INDEX pet_owner_id"),
+
+        // Change events appended by pet and request writes in their own transaction (see
+        // Outbox); ChangeFeedReader tails them by outbox_id and prunes them by created_at
+        new Migration(4, "Transactional outbox for change events",
+            "CREATE TABLE IF NOT EXISTS tbl_outbox (" +
+            "outbox_id bigint(20) NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+            "table_name varchar(64) NOT NULL, " +
+            "row_id int(11) NOT NULL, " +
+            "operation char(1) NOT NULL, " +
+            "origin bigint(20) NOT NULL, " +
+            "created_at datetime(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3), " +
+            "KEY idx_outbox_created (created_at)" +
+            ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4"),
+
+        // Cold tier for rows archived long ago (see ArchiveService): same columns and keys as
+        // the hot tables, so rows move with INSERT ... SELECT * and back again on restore
+        new Migration(5, "History tables for archive tiering",
+            "CREATE TABLE IF NOT EXISTS tbl_pet_history LIKE tbl_pet",
+            "CREATE TABLE IF NOT EXISTS tbl_adopter_history LIKE tbl_adopter",
+            "CREATE TABLE IF NOT EXISTS tbl_adoption_request_history LIKE tbl_adoption_request",
+            "CREATE TABLE IF NOT EXISTS tbl_pet_media_history LIKE tbl_pet_media")
+    ));
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private SchemaMigrations() {}
+
+    /**
+     * Gets every migration, ordered by version
+     * @return read-only list of migrations
+     */
+    public static List<Migration> all() {
+        return MIGRATIONS;
+    }
+}
@@ -3,7 +3,7 @@ package com.furever.models;
 /**
  * Adopter model class representing the tbl_adopter table
  */
-public class Adopter {
+public class Adopter extends TrackedModel {
     private int adopterId;
     private String adopterName;
     private String adopterContact;
@@ -51,7 +51,7 @@ public class Adopter {
     }
     
     public void setAdopterName(String adopterName) {
-        this.adopterName = adopterName;
+        this.adopterName = track("adopter_name", this.adopterName, adopterName);
     }
     
     public String getAdopterContact() {
@@ -59,7 +59,7 @@ public class Adopter {
     }
     
     public void setAdopterContact(String adopterContact) {
-        this.adopterContact = adopterContact;
+        this.adopterContact = track("adopter_contact", this.adopterContact, adopterContact);
     }
     
     public String getAdopterEmail() {
@@ -67,7 +67,7 @@ public class Adopter {
     }
     
     public void setAdopterEmail(String adopterEmail) {
-        this.adopterEmail = adopterEmail;
+        this.adopterEmail = track("adopter_email", this.adopterEmail, adopterEmail);
     }
     
     public String getAdopterAddress() {
@@ -75,7 +75,7 @@ public class Adopter {
     }
     
     public void setAdopterAddress(String adopterAddress) {
-        this.adopterAddress = adopterAddress;
+        this.adopterAddress = track("adopter_address", this.adopterAddress, adopterAddress);
     }
     
     public String getAdopterProfile() {
@@ -83,7 +83,7 @@ public class Adopter {
     }
     
     public void setAdopterProfile(String adopterProfile) {
-        this.adopterProfile = adopterProfile;
+        this.adopterProfile = track("adopter_profile", this.adopterProfile, adopterProfile);
     }
     
     public String getAdopterUsername() {
@@ -91,7 +91,7 @@ public class Adopter {
     }
     
     public void setAdopterUsername(String adopterUsername) {
-        this.adopterUsername = adopterUsername;
+        this.adopterUsername = track("adopter_username", this.adopterUsername, adopterUsername);
     }
     
     public String getAdopterPassword() {
@@ -99,7 +99,7 @@ public class Adopter {
     }
     
     public void setAdopterPassword(String adopterPassword) {
-        this.adopterPassword = adopterPassword;
+        this.adopterPassword = track("adopter_password", this.adopterPassword, adopterPassword);
     }
     
     @Override
@@ -0,0 +1,56 @@
+package com.furever.models;
+
+/**
+ * Lightweight adopter row for table listings.
+ * Carries only the ID, name and contact columns, leaving out the address, profile and credentials.
+ */
+public class AdopterSummary {
+    private int adopterId;
+    private String adopterName;
+    private String adopterContact;
+    private String adopterEmail;
+    
+    // Default constructor
+    public AdopterSummary() {}
+    
+    // Getters and Setters
+    public int getAdopterId() {
+        return adopterId;
+    }
+    
+    public void setAdopterId(int adopterId) {
+        this.adopterId = adopterId;
+    }
+    
+    public String getAdopterName() {
+        return adopterName;
+    }
+    
+    public void setAdopterName(String adopterName) {
+        this.adopterName = adopterName;
+    }
+    
+    public String getAdopterContact() {
+        return adopterContact;
+    }
+    
+    public void setAdopterContact(String adopterContact) {
+        this.adopterContact = adopterContact;
+    }
+    
+    public String getAdopterEmail() {
+        return adopterEmail;
+    }
+    
+    public void setAdopterEmail(String adopterEmail) {
+        this.adopterEmail = adopterEmail;
+    }
+    
+    @Override
+    public String toString() {
+        return "AdopterSummary{" +
+                "adopterId=" + adopterId +
+                ", adopterName='" + adopterName + '\'' +
+                '}';
+    }
+}
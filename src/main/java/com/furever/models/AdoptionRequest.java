@@ -5,7 +5,7 @@ import java.sql.Date;
 /**
  * AdoptionRequest model class representing the tbl_adoption_request table
  */
-public class AdoptionRequest {
+public class AdoptionRequest extends TrackedModel {
     private int adoptionRequestId;
     private int petId;
     private int adopterId;
@@ -52,7 +52,7 @@ public class AdoptionRequest {
     }
     
     public void setPetId(int petId) {
-        this.petId = petId;
+        this.petId = track("pet_id", this.petId, petId);
     }
     
     public int getAdopterId() {
@@ -60,7 +60,7 @@ public class AdoptionRequest {
     }
     
     public void setAdopterId(int adopterId) {
-        this.adopterId = adopterId;
+        this.adopterId = track("adopter_id", this.adopterId, adopterId);
     }
     
     public Date getRequestDate() {
@@ -68,7 +68,7 @@ public class AdoptionRequest {
     }
     
     public void setRequestDate(Date requestDate) {
-        this.requestDate = requestDate;
+        this.requestDate = track("request_date", this.requestDate, requestDate);
     }
     
     public String getStatus() {
@@ -76,7 +76,7 @@ public class AdoptionRequest {
     }
     
     public void setStatus(String status) {
-        this.status = status;
+        this.status = track("status", this.status, status);
     }
     
     public Date getApprovalDate() {
@@ -84,7 +84,7 @@ public class AdoptionRequest {
     }
     
     public void setApprovalDate(Date approvalDate) {
-        this.approvalDate = approvalDate;
+        this.approvalDate = track("approval_date", this.approvalDate, approvalDate);
     }
     
     public String getRemarks() {
@@ -92,7 +92,7 @@ public class AdoptionRequest {
     }
     
     public void setRemarks(String remarks) {
-        this.remarks = remarks;
+        this.remarks = track("remarks", this.remarks, remarks);
     }
     
     public Integer getUserId() {
@@ -100,7 +100,7 @@ public class AdoptionRequest {
     }
     
     public void setUserId(Integer userId) {
-        this.userId = userId;
+        this.userId = track("user_id", this.userId, userId);
     }
     
     @Override
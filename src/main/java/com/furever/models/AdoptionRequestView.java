@@ -0,0 +1,155 @@
+package com.furever.models;
+
+import java.sql.Date;
+
+/**
+ * Read model for adoption request listings.
+ * Combines a tbl_adoption_request row with the pet and adopter columns shown next to it.
+ * Views loaded for listings leave remarks and adopterEmail null; load a single request by ID
+ * to get them.
+ */
+public class AdoptionRequestView {
+    private int adoptionRequestId;
+    private int petId;
+    private int adopterId;
+    private Date requestDate;
+    private String status;
+    private Date approvalDate;
+    private String remarks;
+    private Integer userId;
+    private String petName;
+    private String petAdoptionStatus;
+    private int petOwnerId;
+    private String adopterName;
+    private String adopterEmail;
+
+    // Default constructor
+    public AdoptionRequestView() {}
+
+    // Getters and Setters
+    public int getAdoptionRequestId() {
+        return adoptionRequestId;
+    }
+
+    public void setAdoptionRequestId(int adoptionRequestId) {
+        this.adoptionRequestId = adoptionRequestId;
+    }
+
+    public int getPetId() {
+        return petId;
+    }
+
+    public void setPetId(int petId) {
+        this.petId = petId;
+    }
+
+    public int getAdopterId() {
+        return adopterId;
+    }
+
+    public void setAdopterId(int adopterId) {
+        this.adopterId = adopterId;
+    }
+
+    public Date getRequestDate() {
+        return requestDate;
+    }
+
+    public void setRequestDate(Date requestDate) {
+        this.requestDate = requestDate;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Date getApprovalDate() {
+        return approvalDate;
+    }
+
+    public void setApprovalDate(Date approvalDate) {
+        this.approvalDate = approvalDate;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    public void setRemarks(String remarks) {
+        this.remarks = remarks;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Integer userId) {
+        this.userId = userId;
+    }
+
+    public String getPetName() {
+        return petName;
+    }
+
+    public void setPetName(String petName) {
+        this.petName = petName;
+    }
+
+    public String getPetAdoptionStatus() {
+        return petAdoptionStatus;
+    }
+
+    public void setPetAdoptionStatus(String petAdoptionStatus) {
+        this.petAdoptionStatus = petAdoptionStatus;
+    }
+
+    public int getPetOwnerId() {
+        return petOwnerId;
+    }
+
+    public void setPetOwnerId(int petOwnerId) {
+        this.petOwnerId = petOwnerId;
+    }
+
+    public String getAdopterName() {
+        return adopterName;
+    }
+
+    public void setAdopterName(String adopterName) {
+        this.adopterName = adopterName;
+    }
+
+    public String getAdopterEmail() {
+        return adopterEmail;
+    }
+
+    public void setAdopterEmail(String adopterEmail) {
+        this.adopterEmail = adopterEmail;
+    }
+
+    /**
+     * Converts this view back into the plain AdoptionRequest entity
+     * @return AdoptionRequest with the request columns of this view
+     */
+    public AdoptionRequest toAdoptionRequest() {
+        return new AdoptionRequest(adoptionRequestId, petId, adopterId, requestDate,
+                status, approvalDate, remarks, userId);
+    }
+
+    @Override
+    public String toString() {
+        return "AdoptionRequestView{" +
+                "adoptionRequestId=" + adoptionRequestId +
+                ", petId=" + petId +
+                ", petName='" + petName + '\'' +
+                ", adopterId=" + adopterId +
+                ", adopterName='" + adopterName + '\'' +
+                ", requestDate=" + requestDate +
+                ", status='" + status + '\'' +
+                '}';
+    }
+}
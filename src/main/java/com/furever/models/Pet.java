@@ -5,7 +5,7 @@ import java.sql.Date;
 /**
  * Pet model class representing the tbl_pet table
  */
-public class Pet {
+public class Pet extends TrackedModel {
     private int petId;
     private int petOwnerId;
     private String petName;
@@ -66,7 +66,7 @@ public class Pet {
     }
     
     public void setPetOwnerId(int petOwnerId) {
-        this.petOwnerId = petOwnerId;
+        this.petOwnerId = track("pet_owner_id", this.petOwnerId, petOwnerId);
     }
     
     public String getPetName() {
@@ -74,7 +74,7 @@ public class Pet {
     }
     
     public void setPetName(String petName) {
-        this.petName = petName;
+        this.petName = track("pet_name", this.petName, petName);
     }
     
     public int getPetTypeId() {
@@ -82,7 +82,7 @@ public class Pet {
     }
     
     public void setPetTypeId(int petTypeId) {
-        this.petTypeId = petTypeId;
+        this.petTypeId = track("pet_type_id", this.petTypeId, petTypeId);
     }
     
     public String getDescription() {
@@ -90,7 +90,7 @@ public class Pet {
     }
     
     public void setDescription(String description) {
-        this.description = description;
+        this.description = track("description", this.description, description);
     }
     
     public int getAge() {
@@ -98,7 +98,7 @@ public class Pet {
     }
     
     public void setAge(int age) {
-        this.age = age;
+        this.age = track("age", this.age, age);
     }
     
     public String getGender() {
@@ -106,7 +106,7 @@ public class Pet {
     }
     
     public void setGender(String gender) {
-        this.gender = gender;
+        this.gender = track("gender", this.gender, gender);
     }
     
     public String getHealthStatus() {
@@ -114,7 +114,7 @@ public class Pet {
     }
     
     public void setHealthStatus(String healthStatus) {
-        this.healthStatus = healthStatus;
+        this.healthStatus = track("health_status", this.healthStatus, healthStatus);
     }
     
     public String getUploadHealthHistory() {
@@ -122,7 +122,7 @@ public class Pet {
     }
     
     public void setUploadHealthHistory(String uploadHealthHistory) {
-        this.uploadHealthHistory = uploadHealthHistory;
+        this.uploadHealthHistory = track("upload_health_history", this.uploadHealthHistory, uploadHealthHistory);
     }
     
     public String getVaccinationStatus() {
@@ -130,7 +130,7 @@ public class Pet {
     }
     
     public void setVaccinationStatus(String vaccinationStatus) {
-        this.vaccinationStatus = vaccinationStatus;
+        this.vaccinationStatus = track("vaccination_status", this.vaccinationStatus, vaccinationStatus);
     }
     
     public String getProofOfVaccination() {
@@ -138,7 +138,7 @@ public class Pet {
     }
     
     public void setProofOfVaccination(String proofOfVaccination) {
-        this.proofOfVaccination = proofOfVaccination;
+        this.proofOfVaccination = track("proof_of_vaccination", this.proofOfVaccination, proofOfVaccination);
     }
     
     public String getAdoptionStatus() {
@@ -146,7 +146,7 @@ public class Pet {
     }
     
     public void setAdoptionStatus(String adoptionStatus) {
-        this.adoptionStatus = adoptionStatus;
+        this.adoptionStatus = track("adoption_status", this.adoptionStatus, adoptionStatus);
     }
     
     public Date getDateRegistered() {
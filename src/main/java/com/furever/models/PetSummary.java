@@ -0,0 +1,104 @@
+package com.furever.models;
+
+import java.sql.Date;
+
+/**
+ * Lightweight pet row for table listings.
+ * Carries only the columns the pets table prints; the description is cut to a short preview
+ * by the database so the full TEXT column is never transferred.
+ */
+public class PetSummary {
+    private int petId;
+    private String petName;
+    private int petTypeId;
+    private String descriptionPreview;
+    private int age;
+    private String gender;
+    private String healthStatus;
+    private String adoptionStatus;
+    private Date dateRegistered;
+    
+    // Default constructor
+    public PetSummary() {}
+    
+    // Getters and Setters
+    public int getPetId() {
+        return petId;
+    }
+    
+    public void setPetId(int petId) {
+        this.petId = petId;
+    }
+    
+    public String getPetName() {
+        return petName;
+    }
+    
+    public void setPetName(String petName) {
+        this.petName = petName;
+    }
+    
+    public int getPetTypeId() {
+        return petTypeId;
+    }
+    
+    public void setPetTypeId(int petTypeId) {
+        this.petTypeId = petTypeId;
+    }
+    
+    public String getDescriptionPreview() {
+        return descriptionPreview;
+    }
+    
+    public void setDescriptionPreview(String descriptionPreview) {
+        this.descriptionPreview = descriptionPreview;
+    }
+    
+    public int getAge() {
+        return age;
+    }
+    
+    public void setAge(int age) {
+        this.age = age;
+    }
+    
+    public String getGender() {
+        return gender;
+    }
+    
+    public void setGender(String gender) {
+        this.gender = gender;
+    }
+    
+    public String getHealthStatus() {
+        return healthStatus;
+    }
+    
+    public void setHealthStatus(String healthStatus) {
+        this.healthStatus = healthStatus;
+    }
+    
+    public String getAdoptionStatus() {
+        return adoptionStatus;
+    }
+    
+    public void setAdoptionStatus(String adoptionStatus) {
+        this.adoptionStatus = adoptionStatus;
+    }
+    
+    public Date getDateRegistered() {
+        return dateRegistered;
+    }
+    
+    public void setDateRegistered(Date dateRegistered) {
+        this.dateRegistered = dateRegistered;
+    }
+    
+    @Override
+    public String toString() {
+        return "PetSummary{" +
+                "petId=" + petId +
+                ", petName='" + petName + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package com.furever.models;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Base class for models that remember which columns changed since they were loaded.
+ * Tracking starts when clearChanges() is called, which the CRUD classes do after reading
+ * a row; models built with constructors are not tracked and are updated in full.
+ */
+public abstract class TrackedModel {
+
+    // Column name -> value when tracking started, for changed columns only
+    private Map<String, Object> originals = null;
+    // Column name -> current value, for changed columns only
+    private Map<String, Object> changes = null;
+    private boolean tracking = false;
+
+    /**
+     * Records a column change; setters call this with the field's old and new value
+     * @return newValue, so setters can assign the result
+     */
+    protected <T> T track(String column, T oldValue, T newValue) {
+        if (!tracking || Objects.equals(oldValue, newValue)) {
+            return newValue;
+        }
+        if (changes == null) {
+            originals = new LinkedHashMap<>();
+            changes = new LinkedHashMap<>();
+        }
+        if (!originals.containsKey(column)) {
+            originals.put(column, oldValue);
+        }
+        if (Objects.equals(originals.get(column), newValue)) {
+            // Changed back to the loaded value
+            originals.remove(column);
+            changes.remove(column);
+        } else {
+            changes.put(column, newValue);
+        }
+        return newValue;
+    }
+
+    /**
+     * Treats the current values as saved and starts tracking changes from here
+     */
+    public void clearChanges() {
+        originals = null;
+        changes = null;
+        tracking = true;
+    }
+
+    /**
+     * Checks whether this model tracks changes, i.e. was loaded from the database
+     * @return true if changes are being tracked
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    public boolean hasChanges() {
+        return changes != null && !changes.isEmpty();
+    }
+
+    /**
+     * Gets the changed columns and their new values, in the order they were changed
+     * @return Unmodifiable map of column name to new value
+     */
+    public Map<String, Object> getChanges() {
+        return changes == null ? Collections.emptyMap() : Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * Gets the value a changed column had when tracking started
+     * @param column Column name
+     * @return Original value, or null if the column was not changed
+     */
+    public Object getOriginalValue(String column) {
+        return originals == null ? null : originals.get(column);
+    }
+
+    public Set<String> getChangedColumns() {
+        return getChanges().keySet();
+    }
+}
@@ -0,0 +1,56 @@
+package com.furever.models;
+
+/**
+ * A logged-in account: the users row together with its linked adopter or pet owner profile
+ */
+public class UserSession {
+    private final User user;
+    private final Adopter adopter;
+    private final PetOwner petOwner;
+
+    // Constructor with all parameters
+    public UserSession(User user, Adopter adopter, PetOwner petOwner) {
+        this.user = user;
+        this.adopter = adopter;
+        this.petOwner = petOwner;
+    }
+
+    // Getters
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Gets the adopter profile linked through tbl_adopter.username
+     * @return Adopter, or null if the account has none
+     */
+    public Adopter getAdopter() {
+        return adopter;
+    }
+
+    /**
+     * Gets the pet owner profile linked through tbl_pet_owner.username or pet_owner_username
+     * @return PetOwner, or null if the account has none
+     */
+    public PetOwner getPetOwner() {
+        return petOwner;
+    }
+
+    public String getUsername() {
+        return user.getUsername();
+    }
+
+    public String getRole() {
+        return user.getRole();
+    }
+
+    @Override
+    public String toString() {
+        return "UserSession{" +
+                "username='" + user.getUsername() + '\'' +
+                ", role='" + user.getRole() + '\'' +
+                ", adopterId=" + (adopter != null ? adopter.getAdopterId() : null) +
+                ", petOwnerId=" + (petOwner != null ? petOwner.getPetOwnerId() : null) +
+                '}';
+    }
+}
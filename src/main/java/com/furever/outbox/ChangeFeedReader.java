@@ -0,0 +1,199 @@
+package com.furever.outbox;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.furever.database.ChangeNotifier;
+import com.furever.database.DbConnection;
+import com.furever.utils.ThreadSupport;
+
+/**
+ * Tails tbl_outbox and publishes the changes made by other processes (other application
+ * instances, imports and tools) through ChangeNotifier.publishRemote(), so caches, search
+ * indexes, statistics and recommendations update row by row instead of reloading whole tables.
+ * Listeners of local writes only, such as the read-your-writes tracking, do not see them.
+ *
+ * Events are read in batches in outbox_id order from the position reached so far, starting
+ * at the end of the table. Auto-increment IDs are assigned before commit, so a transaction
+ * can commit a lower ID after a higher one is visible; reading stops at the first event
+ * younger than the settle delay, so such late commits are not skipped. Writers append their
+ * event just before committing, which keeps that gap far below the delay. Events older than
+ * the retention period are deleted.
+ *
+ * System properties: furever.changefeed.pollMillis (default 1000), furever.changefeed.batchSize
+ * (default 500), furever.changefeed.settleMillis (default 500) and
+ * furever.changefeed.retentionHours (default 24).
+ */
+public class ChangeFeedReader {
+
+    private static final String SELECT_POSITION_SQL = "SELECT COALESCE(MAX(outbox_id), 0) FROM " + Outbox.TABLE;
+
+    public static final String SELECT_EVENTS_SQL =
+            "SELECT outbox_id, table_name, row_id, origin, created_at <= NOW(3) - INTERVAL ? MICROSECOND AS settled " +
+            "FROM " + Outbox.TABLE + " WHERE outbox_id > ? ORDER BY outbox_id LIMIT ?";
+
+    public static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM " + Outbox.TABLE + " WHERE created_at < NOW(3) - INTERVAL ? HOUR ORDER BY created_at LIMIT ?";
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+    private static final long PRUNE_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final ChangeFeedReader INSTANCE = new ChangeFeedReader();
+
+    private final long pollMillis = Long.getLong("furever.changefeed.pollMillis", 1000L);
+    private final int batchSize = Integer.getInteger("furever.changefeed.batchSize", 500);
+    private final long settleMillis = Long.getLong("furever.changefeed.settleMillis", 500L);
+    private final int retentionHours = Integer.getInteger("furever.changefeed.retentionHours", 24);
+
+    private final AtomicLong position = new AtomicLong(-1);
+    private final AtomicLong eventsRead = new AtomicLong();
+    private final AtomicLong eventsPublished = new AtomicLong();
+    private long lastPruneMillis = 0;
+    private ScheduledExecutorService scheduler = null;
+
+    private ChangeFeedReader() {}
+
+    /**
+     * Gets the shared change feed reader
+     * @return ChangeFeedReader instance
+     */
+    public static ChangeFeedReader getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts tailing the outbox from its current end
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        if (position.get() < 0 && !seekToEnd()) {
+            return;
+        }
+        lastPruneMillis = System.currentTimeMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(ThreadSupport.daemonThreadFactory("furever-change-feed"));
+        scheduler.scheduleWithFixedDelay(this::runOnce, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops tailing; the position is kept, so a restart continues where this one stopped
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Reads and publishes every settled event after the current position, batch by batch,
+     * and deletes expired events once an hour
+     * @return Number of events published
+     */
+    public synchronized int runOnce() {
+        if (position.get() < 0 && !seekToEnd()) {
+            return 0;
+        }
+        int published = 0;
+        try (Connection conn = DbConnection.getConnection()) {
+            int read;
+            do {
+                int[] counts = readBatch(conn);
+                read = counts[0];
+                published += counts[1];
+            } while (read == batchSize && !Thread.currentThread().isInterrupted());
+
+            if (System.currentTimeMillis() - lastPruneMillis > PRUNE_INTERVAL_MILLIS) {
+                lastPruneMillis = System.currentTimeMillis();
+                deleteExpired(conn);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error reading change feed: " + e.getMessage());
+        }
+        return published;
+    }
+
+    /**
+     * Reads one batch up to the first unsettled event and publishes the events of other processes
+     * @return Events read and events published
+     */
+    private int[] readBatch(Connection conn) throws SQLException {
+        int read = 0;
+        int published = 0;
+        try (PreparedStatement pstmt = conn.prepareStatement(SELECT_EVENTS_SQL)) {
+            pstmt.setLong(1, TimeUnit.MILLISECONDS.toMicros(settleMillis));
+            pstmt.setLong(2, position.get());
+            pstmt.setInt(3, batchSize);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next() && rs.getBoolean(5)) {
+                    read++;
+                    position.set(rs.getLong(1));
+                    if (rs.getLong(4) != Outbox.ORIGIN) {
+                        ChangeNotifier.publishRemote(rs.getString(2), rs.getInt(3));
+                        published++;
+                    }
+                }
+            }
+        }
+        eventsRead.addAndGet(read);
+        eventsPublished.addAndGet(published);
+        return new int[] {read, published};
+    }
+
+    private void deleteExpired(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(DELETE_EXPIRED_SQL)) {
+            pstmt.setInt(1, retentionHours);
+            pstmt.setInt(2, DELETE_BATCH_SIZE);
+            // Small batches keep each delete's locks short
+            int deleted;
+            do {
+                deleted = pstmt.executeUpdate();
+            } while (deleted == DELETE_BATCH_SIZE && !Thread.currentThread().isInterrupted());
+        }
+    }
+
+    /**
+     * Sets the position to the newest event, so only changes from now on are published
+     * @return false if the outbox cannot be read, e.g. because migration 4 is not applied
+     */
+    private boolean seekToEnd() {
+        try (Connection conn = DbConnection.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(SELECT_POSITION_SQL)) {
+
+            if (rs.next()) {
+                position.compareAndSet(-1, rs.getLong(1));
+            }
+            return true;
+
+        } catch (SQLException e) {
+            System.err.println("Error opening change feed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Gets the ID of the last event read
+     * @return outbox_id, or -1 before the reader has started
+     */
+    public long getPosition() {
+        return position.get();
+    }
+
+    public long getEventsRead() {
+        return eventsRead.get();
+    }
+
+    public long getEventsPublished() {
+        return eventsPublished.get();
+    }
+}
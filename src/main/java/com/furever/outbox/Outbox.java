@@ -0,0 +1,253 @@
+package com.furever.outbox;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transactional outbox for pet and adoption request changes.
+ * Write paths append a compact event (table, row ID, operation) to tbl_outbox on the
+ * connection that makes the change, before it commits, so an event exists exactly when its
+ * change was committed. ChangeFeedReader tails the table and replays events written by other
+ * processes through ChangeNotifier. Changes made in this process are already published
+ * in-process, so every event carries the ID of the process that wrote it.
+ *
+ * Only the tables in TRACKED_TABLES get events; for other tables the helpers simply run the
+ * statement. A database without tbl_outbox (migration 4 not applied yet) is written to as
+ * before, without events.
+ */
+public final class Outbox {
+
+    public static final String TABLE = "tbl_outbox";
+
+    // Operations stored in tbl_outbox.operation
+    public static final char INSERT = 'I';
+    public static final char UPDATE = 'U';
+    public static final char DELETE = 'D';
+
+    public static final Set<String> TRACKED_TABLES = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("tbl_pet", "tbl_adoption_request")));
+
+    // Identifies this process in the events it writes
+    static final long ORIGIN = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO " + TABLE + " (table_name, row_id, operation, origin) VALUES (?, ?, ?, ?)";
+
+    // MySQL error code for a missing table
+    private static final int ER_NO_SUCH_TABLE = 1146;
+    // How long a database without tbl_outbox is written to without trying to append events
+    private static final long MISSING_TABLE_RECHECK_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    // Databases found without tbl_outbox, with the time they were found
+    private static final ConcurrentHashMap<String, Long> missingTables = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private Outbox() {}
+
+    /**
+     * Appends one change event on the writing connection. Call it inside the transaction of
+     * the change, after the change itself, so the event's row lock is held only until commit.
+     * @param conn Connection that made the change
+     * @param table Changed table
+     * @param id Primary key of the changed row, or ChangeNotifier.ALL_ROWS
+     * @param operation INSERT, UPDATE or DELETE
+     * @throws SQLException if the event cannot be written
+     */
+    public static void append(Connection conn, String table, int id, char operation) throws SQLException {
+        append(conn, table, new int[] {id}, operation);
+    }
+
+    /**
+     * Appends change events for several rows of one table in one batch
+     * @param conn Connection that made the change
+     * @param table Changed table
+     * @param ids Primary keys of the changed rows
+     * @param operation INSERT, UPDATE or DELETE
+     * @throws SQLException if the events cannot be written
+     */
+    public static void append(Connection conn, String table, int[] ids, char operation) throws SQLException {
+        if (ids.length == 0 || !TRACKED_TABLES.contains(table) || isMissing(conn)) {
+            return;
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(INSERT_EVENT_SQL)) {
+            for (int id : ids) {
+                pstmt.setString(1, table);
+                pstmt.setInt(2, id);
+                pstmt.setString(3, String.valueOf(operation));
+                pstmt.setLong(4, ORIGIN);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        } catch (SQLException e) {
+            // A failed statement does not end the MySQL transaction, so the change can still commit
+            if (e.getErrorCode() != ER_NO_SUCH_TABLE) {
+                throw e;
+            }
+            missingTables.put(conn.getCatalog(), System.nanoTime());
+        }
+    }
+
+    /**
+     * Runs a prepared UPDATE or DELETE of one row and appends its event in the same transaction.
+     * If the connection is already in a transaction the caller commits; otherwise the statement
+     * and the event are committed here.
+     * @param pstmt Prepared statement with its parameters set
+     * @param table Changed table; for a delete of a parent row, the tracked table its cascade reaches
+     * @param id Primary key of the row the statement changes, or ChangeNotifier.ALL_ROWS
+     * @param operation UPDATE or DELETE
+     * @return Number of rows affected; no event is written when it is 0
+     * @throws SQLException if the statement or the event fails; nothing is committed then
+     */
+    public static int executeUpdate(PreparedStatement pstmt, String table, int id, char operation) throws SQLException {
+        if (!TRACKED_TABLES.contains(table)) {
+            return pstmt.executeUpdate();
+        }
+        Connection conn = pstmt.getConnection();
+        boolean ownTransaction = begin(conn);
+        try {
+            int rowsAffected = pstmt.executeUpdate();
+            if (rowsAffected > 0) {
+                append(conn, table, id, operation);
+            }
+            commit(conn, ownTransaction);
+            return rowsAffected;
+        } catch (SQLException | RuntimeException e) {
+            rollback(conn, ownTransaction);
+            throw e;
+        } finally {
+            end(conn, ownTransaction);
+        }
+    }
+
+    /**
+     * Runs a prepared single-row INSERT created with Statement.RETURN_GENERATED_KEYS and appends
+     * its event in the same transaction
+     * @param pstmt Prepared statement with its parameters set
+     * @param table Changed table
+     * @return Generated key of the new row, or 0 if no row was inserted
+     * @throws SQLException if the statement or the event fails; nothing is committed then
+     */
+    public static int executeInsert(PreparedStatement pstmt, String table) throws SQLException {
+        Connection conn = pstmt.getConnection();
+        boolean ownTransaction = TRACKED_TABLES.contains(table) && begin(conn);
+        try {
+            int id = 0;
+            if (pstmt.executeUpdate() > 0) {
+                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        id = generatedKeys.getInt(1);
+                    }
+                }
+            }
+            if (id > 0) {
+                append(conn, table, id, INSERT);
+            }
+            commit(conn, ownTransaction);
+            return id;
+        } catch (SQLException | RuntimeException e) {
+            rollback(conn, ownTransaction);
+            throw e;
+        } finally {
+            end(conn, ownTransaction);
+        }
+    }
+
+    /**
+     * Runs a batch of single-row UPDATE or DELETE statements and appends an event for every
+     * statement that changed a row, all in one transaction
+     * @param pstmt Prepared statement with one batch entry per ID
+     * @param table Changed table
+     * @param ids Primary keys of the rows, in batch order
+     * @param operation UPDATE or DELETE
+     * @return Update counts in batch order
+     * @throws SQLException if the batch or the events fail; nothing is committed then
+     */
+    public static int[] executeBatch(PreparedStatement pstmt, String table, List<Integer> ids, char operation) throws SQLException {
+        Connection conn = pstmt.getConnection();
+        boolean ownTransaction = TRACKED_TABLES.contains(table) && begin(conn);
+        try {
+            int[] results = pstmt.executeBatch();
+            int[] changed = new int[results.length];
+            int count = 0;
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] > 0 || results[i] == Statement.SUCCESS_NO_INFO) {
+                    changed[count++] = ids.get(i);
+                }
+            }
+            append(conn, table, Arrays.copyOf(changed, count), operation);
+            commit(conn, ownTransaction);
+            return results;
+        } catch (SQLException | RuntimeException e) {
+            rollback(conn, ownTransaction);
+            throw e;
+        } finally {
+            end(conn, ownTransaction);
+        }
+    }
+
+    private static boolean isMissing(Connection conn) throws SQLException {
+        if (missingTables.isEmpty()) {
+            return false;
+        }
+        Long foundAt = missingTables.get(conn.getCatalog());
+        if (foundAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - foundAt > MISSING_TABLE_RECHECK_NANOS) {
+            missingTables.remove(conn.getCatalog(), foundAt);
+            return false;
+        }
+        return true;
+    }
+
+    // Transaction helpers: only a transaction started here is committed or rolled back here
+
+    private static boolean begin(Connection conn) throws SQLException {
+        if (!conn.getAutoCommit()) {
+            return false;
+        }
+        conn.setAutoCommit(false);
+        return true;
+    }
+
+    private static void commit(Connection conn, boolean ownTransaction) throws SQLException {
+        if (ownTransaction) {
+            conn.commit();
+        }
+    }
+
+    private static void rollback(Connection conn, boolean ownTransaction) {
+        if (!ownTransaction) {
+            return;
+        }
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            System.err.println("Error during rollback: " + e.getMessage());
+        }
+    }
+
+    private static void end(Connection conn, boolean ownTransaction) {
+        if (!ownTransaction) {
+            return;
+        }
+        try {
+            conn.setAutoCommit(true);
+        } catch (SQLException e) {
+            System.err.println("Error resetting auto-commit: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.furever.recommend;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Preferences learned from an adopter's past adoption requests.
+ * Approved requests count more than pending or rejected ones. Immutable once built.
+ */
+class AdopterHistory {
+
+    private static final float APPROVED_WEIGHT = 1.5f;
+    private static final float OTHER_WEIGHT = 1.0f;
+
+    private final int[] requestedPetIds;
+    private final Map<Integer, Float> typeShares;
+    private final float ageMean;
+    private final float ageSpread;
+    private final float healthyShare;
+    private final float vaccinatedShare;
+
+    private AdopterHistory(int[] requestedPetIds, Map<Integer, Float> typeShares, float ageMean, float ageSpread,
+                           float healthyShare, float vaccinatedShare) {
+        this.requestedPetIds = requestedPetIds;
+        this.typeShares = typeShares;
+        this.ageMean = ageMean;
+        this.ageSpread = ageSpread;
+        this.healthyShare = healthyShare;
+        this.vaccinatedShare = vaccinatedShare;
+    }
+
+    boolean isEmpty() {
+        return requestedPetIds.length == 0;
+    }
+
+    /**
+     * Gets the pets the adopter already requested, sorted for binary search
+     */
+    int[] getRequestedPetIds() {
+        return requestedPetIds;
+    }
+
+    /**
+     * Gets the weighted share of requests for one pet type
+     * @return share between 0 and 1
+     */
+    float getTypeShare(int petTypeId) {
+        Float share = typeShares.get(petTypeId);
+        return share != null ? share : 0f;
+    }
+
+    float getAgeMean() {
+        return ageMean;
+    }
+
+    float getAgeSpread() {
+        return ageSpread;
+    }
+
+    float getHealthyShare() {
+        return healthyShare;
+    }
+
+    float getVaccinatedShare() {
+        return vaccinatedShare;
+    }
+
+    /**
+     * Collects request rows and builds the history
+     */
+    static class Builder {
+        private int[] petIds = new int[16];
+        private int count = 0;
+        private final Map<Integer, Float> typeWeights = new HashMap<>();
+        private float totalWeight = 0;
+        private float ageSum = 0;
+        private float ageSquareSum = 0;
+        private float healthyWeight = 0;
+        private float vaccinatedWeight = 0;
+
+        void add(int petId, int petTypeId, int age, boolean healthy, boolean vaccinated, boolean approved) {
+            if (count == petIds.length) {
+                petIds = Arrays.copyOf(petIds, count * 2);
+            }
+            petIds[count++] = petId;
+
+            float weight = approved ? APPROVED_WEIGHT : OTHER_WEIGHT;
+            typeWeights.merge(petTypeId, weight, Float::sum);
+            totalWeight += weight;
+            ageSum += weight * age;
+            ageSquareSum += weight * age * age;
+            if (healthy) {
+                healthyWeight += weight;
+            }
+            if (vaccinated) {
+                vaccinatedWeight += weight;
+            }
+        }
+
+        AdopterHistory build() {
+            int[] requested = Arrays.copyOf(petIds, count);
+            Arrays.sort(requested);
+            if (totalWeight == 0) {
+                return new AdopterHistory(requested, Map.of(), 0, 0, 0, 0);
+            }
+
+            Map<Integer, Float> shares = new HashMap<>();
+            for (Map.Entry<Integer, Float> entry : typeWeights.entrySet()) {
+                shares.put(entry.getKey(), entry.getValue() / totalWeight);
+            }
+            float mean = ageSum / totalWeight;
+            float variance = Math.max(0, ageSquareSum / totalWeight - mean * mean);
+            return new AdopterHistory(requested, shares, mean, (float) Math.sqrt(variance),
+                    healthyWeight / totalWeight, vaccinatedWeight / totalWeight);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.furever.recommend;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Feature vectors of the pets that can currently be recommended, stored column-wise in
+ * primitive arrays so a full ranking pass touches a few dense arrays and allocates nothing.
+ * Pets are kept in dense slots: removing a pet moves the last slot into the gap.
+ * Not thread-safe; PetRecommender guards it with a read/write lock.
+ */
+class PetCandidates {
+
+    static final int FLAG_HEALTHY = 1;
+    static final int FLAG_VACCINATED = 2;
+    static final int FLAG_COMBINATIONS = 4;
+
+    // Ages are clamped so per-adopter age tables stay small
+    static final int MAX_AGE = 30;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int size = 0;
+    private int[] petIds = new int[INITIAL_CAPACITY];
+    private int[] typeIds = new int[INITIAL_CAPACITY];
+    private byte[] ages = new byte[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private float[] baseScores = new float[INITIAL_CAPACITY];
+    private int[] pendingCounts = new int[INITIAL_CAPACITY];
+    private final Map<Integer, Integer> slotsByPetId = new HashMap<>();
+    private int maxTypeId = 0;
+
+    /**
+     * Adds a pet or replaces its features
+     * @param pendingRequests Number of pending requests for the pet
+     * @param baseScore Adopter-independent part of the score (popularity, recency)
+     */
+    void put(int petId, int typeId, int age, boolean healthy, boolean vaccinated, int pendingRequests, float baseScore) {
+        Integer slot = slotsByPetId.get(petId);
+        if (slot == null) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            slotsByPetId.put(petId, slot);
+        }
+        petIds[slot] = petId;
+        typeIds[slot] = Math.max(0, typeId);
+        ages[slot] = (byte) Math.max(0, Math.min(MAX_AGE, age));
+        flags[slot] = (byte) ((healthy ? FLAG_HEALTHY : 0) | (vaccinated ? FLAG_VACCINATED : 0));
+        baseScores[slot] = baseScore;
+        pendingCounts[slot] = pendingRequests;
+        maxTypeId = Math.max(maxTypeId, typeIds[slot]);
+    }
+
+    /**
+     * Removes a pet, e.g. because it is no longer Available
+     * @return true if the pet was a candidate
+     */
+    boolean remove(int petId) {
+        Integer slot = slotsByPetId.remove(petId);
+        if (slot == null) {
+            return false;
+        }
+        int last = --size;
+        if (slot != last) {
+            petIds[slot] = petIds[last];
+            typeIds[slot] = typeIds[last];
+            ages[slot] = ages[last];
+            flags[slot] = flags[last];
+            baseScores[slot] = baseScores[last];
+            pendingCounts[slot] = pendingCounts[last];
+            slotsByPetId.put(petIds[slot], slot);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the pending request counts of all candidates and moves their base scores by the
+     * change in popularity
+     * @param counts Pending requests per pet ID; pets not in the map have none
+     * @param popularity Popularity part of the base score for a pending request count
+     */
+    void updatePendingCounts(Map<Integer, Integer> counts, IntToDoubleFunction popularity) {
+        for (int i = 0; i < size; i++) {
+            int count = counts.getOrDefault(petIds[i], 0);
+            if (count != pendingCounts[i]) {
+                baseScores[i] += (float) (popularity.applyAsDouble(count) - popularity.applyAsDouble(pendingCounts[i]));
+                pendingCounts[i] = count;
+            }
+        }
+    }
+
+    boolean contains(int petId) {
+        return slotsByPetId.containsKey(petId);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the highest pet type ID seen, for sizing per-adopter type tables
+     * @return highest type ID, 0 if there are no candidates
+     */
+    int getMaxTypeId() {
+        return maxTypeId;
+    }
+
+    /**
+     * Ranks every candidate and keeps the k best.
+     * The score of a pet is baseScore + typeScores[type] + ageScores[age] + flagScores[flags];
+     * a negative infinite table entry excludes the pet. Pets in excludedPetIds are skipped.
+     * @param typeScores Score per pet type ID, at least getMaxTypeId() + 1 entries
+     * @param ageScores Score per age, MAX_AGE + 1 entries
+     * @param flagScores Score per health/vaccination flag combination, FLAG_COMBINATIONS entries
+     * @param excludedPetIds Sorted pet IDs that must not be returned
+     * @param heap Result holder sized for k
+     */
+    void topK(float[] typeScores, float[] ageScores, float[] flagScores, int[] excludedPetIds, TopK heap) {
+        heap.clear();
+        // Locals let the JIT keep the arrays in registers across the heap calls
+        int count = size;
+        int[] ids = petIds;
+        int[] types = typeIds;
+        byte[] petAges = ages;
+        byte[] petFlags = flags;
+        float[] base = baseScores;
+        for (int i = 0; i < count; i++) {
+            float score = base[i] + typeScores[types[i]] + ageScores[petAges[i]] + flagScores[petFlags[i]];
+            if (heap.accepts(score) && Arrays.binarySearch(excludedPetIds, ids[i]) < 0) {
+                heap.offer(ids[i], score);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= petIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, petIds.length * 2);
+        petIds = Arrays.copyOf(petIds, newCapacity);
+        typeIds = Arrays.copyOf(typeIds, newCapacity);
+        ages = Arrays.copyOf(ages, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+        baseScores = Arrays.copyOf(baseScores, newCapacity);
+        pendingCounts = Arrays.copyOf(pendingCounts, newCapacity);
+    }
+}
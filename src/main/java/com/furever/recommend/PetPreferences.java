@@ -0,0 +1,60 @@
+package com.furever.recommend;
+
+/**
+ * Explicit filters an adopter can set on top of the preferences learned from their requests.
+ * Every filter is optional; pets that do not pass a filter are never recommended.
+ */
+public class PetPreferences {
+    private int petTypeId = 0;
+    private int minAge = 0;
+    private int maxAge = Integer.MAX_VALUE;
+    private boolean healthyOnly = false;
+    private boolean vaccinatedOnly = false;
+
+    // Default constructor (no filters)
+    public PetPreferences() {}
+
+    // Getters and Setters
+    public int getPetTypeId() {
+        return petTypeId;
+    }
+
+    /**
+     * @param petTypeId Only recommend this pet type; 0 for any type
+     */
+    public void setPetTypeId(int petTypeId) {
+        this.petTypeId = petTypeId;
+    }
+
+    public int getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(int minAge) {
+        this.minAge = minAge;
+    }
+
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(int maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public boolean isHealthyOnly() {
+        return healthyOnly;
+    }
+
+    public void setHealthyOnly(boolean healthyOnly) {
+        this.healthyOnly = healthyOnly;
+    }
+
+    public boolean isVaccinatedOnly() {
+        return vaccinatedOnly;
+    }
+
+    public void setVaccinatedOnly(boolean vaccinatedOnly) {
+        this.vaccinatedOnly = vaccinatedOnly;
+    }
+}
@@ -0,0 +1,539 @@
+package com.furever.recommend;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.furever.cache.EntityCache;
+import com.furever.database.ChangeNotifier;
+import com.furever.database.DbConnection;
+import com.furever.database.SqlCatalog;
+import com.furever.utils.ThreadSupport;
+
+/**
+ * Ranks available pets for an adopter.
+ * Every Available, non-archived pet is kept in memory as a small feature vector. A ranking
+ * turns the adopter's request history and filters into lookup tables (per type, per age,
+ * per health/vaccination combination) and makes one pass over the candidates with a
+ * bounded heap, so no SQL runs on the ranking path once the history is cached.
+ * Candidates are built in the background at startup and kept current from ChangeNotifier
+ * events the same way as the search indexes: changed pets are re-read just before the next
+ * ranking. A change to many requests at once only reloads the pending request counts; a
+ * change to many pets rebuilds the set in the background while the old set keeps serving.
+ * While the candidate set is cold recommend() returns null.
+ */
+public class PetRecommender {
+
+    private static final String CANDIDATE_SQL =
+            "SELECT p.pet_id, p.pet_type_id, p.age, p.health_status, p.vaccination_status, p.date_registered, " +
+            "p.adoption_status, p.archived, " +
+            "(SELECT COUNT(*) FROM tbl_adoption_request r WHERE r.pet_id = p.pet_id AND r.status = 'Pending') AS pending_requests " +
+            "FROM tbl_pet p";
+
+    public static final String BUILD_SQL = CANDIDATE_SQL + " WHERE p.adoption_status = 'Available' AND p.archived = false";
+
+    public static final String PENDING_COUNTS_SQL =
+            "SELECT pet_id, COUNT(*) AS pending_requests FROM tbl_adoption_request WHERE status = 'Pending' GROUP BY pet_id";
+
+    public static final String HISTORY_SQL = SqlCatalog.register(
+            "SELECT r.pet_id, r.status, p.pet_type_id, p.age, p.health_status, p.vaccination_status " +
+            "FROM tbl_adoption_request r JOIN tbl_pet p ON p.pet_id = r.pet_id WHERE r.adopter_id = ?");
+
+    // Score weights; a perfect type match outweighs a perfect age match, which outweighs health
+    private static final float TYPE_WEIGHT = 3.0f;
+    private static final float AGE_WEIGHT = 2.0f;
+    private static final float HEALTHY_WEIGHT = 0.5f;
+    private static final float VACCINATED_WEIGHT = 0.5f;
+    private static final float HISTORY_FLAG_WEIGHT = 0.5f;
+    // Pets with many pending requests are pushed down so interest spreads across pets
+    private static final float POPULARITY_WEIGHT = 0.75f;
+    // Newly registered pets get a boost that halves roughly every two months
+    private static final float RECENCY_WEIGHT = 1.0f;
+    private static final double RECENCY_DAYS = 90.0;
+    // Age band used when the adopter has no history or always picked the same age
+    private static final float DEFAULT_AGE_SPREAD = 2.0f;
+
+    private static final int HISTORY_CACHE_SIZE = 10_000;
+    private static final long HISTORY_TTL_MILLIS = 10 * 60 * 1000L;
+
+    private static final PetRecommender INSTANCE = new PetRecommender();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private PetCandidates candidates = new PetCandidates(); // Guarded by lock
+    private volatile boolean ready = false;
+    private volatile boolean rebuildQueued = false;
+
+    private final Set<Integer> dirtyPetIds = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> dirtyRequestIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingCountsStale = false;
+
+    // A rebuild may read a pet before a refresh of the old set re-reads it, so what was
+    // refreshed during a rebuild is refreshed again once the new set is swapped in
+    private boolean rebuilding = false; // Guarded by this
+    private final Set<Integer> refreshedDuringRebuild = new HashSet<>(); // Guarded by this
+    private boolean countsRefreshedDuringRebuild = false; // Guarded by this
+
+    // Histories are immutable, so the cache can hand out the same instance
+    private final EntityCache<Integer, AdopterHistory> histories =
+            new EntityCache<>("histories", HISTORY_CACHE_SIZE, HISTORY_TTL_MILLIS, history -> history);
+
+    private final ExecutorService builder =
+            Executors.newSingleThreadExecutor(ThreadSupport.daemonThreadFactory("furever-recommender"));
+
+    private PetRecommender() {
+        ChangeNotifier.addListener(this::onChange);
+    }
+
+    /**
+     * Gets the shared recommender
+     * @return PetRecommender instance
+     */
+    public static PetRecommender getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts building the candidate set in the background
+     */
+    public void start() {
+        requestRebuild();
+    }
+
+    /**
+     * Checks whether the candidate set is built
+     * @return true if recommendations are served from memory
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Gets the number of pets that can currently be recommended
+     * @return candidate count, or -1 if the candidate set is cold
+     */
+    public int getCandidateCount() {
+        if (!ready) {
+            return -1;
+        }
+        lock.readLock().lock();
+        try {
+            return candidates.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recommends available pets for an adopter.
+     * Pets the adopter already requested are never returned.
+     * @param adopterId Adopter to rank for
+     * @param preferences Explicit filters, or null for none
+     * @param limit Maximum number of results
+     * @return recommendations ordered from best to worst match, or null if the candidate set
+     *         is not available yet or the adopter's history could not be read
+     */
+    public List<Recommendation> recommend(int adopterId, PetPreferences preferences, int limit) {
+        if (!ready || limit < 1) {
+            return ready ? new ArrayList<>() : null;
+        }
+        if ((!dirtyPetIds.isEmpty() || !dirtyRequestIds.isEmpty() || pendingCountsStale) && !refreshDirty()) {
+            return null;
+        }
+
+        AdopterHistory history = histories.getOrLoad(adopterId, this::loadHistory);
+        if (history == null) {
+            return null;
+        }
+        PetPreferences filters = preferences != null ? preferences : new PetPreferences();
+
+        TopK heap = new TopK(limit);
+        lock.readLock().lock();
+        try {
+            candidates.topK(typeScores(history, filters, candidates.getMaxTypeId()), ageScores(history, filters),
+                    flagScores(history, filters), history.getRequestedPetIds(), heap);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int[] ids = new int[heap.size()];
+        float[] scores = new float[heap.size()];
+        int count = heap.drainDescending(ids, scores);
+
+        List<Recommendation> recommendations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            recommendations.add(new Recommendation(ids[i], scores[i]));
+        }
+        return recommendations;
+    }
+
+    /**
+     * Builds the per-type score table: the share of the adopter's requests for each type
+     */
+    private static float[] typeScores(AdopterHistory history, PetPreferences filters, int maxTypeId) {
+        float[] scores = new float[maxTypeId + 1];
+        for (int typeId = 0; typeId <= maxTypeId; typeId++) {
+            if (filters.getPetTypeId() > 0 && typeId != filters.getPetTypeId()) {
+                scores[typeId] = Float.NEGATIVE_INFINITY;
+            } else {
+                scores[typeId] = TYPE_WEIGHT * history.getTypeShare(typeId);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Builds the per-age score table: a bell curve around the ages the adopter requested before
+     */
+    private static float[] ageScores(AdopterHistory history, PetPreferences filters) {
+        float[] scores = new float[PetCandidates.MAX_AGE + 1];
+        float spread = Math.max(DEFAULT_AGE_SPREAD, history.getAgeSpread());
+        for (int age = 0; age <= PetCandidates.MAX_AGE; age++) {
+            if (age < filters.getMinAge() || age > filters.getMaxAge()) {
+                scores[age] = Float.NEGATIVE_INFINITY;
+            } else if (!history.isEmpty()) {
+                float distance = (age - history.getAgeMean()) / spread;
+                scores[age] = AGE_WEIGHT * (float) Math.exp(-0.5 * distance * distance);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Builds the score table for the four health/vaccination combinations
+     */
+    private static float[] flagScores(AdopterHistory history, PetPreferences filters) {
+        float[] scores = new float[PetCandidates.FLAG_COMBINATIONS];
+        for (int flags = 0; flags < PetCandidates.FLAG_COMBINATIONS; flags++) {
+            boolean healthy = (flags & PetCandidates.FLAG_HEALTHY) != 0;
+            boolean vaccinated = (flags & PetCandidates.FLAG_VACCINATED) != 0;
+            if ((filters.isHealthyOnly() && !healthy) || (filters.isVaccinatedOnly() && !vaccinated)) {
+                scores[flags] = Float.NEGATIVE_INFINITY;
+                continue;
+            }
+
+            float score = 0;
+            if (healthy) {
+                score += HEALTHY_WEIGHT + HISTORY_FLAG_WEIGHT * history.getHealthyShare();
+            }
+            if (vaccinated) {
+                score += VACCINATED_WEIGHT + HISTORY_FLAG_WEIGHT * history.getVaccinatedShare();
+            }
+            scores[flags] = score;
+        }
+        return scores;
+    }
+
+    private void onChange(String table, int id) {
+        switch (table) {
+            case "tbl_pet":
+                if (id == ChangeNotifier.ALL_ROWS) {
+                    histories.invalidateAll();
+                    requestRebuild();
+                } else {
+                    dirtyPetIds.add(id);
+                }
+                break;
+            case "tbl_adoption_request":
+                // Requests change histories and the pending counts of their pets
+                histories.invalidateAll();
+                if (id == ChangeNotifier.ALL_ROWS) {
+                    pendingCountsStale = true;
+                } else {
+                    dirtyRequestIds.add(id);
+                }
+                break;
+            case "tbl_adopter":
+                // Deleting an adopter cascades to their requests
+                histories.invalidateAll();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void requestRebuild() {
+        synchronized (this) {
+            if (rebuildQueued) {
+                return;
+            }
+            rebuildQueued = true;
+        }
+        builder.execute(this::rebuild);
+    }
+
+    /**
+     * Builds a fresh candidate set off to the side and swaps it in once complete
+     */
+    private void rebuild() {
+        synchronized (this) {
+            rebuildQueued = false;
+            rebuilding = true;
+        }
+
+        PetCandidates fresh = new PetCandidates();
+        LocalDate today = LocalDate.now();
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = DbConnection.prepareStreamingStatement(conn, BUILD_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                putRow(fresh, rs, today);
+            }
+
+        } catch (SQLException e) {
+            // The old set, if any, keeps serving
+            System.err.println("Error building pet recommendations: " + e.getMessage());
+            synchronized (this) {
+                endRebuild();
+            }
+            return;
+        }
+
+        synchronized (this) {
+            lock.writeLock().lock();
+            try {
+                candidates = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            endRebuild();
+        }
+    }
+
+    /**
+     * Marks what was refreshed while the rebuild ran for another refresh
+     */
+    private void endRebuild() {
+        rebuilding = false;
+        dirtyPetIds.addAll(refreshedDuringRebuild);
+        refreshedDuringRebuild.clear();
+        if (countsRefreshedDuringRebuild) {
+            pendingCountsStale = true;
+            countsRefreshedDuringRebuild = false;
+        }
+    }
+
+    /**
+     * Re-reads pets changed since the last ranking, including pets whose requests changed,
+     * and adds or removes them from the candidate set
+     * @return true if the candidate set is current, false if the rows could not be read
+     */
+    private synchronized boolean refreshDirty() {
+        if (pendingCountsStale && !refreshPendingCounts()) {
+            return false;
+        }
+        if (dirtyPetIds.isEmpty() && dirtyRequestIds.isEmpty()) {
+            return true;
+        }
+        List<Integer> requestIds = new ArrayList<>(dirtyRequestIds);
+        Set<Integer> petIds = new HashSet<>(dirtyPetIds);
+        List<Integer> changedPetIds = new ArrayList<>(petIds);
+        List<PetRow> rows = new ArrayList<>();
+
+        try (Connection conn = DbConnection.getConnection()) {
+
+            if (!requestIds.isEmpty()) {
+                String sql = "SELECT DISTINCT r.pet_id FROM tbl_adoption_request r WHERE r.adoption_request_id IN (" +
+                        placeholders(requestIds.size()) + ")";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < requestIds.size(); i++) {
+                        pstmt.setInt(i + 1, requestIds.get(i));
+                    }
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            if (petIds.add(rs.getInt(1))) {
+                                changedPetIds.add(rs.getInt(1));
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (!changedPetIds.isEmpty()) {
+                String sql = CANDIDATE_SQL + " WHERE p.pet_id IN (" + placeholders(changedPetIds.size()) + ")";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < changedPetIds.size(); i++) {
+                        pstmt.setInt(i + 1, changedPetIds.get(i));
+                    }
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            rows.add(new PetRow(rs));
+                        }
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error refreshing pet recommendations: " + e.getMessage());
+            return false;
+        }
+
+        LocalDate today = LocalDate.now();
+        lock.writeLock().lock();
+        try {
+            Set<Integer> found = new HashSet<>();
+            for (PetRow row : rows) {
+                found.add(row.petId);
+                if (row.isCandidate()) {
+                    candidates.put(row.petId, row.petTypeId, row.age, row.healthy, row.vaccinated,
+                            row.pendingRequests, row.baseScore(today));
+                } else {
+                    candidates.remove(row.petId);
+                }
+            }
+            for (int petId : changedPetIds) {
+                if (!found.contains(petId)) {
+                    candidates.remove(petId); // Row was deleted or archived away
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        dirtyPetIds.removeAll(petIds);
+        dirtyRequestIds.removeAll(requestIds);
+        if (rebuilding) {
+            refreshedDuringRebuild.addAll(petIds);
+        }
+        return true;
+    }
+
+    /**
+     * Reloads the pending request counts of all candidates with one aggregate query, after
+     * a change to many requests at once
+     * @return true if the counts are current, false if they could not be read
+     */
+    private synchronized boolean refreshPendingCounts() {
+        pendingCountsStale = false;
+        Map<Integer, Integer> counts = new HashMap<>();
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(PENDING_COUNTS_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                counts.put(rs.getInt("pet_id"), rs.getInt("pending_requests"));
+            }
+
+        } catch (SQLException e) {
+            pendingCountsStale = true;
+            System.err.println("Error refreshing pending request counts: " + e.getMessage());
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            candidates.updatePendingCounts(counts, PetRecommender::popularityScore);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (rebuilding) {
+            countsRefreshedDuringRebuild = true;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the adopter's requests, including rejected ones so they are not suggested again
+     * @return history, empty for adopters without requests, or null if it could not be read
+     */
+    private AdopterHistory loadHistory(int adopterId) {
+        AdopterHistory.Builder history = new AdopterHistory.Builder();
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(HISTORY_SQL)) {
+
+            pstmt.setInt(1, adopterId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    history.add(rs.getInt("pet_id"), rs.getInt("pet_type_id"), rs.getInt("age"),
+                            "Healthy".equals(rs.getString("health_status")),
+                            "Vaccinated".equals(rs.getString("vaccination_status")),
+                            "Approved".equals(rs.getString("status")));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error loading adoption history: " + e.getMessage());
+            return null;
+        }
+        return history.build();
+    }
+
+    private static void putRow(PetCandidates target, ResultSet rs, LocalDate today) throws SQLException {
+        PetRow row = new PetRow(rs);
+        target.put(row.petId, row.petTypeId, row.age, row.healthy, row.vaccinated, row.pendingRequests, row.baseScore(today));
+    }
+
+    /**
+     * Scores popularity: pets with many pending requests rank lower
+     */
+    private static double popularityScore(int pendingRequests) {
+        return -POPULARITY_WEIGHT * Math.log1p(pendingRequests);
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * One candidate query row, read before taking the write lock
+     */
+    private static final class PetRow {
+        final int petId;
+        final int petTypeId;
+        final int age;
+        final boolean healthy;
+        final boolean vaccinated;
+        final LocalDate registered;
+        final boolean available;
+        final boolean archived;
+        final int pendingRequests;
+
+        PetRow(ResultSet rs) throws SQLException {
+            petId = rs.getInt("pet_id");
+            petTypeId = rs.getInt("pet_type_id");
+            age = rs.getInt("age");
+            healthy = "Healthy".equals(rs.getString("health_status"));
+            vaccinated = "Vaccinated".equals(rs.getString("vaccination_status"));
+            Date date = rs.getDate("date_registered");
+            registered = date != null ? date.toLocalDate() : null;
+            available = "Available".equals(rs.getString("adoption_status"));
+            archived = rs.getBoolean("archived");
+            pendingRequests = rs.getInt("pending_requests");
+        }
+
+        boolean isCandidate() {
+            return available && !archived;
+        }
+
+        /**
+         * Scores the adopter-independent part: fewer pending requests and newer pets rank higher
+         */
+        float baseScore(LocalDate today) {
+            double score = popularityScore(pendingRequests);
+            if (registered != null) {
+                long days = Math.max(0, ChronoUnit.DAYS.between(registered, today));
+                score += RECENCY_WEIGHT * Math.exp(-days / RECENCY_DAYS);
+            }
+            return (float) score;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.furever.recommend;
+
+/**
+ * One recommended pet and its score; higher scores are better matches
+ */
+public class Recommendation {
+
+    private final int petId;
+    private final float score;
+
+    public Recommendation(int petId, float score) {
+        this.petId = petId;
+        this.score = score;
+    }
+
+    public int getPetId() {
+        return petId;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "Recommendation{petId=" + petId + ", score=" + score + '}';
+    }
+}
@@ -0,0 +1,114 @@
+package com.furever.recommend;
+
+/**
+ * Bounded min-heap of (pet ID, score) pairs on primitive arrays.
+ * The root is the weakest of the kept entries, so a candidate only has to beat the root.
+ */
+class TopK {
+
+    private final int[] ids;
+    private final float[] scores;
+    private int size = 0;
+
+    TopK(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be at least 1");
+        }
+        ids = new int[k];
+        scores = new float[k];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether a score would be kept, without changing the heap
+     * @return true if the score is finite and the heap has room or the score beats the weakest entry
+     */
+    boolean accepts(float score) {
+        if (score == Float.NEGATIVE_INFINITY) {
+            return false;
+        }
+        return size < ids.length || score > scores[0];
+    }
+
+    /**
+     * Adds an entry that accepts() approved
+     */
+    void offer(int id, float score) {
+        if (size < ids.length) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+        } else {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Empties the heap into arrays ordered from best to worst score
+     * @param outIds Receives the IDs, at least size() entries
+     * @param outScores Receives the scores, at least size() entries
+     * @return number of entries written
+     */
+    int drainDescending(int[] outIds, float[] outScores) {
+        int count = size;
+        for (int i = count - 1; i >= 0; i--) {
+            outIds[i] = ids[0];
+            outScores[i] = scores[0];
+            size--;
+            if (size > 0) {
+                ids[0] = ids[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+        }
+        return count;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && scores[right] < scores[left]) {
+                smallest = right;
+            }
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
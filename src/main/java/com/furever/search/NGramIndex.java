@@ -0,0 +1,394 @@
+package com.furever.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over short text fields.
+ * The first field of a document is its key (a pet's or adopter's name): its lower-cased text
+ * is indexed by trigrams, so containing() finds the same rows as SQL LIKE '%term%' on that
+ * column without scanning. For fuzzy search every field is also split into lower-cased
+ * tokens; tokens are indexed whole (for prefix matching) and as padded trigrams (for fuzzy
+ * matching). Fields carry a weight so that, for example, a match on a pet's name ranks above
+ * a match in its description.
+ * Thread-safe: searches share a read lock, updates take the write lock.
+ */
+public class NGramIndex {
+
+    private static final int GRAM_SIZE = 3;
+
+    // Minimum fraction of a query token's trigrams a document must share to count as a fuzzy match
+    private static final double FUZZY_THRESHOLD = 0.4;
+
+    private static final double PREFIX_BONUS = 1.0;
+    private static final double EXACT_BONUS = 0.5;
+
+    /**
+     * Tokens of one indexed document with the highest weight each token appears with
+     */
+    private static final class Document {
+        final String key;
+        final Map<String, Double> tokenWeights;
+        final Set<String> grams;
+
+        Document(String key, Map<String, Double> tokenWeights, Set<String> grams) {
+            this.key = key;
+            this.tokenWeights = tokenWeights;
+            this.grams = grams;
+        }
+    }
+
+    private final String name;
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final Map<String, Set<Integer>> keyGramPostings = new HashMap<>();
+    private final NavigableMap<String, Set<Integer>> tokenPostings = new TreeMap<>();
+    private final Map<String, Set<Integer>> gramPostings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public NGramIndex(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds or replaces a document
+     * @param id Document ID (primary key of the row)
+     * @param fields Field values, the key field first; null values are skipped
+     * @param weights Weight of each field, same length as fields
+     */
+    public void put(int id, String[] fields, double[] weights) {
+        Map<String, Double> tokenWeights = new HashMap<>();
+        for (int i = 0; i < fields.length; i++) {
+            for (String token : tokenize(fields[i])) {
+                tokenWeights.merge(token, weights[i], Math::max);
+            }
+        }
+        Set<String> grams = new HashSet<>();
+        for (String token : tokenWeights.keySet()) {
+            addGrams(token, grams);
+        }
+        // A null key matches no containing() query, as NULL matches no LIKE pattern
+        String key = fields.length > 0 && fields[0] != null ? fields[0].toLowerCase(Locale.ROOT) : null;
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            Document document = new Document(key, tokenWeights, grams);
+            documents.put(id, document);
+            for (String token : tokenWeights.keySet()) {
+                tokenPostings.computeIfAbsent(token, k -> new HashSet<>()).add(id);
+            }
+            for (String gram : grams) {
+                gramPostings.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+            }
+            for (String gram : keyGrams(key)) {
+                keyGramPostings.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document
+     * @param id Document ID
+     */
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every document
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            keyGramPostings.clear();
+            tokenPostings.clear();
+            gramPostings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(int id) {
+        Document old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String token : old.tokenWeights.keySet()) {
+            removePosting(tokenPostings, token, id);
+        }
+        for (String gram : old.grams) {
+            removePosting(gramPostings, gram, id);
+        }
+        for (String gram : keyGrams(old.key)) {
+            removePosting(keyGramPostings, gram, id);
+        }
+    }
+
+    private static void removePosting(Map<String, Set<Integer>> postings, String key, int id) {
+        Set<Integer> ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Finds every document whose key contains the query, ignoring case: the rows SQL
+     * LIKE '%query%' finds on the key column. Queries of three or more characters are
+     * narrowed down by the key's trigrams; shorter ones check every key, as LIKE does.
+     * @param query Text to look for
+     * @return IDs of all matching documents: an exact match first, then keys starting with
+     *         the query, then the rest, each group ordered by key and then by ID
+     */
+    public List<Integer> containing(String query) {
+        String needle = query.toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            List<Integer> ids = new ArrayList<>();
+            for (int id : keyCandidates(needle)) {
+                String key = documents.get(id).key;
+                if (key != null && key.contains(needle)) {
+                    ids.add(id);
+                }
+            }
+            Comparator<Integer> order = Comparator
+                    .comparingInt((Integer id) -> keyRank(documents.get(id).key, needle))
+                    .thenComparing(id -> documents.get(id).key)
+                    .thenComparing(Comparator.naturalOrder());
+            ids.sort(order);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the documents whose key can contain the needle: those sharing its rarest trigram
+     */
+    private Collection<Integer> keyCandidates(String needle) {
+        if (needle.length() < GRAM_SIZE) {
+            return documents.keySet();
+        }
+        Set<Integer> smallest = null;
+        for (String gram : keyGrams(needle)) {
+            Set<Integer> ids = keyGramPostings.get(gram);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        return smallest;
+    }
+
+    private static int keyRank(String key, String needle) {
+        if (key.equals(needle)) {
+            return 0;
+        }
+        return key.startsWith(needle) ? 1 : 2;
+    }
+
+    /**
+     * Searches the index fuzzily.
+     * Every query token must match a document token either as a prefix or, for tokens of
+     * three or more characters, fuzzily by shared trigrams. Results are ranked by match
+     * quality and field weight.
+     * @param query Search text
+     * @param limit Maximum number of hits
+     * @return hits ordered by descending score
+     */
+    public List<SearchHit> search(String query, int limit) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> scores = null;
+
+            for (String queryToken : queryTokens) {
+                Map<Integer, Double> tokenScores = scoreToken(queryToken);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    // Documents must match every query token
+                    Map<Integer, Double> combined = new HashMap<>();
+                    for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                        Double other = tokenScores.get(entry.getKey());
+                        if (other != null) {
+                            combined.put(entry.getKey(), entry.getValue() + other);
+                        }
+                    }
+                    scores = combined;
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(scores.size());
+            for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                hits.add(new SearchHit(entry.getKey(), entry.getValue()));
+            }
+            hits.sort((a, b) -> a.getScore() != b.getScore()
+                    ? Double.compare(b.getScore(), a.getScore())
+                    : Integer.compare(a.getId(), b.getId()));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores every document matching one query token
+     */
+    private Map<Integer, Double> scoreToken(String queryToken) {
+        Map<Integer, Double> scores = new HashMap<>();
+
+        // Prefix matches: every indexed token that starts with the query token
+        for (Map.Entry<String, Set<Integer>> entry
+                : tokenPostings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).entrySet()) {
+            boolean exact = entry.getKey().equals(queryToken);
+            for (int id : entry.getValue()) {
+                double weight = documents.get(id).tokenWeights.get(entry.getKey());
+                double score = weight * (PREFIX_BONUS + (exact ? EXACT_BONUS : 0.0) + 1.0);
+                scores.merge(id, score, Math::max);
+            }
+        }
+
+        // Fuzzy matches by shared trigrams
+        if (queryToken.length() >= GRAM_SIZE) {
+            Set<String> queryGrams = new HashSet<>();
+            addGrams(queryToken, queryGrams);
+
+            Map<Integer, Integer> shared = new HashMap<>();
+            for (String gram : queryGrams) {
+                Set<Integer> ids = gramPostings.get(gram);
+                if (ids != null) {
+                    for (int id : ids) {
+                        shared.merge(id, 1, Integer::sum);
+                    }
+                }
+            }
+
+            for (Map.Entry<Integer, Integer> entry : shared.entrySet()) {
+                double similarity = (double) entry.getValue() / queryGrams.size();
+                if (similarity >= FUZZY_THRESHOLD && !scores.containsKey(entry.getKey())) {
+                    Document document = documents.get(entry.getKey());
+                    scores.put(entry.getKey(), similarity * bestWeight(document, queryGrams));
+                }
+            }
+        }
+
+        return scores;
+    }
+
+    /**
+     * Finds the weight of the document token sharing the most trigrams with the query
+     */
+    private static double bestWeight(Document document, Set<String> queryGrams) {
+        double best = 0.0;
+        int bestShared = 0;
+        for (Map.Entry<String, Double> entry : document.tokenWeights.entrySet()) {
+            Set<String> tokenGrams = new HashSet<>();
+            addGrams(entry.getKey(), tokenGrams);
+            tokenGrams.retainAll(queryGrams);
+            if (tokenGrams.size() > bestShared || (tokenGrams.size() == bestShared && entry.getValue() > best)) {
+                bestShared = tokenGrams.size();
+                best = entry.getValue();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Splits text into lower-case alphanumeric tokens
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c);
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Gets the unpadded trigrams of a key, spaces and punctuation included; none for a null key
+     */
+    private static Set<String> keyGrams(String key) {
+        Set<String> grams = new HashSet<>();
+        if (key == null) {
+            return grams;
+        }
+        for (int i = 0; i + GRAM_SIZE <= key.length(); i++) {
+            grams.add(key.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * Adds the trigrams of a token padded with ^ and $, e.g. "max" gives ^ma, max, ax$
+     */
+    private static void addGrams(String token, Set<String> grams) {
+        String padded = "^" + token + "$";
+        for (int i = 0; i + GRAM_SIZE <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_SIZE));
+        }
+    }
+
+    /**
+     * Gets the number of indexed documents
+     * @return document count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
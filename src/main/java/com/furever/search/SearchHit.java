@@ -0,0 +1,28 @@
+package com.furever.search;
+
+/**
+ * One ranked result from an n-gram index
+ */
+public final class SearchHit {
+
+    private final int id;
+    private final double score;
+
+    public SearchHit(int id, double score) {
+        this.id = id;
+        this.score = score;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchHit{id=" + id + ", score=" + String.format("%.3f", score) + '}';
+    }
+}
@@ -0,0 +1,295 @@
+package com.furever.search;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import com.furever.database.ChangeNotifier;
+import com.furever.database.DbConnection;
+import com.furever.utils.ThreadSupport;
+
+/**
+ * Keeps n-gram search indexes over pets (name, type, description) and adopters (name, email).
+ * Name searches return exactly the rows of the SQL LIKE '%term%' scan they replace, in the
+ * same order, so results do not change when an index becomes cold; fuzzy matching over all
+ * fields is offered separately as suggestions. Indexes are built in the background at startup and kept current from ChangeNotifier events:
+ * changed rows are re-read just before the next search, and bulk changes trigger a rebuild.
+ * While an index is cold (not built yet or rebuilding) searches return null so callers can
+ * fall back to SQL.
+ */
+public class SearchService {
+
+    private static final String PET_SQL =
+            "SELECT p.pet_id, p.pet_name, p.description, t.pet_type_name FROM tbl_pet p " +
+            "LEFT JOIN tbl_pet_type t ON t.pet_type_id = p.pet_type_id";
+    private static final double[] PET_WEIGHTS = {1.0, 0.6, 0.3};
+
+    private static final String ADOPTER_SQL =
+            "SELECT a.adopter_id, a.adopter_name, a.adopter_email FROM tbl_adopter a";
+    private static final double[] ADOPTER_WEIGHTS = {1.0, 0.7};
+
+    /**
+     * One index plus its freshness state
+     */
+    private static final class IndexState {
+        final String name;
+        final String selectSql;
+        final String idColumn;
+        final double[] weights;
+        final Set<Integer> dirtyIds = ConcurrentHashMap.newKeySet();
+        volatile NGramIndex index = null;
+        volatile boolean ready = false;
+        volatile boolean rebuildQueued = false;
+
+        IndexState(String name, String selectSql, String idColumn, double[] weights) {
+            this.name = name;
+            this.selectSql = selectSql;
+            this.idColumn = idColumn;
+            this.weights = weights;
+        }
+    }
+
+    private static final SearchService INSTANCE = new SearchService();
+
+    private final IndexState pets = new IndexState("pets", PET_SQL, "p.pet_id", PET_WEIGHTS);
+    private final IndexState adopters = new IndexState("adopters", ADOPTER_SQL, "a.adopter_id", ADOPTER_WEIGHTS);
+
+    private final ExecutorService indexer =
+            Executors.newSingleThreadExecutor(ThreadSupport.daemonThreadFactory("furever-search-indexer"));
+
+    private SearchService() {
+        ChangeNotifier.addListener(this::onChange);
+    }
+
+    /**
+     * Gets the shared search service
+     * @return SearchService instance
+     */
+    public static SearchService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts building both indexes in the background
+     */
+    public void start() {
+        requestRebuild(pets);
+        requestRebuild(adopters);
+    }
+
+    /**
+     * Finds all pets whose name contains the search text, as pet_name LIKE '%query%' does
+     * @param query Search text
+     * @return pet IDs, exact name first, then names starting with the text, then by name;
+     *         null if the index is not available yet
+     */
+    public List<Integer> searchPetIds(String query) {
+        return search(pets, index -> index.containing(query));
+    }
+
+    /**
+     * Finds all adopters whose name contains the search text, as adopter_name LIKE '%query%' does
+     * @param query Search text
+     * @return adopter IDs, exact name first, then names starting with the text, then by name;
+     *         null if the index is not available yet
+     */
+    public List<Integer> searchAdopterIds(String query) {
+        return search(adopters, index -> index.containing(query));
+    }
+
+    /**
+     * Suggests pets whose name, type or description match the search text by prefix or fuzzily
+     * @param query Search text
+     * @param limit Maximum number of suggestions
+     * @return pet IDs ordered by relevance, or null if the index is not available yet
+     */
+    public List<Integer> suggestPetIds(String query, int limit) {
+        return search(pets, index -> hitIds(index.search(query, limit)));
+    }
+
+    /**
+     * Suggests adopters whose name or email match the search text by prefix or fuzzily
+     * @param query Search text
+     * @param limit Maximum number of suggestions
+     * @return adopter IDs ordered by relevance, or null if the index is not available yet
+     */
+    public List<Integer> suggestAdopterIds(String query, int limit) {
+        return search(adopters, index -> hitIds(index.search(query, limit)));
+    }
+
+    /**
+     * Checks whether both indexes are built
+     * @return true if searches are served from memory
+     */
+    public boolean isReady() {
+        return pets.ready && adopters.ready;
+    }
+
+    /**
+     * Gets the number of indexed pets
+     * @return indexed pet count, or -1 if the index is cold
+     */
+    public int getIndexedPetCount() {
+        NGramIndex index = pets.index;
+        return pets.ready && index != null ? index.size() : -1;
+    }
+
+    /**
+     * Gets the number of indexed adopters
+     * @return indexed adopter count, or -1 if the index is cold
+     */
+    public int getIndexedAdopterCount() {
+        NGramIndex index = adopters.index;
+        return adopters.ready && index != null ? index.size() : -1;
+    }
+
+    private List<Integer> search(IndexState state, Function<NGramIndex, List<Integer>> query) {
+        if (!state.ready) {
+            return null;
+        }
+        if (!state.dirtyIds.isEmpty() && !refreshDirty(state)) {
+            return null;
+        }
+        return query.apply(state.index);
+    }
+
+    private static List<Integer> hitIds(List<SearchHit> hits) {
+        List<Integer> ids = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            ids.add(hit.getId());
+        }
+        return ids;
+    }
+
+    private void onChange(String table, int id) {
+        IndexState state;
+        switch (table) {
+            case "tbl_pet":
+                state = pets;
+                break;
+            case "tbl_adopter":
+                state = adopters;
+                break;
+            case "tbl_pet_type":
+                // Pet documents include the type name
+                requestRebuild(pets);
+                return;
+            default:
+                return;
+        }
+
+        if (id == ChangeNotifier.ALL_ROWS) {
+            requestRebuild(state);
+        } else {
+            state.dirtyIds.add(id);
+        }
+    }
+
+    private void requestRebuild(IndexState state) {
+        synchronized (state) {
+            if (state.rebuildQueued) {
+                return;
+            }
+            state.rebuildQueued = true;
+        }
+        indexer.execute(() -> rebuild(state));
+    }
+
+    /**
+     * Builds a fresh index off to the side and swaps it in once complete
+     */
+    private void rebuild(IndexState state) {
+        synchronized (state) {
+            state.rebuildQueued = false;
+            state.ready = false;
+        }
+
+        NGramIndex fresh = new NGramIndex(state.name);
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = DbConnection.prepareStreamingStatement(conn, state.selectSql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                indexRow(fresh, state, rs);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error building " + state.name + " search index: " + e.getMessage());
+            return;
+        }
+
+        synchronized (state) {
+            state.index = fresh;
+            state.ready = true;
+        }
+    }
+
+    /**
+     * Re-reads rows changed since the last search and updates the index in place
+     * @return true if the index is current, false if the rows could not be read
+     */
+    private boolean refreshDirty(IndexState state) {
+        synchronized (state) {
+            if (state.dirtyIds.isEmpty()) {
+                return true;
+            }
+            List<Integer> ids = new ArrayList<>(state.dirtyIds);
+
+            StringBuilder sql = new StringBuilder(state.selectSql).append(" WHERE ").append(state.idColumn).append(" IN (");
+            for (int i = 0; i < ids.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(")");
+
+            Set<Integer> found = new HashSet<>();
+            try (Connection conn = DbConnection.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+                for (int i = 0; i < ids.size(); i++) {
+                    pstmt.setInt(i + 1, ids.get(i));
+                }
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        found.add(indexRow(state.index, state, rs));
+                    }
+                }
+
+            } catch (SQLException e) {
+                System.err.println("Error refreshing " + state.name + " search index: " + e.getMessage());
+                return false;
+            }
+
+            for (int id : ids) {
+                if (!found.contains(id)) {
+                    state.index.remove(id); // Row was deleted
+                }
+                state.dirtyIds.remove(id);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Adds one result row to an index; column 1 is the ID and the rest are weighted fields
+     * @return ID of the indexed row
+     */
+    private static int indexRow(NGramIndex index, IndexState state, ResultSet rs) throws SQLException {
+        int id = rs.getInt(1);
+        String[] fields = new String[state.weights.length];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = rs.getString(i + 2);
+        }
+        index.put(id, fields, state.weights);
+        return id;
+    }
+}
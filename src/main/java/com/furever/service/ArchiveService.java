@@ -0,0 +1,386 @@
+package com.furever.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.furever.database.ChangeNotifier;
+import com.furever.database.DbConnection;
+import com.furever.migration.MigrationRunner;
+import com.furever.outbox.Outbox;
+import com.furever.utils.ThreadSupport;
+
+/**
+ * Moves rows that have been archived for a while out of the hot tables into *_history tables.
+ * Pets move together with their adoption requests and media, adopters together with their
+ * adoption requests. Rows are moved in small batches, one transaction per batch, with a pause
+ * between batches so the move never holds many row locks at once.
+ * Rows referenced by tbl_adoption stay in the hot tables, since that foreign key does not cascade.
+ * The history tables are created by schema migration 5; without them nothing is moved.
+ *
+ * System properties: furever.archive.afterDays (default 30), furever.archive.batchSize (default 100),
+ * furever.archive.pauseMillis (default 200) and furever.archive.intervalMinutes (default 60).
+ */
+public class ArchiveService {
+
+    public static final String PET_HISTORY_TABLE = "tbl_pet_history";
+    public static final String ADOPTER_HISTORY_TABLE = "tbl_adopter_history";
+    public static final String REQUEST_HISTORY_TABLE = "tbl_adoption_request_history";
+    public static final String PET_MEDIA_HISTORY_TABLE = "tbl_pet_media_history";
+
+    public static final String SELECT_PETS_TO_MOVE_SQL =
+            "SELECT p.pet_id FROM tbl_pet p WHERE p.archived = true AND p.archived_date < NOW() - INTERVAL ? DAY " +
+            "AND NOT EXISTS (SELECT 1 FROM tbl_adoption a WHERE a.pet_id = p.pet_id) " +
+            "ORDER BY p.pet_id LIMIT ? FOR UPDATE";
+
+    public static final String SELECT_ADOPTERS_TO_MOVE_SQL =
+            "SELECT d.adopter_id FROM tbl_adopter d WHERE d.archived = true AND d.archived_date < NOW() - INTERVAL ? DAY " +
+            "AND NOT EXISTS (SELECT 1 FROM tbl_adoption a WHERE a.adopter_id = d.adopter_id) " +
+            "ORDER BY d.adopter_id LIMIT ? FOR UPDATE";
+
+    private static final ArchiveService INSTANCE = new ArchiveService();
+
+    private final int afterDays = Integer.getInteger("furever.archive.afterDays", 30);
+    private final int batchSize = Integer.getInteger("furever.archive.batchSize", 100);
+    private final long pauseMillis = Long.getLong("furever.archive.pauseMillis", 200L);
+    private final long intervalMinutes = Long.getLong("furever.archive.intervalMinutes", 60L);
+
+    private final AtomicLong movedPets = new AtomicLong();
+    private final AtomicLong movedAdopters = new AtomicLong();
+    private volatile boolean historyTablesReady = false;
+    private ScheduledExecutorService scheduler = null;
+
+    private ArchiveService() {}
+
+    /**
+     * Gets the shared archive service
+     * @return ArchiveService instance
+     */
+    public static ArchiveService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Schedules the background mover, if the history tables exist
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        if (!requireHistoryTables()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(ThreadSupport.daemonThreadFactory("furever-archiver"));
+        scheduler.scheduleWithFixedDelay(this::runOnce, 1, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stops the background mover; a batch in progress is finished first
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private boolean requireHistoryTables() {
+        if (!hasHistoryTables()) {
+            System.err.println("Error moving archived rows: history tables missing, apply schema migration 5 first");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the history tables exist
+     * @return true if archived rows may be found in the history tables
+     */
+    public boolean hasHistoryTables() {
+        if (historyTablesReady) {
+            return true;
+        }
+        String sql = "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?";
+        
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setString(1, PET_HISTORY_TABLE);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                historyTablesReady = rs.next() && rs.getInt(1) > 0;
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error checking history tables: " + e.getMessage());
+        }
+        return historyTablesReady;
+    }
+
+    /**
+     * Moves everything that is due, batch by batch
+     * @return Number of pets and adopters moved
+     */
+    public int runOnce() {
+        if (!requireHistoryTables()) {
+            return 0;
+        }
+        int moved = 0;
+        try {
+            int batch;
+            do {
+                batch = movePetBatch();
+                moved += batch;
+            } while (batch == batchSize && pause());
+            do {
+                batch = moveAdopterBatch();
+                moved += batch;
+            } while (batch == batchSize && pause());
+        } catch (SQLException e) {
+            System.err.println("Error moving archived rows: " + e.getMessage());
+        }
+        return moved;
+    }
+
+    /**
+     * Sleeps between batches
+     * @return false if the thread was interrupted and moving should stop
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Moves one batch of archived pets with their requests and media
+     * @return Number of pets moved
+     */
+    int movePetBatch() throws SQLException {
+        Connection conn = null;
+        List<Integer> ids;
+        
+        try {
+            conn = DbConnection.getConnection();
+            conn.setAutoCommit(false);
+            
+            ids = lockDueIds(conn, SELECT_PETS_TO_MOVE_SQL);
+            if (ids.isEmpty()) {
+                conn.commit();
+                return 0;
+            }
+            String in = placeholders(ids.size());
+            
+            executeForIds(conn, "INSERT INTO " + PET_HISTORY_TABLE + " SELECT * FROM tbl_pet WHERE pet_id IN " + in, ids);
+            executeForIds(conn, "INSERT INTO " + REQUEST_HISTORY_TABLE + " SELECT * FROM tbl_adoption_request WHERE pet_id IN " + in, ids);
+            executeForIds(conn, "INSERT INTO " + PET_MEDIA_HISTORY_TABLE + " SELECT * FROM tbl_pet_media WHERE pet_id IN " + in, ids);
+            // Requests and media are removed by ON DELETE CASCADE
+            executeForIds(conn, "DELETE FROM tbl_pet WHERE pet_id IN " + in, ids);
+            Outbox.append(conn, "tbl_pet", toArray(ids), Outbox.DELETE);
+            Outbox.append(conn, "tbl_adoption_request", ChangeNotifier.ALL_ROWS, Outbox.DELETE);
+            
+            conn.commit();
+            
+        } catch (SQLException e) {
+            rollback(conn);
+            throw e;
+        } finally {
+            close(conn);
+        }
+        
+        movedPets.addAndGet(ids.size());
+        for (int id : ids) {
+            ChangeNotifier.publish("tbl_pet", id);
+        }
+        ChangeNotifier.publish("tbl_adoption_request", ChangeNotifier.ALL_ROWS);
+        return ids.size();
+    }
+
+    /**
+     * Moves one batch of archived adopters with their requests
+     * @return Number of adopters moved
+     */
+    int moveAdopterBatch() throws SQLException {
+        Connection conn = null;
+        List<Integer> ids;
+        
+        try {
+            conn = DbConnection.getConnection();
+            conn.setAutoCommit(false);
+            
+            ids = lockDueIds(conn, SELECT_ADOPTERS_TO_MOVE_SQL);
+            if (ids.isEmpty()) {
+                conn.commit();
+                return 0;
+            }
+            String in = placeholders(ids.size());
+            
+            executeForIds(conn, "INSERT INTO " + ADOPTER_HISTORY_TABLE + " SELECT * FROM tbl_adopter WHERE adopter_id IN " + in, ids);
+            executeForIds(conn, "INSERT INTO " + REQUEST_HISTORY_TABLE + " SELECT * FROM tbl_adoption_request WHERE adopter_id IN " + in, ids);
+            executeForIds(conn, "DELETE FROM tbl_adopter WHERE adopter_id IN " + in, ids);
+            Outbox.append(conn, "tbl_adoption_request", ChangeNotifier.ALL_ROWS, Outbox.DELETE);
+            
+            conn.commit();
+            
+        } catch (SQLException e) {
+            rollback(conn);
+            throw e;
+        } finally {
+            close(conn);
+        }
+        
+        movedAdopters.addAndGet(ids.size());
+        for (int id : ids) {
+            ChangeNotifier.publish("tbl_adopter", id);
+        }
+        ChangeNotifier.publish("tbl_adoption_request", ChangeNotifier.ALL_ROWS);
+        return ids.size();
+    }
+
+    /**
+     * Moves a pet back from the history tables and makes it active again.
+     * Requests whose adopter has itself been moved to history stay there.
+     * @param petId Pet ID to restore
+     * @return true if the pet was found in the history tables and restored, false otherwise
+     */
+    public boolean restorePet(int petId) {
+        if (!hasHistoryTables()) {
+            return false;
+        }
+        String requestsWithAdopter = " WHERE pet_id = ? AND EXISTS " +
+                "(SELECT 1 FROM tbl_adopter a WHERE a.adopter_id = " + REQUEST_HISTORY_TABLE + ".adopter_id)";
+        
+        Connection conn = null;
+        try {
+            conn = DbConnection.getConnection();
+            conn.setAutoCommit(false);
+            
+            if (executeForIds(conn, "INSERT INTO tbl_pet SELECT * FROM " + PET_HISTORY_TABLE + " WHERE pet_id = ?", List.of(petId)) == 0) {
+                conn.rollback();
+                return false;
+            }
+            executeForIds(conn, "UPDATE tbl_pet SET archived = false, archived_date = NULL WHERE pet_id = ?", List.of(petId));
+            executeForIds(conn, "INSERT INTO tbl_pet_media SELECT * FROM " + PET_MEDIA_HISTORY_TABLE + " WHERE pet_id = ?", List.of(petId));
+            executeForIds(conn, "INSERT INTO tbl_adoption_request SELECT * FROM " + REQUEST_HISTORY_TABLE + requestsWithAdopter, List.of(petId));
+            executeForIds(conn, "DELETE FROM " + REQUEST_HISTORY_TABLE + requestsWithAdopter, List.of(petId));
+            executeForIds(conn, "DELETE FROM " + PET_MEDIA_HISTORY_TABLE + " WHERE pet_id = ?", List.of(petId));
+            executeForIds(conn, "DELETE FROM " + PET_HISTORY_TABLE + " WHERE pet_id = ?", List.of(petId));
+            Outbox.append(conn, "tbl_pet", petId, Outbox.INSERT);
+            Outbox.append(conn, "tbl_adoption_request", ChangeNotifier.ALL_ROWS, Outbox.INSERT);
+            
+            conn.commit();
+            
+        } catch (SQLException e) {
+            rollback(conn);
+            System.err.println("Error restoring pet from history: " + e.getMessage());
+            return false;
+        } finally {
+            close(conn);
+        }
+        
+        ChangeNotifier.publish("tbl_pet", petId);
+        ChangeNotifier.publish("tbl_adoption_request", ChangeNotifier.ALL_ROWS);
+        return true;
+    }
+
+    public long getMovedPetCount() {
+        return movedPets.get();
+    }
+
+    public long getMovedAdopterCount() {
+        return movedAdopters.get();
+    }
+
+    // JDBC helpers
+
+    private List<Integer> lockDueIds(Connection conn, String sql) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, afterDays);
+            pstmt.setInt(2, batchSize);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static int executeForIds(Connection conn, String sql, List<Integer> ids) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < ids.size(); i++) {
+                pstmt.setInt(i + 1, ids.get(i));
+            }
+            return pstmt.executeUpdate();
+        }
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        int[] array = new int[ids.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ids.get(i);
+        }
+        return array;
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder in = new StringBuilder("(");
+        for (int i = 0; i < count; i++) {
+            in.append(i == 0 ? "?" : ", ?");
+        }
+        return in.append(")").toString();
+    }
+
+    private static void rollback(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.rollback();
+            } catch (SQLException rollbackEx) {
+                System.err.println("Error during rollback: " + rollbackEx.getMessage());
+            }
+        }
+    }
+
+    private static void close(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.setAutoCommit(true);
+                conn.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Moves everything that is due once, e.g. from a nightly job
+     * @param args not used; configure with the furever.archive.* system properties
+     */
+    public static void main(String[] args) {
+        try {
+            if (!new MigrationRunner().migrate()) {
+                System.err.println("Error moving archived rows: schema migrations could not be applied");
+                return;
+            }
+            ArchiveService service = getInstance();
+            long start = System.nanoTime();
+            service.runOnce();
+            System.out.printf("Moved %d pets and %d adopters to history in %.1f s%n",
+                    service.getMovedPetCount(), service.getMovedAdopterCount(),
+                    (System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            DbConnection.closeConnection();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.furever.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import com.furever.crud.AdopterCRUD;
+import com.furever.crud.AdoptionRequestCRUD;
+import com.furever.crud.PetCRUD;
+import com.furever.database.DbConnection;
+import com.furever.database.DbSession;
+import com.furever.models.Adopter;
+import com.furever.models.AdoptionRequestView;
+import com.furever.models.Pet;
+import com.furever.utils.ThreadSupport;
+
+/**
+ * Asynchronous facade over the CRUD classes.
+ * Lookups that do not depend on each other can be started together and joined afterwards,
+ * so a screen waits for its slowest query instead of the sum of all of them. Calls run on a
+ * dedicated executor (virtual threads on Java 21+ unless disabled with the system property
+ * furever.async.virtualThreads=false) and at most as many run at once as the connection
+ * pool has connections, so fan-out never piles up on the pool's borrow timeout.
+ */
+public class AsyncCrudService {
+
+    private static final String VIRTUAL_THREADS_PROPERTY = "furever.async.virtualThreads";
+
+    private static final AsyncCrudService INSTANCE =
+            new AsyncCrudService(Boolean.parseBoolean(System.getProperty(VIRTUAL_THREADS_PROPERTY, "true")));
+
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final boolean virtualThreads;
+
+    private final PetCRUD petCRUD = new PetCRUD();
+    private final AdopterCRUD adopterCRUD = new AdopterCRUD();
+    private final AdoptionRequestCRUD adoptionRequestCRUD = new AdoptionRequestCRUD();
+
+    /**
+     * Creates an async facade with its own executor
+     * @param useVirtualThreads true to run calls on virtual threads when the JVM supports them
+     */
+    public AsyncCrudService(boolean useVirtualThreads) {
+        int maxInFlight = DbConnection.getPoolMaxSize();
+        this.virtualThreads = useVirtualThreads && ThreadSupport.isVirtualThreadsAvailable();
+        this.executor = virtualThreads
+                ? ThreadSupport.newPerTaskExecutor("furever-async", maxInFlight)
+                : ThreadSupport.newFixedDaemonPool("furever-async", maxInFlight);
+        this.inFlight = new Semaphore(maxInFlight, true);
+    }
+
+    /**
+     * Gets the shared async facade
+     * @return AsyncCrudService instance
+     */
+    public static AsyncCrudService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Runs a database call on the async executor, waiting for an in-flight slot first
+     * @param call Blocking call to run
+     * @return Future completed with the call's result
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        // The call runs for the caller, so it reads and writes in the caller's session
+        DbSession session = DbSession.current();
+        return CompletableFuture.supplyAsync(() -> {
+            inFlight.acquireUninterruptibly();
+            DbSession previous = DbSession.bind(session);
+            try {
+                return call.get();
+            } finally {
+                DbSession.restore(previous);
+                inFlight.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Loads a pet asynchronously
+     * @param petId Pet ID
+     * @return Future completed with the pet, or null if not found
+     */
+    public CompletableFuture<Pet> getPetById(int petId) {
+        return supply(() -> petCRUD.getPetById(petId));
+    }
+
+    /**
+     * Loads an adopter asynchronously
+     * @param adopterId Adopter ID
+     * @return Future completed with the adopter, or null if not found
+     */
+    public CompletableFuture<Adopter> getAdopterById(int adopterId) {
+        return supply(() -> adopterCRUD.getAdopterById(adopterId));
+    }
+
+    /**
+     * Loads the adoption requests of an adopter asynchronously
+     * @param adopterId Adopter ID
+     * @return Future completed with the requests, with pet and adopter names joined in
+     */
+    public CompletableFuture<List<AdoptionRequestView>> getAdoptionRequestViewsByAdopter(int adopterId) {
+        return supply(() -> adoptionRequestCRUD.getAdoptionRequestViewsByAdopter(adopterId));
+    }
+
+    /**
+     * Loads the adoption requests for a pet asynchronously
+     * @param petId Pet ID
+     * @return Future completed with the requests, with pet and adopter names joined in
+     */
+    public CompletableFuture<List<AdoptionRequestView>> getAdoptionRequestViewsByPet(int petId) {
+        return supply(() -> adoptionRequestCRUD.getAdoptionRequestViewsByPet(petId));
+    }
+
+    /**
+     * Waits for a future and rethrows the call's own exception instead of a CompletionException
+     * @param future Future to wait for
+     * @return Result of the call
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether calls run on virtual threads
+     * @return true if the executor uses virtual threads
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Gets the number of calls currently running against the database
+     * @return in-flight call count
+     */
+    public int getInFlightCount() {
+        return DbConnection.getPoolMaxSize() - inFlight.availablePermits();
+    }
+}
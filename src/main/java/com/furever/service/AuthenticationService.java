@@ -0,0 +1,302 @@
+package com.furever.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+
+import com.furever.cache.EntityCaches;
+import com.furever.database.ChangeNotifier;
+import com.furever.database.DbConnection;
+import com.furever.database.SqlCatalog;
+import com.furever.models.Adopter;
+import com.furever.models.PetOwner;
+import com.furever.models.User;
+import com.furever.models.UserSession;
+
+/**
+ * Logs users in with a single query that reads the users row together with its linked
+ * adopter and pet owner profiles. An adopter or pet owner without a profile gets one in
+ * the same connection, inside a transaction. Resolved accounts are kept in
+ * EntityCaches.SESSIONS, so repeated logins within the session TTL need no database access;
+ * the password is still compared on every login, and any write to users, tbl_adopter or
+ * tbl_pet_owner empties the cache.
+ */
+public class AuthenticationService {
+
+    public static final String SELECT_SESSION_SQL = SqlCatalog.register(
+            "SELECT u.id, u.username, u.email, u.password, u.role, u.created_at, " +
+            "a.adopter_id, a.adopter_name, a.adopter_contact, a.adopter_email, a.adopter_address, " +
+            "a.adopter_profile, a.adopter_username, a.adopter_password, " +
+            "o.pet_owner_id, o.pet_owner_name, o.pet_owner_contact, o.pet_owner_email, o.pet_owner_address, " +
+            "o.pet_owner_profile, o.pet_owner_username, o.pet_owner_password " +
+            "FROM users u " +
+            "LEFT JOIN tbl_adopter a ON a.username = u.username " +
+            "LEFT JOIN tbl_pet_owner o ON o.username = u.username OR o.pet_owner_username = u.username " +
+            "WHERE u.username = ? " +
+            "ORDER BY o.username = u.username DESC LIMIT 1");
+
+    private static final String INSERT_ADOPTER_PROFILE_SQL =
+            "INSERT INTO tbl_adopter (username, adopter_name, adopter_contact, adopter_email, adopter_address, " +
+            "adopter_username, adopter_password) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PET_OWNER_PROFILE_SQL =
+            "INSERT INTO tbl_pet_owner (pet_owner_name, pet_owner_email, pet_owner_username, username) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private static final String DEFAULT_PROFILE_VALUE = "Not provided";
+    private static final String LEGACY_PASSWORD = "legacy";
+
+    private static final AuthenticationService INSTANCE = new AuthenticationService();
+
+    /**
+     * What happened while the account was read from the database
+     */
+    private static final class Resolution {
+        boolean profileCreated = false;
+        boolean profileFailed = false;
+        boolean failed = false;
+    }
+
+    private AuthenticationService() {}
+
+    /**
+     * Gets the shared authentication service
+     * @return AuthenticationService instance
+     */
+    public static AuthenticationService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Logs a user in
+     * @param username Username
+     * @param password Password
+     * @param expectedRole Role the account must have (admin, adopter or pet_owner)
+     * @return LoginResult with the resolved session on success
+     */
+    public LoginResult login(String username, String password, String expectedRole) {
+        UserSession session = EntityCaches.SESSIONS.get(username);
+
+        if (session == null || !passwordMatches(session.getUser(), password) || needsProfile(session)) {
+            // Not cached, or cached before the password or profile changed elsewhere
+            EntityCaches.SESSIONS.invalidate(username);
+            Resolution resolution = new Resolution();
+            session = EntityCaches.SESSIONS.getOrLoad(username,
+                    key -> resolveSession(key, password, expectedRole, resolution));
+
+            if (resolution.failed) {
+                return LoginResult.failure(LoginResult.Status.ERROR, null);
+            }
+            if (resolution.profileFailed) {
+                return LoginResult.failure(LoginResult.Status.PROFILE_FAILED, null);
+            }
+            if (session == null) {
+                return LoginResult.failure(LoginResult.Status.UNKNOWN_USER, null);
+            }
+            return check(session, password, expectedRole, resolution.profileCreated);
+        }
+
+        return check(session, password, expectedRole, false);
+    }
+
+    /**
+     * Drops the cached session of one user, e.g. after the user changed their password
+     * @param username Username
+     */
+    public void invalidate(String username) {
+        EntityCaches.SESSIONS.invalidate(username);
+    }
+
+    private LoginResult check(UserSession session, String password, String expectedRole, boolean profileCreated) {
+        if (!passwordMatches(session.getUser(), password)) {
+            return LoginResult.failure(LoginResult.Status.WRONG_PASSWORD, null);
+        }
+        if (!expectedRole.equals(session.getRole())) {
+            return LoginResult.failure(LoginResult.Status.WRONG_ROLE, session);
+        }
+        return new LoginResult(LoginResult.Status.SUCCESS, session, profileCreated);
+    }
+
+    /**
+     * Reads the account and, after a successful password and role check, creates a missing profile
+     * @return UserSession, or null if the user does not exist or the database could not be read
+     */
+    private UserSession resolveSession(String username, String password, String expectedRole, Resolution resolution) {
+        Connection conn = null;
+
+        try {
+            conn = DbConnection.getConnection();
+            UserSession session = selectSession(conn, username);
+
+            if (session == null || !passwordMatches(session.getUser(), password)
+                    || !expectedRole.equals(session.getRole()) || !needsProfile(session)) {
+                return session;
+            }
+
+            conn.setAutoCommit(false);
+            try {
+                session = createProfile(conn, session);
+                conn.commit();
+            } catch (SQLIntegrityConstraintViolationException e) {
+                // A concurrent login created the profile first
+                conn.rollback();
+                conn.setAutoCommit(true);
+                return selectSession(conn, username);
+            }
+            resolution.profileCreated = true;
+            String table = "adopter".equals(session.getRole()) ? "tbl_adopter" : "tbl_pet_owner";
+            ChangeNotifier.publish(table, ChangeNotifier.ALL_ROWS);
+            return session;
+
+        } catch (SQLException e) {
+            try {
+                if (conn != null && !conn.getAutoCommit()) {
+                    conn.rollback();
+                    resolution.profileFailed = true;
+                } else {
+                    resolution.failed = true;
+                }
+            } catch (SQLException rollbackEx) {
+                System.err.println("Error during rollback: " + rollbackEx.getMessage());
+                resolution.failed = true;
+            }
+            System.err.println("Error logging in: " + e.getMessage());
+        } finally {
+            try {
+                if (conn != null) {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                }
+            } catch (SQLException closeEx) {
+                System.err.println("Error closing resources: " + closeEx.getMessage());
+            }
+        }
+
+        return null;
+    }
+
+    private UserSession selectSession(Connection conn, String username) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(SELECT_SESSION_SQL)) {
+            pstmt.setString(1, username);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return extractSessionFromResultSet(rs);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Inserts the default profile for the session's role
+     * @param conn Database connection (should be in transaction)
+     * @return session including the new profile
+     */
+    private UserSession createProfile(Connection conn, UserSession session) throws SQLException {
+        User user = session.getUser();
+
+        if ("adopter".equals(user.getRole())) {
+            Adopter adopter = new Adopter(0, user.getUsername(), DEFAULT_PROFILE_VALUE, user.getEmail(),
+                    DEFAULT_PROFILE_VALUE, null, user.getUsername(), LEGACY_PASSWORD);
+
+            try (PreparedStatement pstmt = conn.prepareStatement(INSERT_ADOPTER_PROFILE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                pstmt.setString(1, user.getUsername());      // Link to users.username
+                pstmt.setString(2, adopter.getAdopterName()); // Use username as display name initially
+                pstmt.setString(3, adopter.getAdopterContact());
+                pstmt.setString(4, adopter.getAdopterEmail());
+                pstmt.setString(5, adopter.getAdopterAddress());
+                pstmt.setString(6, adopter.getAdopterUsername());
+                pstmt.setString(7, adopter.getAdopterPassword());
+                pstmt.executeUpdate();
+                adopter.setAdopterId(generatedId(pstmt));
+            }
+            adopter.clearChanges();
+            return new UserSession(user, adopter, session.getPetOwner());
+        }
+
+        PetOwner petOwner = new PetOwner(0, user.getUsername(), null, user.getEmail(),
+                null, null, user.getUsername(), null);
+
+        try (PreparedStatement pstmt = conn.prepareStatement(INSERT_PET_OWNER_PROFILE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setString(1, petOwner.getPetOwnerName());
+            pstmt.setString(2, petOwner.getPetOwnerEmail());
+            pstmt.setString(3, petOwner.getPetOwnerUsername());
+            pstmt.setString(4, user.getUsername());
+            pstmt.executeUpdate();
+            petOwner.setPetOwnerId(generatedId(pstmt));
+        }
+        return new UserSession(user, session.getAdopter(), petOwner);
+    }
+
+    private static int generatedId(PreparedStatement pstmt) throws SQLException {
+        try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+            if (generatedKeys.next()) {
+                return generatedKeys.getInt(1);
+            }
+        }
+        throw new SQLException("No generated key returned for new profile");
+    }
+
+    /**
+     * Checks whether the account's role requires a profile it does not have yet
+     */
+    private static boolean needsProfile(UserSession session) {
+        switch (session.getRole()) {
+            case "adopter":
+                return session.getAdopter() == null;
+            case "pet_owner":
+                return session.getPetOwner() == null;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Compares passwords in constant time
+     */
+    private static boolean passwordMatches(User user, String password) {
+        if (user.getPassword() == null || password == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(user.getPassword().getBytes(StandardCharsets.UTF_8),
+                password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Extracts the user and its profiles from one row of the session query
+     */
+    private UserSession extractSessionFromResultSet(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setId(rs.getInt("id"));
+        user.setUsername(rs.getString("username"));
+        user.setEmail(rs.getString("email"));
+        user.setPassword(rs.getString("password"));
+        user.setRole(rs.getString("role"));
+        user.setCreatedAt(rs.getTimestamp("created_at"));
+
+        Adopter adopter = null;
+        int adopterId = rs.getInt("adopter_id");
+        if (!rs.wasNull()) {
+            adopter = new Adopter(adopterId, rs.getString("adopter_name"), rs.getString("adopter_contact"),
+                    rs.getString("adopter_email"), rs.getString("adopter_address"), rs.getString("adopter_profile"),
+                    rs.getString("adopter_username"), rs.getString("adopter_password"));
+            adopter.clearChanges();
+        }
+
+        PetOwner petOwner = null;
+        int petOwnerId = rs.getInt("pet_owner_id");
+        if (!rs.wasNull()) {
+            petOwner = new PetOwner(petOwnerId, rs.getString("pet_owner_name"), rs.getString("pet_owner_contact"),
+                    rs.getString("pet_owner_email"), rs.getString("pet_owner_address"), rs.getString("pet_owner_profile"),
+                    rs.getString("pet_owner_username"), rs.getString("pet_owner_password"));
+        }
+
+        return new UserSession(user, adopter, petOwner);
+    }
+}
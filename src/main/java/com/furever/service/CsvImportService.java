@@ -0,0 +1,426 @@
+package com.furever.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.furever.crud.PetTypeCRUD;
+import com.furever.database.ChangeNotifier;
+import com.furever.database.DbConnection;
+import com.furever.models.PetType;
+import com.furever.outbox.Outbox;
+import com.furever.utils.CsvReader;
+import com.furever.utils.InputValidator;
+
+/**
+ * Bulk import of pets and adopters from CSV files.
+ * The file is streamed record by record, each row is validated, and valid rows are
+ * inserted in JDBC batches of a fixed chunk size. Every chunk is its own transaction,
+ * so a failing chunk is reported and skipped without aborting the rest of the file.
+ *
+ * Usage: java com.furever.service.CsvImportService pets|adopters file.csv [chunkSize]
+ */
+public class CsvImportService {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private static final String INSERT_PET_SQL =
+            "INSERT INTO tbl_pet (pet_owner_id, pet_name, pet_type_id, description, age, gender, health_status, " +
+            "upload_health_history, vaccination_status, proof_of_vaccination, adoption_status, date_registered) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ADOPTER_SQL =
+            "INSERT INTO tbl_adopter (adopter_name, adopter_contact, adopter_email, adopter_address, adopter_profile, adopter_username) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final Set<String> GENDERS = Set.of("Male", "Female");
+    private static final Set<String> HEALTH_STATUSES = Set.of("Healthy", "Needs Treatment");
+    private static final Set<String> VACCINATION_STATUSES = Set.of("Vaccinated", "Not Vaccinated");
+    private static final Set<String> ADOPTION_STATUSES = Set.of("Available", "Pending", "Adopted");
+
+    /**
+     * A validated CSV row waiting to be inserted
+     */
+    private static final class PendingRow {
+        final int lineNumber;
+        final Object[] values;
+
+        PendingRow(int lineNumber, Object[] values) {
+            this.lineNumber = lineNumber;
+            this.values = values;
+        }
+    }
+
+    /**
+     * Converts one CSV record into insert parameters, or throws with the reason it is invalid
+     */
+    private interface RowMapper {
+        Object[] map(Map<String, Integer> header, List<String> record);
+    }
+
+    private final int chunkSize;
+
+    public CsvImportService() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public CsvImportService(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports pets from CSV.
+     * Required columns: pet_owner_id, pet_name, pet_type_id.
+     * Optional columns: description, age, gender, health_status, upload_health_history,
+     * vaccination_status, proof_of_vaccination, adoption_status (defaults to Available).
+     * @param in CSV input with a header row
+     * @return ImportResult with generated pet IDs by line and all errors
+     * @throws IOException if the CSV cannot be read
+     */
+    public ImportResult importPets(Reader in) throws IOException {
+        Set<Integer> petTypeIds = new HashSet<>();
+        for (PetType petType : new PetTypeCRUD().getAllPetTypes()) {
+            petTypeIds.add(petType.getPetTypeId());
+        }
+        Set<Integer> petOwnerIds = loadIds("SELECT pet_owner_id FROM tbl_pet_owner WHERE archived = false");
+        java.sql.Date today = new java.sql.Date(System.currentTimeMillis());
+
+        RowMapper mapper = (header, record) -> {
+            int ownerId = requireInt(header, record, "pet_owner_id");
+            if (!petOwnerIds.contains(ownerId)) {
+                throw new IllegalArgumentException("unknown pet_owner_id " + ownerId);
+            }
+            int petTypeId = requireInt(header, record, "pet_type_id");
+            if (!petTypeIds.contains(petTypeId)) {
+                throw new IllegalArgumentException("unknown pet_type_id " + petTypeId);
+            }
+            String ageText = optional(header, record, "age");
+            Integer age = null;
+            if (ageText != null) {
+                age = parseInt(ageText, "age");
+                if (age < 0 || age > 50) {
+                    throw new IllegalArgumentException("age must be between 0 and 50");
+                }
+            }
+            String adoptionStatus = optionalEnum(header, record, "adoption_status", ADOPTION_STATUSES);
+
+            return new Object[] {
+                ownerId,
+                requireText(header, record, "pet_name", 100),
+                petTypeId,
+                optional(header, record, "description"),
+                age,
+                optionalEnum(header, record, "gender", GENDERS),
+                optionalEnum(header, record, "health_status", HEALTH_STATUSES),
+                optional(header, record, "upload_health_history"),
+                optionalEnum(header, record, "vaccination_status", VACCINATION_STATUSES),
+                optional(header, record, "proof_of_vaccination"),
+                adoptionStatus != null ? adoptionStatus : "Available",
+                today
+            };
+        };
+
+        return runImport("pets", "tbl_pet", in, new String[] {"pet_owner_id", "pet_name", "pet_type_id"},
+                INSERT_PET_SQL, mapper);
+    }
+
+    /**
+     * Imports adopters from CSV.
+     * Required columns: adopter_name.
+     * Optional columns: adopter_contact, adopter_email, adopter_address, adopter_profile, adopter_username.
+     * @param in CSV input with a header row
+     * @return ImportResult with generated adopter IDs by line and all errors
+     * @throws IOException if the CSV cannot be read
+     */
+    public ImportResult importAdopters(Reader in) throws IOException {
+        RowMapper mapper = (header, record) -> {
+            String contact = optional(header, record, "adopter_contact");
+            if (contact != null && !InputValidator.isValidPhone(contact)) {
+                throw new IllegalArgumentException("invalid adopter_contact '" + contact + "' (expected 09xxxxxxxxx)");
+            }
+            String email = optional(header, record, "adopter_email");
+            if (email != null && (!InputValidator.isValidEmail(email) || email.length() > 100)) {
+                throw new IllegalArgumentException("invalid adopter_email '" + email + "'");
+            }
+            String address = optional(header, record, "adopter_address");
+            if (address != null && address.length() > 255) {
+                throw new IllegalArgumentException("adopter_address is longer than 255 characters");
+            }
+            String username = optional(header, record, "adopter_username");
+            if (username != null && username.length() > 50) {
+                throw new IllegalArgumentException("adopter_username is longer than 50 characters");
+            }
+
+            return new Object[] {
+                requireText(header, record, "adopter_name", 100),
+                contact,
+                email,
+                address,
+                optional(header, record, "adopter_profile"),
+                username
+            };
+        };
+
+        return runImport("adopters", "tbl_adopter", in, new String[] {"adopter_name"}, INSERT_ADOPTER_SQL, mapper);
+    }
+
+    private ImportResult runImport(String entity, String table, Reader in, String[] requiredColumns,
+                                   String insertSql, RowMapper mapper) throws IOException {
+        ImportResult result = new ImportResult(entity);
+
+        try (CsvReader csv = new CsvReader(in)) {
+            List<String> headerRecord = csv.readRecord();
+            if (headerRecord == null) {
+                return result;
+            }
+            Map<String, Integer> header = new HashMap<>();
+            for (int i = 0; i < headerRecord.size(); i++) {
+                header.put(headerRecord.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String column : requiredColumns) {
+                if (!header.containsKey(column)) {
+                    throw new IOException("Missing required column '" + column + "' in CSV header");
+                }
+            }
+
+            try (Connection conn = DbConnection.getConnection()) {
+                List<PendingRow> chunk = new ArrayList<>(chunkSize);
+                List<String> record;
+
+                while ((record = csv.readRecord()) != null) {
+                    int lineNumber = csv.getRecordLineNumber();
+                    if (record.size() == 1 && record.get(0).trim().isEmpty()) {
+                        continue; // Skip blank lines
+                    }
+                    result.recordRowRead();
+
+                    try {
+                        chunk.add(new PendingRow(lineNumber, mapper.map(header, record)));
+                    } catch (IllegalArgumentException e) {
+                        result.recordRejectedRow(lineNumber, e.getMessage());
+                        continue;
+                    }
+
+                    if (chunk.size() >= chunkSize) {
+                        insertChunk(conn, table, insertSql, chunk, result);
+                        chunk.clear();
+                    }
+                }
+
+                if (!chunk.isEmpty()) {
+                    insertChunk(conn, table, insertSql, chunk, result);
+                }
+
+            } catch (SQLException e) {
+                System.err.println("Error importing " + entity + ": " + e.getMessage());
+                throw new IOException("Database unavailable: " + e.getMessage(), e);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Inserts one chunk as a single JDBC batch in its own transaction.
+     * With rewriteBatchedStatements enabled the driver sends the batch as multi-row INSERTs,
+     * and the generated keys come back in the same order as the rows were added.
+     */
+    private void insertChunk(Connection conn, String table, String insertSql, List<PendingRow> chunk, ImportResult result) {
+        int firstLine = chunk.get(0).lineNumber;
+        int lastLine = chunk.get(chunk.size() - 1).lineNumber;
+
+        try {
+            conn.setAutoCommit(false); // Start transaction
+
+            List<Integer> generatedIds = new ArrayList<>(chunk.size());
+            try (PreparedStatement pstmt = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
+                for (PendingRow row : chunk) {
+                    for (int i = 0; i < row.values.length; i++) {
+                        pstmt.setObject(i + 1, row.values[i]);
+                    }
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+
+                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        generatedIds.add(generatedKeys.getInt(1));
+                    }
+                }
+            }
+
+            // One event per new row, so feed consumers update row by row; only if the driver
+            // returned no keys do they have to reload the whole table
+            boolean allKeys = generatedIds.size() == chunk.size();
+            int[] changedIds = new int[generatedIds.size()];
+            for (int i = 0; i < changedIds.length; i++) {
+                changedIds[i] = generatedIds.get(i);
+            }
+            Outbox.append(conn, table, allKeys ? changedIds : new int[] {ChangeNotifier.ALL_ROWS}, Outbox.INSERT);
+            conn.commit(); // Commit transaction
+
+            for (int i = 0; i < chunk.size(); i++) {
+                result.recordInsertedRow(chunk.get(i).lineNumber, i < generatedIds.size() ? generatedIds.get(i) : 0);
+            }
+            if (allKeys) {
+                for (int id : changedIds) {
+                    ChangeNotifier.publish(table, id);
+                }
+            } else {
+                ChangeNotifier.publish(table, ChangeNotifier.ALL_ROWS);
+            }
+
+        } catch (SQLException e) {
+            try {
+                conn.rollback();
+            } catch (SQLException rollbackEx) {
+                System.err.println("Error during rollback: " + rollbackEx.getMessage());
+            }
+            result.recordFailedChunk(firstLine, lastLine, chunk.size(), e.getMessage());
+        } finally {
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                System.err.println("Error resetting auto-commit: " + e.getMessage());
+            }
+        }
+    }
+
+    private Set<Integer> loadIds(String sql) throws IOException {
+        Set<Integer> ids = new HashSet<>();
+        try (Connection conn = DbConnection.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        } catch (SQLException e) {
+            throw new IOException("Database unavailable: " + e.getMessage(), e);
+        }
+        return ids;
+    }
+
+    // Field helpers; each throws IllegalArgumentException with a message suitable for the error report
+
+    private static String optional(Map<String, Integer> header, List<String> record, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String requireText(Map<String, Integer> header, List<String> record, String column, int maxLength) {
+        String value = optional(header, record, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(column + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static int requireInt(Map<String, Integer> header, List<String> record, String column) {
+        String value = optional(header, record, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return parseInt(value, column);
+    }
+
+    private static int parseInt(String value, String column) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a whole number, got '" + value + "'");
+        }
+    }
+
+    private static String optionalEnum(Map<String, Integer> header, List<String> record, String column, Set<String> allowed) {
+        String value = optional(header, record, column);
+        if (value == null) {
+            return null;
+        }
+        for (String candidate : allowed) {
+            if (candidate.equalsIgnoreCase(value)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException(column + " must be one of " + allowed + ", got '" + value + "'");
+    }
+
+    /**
+     * Command-line entry point
+     * @param args pets|adopters, CSV file path and optional chunk size
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 3) {
+            System.out.println("Usage: java com.furever.service.CsvImportService pets|adopters <file.csv> [chunkSize]");
+            System.exit(1);
+        }
+
+        try {
+            int chunkSize = args.length == 3 ? Integer.parseInt(args[2]) : DEFAULT_CHUNK_SIZE;
+            CsvImportService importer = new CsvImportService(chunkSize);
+            ImportResult result;
+            long started = System.nanoTime();
+
+            try (Reader in = Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+                switch (args[0].toLowerCase(Locale.ROOT)) {
+                    case "pets":
+                        result = importer.importPets(in);
+                        break;
+                    case "adopters":
+                        result = importer.importAdopters(in);
+                        break;
+                    default:
+                        System.out.println("Unknown entity '" + args[0] + "'. Expected pets or adopters.");
+                        System.exit(1);
+                        return;
+                }
+            }
+
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            System.out.println("Rows read: " + result.getRowsRead());
+            System.out.println("Rows imported: " + result.getRowsImported());
+            System.out.println("Rows rejected: " + result.getRowsRejected());
+            System.out.println("Chunks failed: " + result.getChunksFailed());
+            System.out.println("Elapsed: " + elapsedMillis + " ms");
+
+            for (Map.Entry<Integer, Integer> entry : result.getGeneratedIdsByLine().entrySet()) {
+                System.out.println("  line " + entry.getKey() + " -> " + result.getEntity() + " ID " + entry.getValue());
+            }
+            for (String error : result.getErrors()) {
+                System.err.println("  " + error);
+            }
+
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid chunk size: " + args[2]);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Import failed: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            DbConnection.closeConnection();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.furever.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk CSV import
+ */
+public class ImportResult {
+
+    private final String entity;
+    private int rowsRead = 0;
+    private int rowsRejected = 0;
+    private int chunksFailed = 0;
+    private final Map<Integer, Integer> generatedIdsByLine = new LinkedHashMap<>();
+    private final List<String> errors = new ArrayList<>();
+
+    public ImportResult(String entity) {
+        this.entity = entity;
+    }
+
+    void recordRowRead() {
+        rowsRead++;
+    }
+
+    void recordRejectedRow(int lineNumber, String reason) {
+        rowsRejected++;
+        errors.add("Line " + lineNumber + ": " + reason);
+    }
+
+    void recordInsertedRow(int lineNumber, int generatedId) {
+        generatedIdsByLine.put(lineNumber, generatedId);
+    }
+
+    void recordFailedChunk(int firstLine, int lastLine, int rowCount, String reason) {
+        chunksFailed++;
+        errors.add("Lines " + firstLine + "-" + lastLine + " (" + rowCount + " rows) not imported: " + reason);
+    }
+
+    // Getters
+    public String getEntity() {
+        return entity;
+    }
+
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    public int getRowsImported() {
+        return generatedIdsByLine.size();
+    }
+
+    public int getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public int getChunksFailed() {
+        return chunksFailed;
+    }
+
+    /**
+     * Gets the database IDs assigned to the imported rows
+     * @return map from CSV line number to generated ID, in file order
+     */
+    public Map<Integer, Integer> getGeneratedIdsByLine() {
+        return Collections.unmodifiableMap(generatedIdsByLine);
+    }
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportResult{" +
+                "entity='" + entity + '\'' +
+                ", read=" + rowsRead +
+                ", imported=" + getRowsImported() +
+                ", rejected=" + rowsRejected +
+                ", failedChunks=" + chunksFailed +
+                '}';
+    }
+}
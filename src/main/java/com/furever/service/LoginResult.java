@@ -0,0 +1,58 @@
+package com.furever.service;
+
+import com.furever.models.UserSession;
+
+/**
+ * Outcome of a login attempt
+ */
+public class LoginResult {
+
+    public enum Status {
+        SUCCESS,
+        UNKNOWN_USER,
+        WRONG_PASSWORD,
+        WRONG_ROLE,
+        PROFILE_FAILED,
+        ERROR
+    }
+
+    private final Status status;
+    private final UserSession session;
+    private final boolean profileCreated;
+
+    LoginResult(Status status, UserSession session, boolean profileCreated) {
+        this.status = status;
+        this.session = session;
+        this.profileCreated = profileCreated;
+    }
+
+    static LoginResult failure(Status status, UserSession session) {
+        return new LoginResult(status, session, false);
+    }
+
+    // Getters
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+
+    /**
+     * Gets the resolved account.
+     * Set on success, and on WRONG_ROLE so the caller can report the actual role.
+     * @return UserSession, or null
+     */
+    public UserSession getSession() {
+        return session;
+    }
+
+    /**
+     * Checks whether the missing adopter or pet owner profile was created during this login
+     * @return true if a profile was created
+     */
+    public boolean isProfileCreated() {
+        return profileCreated;
+    }
+}
@@ -0,0 +1,130 @@
+package com.furever.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.furever.database.ChangeNotifier;
+import com.furever.database.DbConnection;
+
+/**
+ * Computes the system statistics shown on the dashboards.
+ * All counters are read in a single round trip and the resulting snapshot is cached
+ * for a short time; any write to a counted table discards the cached snapshot.
+ */
+public class StatisticsService {
+
+    private static final long CACHE_TTL_MILLIS = 10 * 1000L;
+
+    private static final Set<String> COUNTED_TABLES =
+            Set.of("tbl_pet", "tbl_adoption_request", "tbl_adopter", "tbl_pet_owner", "users");
+
+    private static final String STATISTICS_SQL =
+            "SELECT 'pet' AS entity, adoption_status AS status, COUNT(*) AS total FROM tbl_pet GROUP BY adoption_status " +
+            "UNION ALL SELECT 'request', status, COUNT(*) FROM tbl_adoption_request GROUP BY status " +
+            "UNION ALL SELECT 'adopter', NULL, COUNT(*) FROM tbl_adopter " +
+            "UNION ALL SELECT 'pet_owner', NULL, COUNT(*) FROM tbl_pet_owner " +
+            "UNION ALL SELECT 'user', NULL, COUNT(*) FROM users";
+
+    private static final StatisticsService INSTANCE = new StatisticsService();
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile StatisticsSnapshot cachedSnapshot;
+    private volatile long cachedAtNanos;
+
+    private StatisticsService() {
+        ChangeNotifier.addListener((table, id) -> {
+            if (COUNTED_TABLES.contains(table)) {
+                invalidate();
+            }
+        });
+    }
+
+    /**
+     * Gets the shared statistics service
+     * @return StatisticsService instance
+     */
+    public static StatisticsService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the current statistics, reusing the cached snapshot while it is fresh
+     * @return StatisticsSnapshot (all zeros if the database could not be read)
+     */
+    public StatisticsSnapshot getSnapshot() {
+        StatisticsSnapshot snapshot = cachedSnapshot;
+        if (snapshot != null && System.nanoTime() - cachedAtNanos < CACHE_TTL_MILLIS * 1_000_000L) {
+            return snapshot;
+        }
+        return refresh();
+    }
+
+    /**
+     * Reads fresh statistics from the database and caches them
+     * @return StatisticsSnapshot (all zeros if the database could not be read)
+     */
+    public synchronized StatisticsSnapshot refresh() {
+        long startGeneration = generation.get();
+        Map<String, Integer> petCounts = new HashMap<>();
+        Map<String, Integer> requestCounts = new HashMap<>();
+        int adopterCount = 0;
+        int petOwnerCount = 0;
+        int userCount = 0;
+
+        try (Connection conn = DbConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(STATISTICS_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                String entity = rs.getString("entity");
+                String status = rs.getString("status");
+                int total = rs.getInt("total");
+
+                switch (entity) {
+                    case "pet":
+                        petCounts.put(status, total);
+                        break;
+                    case "request":
+                        requestCounts.put(status, total);
+                        break;
+                    case "adopter":
+                        adopterCount = total;
+                        break;
+                    case "pet_owner":
+                        petOwnerCount = total;
+                        break;
+                    case "user":
+                        userCount = total;
+                        break;
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving statistics: " + e.getMessage());
+            return StatisticsSnapshot.empty();
+        }
+
+        StatisticsSnapshot snapshot = new StatisticsSnapshot(petCounts, requestCounts,
+                adopterCount, petOwnerCount, userCount, System.currentTimeMillis());
+        // A write that happened while the query ran may not be reflected, so only cache a clean read
+        if (generation.get() == startGeneration) {
+            cachedAtNanos = System.nanoTime();
+            cachedSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Discards the cached snapshot so the next call reads from the database
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cachedSnapshot = null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.furever.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of system-wide counters taken at one point in time
+ */
+public final class StatisticsSnapshot {
+
+    private final Map<String, Integer> petCountsByStatus;
+    private final Map<String, Integer> requestCountsByStatus;
+    private final int petCount;
+    private final int requestCount;
+    private final int adopterCount;
+    private final int petOwnerCount;
+    private final int userCount;
+    private final long capturedAtMillis;
+
+    public StatisticsSnapshot(Map<String, Integer> petCountsByStatus, Map<String, Integer> requestCountsByStatus,
+                              int adopterCount, int petOwnerCount, int userCount, long capturedAtMillis) {
+        this.petCountsByStatus = Collections.unmodifiableMap(new HashMap<>(petCountsByStatus));
+        this.requestCountsByStatus = Collections.unmodifiableMap(new HashMap<>(requestCountsByStatus));
+        this.petCount = sum(petCountsByStatus);
+        this.requestCount = sum(requestCountsByStatus);
+        this.adopterCount = adopterCount;
+        this.petOwnerCount = petOwnerCount;
+        this.userCount = userCount;
+        this.capturedAtMillis = capturedAtMillis;
+    }
+
+    /**
+     * Creates a snapshot with every counter at zero
+     * @return empty snapshot
+     */
+    public static StatisticsSnapshot empty() {
+        return new StatisticsSnapshot(Collections.emptyMap(), Collections.emptyMap(), 0, 0, 0, System.currentTimeMillis());
+    }
+
+    private static int sum(Map<String, Integer> counts) {
+        int total = 0;
+        for (int count : counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    // Getters
+    public int getPetCount() {
+        return petCount;
+    }
+
+    public int getPetCount(String adoptionStatus) {
+        return petCountsByStatus.getOrDefault(adoptionStatus, 0);
+    }
+
+    public Map<String, Integer> getPetCountsByStatus() {
+        return petCountsByStatus;
+    }
+
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    public int getRequestCount(String status) {
+        return requestCountsByStatus.getOrDefault(status, 0);
+    }
+
+    public Map<String, Integer> getRequestCountsByStatus() {
+        return requestCountsByStatus;
+    }
+
+    public int getAdopterCount() {
+        return adopterCount;
+    }
+
+    public int getPetOwnerCount() {
+        return petOwnerCount;
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public long getCapturedAtMillis() {
+        return capturedAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "StatisticsSnapshot{" +
+                "pets=" + petCount +
+                ", petsByStatus=" + petCountsByStatus +
+                ", requests=" + requestCount +
+                ", requestsByStatus=" + requestCountsByStatus +
+                ", adopters=" + adopterCount +
+                ", petOwners=" + petOwnerCount +
+                ", users=" + userCount +
+                '}';
+    }
+}
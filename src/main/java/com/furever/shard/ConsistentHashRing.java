@@ -0,0 +1,93 @@
+package com.furever.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring mapping integer keys to nodes.
+ * Every node is placed on the ring at many points (virtual nodes) derived from its name, so
+ * keys spread evenly and adding or removing a node only moves the keys in the arcs it gains
+ * or loses (about 1/N of them) instead of reshuffling everything. Placement depends only on
+ * node names, never on the order nodes are added.
+ * Not thread-safe for updates; ShardRouter builds a ring once and only reads it afterwards.
+ * @param <T> node type
+ */
+public class ConsistentHashRing<T> {
+
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private final TreeMap<Long, T> ring = new TreeMap<>();
+    private final int virtualNodes;
+
+    /**
+     * Creates an empty ring
+     * @param virtualNodes Points per node; more points give a more even spread
+     */
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be at least 1");
+        }
+        this.virtualNodes = virtualNodes;
+    }
+
+    /**
+     * Places a node on the ring
+     * @param name Stable node name, e.g. the shard's database name
+     * @param node Node returned for keys that land on its arcs
+     */
+    public void add(String name, T node) {
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.put(hashName(name + "#" + i), node);
+        }
+    }
+
+    /**
+     * Removes a node from the ring
+     * @param name Name the node was added with
+     */
+    public void remove(String name) {
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.remove(hashName(name + "#" + i));
+        }
+    }
+
+    /**
+     * Gets the node owning a key
+     * @param key Routing key, e.g. a pet_owner_id
+     * @return node, or null if the ring is empty
+     */
+    public T get(int key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, T> entry = ring.ceilingEntry(mix(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    /**
+     * Hashes a virtual node name with 64-bit FNV-1a, then mixes the bits
+     */
+    private static long hashName(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * SplitMix64 finalizer; spreads consecutive keys (owner 1, 2, 3...) across the whole ring
+     */
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,56 @@
+package com.furever.shard;
+
+import javax.sql.DataSource;
+
+import com.furever.database.ConnectionPool;
+
+/**
+ * One database holding the pets of the pet owners routed to it
+ */
+public final class Shard {
+
+    private final String name;
+    private final int slot;
+    private final String url;
+    private final ConnectionPool pool;
+
+    /**
+     * Creates a shard
+     * @param name Stable name used to place the shard on the hash ring
+     * @param slot Position of the shard, 0 to ShardRouter.MAX_SHARDS - 1; pet IDs created on
+     *        the shard are congruent to slot + 1 modulo MAX_SHARDS
+     * @param url JDBC URL of the shard database
+     * @param pool Connection pool of the shard database
+     */
+    public Shard(String name, int slot, String url, ConnectionPool pool) {
+        this.name = name;
+        this.slot = slot;
+        this.url = url;
+        this.pool = pool;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public DataSource getDataSource() {
+        return pool;
+    }
+
+    ConnectionPool getPool() {
+        return pool;
+    }
+
+    @Override
+    public String toString() {
+        return "Shard{name='" + name + "', slot=" + slot + ", url='" + url + "'}";
+    }
+}
@@ -0,0 +1,162 @@
+package com.furever.shard;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import com.furever.database.DbConnection;
+import com.furever.utils.ThreadSupport;
+
+/**
+ * Routes pet data to shards by pet_owner_id.
+ * Owners are placed on a consistent-hash ring of shards, so all pets of one owner live in one
+ * database, and adding a shard only moves the owners on the arcs it takes over. Global listings
+ * and counts are scattered to every shard in parallel and gathered by the caller.
+ *
+ * Every shard connection sets auto_increment_increment = MAX_SHARDS and auto_increment_offset =
+ * slot + 1, so IDs generated on different shards never collide and a pet ID tells which shard
+ * created it.
+ *
+ * Each shard database has the furever schema and its own copy of the reference tables
+ * (tbl_pet_type, and the owners and adopters its rows refer to).
+ *
+ * The router and ShardedPetCRUD are a library: the application itself still runs on the single
+ * furever database, and pet media and adoption requests are not routed yet. Pets written
+ * through shards are not published through ChangeNotifier, so the search index, caches and
+ * recommendations of the application database never see them.
+ */
+public class ShardRouter implements AutoCloseable {
+
+    public static final int MAX_SHARDS = 64;
+
+    private final List<Shard> shards;
+    private final Shard[] shardsBySlot = new Shard[MAX_SHARDS];
+    private final ConsistentHashRing<Shard> ring = new ConsistentHashRing<>(ConsistentHashRing.DEFAULT_VIRTUAL_NODES);
+    private final ExecutorService executor;
+
+    /**
+     * Creates a router over connected shards
+     * @param shards Shards with distinct names and slots
+     */
+    public ShardRouter(List<Shard> shards) {
+        if (shards.isEmpty() || shards.size() > MAX_SHARDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_SHARDS + " shards are supported, got " + shards.size());
+        }
+        for (Shard shard : shards) {
+            if (shard.getSlot() < 0 || shard.getSlot() >= MAX_SHARDS || shardsBySlot[shard.getSlot()] != null) {
+                throw new IllegalArgumentException("Invalid or duplicate shard slot: " + shard);
+            }
+            shardsBySlot[shard.getSlot()] = shard;
+            ring.add(shard.getName(), shard);
+        }
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+        this.executor = ThreadSupport.newPerTaskExecutor("furever-shard", shards.size());
+    }
+
+    /**
+     * Creates a pool per shard; the shard's slot is its position in the list and its ring
+     * name is the database name in its URL
+     * @param urls JDBC URLs of the shard databases
+     * @return ShardRouter owning the pools
+     * @throws SQLException if a shard pool cannot be created
+     */
+    public static ShardRouter connect(List<String> urls) throws SQLException {
+        List<Shard> shards = new ArrayList<>();
+        try {
+            for (int slot = 0; slot < urls.size(); slot++) {
+                String url = urls.get(slot);
+                String sessionVariables = "auto_increment_increment=" + MAX_SHARDS + ",auto_increment_offset=" + (slot + 1);
+                shards.add(new Shard(databaseName(url), slot, url, DbConnection.createPool(url, sessionVariables)));
+            }
+            return new ShardRouter(shards);
+        } catch (SQLException | RuntimeException e) {
+            for (Shard shard : shards) {
+                shard.getPool().shutdown();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the shard holding an owner's pets
+     * @param petOwnerId Pet owner ID
+     * @return Shard for the owner
+     */
+    public Shard shardForOwner(int petOwnerId) {
+        return ring.get(petOwnerId);
+    }
+
+    /**
+     * Gets the shard that generated a pet ID. The pet normally still lives there; it only
+     * moves when its owner's arc is taken over by a newly added shard.
+     * @param petId Pet ID
+     * @return Shard that created the ID, or null if no configured shard uses that slot
+     */
+    public Shard shardForPetId(int petId) {
+        if (petId < 1) {
+            return null;
+        }
+        return shardsBySlot[(petId - 1) % MAX_SHARDS];
+    }
+
+    /**
+     * Gets all shards in slot order
+     * @return read-only list of shards
+     */
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /**
+     * Runs a call on every shard in parallel and waits for all of them
+     * @param call Call to run against one shard
+     * @param <R> result type
+     * @return results in shard order
+     * @throws IllegalStateException if a call fails on any shard
+     */
+    public <R> List<R> scatter(Function<Shard, R> call) {
+        List<Future<R>> futures = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            futures.add(executor.submit(() -> call.apply(shard)));
+        }
+
+        List<R> results = new ArrayList<>(shards.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for shard " + shards.get(i).getName(), e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Shard call failed on " + shards.get(i).getName() + ": "
+                        + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Shuts down the scatter threads and every shard pool
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        for (Shard shard : shards) {
+            shard.getPool().shutdown();
+        }
+    }
+
+    private static String databaseName(String url) {
+        int start = url.indexOf('/', url.indexOf("//") + 2);
+        if (start < 0) {
+            return url;
+        }
+        int end = url.indexOf('?', start);
+        return url.substring(start + 1, end < 0 ? url.length() : end);
+    }
+}
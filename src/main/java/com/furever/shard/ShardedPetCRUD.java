@@ -0,0 +1,169 @@
+package com.furever.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.furever.crud.PetCRUD;
+import com.furever.models.Pet;
+
+/**
+ * Pet CRUD operations spread over shards by pet_owner_id.
+ * Calls for one owner go to the owner's shard; lookups by pet ID try the shard that created
+ * the ID first; listings and counts are scattered to all shards in parallel and merged.
+ */
+public class ShardedPetCRUD {
+
+    private final ShardRouter router;
+    private final Map<Shard, PetCRUD> cruds = new HashMap<>();
+
+    /**
+     * Creates a sharded PetCRUD
+     * @param router Router over the shard databases
+     */
+    public ShardedPetCRUD(ShardRouter router) {
+        this.router = router;
+        for (Shard shard : router.getShards()) {
+            cruds.put(shard, new PetCRUD(shard.getDataSource()));
+        }
+    }
+
+    /**
+     * Creates a new pet on its owner's shard
+     * @param pet Pet object to create
+     * @return true if pet was created successfully, false otherwise
+     */
+    public boolean createPet(Pet pet) {
+        return crudForOwner(pet.getPetOwnerId()).createPet(pet);
+    }
+
+    /**
+     * Retrieves a pet by ID, asking the shard that created the ID first and the others only
+     * if it is not there
+     * @param petId Pet ID to search for
+     * @return Pet object if found, null otherwise
+     */
+    public Pet getPetById(int petId) {
+        Shard hinted = router.shardForPetId(petId);
+        if (hinted != null) {
+            Pet pet = cruds.get(hinted).getPetById(petId);
+            if (pet != null) {
+                return pet;
+            }
+        }
+
+        List<Pet> found = router.scatter(shard -> shard == hinted ? null : cruds.get(shard).getPetById(petId));
+        for (Pet pet : found) {
+            if (pet != null) {
+                return pet;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves all pets of an owner from the owner's shard
+     * @param ownerId Pet owner ID to filter by
+     * @return List of pets owned by the specified owner
+     */
+    public List<Pet> getPetsByOwner(int ownerId) {
+        return crudForOwner(ownerId).getPetsByOwner(ownerId);
+    }
+
+    /**
+     * Updates an existing pet on its owner's shard. Moving a pet to an owner on another shard
+     * is not supported, since its ID would have to change.
+     * @param pet Pet object with updated information
+     * @return true if pet was updated successfully, false otherwise
+     */
+    public boolean updatePet(Pet pet) {
+        Pet current = getPetById(pet.getPetId());
+        if (current == null) {
+            System.out.println("No pet found with ID: " + pet.getPetId());
+            return false;
+        }
+
+        Shard shard = router.shardForOwner(current.getPetOwnerId());
+        if (router.shardForOwner(pet.getPetOwnerId()) != shard) {
+            System.err.println("Error updating pet: pet " + pet.getPetId() + " cannot move to an owner on another shard");
+            return false;
+        }
+        return cruds.get(shard).updatePet(pet);
+    }
+
+    /**
+     * Deletes a pet by ID from the shard holding it
+     * @param petId Pet ID to delete
+     * @return true if pet was deleted successfully, false otherwise
+     */
+    public boolean deletePet(int petId) {
+        Pet current = getPetById(petId);
+        if (current == null) {
+            System.out.println("No pet found with ID: " + petId);
+            return false;
+        }
+        return crudForOwner(current.getPetOwnerId()).deletePet(petId);
+    }
+
+    /**
+     * Retrieves all pets from every shard in parallel
+     * @return List of all pets ordered by ID
+     */
+    public List<Pet> getAllPets() {
+        return mergeById(router.scatter(shard -> cruds.get(shard).getAllPets()));
+    }
+
+    /**
+     * Retrieves pets by adoption status from every shard in parallel
+     * @param status Adoption status to filter by
+     * @return List of pets with the specified status ordered by ID
+     */
+    public List<Pet> getPetsByAdoptionStatus(String status) {
+        return mergeById(router.scatter(shard -> cruds.get(shard).getPetsByAdoptionStatus(status)));
+    }
+
+    /**
+     * Counts pets on every shard in parallel
+     * @return Total count of pets
+     */
+    public int getPetCount() {
+        return sum(router.scatter(shard -> cruds.get(shard).getPetCount()));
+    }
+
+    /**
+     * Counts pets by adoption status on every shard in parallel
+     * @param status Adoption status to count
+     * @return Count of pets with the specified status
+     */
+    public int getPetCountByStatus(String status) {
+        return sum(router.scatter(shard -> cruds.get(shard).getPetCountByStatus(status)));
+    }
+
+    private PetCRUD crudForOwner(int ownerId) {
+        return cruds.get(router.shardForOwner(ownerId));
+    }
+
+    private static List<Pet> mergeById(List<List<Pet>> perShard) {
+        int total = 0;
+        for (List<Pet> pets : perShard) {
+            total += pets.size();
+        }
+        List<Pet> merged = new ArrayList<>(total);
+        for (List<Pet> pets : perShard) {
+            merged.addAll(pets);
+        }
+        // Each shard's list is already sorted; TimSort merges such runs in linear time
+        merged.sort(Comparator.comparingInt(Pet::getPetId));
+        return merged;
+    }
+
+    private static int sum(List<Integer> counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,358 @@
+package com.furever.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Read-only view of a guest snapshot file, mapped into memory.
+ * Rows are read in place through cursors: each thread gets one reusable cursor per section,
+ * and text fields are decoded into buffers owned by the cursor, so browsing a snapshot does
+ * not allocate. Values returned by a cursor are only valid until it is moved.
+ *
+ * File layout (big-endian), written by GuestSnapshotWriter:
+ * <pre>
+ * header    HEADER_SIZE bytes: magic, version, created-at, file length, aggregate counts,
+ *           then a (row count, index offset) pair per section
+ * indexes   one int file offset per row, per section (pet types, pets, adopters)
+ * records   pet type: int id, text name
+ *           pet:      int id, int type id, byte age, byte gender, byte health, byte vaccination, text name
+ *           adopter:  int id, text name, text email
+ * </pre>
+ * Text is an unsigned short byte length followed by UTF-8 bytes. Enum columns are stored as
+ * their position in the matching *_VALUES array plus one, 0 meaning NULL.
+ */
+public final class GuestSnapshot {
+
+    static final int MAGIC = 0x46565331; // "FVS1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+
+    static final int CREATED_AT_OFFSET = 8;
+    static final int FILE_LENGTH_OFFSET = 16;
+    static final int TOTAL_PETS_OFFSET = 20;
+    static final int AVAILABLE_PETS_OFFSET = 24;
+    static final int PENDING_PETS_OFFSET = 28;
+    static final int ADOPTED_PETS_OFFSET = 32;
+    static final int ADOPTER_COUNT_OFFSET = 36;
+    static final int PET_TYPES_OFFSET = 40;
+    static final int PETS_OFFSET = 48;
+    static final int ADOPTERS_OFFSET = 56;
+
+    static final String[] GENDER_VALUES = {"Male", "Female"};
+    static final String[] HEALTH_VALUES = {"Healthy", "Needs Treatment"};
+    static final String[] VACCINATION_VALUES = {"Vaccinated", "Not Vaccinated"};
+
+    // Text buffers start small and grow to the longest value a cursor has seen
+    private static final int INITIAL_TEXT_CHARS = 64;
+
+    private final Path path;
+    private final ByteBuffer data;
+    private final long createdAtMillis;
+    private final int[] typeSlotsById;
+
+    private final ThreadLocal<PetCursor> petCursors;
+    private final ThreadLocal<AdopterCursor> adopterCursors;
+
+    private GuestSnapshot(Path path, ByteBuffer data) {
+        this.path = path;
+        this.data = data;
+        this.createdAtMillis = data.getLong(CREATED_AT_OFFSET);
+
+        // Pet type names are resolved by ID, so index the (small) type section once
+        int maxTypeId = 0;
+        for (int i = 0; i < getPetTypeCount(); i++) {
+            maxTypeId = Math.max(maxTypeId, data.getInt(rowOffset(PET_TYPES_OFFSET, i)));
+        }
+        typeSlotsById = new int[maxTypeId + 1];
+        Arrays.fill(typeSlotsById, -1);
+        for (int i = 0; i < getPetTypeCount(); i++) {
+            int typeId = data.getInt(rowOffset(PET_TYPES_OFFSET, i));
+            if (typeId >= 0) {
+                typeSlotsById[typeId] = i;
+            }
+        }
+
+        this.petCursors = ThreadLocal.withInitial(() -> new PetCursor(data.duplicate()));
+        this.adopterCursors = ThreadLocal.withInitial(() -> new AdopterCursor(data.duplicate()));
+    }
+
+    /**
+     * Maps a snapshot file into memory
+     * @param path Snapshot file written by GuestSnapshotWriter
+     * @return GuestSnapshot, or null if the file cannot be read or is not a complete snapshot
+     */
+    public static GuestSnapshot open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                System.err.println("Error opening guest snapshot " + path + ": unexpected size " + size);
+                return null;
+            }
+
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (data.getInt(0) != MAGIC || data.getInt(4) != VERSION || data.getInt(FILE_LENGTH_OFFSET) != size) {
+                System.err.println("Error opening guest snapshot " + path + ": not a complete version " + VERSION + " snapshot");
+                return null;
+            }
+            return new GuestSnapshot(path, data);
+
+        } catch (IOException e) {
+            System.err.println("Error opening guest snapshot " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the time the snapshot was exported
+     * @return epoch milliseconds
+     */
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    /**
+     * Checks whether the snapshot is older than the given age
+     * @param maxAgeMillis Maximum acceptable age
+     * @return true if the data should no longer be shown
+     */
+    public boolean isOlderThan(long maxAgeMillis) {
+        return System.currentTimeMillis() - createdAtMillis > maxAgeMillis;
+    }
+
+    // Aggregate counts, taken in the same transaction as the rows
+    public int getTotalPetCount() {
+        return data.getInt(TOTAL_PETS_OFFSET);
+    }
+
+    public int getAvailablePetCount() {
+        return data.getInt(AVAILABLE_PETS_OFFSET);
+    }
+
+    public int getPendingPetCount() {
+        return data.getInt(PENDING_PETS_OFFSET);
+    }
+
+    public int getAdoptedPetCount() {
+        return data.getInt(ADOPTED_PETS_OFFSET);
+    }
+
+    public int getAdopterCount() {
+        return data.getInt(ADOPTER_COUNT_OFFSET);
+    }
+
+    public int getPetTypeCount() {
+        return data.getInt(PET_TYPES_OFFSET);
+    }
+
+    /**
+     * Gets this thread's cursor over the available pets, ordered by ID
+     * @return PetCursor positioned before the first pet
+     */
+    public PetCursor pets() {
+        PetCursor cursor = petCursors.get();
+        cursor.reset();
+        return cursor;
+    }
+
+    /**
+     * Gets this thread's cursor over the adopters, ordered by ID
+     * @return AdopterCursor positioned before the first adopter
+     */
+    public AdopterCursor adopters() {
+        AdopterCursor cursor = adopterCursors.get();
+        cursor.reset();
+        return cursor;
+    }
+
+    private int rowOffset(int sectionOffset, int row) {
+        return data.getInt(data.getInt(sectionOffset + 4) + row * 4);
+    }
+
+    /**
+     * Shared cursor mechanics: a private duplicate of the mapping and reusable text buffers
+     */
+    private abstract class Cursor {
+        final ByteBuffer view;
+        final int sectionOffset;
+        final int count;
+        final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final CharBuffer[] texts;
+        int row = -1;
+        int offset = -1;
+
+        Cursor(ByteBuffer view, int sectionOffset, int textFields) {
+            this.view = view;
+            this.sectionOffset = sectionOffset;
+            this.count = view.getInt(sectionOffset);
+            this.texts = new CharBuffer[textFields];
+            for (int i = 0; i < textFields; i++) {
+                texts[i] = CharBuffer.allocate(INITIAL_TEXT_CHARS);
+            }
+        }
+
+        void reset() {
+            row = -1;
+            offset = -1;
+        }
+
+        /**
+         * Gets the number of rows in this section
+         */
+        public int size() {
+            return count;
+        }
+
+        /**
+         * Moves to the next row
+         * @return true if the cursor is on a row, false after the last row
+         */
+        public boolean next() {
+            if (row + 1 >= count) {
+                row = count;
+                return false;
+            }
+            row++;
+            offset = rowOffset(sectionOffset, row);
+            return true;
+        }
+
+        /**
+         * Decodes a text field into one of the cursor's reusable buffers
+         * @param textOffset File offset of the length prefix
+         * @param field Index of the buffer owned by this field
+         */
+        CharBuffer decodeText(int textOffset, int field) {
+            int length = view.getShort(textOffset) & 0xFFFF;
+            CharBuffer target = texts[field];
+            if (target.capacity() < length) {
+                // UTF-8 never decodes to more chars than bytes
+                target = CharBuffer.allocate(length);
+                texts[field] = target;
+            }
+            view.limit(textOffset + 2 + length).position(textOffset + 2);
+            target.clear();
+            decoder.reset();
+            decoder.decode(view, target, true);
+            decoder.flush(target);
+            view.clear();
+            return target.flip();
+        }
+
+        int textLength(int textOffset) {
+            return 2 + (view.getShort(textOffset) & 0xFFFF);
+        }
+    }
+
+    /**
+     * Cursor over the available pets
+     */
+    public final class PetCursor extends Cursor {
+        private static final int NAME = 0;
+        private static final int TYPE_NAME = 1;
+
+        private PetCursor(ByteBuffer view) {
+            super(view, PETS_OFFSET, 2);
+        }
+
+        public int getPetId() {
+            return view.getInt(offset);
+        }
+
+        public int getPetTypeId() {
+            return view.getInt(offset + 4);
+        }
+
+        public int getAge() {
+            return view.get(offset + 8) & 0xFF;
+        }
+
+        public String getGender() {
+            return decodeEnum(GENDER_VALUES, view.get(offset + 9));
+        }
+
+        public String getHealthStatus() {
+            return decodeEnum(HEALTH_VALUES, view.get(offset + 10));
+        }
+
+        public String getVaccinationStatus() {
+            return decodeEnum(VACCINATION_VALUES, view.get(offset + 11));
+        }
+
+        /**
+         * @return pet name, valid until the cursor moves
+         */
+        public CharSequence getPetName() {
+            return decodeText(offset + 12, NAME);
+        }
+
+        /**
+         * @return pet type name, valid until the cursor moves, or null if the type is unknown
+         */
+        public CharSequence getPetTypeName() {
+            int typeId = getPetTypeId();
+            if (typeId < 0 || typeId >= typeSlotsById.length || typeSlotsById[typeId] < 0) {
+                return null;
+            }
+            return decodeText(rowOffset(PET_TYPES_OFFSET, typeSlotsById[typeId]) + 4, TYPE_NAME);
+        }
+    }
+
+    /**
+     * Cursor over the adopters
+     */
+    public final class AdopterCursor extends Cursor {
+        private static final int NAME = 0;
+        private static final int EMAIL = 1;
+
+        private AdopterCursor(ByteBuffer view) {
+            super(view, ADOPTERS_OFFSET, 2);
+        }
+
+        public int getAdopterId() {
+            return view.getInt(offset);
+        }
+
+        /**
+         * @return adopter name, valid until the cursor moves
+         */
+        public CharSequence getAdopterName() {
+            return decodeText(offset + 4, NAME);
+        }
+
+        /**
+         * @return adopter email, valid until the cursor moves
+         */
+        public CharSequence getAdopterEmail() {
+            return decodeText(offset + 4 + textLength(offset + 4), EMAIL);
+        }
+    }
+
+    static byte encodeEnum(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return (byte) (i + 1);
+            }
+        }
+        return 0;
+    }
+
+    private static String decodeEnum(String[] values, byte code) {
+        return code > 0 && code <= values.length ? values[code - 1] : null;
+    }
+}
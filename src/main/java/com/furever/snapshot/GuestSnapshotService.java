@@ -0,0 +1,185 @@
+package com.furever.snapshot;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.furever.database.DbConnection;
+import com.furever.utils.ThreadSupport;
+
+/**
+ * Serves guest browsing from a snapshot file instead of the database.
+ * A background task exports a new snapshot every few minutes; guest screens ask for the
+ * current snapshot and fall back to SQL when getSnapshot() returns null (no snapshot yet,
+ * or the last successful export is too old). Every export gets its own file name, because
+ * a file that is still mapped cannot be replaced on every platform; older files are removed
+ * once they can be.
+ *
+ * System properties: furever.snapshot.dir (default furever-snapshots in the temp directory),
+ * furever.snapshot.intervalMinutes (default 10) and furever.snapshot.maxAgeMinutes (default 30).
+ */
+public class GuestSnapshotService {
+
+    private static final String FILE_PREFIX = "guest-";
+    private static final String FILE_SUFFIX = ".snapshot";
+
+    private static final GuestSnapshotService INSTANCE = new GuestSnapshotService();
+
+    private final Path directory = Paths.get(System.getProperty("furever.snapshot.dir",
+            Paths.get(System.getProperty("java.io.tmpdir"), "furever-snapshots").toString()));
+    private final long intervalMinutes = Long.getLong("furever.snapshot.intervalMinutes", 10L);
+    private final long maxAgeMillis = TimeUnit.MINUTES.toMillis(Long.getLong("furever.snapshot.maxAgeMinutes", 30L));
+
+    private final GuestSnapshotWriter writer = new GuestSnapshotWriter();
+    private volatile GuestSnapshot current = null;
+    private ScheduledExecutorService scheduler = null;
+
+    private GuestSnapshotService() {}
+
+    /**
+     * Gets the shared snapshot service
+     * @return GuestSnapshotService instance
+     */
+    public static GuestSnapshotService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Picks up the newest snapshot on disk and schedules the background exporter
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        current = openLatest();
+
+        // A recent snapshot left by an earlier run is served until it is due for replacement
+        long initialDelayMillis = 0;
+        if (current != null) {
+            long age = System.currentTimeMillis() - current.getCreatedAtMillis();
+            initialDelayMillis = Math.max(0, TimeUnit.MINUTES.toMillis(intervalMinutes) - age);
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(ThreadSupport.daemonThreadFactory("furever-snapshot"));
+        scheduler.scheduleWithFixedDelay(this::export, initialDelayMillis,
+                TimeUnit.MINUTES.toMillis(intervalMinutes), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background exporter; the current snapshot stays readable
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Gets the snapshot guest screens should read
+     * @return current snapshot, or null if there is none or it is stale and the caller should use the database
+     */
+    public GuestSnapshot getSnapshot() {
+        GuestSnapshot snapshot = current;
+        return snapshot != null && !snapshot.isOlderThan(maxAgeMillis) ? snapshot : null;
+    }
+
+    /**
+     * Exports a new snapshot and switches readers to it
+     * @return true if the new snapshot is being served
+     */
+    public boolean export() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            System.err.println("Error creating snapshot directory " + directory + ": " + e.getMessage());
+            return false;
+        }
+
+        Path target = directory.resolve(FILE_PREFIX + System.currentTimeMillis() + FILE_SUFFIX);
+        if (writer.write(target) < 0) {
+            return false;
+        }
+        GuestSnapshot snapshot = GuestSnapshot.open(target);
+        if (snapshot == null) {
+            return false;
+        }
+        current = snapshot;
+        deleteOlderThan(target);
+        return true;
+    }
+
+    /**
+     * Opens the newest complete snapshot in the snapshot directory
+     * @return snapshot, or null if there is none
+     */
+    private GuestSnapshot openLatest() {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        Path latest = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (latest == null || createdAt(file) > createdAt(latest)) {
+                    latest = file;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error listing snapshots in " + directory + ": " + e.getMessage());
+            return null;
+        }
+        return latest != null ? GuestSnapshot.open(latest) : null;
+    }
+
+    /**
+     * Removes snapshots older than the given one; files still mapped elsewhere are retried next time
+     */
+    private void deleteOlderThan(Path keep) {
+        long keepCreatedAt = createdAt(keep);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (createdAt(file) < keepCreatedAt) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        // Still mapped by a reader on a platform that locks mapped files
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error cleaning up snapshots in " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private static long createdAt(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Exports one snapshot, e.g. from a scheduled job when the application is not running
+     */
+    public static void main(String[] args) {
+        try {
+            GuestSnapshotService service = getInstance();
+            if (service.export()) {
+                GuestSnapshot snapshot = service.current;
+                System.out.printf("Exported %d pets and %d adopters to %s%n",
+                        snapshot.pets().size(), snapshot.adopters().size(), snapshot.getPath());
+            } else {
+                System.out.println("Guest snapshot export failed");
+            }
+        } finally {
+            DbConnection.closeConnection();
+        }
+    }
+}
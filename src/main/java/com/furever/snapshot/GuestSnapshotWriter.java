@@ -0,0 +1,239 @@
+package com.furever.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import com.furever.database.DbConnection;
+
+/**
+ * Exports the data shown to guests into a snapshot file (see GuestSnapshot for the layout).
+ * All sections are read in one transaction so the counts match the rows. The file is written
+ * next to its final name and moved into place, so readers never see a partial snapshot.
+ */
+public class GuestSnapshotWriter {
+
+    private static final String PET_COUNTS_SQL =
+            "SELECT adoption_status, COUNT(*) FROM tbl_pet GROUP BY adoption_status";
+    private static final String ADOPTER_COUNT_SQL = "SELECT COUNT(*) FROM tbl_adopter";
+    private static final String PET_TYPES_SQL =
+            "SELECT pet_type_id, pet_type_name FROM tbl_pet_type ORDER BY pet_type_id";
+    private static final String PETS_SQL =
+            "SELECT pet_id, pet_type_id, age, gender, health_status, vaccination_status, pet_name FROM tbl_pet " +
+            "WHERE adoption_status = 'Available' AND archived = false ORDER BY pet_id";
+    private static final String ADOPTERS_SQL =
+            "SELECT adopter_id, adopter_name, adopter_email FROM tbl_adopter ORDER BY adopter_id";
+
+    /**
+     * Record bytes of one section plus the position of each row within them
+     */
+    private static final class Section {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        int[] rowPositions = new int[256];
+        int count = 0;
+
+        DataOutputStream startRow() {
+            if (count == rowPositions.length) {
+                rowPositions = Arrays.copyOf(rowPositions, count * 2);
+            }
+            rowPositions[count++] = bytes.size();
+            return out;
+        }
+    }
+
+    /**
+     * Reads the guest data and writes it to a snapshot file
+     * @param target File to create or replace
+     * @return number of pets written, or -1 if the export failed
+     */
+    public int write(Path target) {
+        // Total, available, pending and adopted pets, then adopters: the header order
+        int[] counts = new int[5];
+        Section petTypes = new Section();
+        Section pets = new Section();
+        Section adopters = new Section();
+        long createdAtMillis;
+
+        Connection conn = null;
+        try {
+            conn = DbConnection.getConnection();
+            conn.setAutoCommit(false);
+            createdAtMillis = System.currentTimeMillis();
+
+            readCounts(conn, counts);
+            readPetTypes(conn, petTypes);
+            readPets(conn, pets);
+            readAdopters(conn, adopters);
+
+            conn.commit();
+
+        } catch (SQLException | IOException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    System.err.println("Error rolling back snapshot export: " + rollbackEx.getMessage());
+                }
+            }
+            System.err.println("Error reading guest snapshot data: " + e.getMessage());
+            return -1;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing connection: " + e.getMessage());
+                }
+            }
+        }
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+                writeFile(out, createdAtMillis, counts, petTypes, pets, adopters);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return pets.count;
+
+        } catch (IOException e) {
+            System.err.println("Error writing guest snapshot " + target + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException deleteEx) {
+                System.err.println("Error deleting " + temp + ": " + deleteEx.getMessage());
+            }
+            return -1;
+        }
+    }
+
+    private static void readCounts(Connection conn, int[] counts) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(PET_COUNTS_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                String status = rs.getString(1);
+                int count = rs.getInt(2);
+                counts[0] += count;
+                if ("Available".equals(status)) {
+                    counts[1] = count;
+                } else if ("Pending".equals(status)) {
+                    counts[2] = count;
+                } else if ("Adopted".equals(status)) {
+                    counts[3] = count;
+                }
+            }
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(ADOPTER_COUNT_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            counts[4] = rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private static void readPetTypes(Connection conn, Section section) throws SQLException, IOException {
+        try (PreparedStatement pstmt = conn.prepareStatement(PET_TYPES_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                DataOutputStream out = section.startRow();
+                out.writeInt(rs.getInt("pet_type_id"));
+                writeText(out, rs.getString("pet_type_name"));
+            }
+        }
+    }
+
+    private static void readPets(Connection conn, Section section) throws SQLException, IOException {
+        try (PreparedStatement pstmt = DbConnection.prepareStreamingStatement(conn, PETS_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                DataOutputStream out = section.startRow();
+                out.writeInt(rs.getInt("pet_id"));
+                out.writeInt(rs.getInt("pet_type_id"));
+                out.writeByte(Math.max(0, Math.min(255, rs.getInt("age"))));
+                out.writeByte(GuestSnapshot.encodeEnum(GuestSnapshot.GENDER_VALUES, rs.getString("gender")));
+                out.writeByte(GuestSnapshot.encodeEnum(GuestSnapshot.HEALTH_VALUES, rs.getString("health_status")));
+                out.writeByte(GuestSnapshot.encodeEnum(GuestSnapshot.VACCINATION_VALUES, rs.getString("vaccination_status")));
+                writeText(out, rs.getString("pet_name"));
+            }
+        }
+    }
+
+    private static void readAdopters(Connection conn, Section section) throws SQLException, IOException {
+        try (PreparedStatement pstmt = DbConnection.prepareStreamingStatement(conn, ADOPTERS_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                DataOutputStream out = section.startRow();
+                out.writeInt(rs.getInt("adopter_id"));
+                writeText(out, rs.getString("adopter_name"));
+                writeText(out, rs.getString("adopter_email"));
+            }
+        }
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string, truncated to what fits in the length prefix
+     */
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int length = Math.min(bytes.length, 0xFFFF);
+        out.writeShort(length);
+        out.write(bytes, 0, length);
+    }
+
+    private static void writeFile(DataOutputStream out, long createdAtMillis, int[] counts,
+                                  Section petTypes, Section pets, Section adopters) throws IOException {
+        Section[] sections = {petTypes, pets, adopters};
+        int indexStart = GuestSnapshot.HEADER_SIZE;
+        int recordStart = indexStart;
+        for (Section section : sections) {
+            recordStart += section.count * 4;
+        }
+        long fileLength = recordStart;
+        for (Section section : sections) {
+            fileLength += section.bytes.size();
+        }
+        if (fileLength > Integer.MAX_VALUE) {
+            throw new IOException("snapshot would exceed 2 GB");
+        }
+
+        // Header
+        out.writeInt(GuestSnapshot.MAGIC);
+        out.writeInt(GuestSnapshot.VERSION);
+        out.writeLong(createdAtMillis);
+        out.writeInt((int) fileLength);
+        for (int count : counts) {
+            out.writeInt(count);
+        }
+        int indexOffset = indexStart;
+        for (Section section : sections) {
+            out.writeInt(section.count);
+            out.writeInt(indexOffset);
+            indexOffset += section.count * 4;
+        }
+
+        // Offset indexes
+        int recordOffset = recordStart;
+        for (Section section : sections) {
+            for (int i = 0; i < section.count; i++) {
+                out.writeInt(recordOffset + section.rowPositions[i]);
+            }
+            recordOffset += section.bytes.size();
+        }
+
+        // Records
+        for (Section section : sections) {
+            section.bytes.writeTo(out);
+        }
+    }
+}
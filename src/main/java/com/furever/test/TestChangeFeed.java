@@ -0,0 +1,148 @@
+package com.furever.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.furever.crud.PetCRUD;
+import com.furever.database.ChangeListener;
+import com.furever.database.ChangeNotifier;
+import com.furever.database.DbConnection;
+import com.furever.migration.MigrationRunner;
+import com.furever.models.Pet;
+import com.furever.outbox.ChangeFeedReader;
+
+/**
+ * Checks the transactional outbox and the change feed: a pet write must leave exactly one
+ * event and be published in-process as a local change, the feed must skip this process's own
+ * events and publish events of other processes as remote changes.
+ * Creates and deletes one pet of the first pet owner and pet type.
+ */
+public class TestChangeFeed {
+
+    private static final String COUNT_EVENTS_SQL =
+            "SELECT COUNT(*) FROM tbl_outbox WHERE table_name = 'tbl_pet' AND row_id = ? AND operation = ?";
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        System.out.println("=== CHANGE FEED TEST ===");
+
+        List<String> received = new ArrayList<>();
+        ChangeListener listener = (table, id) -> {
+            synchronized (received) {
+                received.add(table + ":" + id);
+            }
+        };
+        List<String> receivedLocal = new ArrayList<>();
+        ChangeListener localListener = (table, id) -> {
+            synchronized (receivedLocal) {
+                receivedLocal.add(table + ":" + id);
+            }
+        };
+
+        try {
+            if (!new MigrationRunner().migrate()) {
+                System.out.println("❌ Schema migrations could not be applied");
+                System.exit(1);
+            }
+
+            ChangeFeedReader reader = ChangeFeedReader.getInstance();
+            reader.runOnce();
+            long settleMillis = Long.getLong("furever.changefeed.settleMillis", 500L);
+
+            List<String> writesPublished = new ArrayList<>();
+            ChangeListener writeListener = (table, id) -> {
+                synchronized (writesPublished) {
+                    writesPublished.add(table + ":" + id);
+                }
+            };
+            ChangeNotifier.addLocalListener(writeListener);
+
+            PetCRUD petCRUD = new PetCRUD();
+            Pet pet = new Pet(firstId("SELECT MIN(pet_owner_id) FROM tbl_pet_owner"), "Change Feed Test",
+                    firstId("SELECT MIN(pet_type_id) FROM tbl_pet_type"), "Created by TestChangeFeed", 1, "Female");
+            pet.setHealthStatus("Healthy");
+            pet.setVaccinationStatus("Vaccinated");
+            pet.setAdoptionStatus("Available");
+            check("test pet created", petCRUD.createPet(pet));
+            check("insert left one event", countEvents(pet.getPetId(), "I") == 1);
+            check("insert published as a local change", writesPublished.contains("tbl_pet:" + pet.getPetId()));
+            ChangeNotifier.removeListener(writeListener);
+            check("update left one event", petCRUD.updatePetAdoptionStatus(pet.getPetId(), "Pending")
+                    && countEvents(pet.getPetId(), "U") == 1);
+
+            ChangeNotifier.addListener(listener);
+            ChangeNotifier.addLocalListener(localListener);
+            Thread.sleep(settleMillis + 100);
+            reader.runOnce();
+            check("own events are not published again", received.isEmpty());
+
+            insertForeignEvent(pet.getPetId());
+            Thread.sleep(settleMillis + 100);
+            reader.runOnce();
+            check("events of other processes are published", received.contains("tbl_pet:" + pet.getPetId()));
+            check("events of other processes are not local writes", receivedLocal.isEmpty());
+            ChangeNotifier.removeListener(listener);
+            ChangeNotifier.removeListener(localListener);
+
+            check("delete left one event", petCRUD.deletePet(pet.getPetId()) && countEvents(pet.getPetId(), "D") == 1);
+            System.out.println("Feed position: " + reader.getPosition() + ", events read: " + reader.getEventsRead()
+                    + ", published: " + reader.getEventsPublished());
+
+        } catch (SQLException e) {
+            System.err.println("Error running change feed test: " + e.getMessage());
+            failures++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures++;
+        } finally {
+            DbConnection.closeConnection();
+        }
+
+        System.out.println();
+        System.out.println(failures == 0 ? "All change feed checks passed." : failures + " change feed check(s) failed.");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static int firstId(String sql) throws SQLException {
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private static int countEvents(int petId, String operation) throws SQLException {
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(COUNT_EVENTS_SQL)) {
+            pstmt.setInt(1, petId);
+            pstmt.setString(2, operation);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    /**
+     * Writes an event as another application instance would
+     */
+    private static void insertForeignEvent(int petId) throws SQLException {
+        try (Connection conn = DbConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "INSERT INTO tbl_outbox (table_name, row_id, operation, origin) VALUES ('tbl_pet', ?, 'U', 0)")) {
+            pstmt.setInt(1, petId);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static void check(String name, boolean passed) {
+        System.out.printf("%-5s %s%n", passed ? "PASS" : "FAIL", name);
+        if (!passed) {
+            failures++;
+        }
+    }
+}
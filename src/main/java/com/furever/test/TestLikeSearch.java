@@ -6,9 +6,15 @@ import com.furever.crud.PetCRUD;
 import com.furever.models.User;
 import com.furever.models.Adopter;
 import com.furever.models.Pet;
+import com.furever.search.SearchService;
+import java.util.ArrayList;
 import java.util.List;
 
 public class TestLikeSearch {
+    
+    // Terms compared between the LIKE scan and the search index, including infix matches
+    private static final String[] COMPARED_TERMS = {"B", "M", "a", "uff", "ell", "John", "zzz"};
+    
     public static void main(String[] args) {
         System.out.println("Testing LIKE search functionality...\n");
         
@@ -66,7 +72,72 @@ public class TestLikeSearch {
             System.out.printf("- %s (Age: %d, %s)\n", pet.getPetName(), pet.getAge(), pet.getAdoptionStatus());
         }
         
-        System.out.println("\n✅ LIKE search functionality working properly!");
-        System.out.println("All searches use SQL LIKE with % wildcards for partial matching.");
+        // The searches above ran before the search index was started, so they used the LIKE scan
+        boolean agree = compareWithIndex(petCRUD, adopterCRUD);
+        
+        if (agree) {
+            System.out.println("\n✅ LIKE search functionality working properly!");
+            System.out.println("Name searches find every name containing the term, from the index or the LIKE scan alike.");
+        } else {
+            System.out.println("\n❌ Search index and LIKE scan returned different results");
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Runs each compared term through the LIKE scan, then builds the search index and runs it again
+     * @return true if both returned the same rows in the same order for every term
+     */
+    private static boolean compareWithIndex(PetCRUD petCRUD, AdopterCRUD adopterCRUD) {
+        List<List<Integer>> coldPets = new ArrayList<>();
+        List<List<Integer>> coldAdopters = new ArrayList<>();
+        for (String term : COMPARED_TERMS) {
+            coldPets.add(petIds(petCRUD.searchPetsByName(term)));
+            coldAdopters.add(adopterIds(adopterCRUD.searchAdoptersByName(term)));
+        }
+        
+        SearchService search = SearchService.getInstance();
+        search.start();
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!search.isReady() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        if (!search.isReady()) {
+            System.out.println("\nSearch index not ready; comparison skipped.");
+            return true;
+        }
+        
+        System.out.println("\n=== Comparing LIKE scan and search index ===");
+        boolean agree = true;
+        for (int i = 0; i < COMPARED_TERMS.length; i++) {
+            List<Integer> warmPets = petIds(petCRUD.searchPetsByName(COMPARED_TERMS[i]));
+            List<Integer> warmAdopters = adopterIds(adopterCRUD.searchAdoptersByName(COMPARED_TERMS[i]));
+            boolean same = warmPets.equals(coldPets.get(i)) && warmAdopters.equals(coldAdopters.get(i));
+            System.out.printf("%-5s '%s': %d pets, %d adopters\n", same ? "PASS" : "FAIL",
+                COMPARED_TERMS[i], warmPets.size(), warmAdopters.size());
+            agree &= same;
+        }
+        return agree;
+    }
+    
+    private static List<Integer> petIds(List<Pet> pets) {
+        List<Integer> ids = new ArrayList<>();
+        for (Pet pet : pets) {
+            ids.add(pet.getPetId());
+        }
+        return ids;
+    }
+    
+    private static List<Integer> adopterIds(List<Adopter> adopters) {
+        List<Integer> ids = new ArrayList<>();
+        for (Adopter adopter : adopters) {
+            ids.add(adopter.getAdopterId());
+        }
+        return ids;
     }
 }
\ No newline at end of file
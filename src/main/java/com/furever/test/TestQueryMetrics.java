@@ -0,0 +1,86 @@
+package com.furever.test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import com.furever.crud.PetCRUD;
+import com.furever.metrics.OperationStats;
+import com.furever.metrics.QueryMetrics;
+
+/**
+ * Checks that QueryMetrics names operations after the public CRUD method called, not after
+ * the private helpers that borrow the connection. Needs no database: PetCRUD runs against a
+ * data source whose connections fail every statement, and each failed call is still recorded.
+ */
+public class TestQueryMetrics {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        System.out.println("=== QUERY METRICS TEST ===");
+
+        QueryMetrics.setEnabled(true);
+        QueryMetrics.reset();
+
+        PetCRUD petCRUD = new PetCRUD(failingDataSource());
+        petCRUD.getPetsByOwner(1);
+        petCRUD.getPetById(1);
+        petCRUD.getPetSummariesByAdoptionStatus("Available");
+        petCRUD.searchPetsByName("Rex");
+
+        Set<String> names = new HashSet<>();
+        for (OperationStats stats : QueryMetrics.getOperationStats()) {
+            names.add(stats.getName());
+        }
+        System.out.println("Recorded operations: " + names);
+
+        check("public method that borrows directly", names.contains("PetCRUD.getPetsByOwner"));
+        check("public method loading through a private helper", names.contains("PetCRUD.getPetById"));
+        check("public method querying through a private helper", names.contains("PetCRUD.getPetSummariesByAdoptionStatus"));
+        check("public method of a LIKE search", names.contains("PetCRUD.searchPetsByName"));
+        check("no helper frames", !names.contains("PetCRUD.getConnection") && !names.contains("PetCRUD.getReadConnection")
+                && !names.contains("PetCRUD.loadPetById") && !names.contains("PetCRUD.queryPetSummaries"));
+
+        System.out.println();
+        System.out.println(failures == 0 ? "All query metrics checks passed." : failures + " query metrics check(s) failed.");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    /**
+     * Data source whose connections reject every statement
+     */
+    private static DataSource failingDataSource() {
+        Connection conn = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            return null;
+                        case "isClosed":
+                            return false;
+                        case "getAutoCommit":
+                            return true;
+                        default:
+                            throw new SQLException("No database: " + method.getName());
+                    }
+                });
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        return conn;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static void check(String name, boolean passed) {
+        System.out.printf("%-5s %s%n", passed ? "PASS" : "FAIL", name);
+        if (!passed) {
+            failures++;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.furever.test;
+
+import com.furever.crud.AdopterCRUD;
+import com.furever.crud.AdoptionRequestCRUD;
+import com.furever.crud.PetCRUD;
+import com.furever.crud.PetOwnerCRUD;
+import com.furever.crud.UserCRUD;
+import com.furever.database.DbConnection;
+import com.furever.outbox.ChangeFeedReader;
+import com.furever.recommend.PetRecommender;
+import com.furever.service.ArchiveService;
+import com.furever.service.AuthenticationService;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs EXPLAIN on the queries of the CRUD layer and fails when one of them reads a whole table.
+ * A plan step fails when it is a full table scan (type ALL) and no index could have been used
+ * at all, or when a full table or full index scan (type ALL or index) reads at least minRows
+ * estimated rows (1000 by default). On a tiny database MySQL prefers full
+ * scans even when a good index exists, so run this after loading data with
+ * com.furever.loadtest.DataGenerator to check the plans production will get.
+ *
+ * The checks EXPLAIN the SQL constants of the CRUD and service classes themselves, so they
+ * cannot drift from the statements that run; add a check here whenever a query is added
+ * there. Queries that read every row by design are marked as full scans.
+ *
+ * Usage: java com.furever.test.TestQueryPlans [minRows]
+ */
+public class TestQueryPlans {
+
+    private static final List<QueryCheck> CHECKS = new ArrayList<>(Arrays.asList(
+        // PetCRUD
+        check("pet by id", PetCRUD.SELECT_PET_BY_ID, 1),
+        check("pets by status", PetCRUD.SELECT_PETS_BY_STATUS, "Available"),
+        check("pet summaries by status", PetCRUD.SELECT_PET_SUMMARIES_BY_STATUS, "Available"),
+        check("pets by owner", PetCRUD.SELECT_PETS_BY_OWNER, 1),
+        check("pets by type", PetCRUD.SELECT_PETS_BY_TYPE, 1),
+        check("pet page", PetCRUD.SELECT_PET_PAGE, 0, 50),
+        check("pet summary page", PetCRUD.SELECT_PET_SUMMARY_PAGE, 0, 50),
+        check("pets by ids", PetCRUD.SELECT_PETS_BY_IDS_PREFIX + "?, ?, ?)", 1, 2, 3),
+        check("archived pets", PetCRUD.SELECT_ARCHIVED_PETS),
+        check("count pets by status", PetCRUD.COUNT_PETS_BY_STATUS, "Pending"),
+        check("archive pet", PetCRUD.ARCHIVE_PET, 1),
+        check("change pet status", PetCRUD.UPDATE_PET_ADOPTION_STATUS, "Pending", 1),
+        fullScan("all pets", PetCRUD.SELECT_ACTIVE_PETS),
+        fullScan("pet name search", PetCRUD.SEARCH_PETS_BY_NAME, "%a%", "a", "a%"),
+        fullScan("pet summary name search", PetCRUD.SEARCH_PET_SUMMARIES_BY_NAME, "%a%", "a", "a%"),
+
+        // AdopterCRUD
+        check("adopter by id", AdopterCRUD.SELECT_ADOPTER_BY_ID, 1),
+        check("adopter by adopter username", AdopterCRUD.SELECT_ADOPTER_BY_ADOPTER_USERNAME, "alice"),
+        check("adopter by username", AdopterCRUD.SELECT_ADOPTER_BY_USERNAME, "alice"),
+        check("adopter page", AdopterCRUD.SELECT_ADOPTER_PAGE, 0, 50),
+        check("adopter summary page", AdopterCRUD.SELECT_ADOPTER_SUMMARIES_PAGE, 0, 50),
+        check("adopters by ids", AdopterCRUD.SELECT_ADOPTERS_BY_IDS_PREFIX + "?, ?, ?)", 1, 2, 3),
+        fullScan("all adopters", AdopterCRUD.SELECT_ALL_ADOPTERS),
+        fullScan("adopter name search", AdopterCRUD.SEARCH_ADOPTERS_BY_NAME, "%a%", "a", "a%"),
+        fullScan("adopter summary name search", AdopterCRUD.SEARCH_ADOPTER_SUMMARIES_BY_NAME, "%a%", "a", "a%"),
+
+        // AdoptionRequestCRUD
+        check("request by id", AdoptionRequestCRUD.SELECT_REQUEST_BY_ID, 1),
+        check("request page", AdoptionRequestCRUD.SELECT_REQUEST_PAGE, 0, 50),
+        check("requests by status", AdoptionRequestCRUD.SELECT_REQUESTS_BY_STATUS, "Pending"),
+        check("requests by adopter", AdoptionRequestCRUD.SELECT_REQUESTS_BY_ADOPTER, 1),
+        check("requests by pet", AdoptionRequestCRUD.SELECT_REQUESTS_BY_PET, 1),
+        check("approved request exists", AdoptionRequestCRUD.COUNT_APPROVED_REQUESTS_FOR_ADOPTER_AND_PET, 1, 1),
+        check("approved requests of pet", AdoptionRequestCRUD.COUNT_APPROVED_REQUESTS_FOR_PET, 1),
+        check("reject other requests", AdoptionRequestCRUD.REJECT_OTHER_PENDING_REQUESTS, "x", 1, 1),
+        check("count requests by status", AdoptionRequestCRUD.COUNT_REQUESTS_BY_STATUS, "Pending"),
+        check("request view page", AdoptionRequestCRUD.SELECT_REQUEST_VIEW_PAGE, 50, 0),
+        check("request view by status", AdoptionRequestCRUD.SELECT_REQUEST_VIEWS_BY_STATUS, "Pending", 50, 0),
+        check("request view by adopter", AdoptionRequestCRUD.SELECT_REQUEST_VIEWS_BY_ADOPTER, 1),
+        check("request view by pet", AdoptionRequestCRUD.SELECT_REQUEST_VIEWS_BY_PET, 1),
+        check("request view by owner", AdoptionRequestCRUD.SELECT_REQUEST_VIEWS_BY_PET_OWNER, 1, 50, 0),
+        check("request view by id", AdoptionRequestCRUD.SELECT_REQUEST_VIEW_BY_ID, 1),
+
+        // UserCRUD, PetOwnerCRUD and AuthenticationService
+        check("user by id", UserCRUD.SELECT_USER_BY_ID, 1),
+        check("user by username", UserCRUD.SELECT_USER_BY_USERNAME, "admin1"),
+        check("user login", UserCRUD.SELECT_USER_BY_CREDENTIALS, "admin1", "x"),
+        check("login with profiles", AuthenticationService.SELECT_SESSION_SQL, "admin1"),
+        check("user page", UserCRUD.SELECT_USER_PAGE, 0, 50),
+        check("archive adopter profile", UserCRUD.ARCHIVE_ADOPTER_PROFILE, "alice"),
+        check("pet owner by id", PetOwnerCRUD.SELECT_PET_OWNER_BY_ID, 1),
+        check("pet owner by username", PetOwnerCRUD.SELECT_PET_OWNER_BY_USERNAME, "owner", "owner"),
+        fullScan("all users", UserCRUD.SELECT_ALL_USERS),
+        fullScan("all pet owners", PetOwnerCRUD.SELECT_ALL_PET_OWNERS),
+
+        // PetRecommender
+        check("recommender candidates", PetRecommender.BUILD_SQL),
+        check("pending request counts", PetRecommender.PENDING_COUNTS_SQL),
+        check("adopter request history", PetRecommender.HISTORY_SQL, 1),
+
+        // ChangeFeedReader
+        check("change feed batch", ChangeFeedReader.SELECT_EVENTS_SQL, 500000, 0, 500),
+        check("expired change events", ChangeFeedReader.DELETE_EXPIRED_SQL, 24, 1000),
+
+        // ArchiveService sweeps
+        check("pets due for history", ArchiveService.SELECT_PETS_TO_MOVE_SQL, 30, 100),
+        check("adopters due for history", ArchiveService.SELECT_ADOPTERS_TO_MOVE_SQL, 30, 100)
+    ));
+
+    public static void main(String[] args) {
+        long minRows = args.length > 0 ? Long.parseLong(args[0]) : 1000;
+        int failures = 0;
+
+        System.out.println("Checking query plans (full scans of " + minRows + "+ rows fail)...\n");
+
+        if (ArchiveService.getInstance().hasHistoryTables()) {
+            CHECKS.add(check("archived pets with history", PetCRUD.SELECT_ARCHIVED_PETS_WITH_HISTORY));
+        }
+
+        try (Connection conn = DbConnection.getConnection()) {
+            for (QueryCheck check : CHECKS) {
+                List<String> problems = new ArrayList<>();
+                String plan = explain(conn, check, minRows, problems);
+
+                String result = problems.isEmpty() ? "PASS" : check.fullScan ? "SCAN" : "FAIL";
+                if ("FAIL".equals(result)) {
+                    failures++;
+                }
+                System.out.printf("%-5s %-28s %s%n", result, check.name, plan);
+                if ("FAIL".equals(result)) {
+                    for (String problem : problems) {
+                        System.out.println("      " + problem);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error checking query plans: " + e.getMessage());
+            failures++;
+        } finally {
+            DbConnection.closeConnection();
+        }
+
+        System.out.println();
+        System.out.println(failures == 0 ? "All query plans use indexes." : failures + " query plan(s) regressed to a full scan.");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static String explain(Connection conn, QueryCheck check, long minRows, List<String> problems) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+
+        try (PreparedStatement pstmt = conn.prepareStatement("EXPLAIN " + check.sql)) {
+            for (int i = 0; i < check.params.length; i++) {
+                pstmt.setObject(i + 1, check.params[i]);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table");
+                    String type = rs.getString("type");
+                    String possibleKeys = rs.getString("possible_keys");
+                    String key = rs.getString("key");
+                    long rows = rs.getLong("rows");
+
+                    if (table == null) {
+                        continue;
+                    }
+                    if (plan.length() > 0) {
+                        plan.append(", ");
+                    }
+                    plan.append(table).append(':').append(type).append('/').append(key == null ? "-" : key);
+
+                    // A full index scan in key order is fine when a LIMIT stops it early
+                    boolean tableScan = "ALL".equals(type) && (possibleKeys == null || rows >= minRows);
+                    boolean indexScan = "index".equals(type) && rows >= minRows;
+                    if (tableScan || indexScan) {
+                        problems.add(table + ": " + type + " scan of ~" + rows + " rows, possible keys: " +
+                                (possibleKeys == null ? "none" : possibleKeys));
+                    }
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    private static QueryCheck check(String name, String sql, Object... params) {
+        return new QueryCheck(name, sql, false, params);
+    }
+
+    private static QueryCheck fullScan(String name, String sql, Object... params) {
+        return new QueryCheck(name, sql, true, params);
+    }
+
+    private static class QueryCheck {
+        final String name;
+        final String sql;
+        final boolean fullScan;
+        final Object[] params;
+
+        QueryCheck(String name, String sql, boolean fullScan, Object[] params) {
+            this.name = name;
+            this.sql = sql;
+            this.fullScan = fullScan;
+            this.params = params;
+        }
+    }
+}
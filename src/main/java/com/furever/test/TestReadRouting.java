@@ -0,0 +1,120 @@
+package com.furever.test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import com.furever.crud.PetTypeCRUD;
+import com.furever.database.DbConnection;
+import com.furever.database.DbSession;
+import com.furever.models.PetType;
+
+/**
+ * Checks read/write splitting against two local MySQL instances, e.g. the usual server on
+ * port 3306 and a second one (a replica, or any server with the furever schema) on 3307:
+ *
+ *   java -Dfurever.db.replicas=localhost:3307 -Dfurever.db.readYourWritesMillis=500 ... com.furever.test.TestReadRouting
+ *
+ * Connections are told apart by the port of the server that answers them.
+ */
+public class TestReadRouting {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        System.out.println("=== READ ROUTING TEST ===");
+
+        if (!DbConnection.isReadSplittingEnabled()) {
+            System.out.println("❌ Read splitting is disabled; run with -Dfurever.db.replicas=<host:port>");
+            System.exit(1);
+        }
+        System.out.println("Database URL: " + DbConnection.getDatabaseUrl());
+        long windowMillis = Long.getLong("furever.db.readYourWritesMillis", 2000L);
+
+        try {
+            int sourcePort = writePort();
+            System.out.println("Source port: " + sourcePort);
+
+            Thread.sleep(windowMillis + 100);
+            int replicaPort = readPort();
+            System.out.println("Read port outside the read-your-writes window: " + replicaPort);
+            check("reads go to a replica", replicaPort != sourcePort);
+            check("writes stay on the source", writePort() == sourcePort);
+            check("read connections reject writes", rejectsWrites());
+
+            PetTypeCRUD petTypeCRUD = new PetTypeCRUD();
+            PetType petType = new PetType("Read Routing Test " + System.currentTimeMillis());
+            if (petTypeCRUD.createPetType(petType)) {
+                check("reads right after a write go to the source", readPort() == sourcePort);
+                check("a new row is visible right after the write",
+                        petTypeCRUD.getPetTypeById(petType.getPetTypeId()) != null);
+                petTypeCRUD.deletePetType(petType.getPetTypeId());
+
+                Thread.sleep(windowMillis + 100);
+                check("reads return to the replica after the window", readPort() == replicaPort);
+
+                DbSession writer = new DbSession();
+                DbSession previous = DbSession.bind(writer);
+                PetType other = new PetType("Read Routing Test " + System.currentTimeMillis());
+                petTypeCRUD.createPetType(other);
+                DbSession.bind(new DbSession());
+                check("other sessions keep reading from the replica", readPort() == replicaPort);
+                DbSession.bind(writer);
+                check("the writing session reads from the source", readPort() == sourcePort);
+                petTypeCRUD.deletePetType(other.getPetTypeId());
+                DbSession.restore(previous);
+            } else {
+                check("test pet type created", false);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error running read routing test: " + e.getMessage());
+            failures++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures++;
+        } finally {
+            DbConnection.closeConnection();
+        }
+
+        System.out.println();
+        System.out.println(failures == 0 ? "All read routing checks passed." : failures + " read routing check(s) failed.");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static int writePort() throws SQLException {
+        try (Connection conn = DbConnection.getConnection()) {
+            return port(conn);
+        }
+    }
+
+    private static int readPort() throws SQLException {
+        try (Connection conn = DbConnection.getReadConnection()) {
+            return port(conn);
+        }
+    }
+
+    private static int port(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT @@port")) {
+            return rs.next() ? rs.getInt(1) : -1;
+        }
+    }
+
+    private static boolean rejectsWrites() throws SQLException {
+        try (Connection conn = DbConnection.getReadConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("UPDATE tbl_pet_type SET pet_type_name = pet_type_name WHERE pet_type_id = -1");
+            return false;
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static void check(String name, boolean passed) {
+        System.out.printf("%-5s %s%n", passed ? "PASS" : "FAIL", name);
+        if (!passed) {
+            failures++;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.furever.test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.furever.database.DbConnection;
+import com.furever.models.Pet;
+import com.furever.shard.ConsistentHashRing;
+import com.furever.shard.Shard;
+import com.furever.shard.ShardRouter;
+import com.furever.shard.ShardedPetCRUD;
+
+/**
+ * Checks shard routing: first the hash ring on its own, then sharded pet CRUD against
+ * local schemas furever_shard_0..N-1 created next to the furever database and dropped again.
+ * Run with the number of shards as argument (default 3); pass "ring" to skip the database part.
+ */
+public class TestShardRouting {
+
+    private static final int OWNERS = 60;
+    private static final String SHARD_URL = "jdbc:mysql://localhost:3306/furever_shard_";
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        boolean ringOnly = args.length > 0 && "ring".equals(args[0]);
+        int shardCount = args.length > 0 && !ringOnly ? Integer.parseInt(args[0]) : 3;
+
+        System.out.println("=== SHARD ROUTING TEST ===");
+
+        System.out.println("\n--- Hash ring ---");
+        testRing(shardCount);
+
+        if (!ringOnly) {
+            System.out.println("\n--- Sharded pet CRUD on " + shardCount + " local schemas ---");
+            try {
+                testShards(shardCount);
+            } catch (SQLException e) {
+                System.err.println("Error running shard test: " + e.getMessage());
+                failures++;
+            } finally {
+                DbConnection.closeConnection();
+            }
+        }
+
+        System.out.println();
+        System.out.println(failures == 0 ? "All shard routing checks passed." : failures + " shard routing check(s) failed.");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static void testRing(int shardCount) {
+        int keys = 100000;
+        ConsistentHashRing<Integer> ring = new ConsistentHashRing<>(ConsistentHashRing.DEFAULT_VIRTUAL_NODES);
+        for (int i = 0; i < shardCount; i++) {
+            ring.add("furever_shard_" + i, i);
+        }
+
+        int[] perNode = new int[shardCount + 1];
+        int[] before = new int[keys];
+        for (int key = 0; key < keys; key++) {
+            before[key] = ring.get(key);
+            perNode[before[key]]++;
+        }
+        int expected = keys / shardCount;
+        for (int i = 0; i < shardCount; i++) {
+            System.out.println("  shard " + i + ": " + perNode[i] + " keys");
+            check("shard " + i + " holds its share", Math.abs(perNode[i] - expected) < expected / 4);
+        }
+
+        ring.add("furever_shard_" + shardCount, shardCount);
+        int moved = 0;
+        boolean movedOnlyToNewNode = true;
+        for (int key = 0; key < keys; key++) {
+            int after = ring.get(key);
+            if (after != before[key]) {
+                moved++;
+                movedOnlyToNewNode &= after == shardCount;
+            }
+        }
+        System.out.println("  adding a shard moved " + moved + " of " + keys + " keys");
+        check("keys only move to the added shard", movedOnlyToNewNode);
+        check("about 1/N of the keys move", Math.abs(moved - keys / (shardCount + 1)) < keys / (shardCount + 1) / 4);
+
+        ring.remove("furever_shard_" + shardCount);
+        boolean restored = true;
+        for (int key = 0; key < keys; key++) {
+            restored &= ring.get(key) == before[key];
+        }
+        check("removing the shard restores the old placement", restored);
+    }
+
+    private static void testShards(int shardCount) throws SQLException {
+        createSchemas(shardCount);
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            urls.add(SHARD_URL + i);
+        }
+
+        try (ShardRouter router = ShardRouter.connect(urls)) {
+            ShardedPetCRUD pets = new ShardedPetCRUD(router);
+            List<Pet> created = new ArrayList<>();
+            for (int owner = 1; owner <= OWNERS; owner++) {
+                for (int n = 0; n < 2; n++) {
+                    Pet pet = new Pet(owner, "Shard Pet " + owner + "-" + n, 1, "Created by TestShardRouting", 2, "Male");
+                    pet.setHealthStatus("Healthy");
+                    pet.setVaccinationStatus("Vaccinated");
+                    pet.setAdoptionStatus(n == 0 ? "Available" : "Pending");
+                    if (pets.createPet(pet)) {
+                        created.add(pet);
+                    }
+                }
+            }
+            check("all pets created", created.size() == OWNERS * 2);
+
+            boolean routed = true;
+            boolean hinted = true;
+            for (Pet pet : created) {
+                Shard shard = router.shardForOwner(pet.getPetOwnerId());
+                routed &= countOnShard(shard, pet.getPetId()) == 1;
+                hinted &= router.shardForPetId(pet.getPetId()) == shard;
+            }
+            check("pets are stored on their owner's shard", routed);
+            check("pet IDs name the shard that created them", hinted);
+
+            boolean ownersComplete = true;
+            for (int owner = 1; owner <= OWNERS; owner++) {
+                ownersComplete &= pets.getPetsByOwner(owner).size() == 2;
+            }
+            check("owner lookups hit one shard", ownersComplete);
+
+            Pet first = created.get(0);
+            Pet found = pets.getPetById(first.getPetId());
+            check("lookup by pet ID", found != null && first.getPetName().equals(found.getPetName()));
+
+            List<Pet> all = pets.getAllPets();
+            boolean sorted = true;
+            for (int i = 1; i < all.size(); i++) {
+                sorted &= all.get(i - 1).getPetId() < all.get(i).getPetId();
+            }
+            check("scatter-gather lists every pet", all.size() == OWNERS * 2);
+            check("gathered pets are ordered by ID", sorted);
+            check("scatter-gather count", pets.getPetCount() == OWNERS * 2);
+            check("scatter-gather count by status", pets.getPetCountByStatus("Pending") == OWNERS);
+            check("scatter-gather list by status", pets.getPetsByAdoptionStatus("Available").size() == OWNERS);
+
+            check("delete on the owning shard", pets.deletePet(first.getPetId()));
+            check("deleted pet is gone", pets.getPetById(first.getPetId()) == null && pets.getPetCount() == OWNERS * 2 - 1);
+        } finally {
+            dropSchemas(shardCount);
+        }
+    }
+
+    private static int countOnShard(Shard shard, int petId) {
+        try (Connection conn = shard.getDataSource().getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM tbl_pet WHERE pet_id = " + petId)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            System.err.println("Error counting pets on " + shard.getName() + ": " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Creates empty shard schemas with the tables of the furever database.
+     * CREATE TABLE ... LIKE copies columns and indexes but not foreign keys, so the test pets
+     * need no owners or pet types.
+     */
+    private static void createSchemas(int shardCount) throws SQLException {
+        try (Connection conn = DbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            List<String> tables = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery("SHOW FULL TABLES FROM furever WHERE Table_type = 'BASE TABLE'")) {
+                while (rs.next()) {
+                    tables.add(rs.getString(1));
+                }
+            }
+            for (int i = 0; i < shardCount; i++) {
+                stmt.execute("DROP DATABASE IF EXISTS furever_shard_" + i);
+                stmt.execute("CREATE DATABASE furever_shard_" + i);
+                for (String table : tables) {
+                    stmt.execute("CREATE TABLE furever_shard_" + i + "." + table + " LIKE furever." + table);
+                }
+            }
+        }
+    }
+
+    private static void dropSchemas(int shardCount) {
+        try (Connection conn = DbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < shardCount; i++) {
+                stmt.execute("DROP DATABASE IF EXISTS furever_shard_" + i);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error dropping shard schemas: " + e.getMessage());
+        }
+    }
+
+    private static void check(String name, boolean passed) {
+        System.out.printf("%-5s %s%n", passed ? "PASS" : "FAIL", name);
+        if (!passed) {
+            failures++;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.furever.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Renders rows as a fixed-width console table.
+ * When all rows are known up front, column widths are fitted to the longest value (up to each
+ * column's maximum) in one pass before printing; streamed and paged tables use the maximum
+ * widths so later rows stay aligned. Lines are formatted into one reused buffer and written
+ * through a buffered writer that is flushed once per page instead of once per line, which is
+ * what makes large listings fast on System.out. CharSequence cells are copied straight into
+ * the buffer and int columns are appended as primitives, so a table over flyweight cursors
+ * (see GuestSnapshot) prints without allocating per row. Text longer than its column is cut
+ * off with "..."; numbers are never cut.
+ *
+ * Example:
+ * <pre>
+ * new ConsoleTable&lt;PetSummary&gt;()
+ *         .intColumn("ID", 6, PetSummary::getPetId)
+ *         .column("Name", 15, PetSummary::getPetName)
+ *         .print(pets);
+ * </pre>
+ * @param <T> row type
+ */
+public class ConsoleTable<T> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String NULL_TEXT = "N/A";
+    private static final String ELLIPSIS = "...";
+
+    private static final class Column<T> {
+        final String header;
+        final int maxWidth;
+        final Function<? super T, ?> value;    // null for int columns
+        final ToIntFunction<? super T> intValue;
+
+        Column(String header, int maxWidth, Function<? super T, ?> value, ToIntFunction<? super T> intValue) {
+            this.header = header;
+            this.maxWidth = Math.max(maxWidth, header.length());
+            this.value = value;
+            this.intValue = intValue;
+        }
+    }
+
+    private final List<Column<T>> columns = new ArrayList<>();
+    private final Writer target;
+    private String title = null;
+
+    /**
+     * Creates a table that prints to System.out
+     */
+    public ConsoleTable() {
+        this(null);
+    }
+
+    /**
+     * Creates a table that prints to the given writer, e.g. a file or a benchmark sink
+     * @param target Writer to print to; it is flushed but never closed
+     */
+    public ConsoleTable(Writer target) {
+        this.target = target;
+    }
+
+    /**
+     * Adds a column
+     * @param header Column heading
+     * @param maxWidth Widest the column may grow; longer values are cut off with "..."
+     * @param value Function reading the cell value from a row; null values print as N/A
+     * @return this table
+     */
+    public ConsoleTable<T> column(String header, int maxWidth, Function<? super T, ?> value) {
+        columns.add(new Column<>(header, maxWidth, value, null));
+        return this;
+    }
+
+    /**
+     * Adds a column of int values, printed without boxing
+     * @param header Column heading
+     * @param maxWidth Width of the column; numbers are never cut
+     * @param value Function reading the cell value from a row
+     * @return this table
+     */
+    public ConsoleTable<T> intColumn(String header, int maxWidth, ToIntFunction<? super T> value) {
+        columns.add(new Column<>(header, maxWidth, null, value));
+        return this;
+    }
+
+    /**
+     * Sets a title printed centred between double rules; titled tables also end with a rule
+     * @param title Table title
+     * @return this table
+     */
+    public ConsoleTable<T> title(String title) {
+        this.title = title;
+        return this;
+    }
+
+    /**
+     * Prints all rows, with column widths fitted to every row
+     * @param rows Rows to print
+     */
+    public void print(List<? extends T> rows) {
+        RowWriter writer = open(true);
+        for (T row : rows) {
+            writer.fit(row);
+        }
+        for (T row : rows) {
+            writer.row(row);
+        }
+        writer.close();
+    }
+
+    /**
+     * Prints rows from an iterator a page at a time, asking before each further page.
+     * Rows are printed as they are read, so memory use does not grow with the number of rows.
+     * @param rows Rows to print, e.g. a lazily loaded result
+     * @param pageSize Rows per page
+     * @param noun Plural name of the rows, used in the prompt ("Show the next 50 pets?")
+     * @return number of rows printed
+     */
+    public int printPaged(Iterator<? extends T> rows, int pageSize, String noun) {
+        RowWriter writer = open(false);
+        try {
+            while (rows.hasNext()) {
+                writer.row(rows.next());
+                if (writer.getRowCount() % pageSize == 0 && rows.hasNext()) {
+                    writer.flush();
+                    if (!InputValidator.getConfirmation("Show the next " + pageSize + " " + noun + "?")) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            writer.close();
+        }
+        return writer.getRowCount();
+    }
+
+    /**
+     * Starts a streamed table; rows are added one at a time, e.g. from a result set callback
+     * @return RowWriter that must be closed to print the closing rule and flush
+     */
+    public RowWriter open() {
+        return open(false);
+    }
+
+    private RowWriter open(boolean fitted) {
+        Writer out = target != null ? target
+                : new BufferedWriter(new OutputStreamWriter(System.out), BUFFER_SIZE);
+        return new RowWriter(out, fitted);
+    }
+
+    /**
+     * Writes the rows of one table. Not thread-safe.
+     */
+    public final class RowWriter implements AutoCloseable {
+        private final Writer out;
+        private final int[] widths = new int[columns.size()];
+        private final CharSequence[] cells = new CharSequence[columns.size()];
+        private final boolean[] numeric = new boolean[columns.size()];
+        // Reused text of the int cells
+        private final StringBuilder[] numbers = new StringBuilder[columns.size()];
+        private final StringBuilder line = new StringBuilder(256);
+        private char[] lineChars = new char[256];
+        private int rowCount = 0;
+        private boolean headerWritten = false;
+        private boolean closed = false;
+
+        /**
+         * @param fitted true if the caller fits the widths with fit() before adding rows
+         */
+        private RowWriter(Writer out, boolean fitted) {
+            this.out = out;
+            for (int i = 0; i < widths.length; i++) {
+                widths[i] = fitted ? columns.get(i).header.length() : columns.get(i).maxWidth;
+                numbers[i] = new StringBuilder(11);
+            }
+        }
+
+        /**
+         * Adds one row
+         * @param row Row to print
+         */
+        public void row(T row) {
+            if (!headerWritten) {
+                writeHeader();
+            }
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = cell(i, row);
+            }
+            writeLine(cells, numeric);
+            rowCount++;
+        }
+
+        /**
+         * Reads one cell of a row and sets whether it is numeric
+         */
+        private CharSequence cell(int index, T row) {
+            Column<T> column = columns.get(index);
+            if (column.intValue != null) {
+                numeric[index] = true;
+                StringBuilder number = numbers[index];
+                number.setLength(0);
+                return number.append(column.intValue.applyAsInt(row));
+            }
+            Object value = column.value.apply(row);
+            numeric[index] = value instanceof Number;
+            if (value instanceof CharSequence) {
+                return (CharSequence) value;
+            }
+            return value != null ? value.toString() : NULL_TEXT;
+        }
+
+        /**
+         * Gets the number of rows added so far
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Pushes everything written so far to the console
+         */
+        public void flush() {
+            if (!headerWritten) {
+                writeHeader();
+            }
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Prints the closing rule of a titled table and flushes
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!headerWritten) {
+                writeHeader();
+            }
+            if (title != null) {
+                writeRule('=');
+            }
+            flush();
+        }
+
+        /**
+         * Widens the columns for a row that will be added later
+         */
+        private void fit(T row) {
+            for (int i = 0; i < widths.length; i++) {
+                int length = cell(i, row).length();
+                widths[i] = Math.max(widths[i], Math.min(columns.get(i).maxWidth, length));
+            }
+        }
+
+        private void writeHeader() {
+            headerWritten = true;
+            if (title != null) {
+                writeRule('=');
+                line.setLength(0);
+                for (int i = (tableWidth() - title.length()) / 2; i > 0; i--) {
+                    line.append(' ');
+                }
+                line.append(title);
+                writeBuffer();
+                writeRule('=');
+            }
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = columns.get(i).header;
+                numeric[i] = false;
+            }
+            writeLine(cells, numeric);
+            writeRule('-');
+        }
+
+        private void writeRule(char ch) {
+            line.setLength(0);
+            for (int i = tableWidth(); i > 0; i--) {
+                line.append(ch);
+            }
+            writeBuffer();
+        }
+
+        private void writeLine(CharSequence[] rowCells, boolean[] uncut) {
+            line.setLength(0);
+            for (int i = 0; i < rowCells.length; i++) {
+                if (i > 0) {
+                    line.append(' ');
+                }
+                CharSequence text = rowCells[i];
+                int width = widths[i];
+                if (text.length() > width && !uncut[i]) {
+                    if (width > ELLIPSIS.length()) {
+                        line.append(text, 0, width - ELLIPSIS.length()).append(ELLIPSIS);
+                    } else {
+                        line.append(text, 0, width);
+                    }
+                } else {
+                    line.append(text);
+                    // The last column is not padded, so lines carry no trailing spaces
+                    if (i < rowCells.length - 1) {
+                        for (int pad = width - text.length(); pad > 0; pad--) {
+                            line.append(' ');
+                        }
+                    }
+                }
+            }
+            writeBuffer();
+        }
+
+        private void writeBuffer() {
+            line.append(System.lineSeparator());
+            int length = line.length();
+            if (lineChars.length < length) {
+                lineChars = new char[Math.max(length, lineChars.length * 2)];
+            }
+            // Copy into a reused array rather than toString() so no String is made per line
+            line.getChars(0, length, lineChars, 0);
+            try {
+                out.write(lineChars, 0, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int tableWidth() {
+            int width = widths.length - 1;
+            for (int columnWidth : widths) {
+                width += columnWidth;
+            }
+            return width;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.furever.utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV reader (RFC 4180).
+ * Supports quoted fields, escaped quotes ("") and line breaks inside quoted fields.
+ * Records are read one at a time so large files never have to fit in memory.
+ */
+public class CsvReader implements Closeable {
+
+    private final BufferedReader reader;
+    private int lineNumber = 0;
+    private int recordLineNumber = 0;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Reads the next record
+     * @return list of field values, or null at end of input
+     * @throws IOException if the input cannot be read or a quoted field is not closed
+     */
+    public List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        int i = 0;
+
+        while (true) {
+            if (i >= line.length()) {
+                if (!inQuotes) {
+                    break;
+                }
+                // Quoted field continues on the next physical line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLineNumber);
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Gets the line on which the last record returned by readRecord started
+     * @return 1-based line number
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
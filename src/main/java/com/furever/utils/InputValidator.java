@@ -113,7 +113,7 @@ public class InputValidator {
             System.out.print(prompt);
             input = scanner.nextLine().trim();
             
-            if (EMAIL_PATTERN.matcher(input).matches()) {
+            if (isValidEmail(input)) {
                 return input;
             } else {
                 System.out.println("Invalid email format. Please enter a valid email address.");
@@ -132,7 +132,7 @@ public class InputValidator {
             System.out.print(prompt);
             input = scanner.nextLine().trim();
             
-            if (PHONE_PATTERN.matcher(input).matches()) {
+            if (isValidPhone(input)) {
                 return input;
             } else {
                 System.out.println("Invalid phone format. Please enter a valid Philippine mobile number (09xxxxxxxxx).");
@@ -140,6 +140,24 @@ public class InputValidator {
         }
     }
     
+    /**
+     * Checks whether a value is a valid email address
+     * @param email Value to check
+     * @return true if the value matches the email format, false otherwise
+     */
+    public static boolean isValidEmail(String email) {
+        return email != null && EMAIL_PATTERN.matcher(email).matches();
+    }
+    
+    /**
+     * Checks whether a value is a valid Philippine mobile number (09xxxxxxxxx)
+     * @param phone Value to check
+     * @return true if the value matches the phone format, false otherwise
+     */
+    public static boolean isValidPhone(String phone) {
+        return phone != null && PHONE_PATTERN.matcher(phone).matches();
+    }
+    
     /**
      * Gets choice input for menu options
      * @param prompt Message to display to user
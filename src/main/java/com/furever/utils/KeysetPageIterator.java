@@ -0,0 +1,59 @@
+package com.furever.utils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Iterates over a keyset-paginated listing, loading the next page only when the rows read
+ * so far are used up. Pairs with ConsoleTable.printPaged(), so a listing reads no further
+ * than the pages the user chooses to see.
+ * @param <T> Row type
+ */
+public class KeysetPageIterator<T> implements Iterator<T> {
+
+    private final IntFunction<List<T>> loadPageAfter;
+    private final ToIntFunction<? super T> key;
+    private final int pageSize;
+
+    private List<T> page = null;
+    private int index = 0;
+    private int lastKey = 0;
+
+    /**
+     * Creates an iterator starting before the first row
+     * @param loadPageAfter Loads at most pageSize rows with a key greater than the argument, ordered by key
+     * @param key Function reading the key of a row
+     * @param pageSize Rows requested per page; a shorter page is taken as the last one
+     */
+    public KeysetPageIterator(IntFunction<List<T>> loadPageAfter, ToIntFunction<? super T> key, int pageSize) {
+        this.loadPageAfter = loadPageAfter;
+        this.key = key;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (page != null && index < page.size()) {
+            return true;
+        }
+        if (page != null && page.size() < pageSize) {
+            return false;
+        }
+        page = loadPageAfter.apply(lastKey);
+        index = 0;
+        return !page.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T row = page.get(index++);
+        lastKey = key.applyAsInt(row);
+        return row;
+    }
+}
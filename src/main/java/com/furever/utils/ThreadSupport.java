@@ -0,0 +1,87 @@
+package com.furever.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread helpers shared by the API server and the async services.
+ * The project still compiles for Java 11, so virtual threads are looked up reflectively:
+ * on Java 21+ a virtual-thread-per-task executor is used, otherwise a bounded pool of
+ * daemon platform threads.
+ */
+public final class ThreadSupport {
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ThreadSupport() {}
+
+    /**
+     * Checks whether the running JVM supports virtual threads
+     * @return true on Java 21 or newer
+     */
+    public static boolean isVirtualThreadsAvailable() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that runs each task on its own virtual thread when available,
+     * falling back to a bounded pool of platform threads
+     * @param namePrefix Prefix for platform thread names
+     * @param fallbackThreads Number of platform threads used when virtual threads are unavailable
+     * @return ExecutorService for short, blocking tasks
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix, int fallbackThreads) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                System.err.println("Error creating virtual thread executor: " + e.getMessage());
+            }
+        }
+        return newFixedDaemonPool(namePrefix, fallbackThreads);
+    }
+
+    /**
+     * Creates a fixed-size pool of daemon threads whose idle threads time out
+     * @param namePrefix Prefix for thread names
+     * @param threads Maximum number of threads
+     * @return ExecutorService backed by an unbounded queue
+     */
+    public static ExecutorService newFixedDaemonPool(String namePrefix, int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreadFactory(namePrefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates a factory for numbered daemon threads
+     * @param namePrefix Prefix for thread names
+     * @return ThreadFactory producing threads named prefix-1, prefix-2, ...
+     */
+    public static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}